@@ -0,0 +1,104 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Chains of operations on cartesian, polar and adaptive ({@link ComplexNumbers#ofAdaptiveForm(Complex)})
+ * complex numbers: every crossover between the forms costs {@code cos} and {@code sin}, or {@code sqrt}
+ * and {@code atan2}, and the adaptive form keeps the results in the form of the last operation.
+ * <p>
+ * Parameters:
+ * <ul>
+ *   <li> {@code form}: </li>
+ *        the form of the initial value and of the operands.
+ *   <li> {@code length}: </li>
+ *        the number of steps of every chain.
+ * </ul>
+ * The benchmark methods:
+ * <ul>
+ *   <li> {@code multiplicative}: </li>
+ *        {@code z = (z * w) / v}, then {@code z = z^2}, {@code z = root(z, 2)}.
+ *   <li> {@code additive}: </li>
+ *        {@code z = (z + w) - v}.
+ *   <li> {@code mixed}: </li>
+ *        {@code z = z * w + v}: a product and a sum at every step, with {@code |w| < 1}.
+ * </ul>
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdaptiveComplexBenchmark {
+
+    public enum Form {
+        CARTESIAN,
+        POLAR,
+        ADAPTIVE;
+
+        Complex of(double modulus, double argument) {
+            Complex polar = ComplexNumbers.ofPolarForm(modulus, argument);
+            switch (this) {
+                case CARTESIAN:
+                    return ComplexNumbers.ofCartesianForm(polar.realValue(), polar.imaginaryValue());
+                case POLAR:
+                    return polar;
+                default:
+                    return ComplexNumbers.ofAdaptiveForm(polar);
+            }
+        }
+    }
+
+    @Param({"CARTESIAN", "POLAR", "ADAPTIVE"})
+    public Form form;
+
+    @Param({"1000"})
+    public int length;
+
+    private Complex z;
+    private Complex w;
+    private Complex v;
+
+
+    @Setup
+    public void setUp() {
+        this.z = this.form.of(1.0, 0.25);
+        this.w = this.form.of(0.9, 0.7);
+        this.v = this.form.of(0.8, -1.1);
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public Complex multiplicative() {
+        Complex result = this.z;
+        for (int i = 0; i < this.length; i++) {
+            result = result.multiplyBy(this.w).divideBy(this.v).pow(2).root(2, 0);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Complex additive() {
+        Complex result = this.z;
+        for (int i = 0; i < this.length; i++) {
+            result = result.plus(this.w).minus(this.v);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Complex mixed() {
+        Complex result = this.z;
+        for (int i = 0; i < this.length; i++) {
+            result = result.multiplyBy(this.w).plus(this.v);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reduction of the angles of polar values to the main argument, compared with the floating
+ * remainder {@code angle % (2*PI)} followed by the comparisons with {@code PI}.
+ * <p>
+ * Parameters:
+ * <ul>
+ *   <li> {@code magnitude}: </li>
+ *        the scale of the random angles: {@code 6} (sums of main arguments), {@code 1e4} (one {@code fma}),
+ *        or {@code 1e22} (Payne and Hanek's reduction, where the remainder is inaccurate).
+ *   <li> {@code size}: </li>
+ *        the number of angles for every invocation.
+ * </ul>
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AngleReductionBenchmark {
+
+    @Param({"6", "1e4", "1e22"})
+    public double magnitude;
+
+    @Param({"1024"})
+    public int size;
+
+    private double[] angles;
+    private double[] result;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.angles = new double[this.size];
+        this.result = new double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.angles[i] = this.magnitude * (2 * random.nextDouble() - 1);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public void polarForm(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.result[i] = ComplexNumbers.ofPolarForm(1.0, this.angles[i]).mainArgumentValue();
+        }
+        blackhole.consume(this.result);
+    }
+
+    @Benchmark
+    public void remainder(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            double angle = this.angles[i] % (2 * Math.PI);
+            if (angle == Math.PI || angle == -Math.PI) {
+                angle = Math.PI;
+            } else if (angle > Math.PI) {
+                angle -= 2 * Math.PI;
+            } else if (angle < -Math.PI) {
+                angle += 2 * Math.PI;
+            }
+            this.result[i] = angle;
+        }
+        blackhole.consume(this.result);
+    }
+
+}
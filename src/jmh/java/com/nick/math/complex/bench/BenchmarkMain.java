@@ -0,0 +1,53 @@
+package com.nick.math.complex.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this package with the GC profiler, so every result
+ * reports the allocation rate ({@code gc.alloc.rate.norm}, bytes per operation)
+ * beside the throughput (ops/s).
+ * <p>
+ * {@code mvn -P jmh package} builds {@code target/benchmarks.jar}, which runs
+ * this class. The arguments are the usual JMH command line options. For example:
+ * <pre>{@code
+ * // Every benchmark (some hours)
+ * java --add-modules jdk.incubator.vector -jar target/benchmarks.jar
+ *
+ * // Only multiplications, only on generic values
+ * java --add-modules jdk.incubator.vector -jar target/benchmarks.jar ComplexBenchmark.multiply -p distribution=GENERIC
+ *
+ * // The names of the benchmarks, without running them
+ * java -jar target/benchmarks.jar -l
+ * }</pre>
+ *
+ * @author Nicolas Scalese
+ */
+public class BenchmarkMain {
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .parent(commandLine)
+            .addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            options.include(BenchmarkMain.class.getPackage().getName());
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+
+}
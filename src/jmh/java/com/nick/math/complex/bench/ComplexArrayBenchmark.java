@@ -0,0 +1,143 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the bulk operations of {@link ComplexArray}, with the vectorized
+ * kernels and with the scalar fallback, compared with a loop over {@code Complex[]}.
+ * <p>
+ * Every benchmark with the {@code Vector} suffix runs in a JVM with the
+ * {@code jdk.incubator.vector} module, and every benchmark with the {@code Scalar}
+ * suffix forces the scalar kernels. On AVX2 (4 lanes) and AVX-512 (8 lanes)
+ * hosts the gap between the two shows the gain of the SIMD loops.
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ComplexArrayBenchmark {
+
+    private static final String SCALAR_KERNELS = "-Dcom.nick.math.complex.kernels=scalar";
+
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    private ComplexArray a;
+    private ComplexArray b;
+    private ComplexArray result;
+    private Complex[] complexA;
+    private Complex[] complexB;
+    private Complex[] complexResult;
+    private Complex unitRoot;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.a = new ComplexArray(this.size);
+        this.b = new ComplexArray(this.size);
+        this.complexA = new Complex[this.size];
+        this.complexB = new Complex[this.size];
+        this.complexResult = new Complex[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.complexA[i] = ComplexNumbers.ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            this.complexB[i] = ComplexNumbers.ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            this.a.set(i, this.complexA[i]);
+            this.b.set(i, this.complexB[i]);
+        }
+        this.result = this.a.copy();
+        this.unitRoot = ComplexNumbers.ofPolarForm(1.0, 2 * Math.PI / this.size);
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public ComplexArray multiplyVector() {
+        return this.copyOfA().multiplyByInPlace(this.b);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", SCALAR_KERNELS})
+    public ComplexArray multiplyScalar() {
+        return this.copyOfA().multiplyByInPlace(this.b);
+    }
+
+    @Benchmark
+    public ComplexArray divideVector() {
+        return this.copyOfA().divideByInPlace(this.b);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", SCALAR_KERNELS})
+    public ComplexArray divideScalar() {
+        return this.copyOfA().divideByInPlace(this.b);
+    }
+
+    @Benchmark
+    public double[] modulusVector() {
+        return this.a.modulusValues();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", SCALAR_KERNELS})
+    public double[] modulusScalar() {
+        return this.a.modulusValues();
+    }
+
+    @Benchmark
+    public void multiplyComplexObjects(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.complexResult[i] = this.complexA[i].multiplyBy(this.complexB[i]);
+        }
+        blackhole.consume(this.complexResult);
+    }
+
+    @Benchmark
+    public void multiplyThenPlusComplexObjects(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.complexResult[i] = this.complexA[i].multiplyBy(this.complexB[i]).plus(this.complexA[i]);
+        }
+        blackhole.consume(this.complexResult);
+    }
+
+    @Benchmark
+    public void multiplyAddComplexObjects(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.complexResult[i] = this.complexA[i].multiplyAdd(this.complexB[i], this.complexA[i]);
+        }
+        blackhole.consume(this.complexResult);
+    }
+
+    @Benchmark
+    public ComplexArray multiplyAddArray() {
+        return this.copyOfA().multiplyAddInPlace(this.b, this.a);
+    }
+
+    @Benchmark
+    public ComplexArray powersArray() {
+        return ComplexArray.powers(this.unitRoot, this.size - 1);
+    }
+
+    @Benchmark
+    public void powersComplexObjects(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.complexResult[i] = this.unitRoot.pow((double) i);
+        }
+        blackhole.consume(this.complexResult);
+    }
+
+    private ComplexArray copyOfA() {
+        System.arraycopy(this.a.realArray(), 0, this.result.realArray(), 0, this.size);
+        System.arraycopy(this.a.imaginaryArray(), 0, this.result.imaginaryArray(), 0, this.size);
+        return this.result;
+    }
+
+}
@@ -0,0 +1,334 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of every method of the {@link Complex} interface, on both representations.
+ * <p>
+ * Parameters:
+ * <ul>
+ *   <li> {@code representation}: </li>
+ *        the form of the receiver {@code x}: cartesian or polar.
+ *   <li> {@code otherRepresentation}: </li>
+ *        the form of the argument {@code y} of binary operations, so that mixed calls
+ *        (for example polar {@code plus} cartesian) are measured too.
+ *   <li> {@code distribution}: </li>
+ *        the value of {@code x} and {@code y}: zero, one, real only or generic,
+ *        which take different branches of the implementations.
+ * </ul>
+ * Divisions use a generic, non-zero divisor, so they never throw.
+ * <p>
+ * Run with {@code -prof gc} (or {@link BenchmarkMain}) to see the allocation rate
+ * ({@code gc.alloc.rate.norm}, bytes per operation) beside the throughput.
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexBenchmark {
+
+    public enum Representation {
+        CARTESIAN,
+        POLAR;
+
+        Complex of(double real, double imaginary) {
+            Complex cartesian = ComplexNumbers.ofCartesianForm(real, imaginary);
+            if (this == CARTESIAN) {
+                return cartesian;
+            }
+            return ComplexNumbers.ofPolarForm(cartesian.modulusValue(), cartesian.mainArgumentValue());
+        }
+    }
+
+    public enum Distribution {
+        ZERO(0, 0),
+        UNIT(1, 0),
+        REAL_ONLY(-2.5, 0),
+        GENERIC(1.5, -2.25);
+
+        final double real;
+        final double imaginary;
+
+        Distribution(double real, double imaginary) {
+            this.real = real;
+            this.imaginary = imaginary;
+        }
+    }
+
+    @Param({"CARTESIAN", "POLAR"})
+    public Representation representation;
+
+    @Param({"CARTESIAN", "POLAR"})
+    public Representation otherRepresentation;
+
+    @Param({"ZERO", "UNIT", "REAL_ONLY", "GENERIC"})
+    public Distribution distribution;
+
+    private Complex x;
+    private Complex y;
+    private Complex divisor;
+    private double amount;
+
+
+    @Setup
+    public void setUp() {
+        this.x = this.representation.of(this.distribution.real, this.distribution.imaginary);
+        // A different value, to avoid shortcuts on equal operands
+        this.y = this.otherRepresentation.of(0.75 * this.distribution.real, 1.25 * this.distribution.imaginary);
+        this.divisor = this.otherRepresentation.of(-0.5, 3);
+        this.amount = 1.75;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Accessors
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public double realValue() {
+        return this.x.realValue();
+    }
+
+    @Benchmark
+    public double imaginaryValue() {
+        return this.x.imaginaryValue();
+    }
+
+    @Benchmark
+    public double modulusValue() {
+        return this.x.modulusValue();
+    }
+
+    @Benchmark
+    public double mainArgumentValue() {
+        return this.x.mainArgumentValue();
+    }
+
+    @Benchmark
+    public double mainArgumentValue2() {
+        return this.x.mainArgumentValue2();
+    }
+
+    @Benchmark
+    public Object bigRealValue() {
+        return this.x.bigRealValue();
+    }
+
+    @Benchmark
+    public Object bigModulusValue() {
+        return this.x.bigModulusValue();
+    }
+
+    @Benchmark
+    public Complex conjugate() {
+        return this.x.conjugate();
+    }
+
+    @Benchmark
+    public Complex negative() {
+        return this.x.negative();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Predicates
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public boolean isZero() {
+        return this.x.isZero();
+    }
+
+    @Benchmark
+    public boolean isOne() {
+        return this.x.isOne();
+    }
+
+    @Benchmark
+    public boolean hasRealOnly() {
+        return this.x.hasRealOnly();
+    }
+
+    @Benchmark
+    public boolean hasImaginaryOnly() {
+        return this.x.hasImaginaryOnly();
+    }
+
+    @Benchmark
+    public boolean hasNullArgument() {
+        return this.x.hasNullArgument();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Arithmetic
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public Complex plus() {
+        return this.x.plus(this.y);
+    }
+
+    @Benchmark
+    public Complex plusReal() {
+        return this.x.plusReal(this.amount);
+    }
+
+    @Benchmark
+    public Complex plusImaginary() {
+        return this.x.plusImaginary(this.amount);
+    }
+
+    @Benchmark
+    public Complex minus() {
+        return this.x.minus(this.y);
+    }
+
+    @Benchmark
+    public Complex minusReal() {
+        return this.x.minusReal(this.amount);
+    }
+
+    @Benchmark
+    public Complex minusImaginary() {
+        return this.x.minusImaginary(this.amount);
+    }
+
+    @Benchmark
+    public Complex multiplyBy() {
+        return this.x.multiplyBy(this.y);
+    }
+
+    @Benchmark
+    public Complex multiplyByReal() {
+        return this.x.multiplyByReal(this.amount);
+    }
+
+    @Benchmark
+    public Complex multiplyByImaginary() {
+        return this.x.multiplyByImaginary(this.amount);
+    }
+
+    @Benchmark
+    public Complex divideBy() {
+        return this.x.divideBy(this.divisor);
+    }
+
+    @Benchmark
+    public Complex divideByReal() {
+        return this.x.divideByReal(this.amount);
+    }
+
+    @Benchmark
+    public Complex divideByImaginary() {
+        return this.x.divideByImaginary(this.amount);
+    }
+
+    @Benchmark
+    public Complex reciprocal() {
+        return this.divisor.reciprocal();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Powers and roots
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public Complex pow() {
+        return this.x.pow(3.0);
+    }
+
+    @Benchmark
+    public Complex powInt() {
+        return this.x.pow(3);
+    }
+
+    @Benchmark
+    public Complex powOneHalf() {
+        return this.x.pow(0.5);
+    }
+
+    @Benchmark
+    public Complex sqrt() {
+        return this.x.sqrt(0);
+    }
+
+    @Benchmark
+    public Complex[] allSqrts() {
+        return this.x.allSqrts();
+    }
+
+    @Benchmark
+    public Complex cbrt() {
+        return this.x.cbrt(1);
+    }
+
+    @Benchmark
+    public Complex[] allCbrts() {
+        return this.x.allCbrts();
+    }
+
+    @Benchmark
+    public Complex root() {
+        return this.x.root(5, 2);
+    }
+
+    @Benchmark
+    public Complex[] allRoots() {
+        return this.x.allRoots(8);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Formatting, equality, hashing
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public String cartesianForm() {
+        return this.x.cartesianForm();
+    }
+
+    @Benchmark
+    public String polarForm() {
+        return this.x.polarForm();
+    }
+
+    @Benchmark
+    public String eulerianForm() {
+        return this.x.eulerianForm();
+    }
+
+    @Benchmark
+    public boolean equalsOther() {
+        return this.x.equals(this.y);
+    }
+
+    @Benchmark
+    public boolean equalsWithEpsilon() {
+        return this.x.equals(this.y, 1e-9);
+    }
+
+    @Benchmark
+    public boolean deepEquals() {
+        return this.x.deepEquals(this.y);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return this.x.hashCode();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Conversions
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public Complex toOtherRepresentation() {
+        return (this.otherRepresentation == Representation.CARTESIAN)
+            ? ComplexNumbers.ofCartesianForm(this.x.realValue(), this.x.imaginaryValue())
+            : ComplexNumbers.ofPolarForm(this.x.modulusValue(), this.x.mainArgumentValue());
+    }
+
+}
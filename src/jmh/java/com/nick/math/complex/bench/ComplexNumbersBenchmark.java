@@ -0,0 +1,223 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import com.nick.math.complex.bench.ComplexBenchmark.Distribution;
+import com.nick.math.complex.bench.ComplexBenchmark.Representation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Throughput of the static reductions and solvers of {@link ComplexNumbers}.
+ * <p>
+ * The {@code size} values of the reductions have the given {@code representation}, and
+ * follow the {@code distribution}: all zeros, all ones, random real values, or random values.
+ * The coefficients of the equations are {@code a = 1}, {@code b = 2*d}, {@code c = d},
+ * where {@code d} is the value of the distribution: so {@code ZERO} takes the branch of
+ * {@code a*x^2 = 0}, {@code UNIT} and {@code REAL_ONLY} the real coefficients (double and
+ * distinct real roots), {@code GENERIC} the complex coefficients.
+ * <p>
+ * Run with {@code -prof gc} (or {@link BenchmarkMain}) to see the allocation rate
+ * beside the throughput.
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexNumbersBenchmark {
+
+    @Param({"CARTESIAN", "POLAR"})
+    public Representation representation;
+
+    @Param({"ZERO", "UNIT", "REAL_ONLY", "GENERIC"})
+    public Distribution distribution;
+
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private Complex[] values;
+    private List<Complex> valueList;
+
+    private Complex a;
+    private Complex b;
+    private Complex c;
+
+    private double[] batchA;
+    private double[] batchB;
+    private double[] batchC;
+    private double[] batchD;
+    private ComplexArray firstRoots;
+    private ComplexArray secondRoots;
+    private ComplexArray cubicRoots;
+    private ComplexArray quarticRoots;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.values = new Complex[this.size];
+        for (int i = 0; i < this.size; i++) {
+            switch (this.distribution) {
+                case REAL_ONLY:
+                    this.values[i] = this.representation.of(random.nextGaussian(), 0);
+                    break;
+                case GENERIC:
+                    // Modulus close to 1: long products neither overflow nor underflow
+                    double angle = 2 * Math.PI * random.nextDouble();
+                    double modulus = 1 + 1e-3 * random.nextGaussian();
+                    this.values[i] = this.representation.of(modulus * Math.cos(angle), modulus * Math.sin(angle));
+                    break;
+                default:
+                    this.values[i] = this.representation.of(this.distribution.real, this.distribution.imaginary);
+            }
+        }
+        this.valueList = Arrays.asList(this.values);
+
+        double d = this.distribution.real;
+        double di = this.distribution.imaginary;
+        this.a = this.representation.of(1, 0);
+        this.b = this.representation.of(2 * d, 2 * di);
+        this.c = this.representation.of(d, di);
+
+        // size equations with random real coefficients
+        this.batchA = new double[this.size];
+        this.batchB = new double[this.size];
+        this.batchC = new double[this.size];
+        this.batchD = new double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.batchA[i] = 1 + random.nextDouble();
+            this.batchB[i] = random.nextGaussian();
+            this.batchC[i] = random.nextGaussian();
+            this.batchD[i] = random.nextGaussian();
+        }
+        this.firstRoots = new ComplexArray(this.size);
+        this.secondRoots = new ComplexArray(this.size);
+        this.cubicRoots = new ComplexArray(3 * this.size);
+        this.quarticRoots = new ComplexArray(4 * this.size);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Reductions
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public Complex sumAllArray() {
+        return ComplexNumbers.sumAll(this.values);
+    }
+
+    @Benchmark
+    public Complex sumAllCollection() {
+        return ComplexNumbers.sumAll(this.valueList);
+    }
+
+    @Benchmark
+    public Complex sumWithMutableComplex() {
+        MutableComplex sum = new MutableComplex();
+        for (Complex value : this.values) {
+            sum.addInPlace(value);
+        }
+        return sum.toComplex();
+    }
+
+    @Benchmark
+    public Complex sumWithPlusChain() {
+        Complex sum = ComplexNumbers.ZERO_COMPLEX_CARTESIAN;
+        for (Complex value : this.values) {
+            sum = sum.plus(value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Complex multiplyAllArray() {
+        return ComplexNumbers.multiplyAll(this.values);
+    }
+
+    @Benchmark
+    public Complex multiplyAllCollection() {
+        return ComplexNumbers.multiplyAll(this.valueList);
+    }
+
+    @Benchmark
+    public Complex multiplyAllScaled() {
+        return ComplexNumbers.multiplyAllScaled(this.values);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Equations
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public Complex solveLinearEquation() {
+        return ComplexNumbers.solveLinearEquation(this.a, this.c);
+    }
+
+    @Benchmark
+    public Complex[] solveQuadraticEquationReal() {
+        return ComplexNumbers.solveQuadraticEquation(1, this.b.realValue(), this.c.realValue());
+    }
+
+    @Benchmark
+    public Complex[] solveQuadraticEquationComplex() {
+        return ComplexNumbers.solveQuadraticEquation(this.a, this.b, this.c);
+    }
+
+    @Benchmark
+    public Complex[] solveQuadraticEquationLoop() {
+        Complex[] roots = null;
+        for (int i = 0; i < this.size; i++) {
+            roots = ComplexNumbers.solveQuadraticEquation(this.batchA[i], this.batchB[i], this.batchC[i]);
+        }
+        return roots;
+    }
+
+    @Benchmark
+    public ComplexArray solveQuadraticEquationsBatch() {
+        ComplexNumbers.solveQuadraticEquations(this.batchA, this.batchB, this.batchC, this.firstRoots, this.secondRoots);
+        return this.secondRoots;
+    }
+
+    @Benchmark
+    public Complex[] solveCubicEquationReal() {
+        return ComplexNumbers.solveCubicEquation(1, this.b.realValue(), this.c.realValue(), 1);
+    }
+
+    @Benchmark
+    public Complex[] solveCubicEquationComplex() {
+        return ComplexNumbers.solveCubicEquation(this.a, this.b, this.c, this.a);
+    }
+
+    @Benchmark
+    public ComplexArray solveCubicEquationsBatch() {
+        ComplexNumbers.solveCubicEquations(this.batchA, this.batchB, this.batchC, this.batchD, this.cubicRoots);
+        return this.cubicRoots;
+    }
+
+    @Benchmark
+    public Complex[] solveQuarticEquationReal() {
+        return ComplexNumbers.solveQuarticEquation(1, this.b.realValue(), this.c.realValue(), 1, this.c.realValue());
+    }
+
+    @Benchmark
+    public Complex[] solveQuarticEquationComplex() {
+        return ComplexNumbers.solveQuarticEquation(this.a, this.b, this.c, this.a, this.c);
+    }
+
+    @Benchmark
+    public ComplexArray solveQuarticEquationsBatch() {
+        ComplexNumbers.solveQuarticEquations(this.batchA, this.batchB, this.batchC, this.batchD, this.batchB, this.quarticRoots);
+        return this.quarticRoots;
+    }
+
+    @Benchmark
+    public Complex[] allComplexSqrtsOf() {
+        return ComplexNumbers.allComplexSqrtsOf(this.c.realValue());
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Time to multiply 2 random polynomials of the given {@code degree}, and to evaluate one of them
+ * at {@code degree} points around the unit circle, with Horner's method and with an FFT,
+ * and to evaluate it at a single point with Horner's method, plain and compensated.
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexPolynomialBenchmark {
+
+    @Param({"1024", "8192"})
+    public int degree;
+
+    private ComplexPolynomial a;
+    private ComplexPolynomial b;
+    private ComplexArray points;
+    private final MutableComplex result = new MutableComplex();
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.a = random(random, this.degree);
+        this.b = random(random, this.degree);
+        this.points = ComplexArray.of(ComplexNumbers.ofPolarForm(1, 0.3).allRoots(this.degree));
+    }
+
+    private static ComplexPolynomial random(Random random, int degree) {
+        double[] real = new double[degree + 1];
+        double[] imaginary = new double[degree + 1];
+        for (int k = 0; k <= degree; k++) {
+            real[k] = random.nextGaussian();
+            imaginary[k] = random.nextGaussian();
+        }
+        return new ComplexPolynomial(real, imaginary);
+    }
+
+    @Benchmark
+    public ComplexPolynomial multiplyBy() {
+        return this.a.multiplyBy(this.b);
+    }
+
+    @Benchmark
+    public ComplexArray evaluateHorner() {
+        return this.a.evaluate(this.points);
+    }
+
+    @Benchmark
+    public ComplexArray evaluateOnCircle() {
+        return this.a.evaluateOnCircle(1, 0.3 / this.degree, this.degree);
+    }
+
+    @Benchmark
+    public MutableComplex evaluateSinglePoint() {
+        return this.a.evaluate(0.6, 0.7, this.result);
+    }
+
+    @Benchmark
+    public double evaluateCompensatedSinglePoint() {
+        return this.a.evaluateCompensated(0.6, 0.7, this.result);
+    }
+
+}
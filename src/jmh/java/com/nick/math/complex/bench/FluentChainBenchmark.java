@@ -0,0 +1,104 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Fluent chains of products, quotients and sums, whose intermediate results are temporary objects.
+ * When every operation of the chain is inlined, escape analysis removes the temporaries:
+ * run with {@link BenchmarkMain}, or {@code -prof gc}, and compare {@code gc.alloc.rate.norm}
+ * (bytes per operation) of the methods.
+ * <p>
+ * Parameters:
+ * <ul>
+ *   <li> {@code representation}: </li>
+ *        the form of all the operands: cartesian or polar.
+ * </ul>
+ * The benchmark methods:
+ * <ul>
+ *   <li> {@code chainValue}: </li>
+ *        {@code ((x*y + z) * x - y).realValue()}: only a {@code double} leaves the chain,
+ *        so no intermediate object has to be allocated.
+ *   <li> {@code chainResult}: </li>
+ *        the same chain, returning the final {@link Complex}: one allocation is necessary.
+ *   <li> {@code quotientValue}: </li>
+ *        {@code (x/y + z).realValue()}.
+ *   <li> {@code mixedCallSite}: </li>
+ *        the same chain at a call site which also sees polar and cartesian receivers alternately:
+ *        the results of the 2 implementations merge, and the temporaries escape.
+ * </ul>
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluentChainBenchmark {
+
+    private static final int SIZE = 64;
+
+    @Param({"CARTESIAN", "POLAR"})
+    public ComplexBenchmark.Representation representation;
+
+    private Complex[] x;
+    private Complex[] y;
+    private Complex[] z;
+    private Complex[] mixed;
+    private int index;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.x = new Complex[SIZE];
+        this.y = new Complex[SIZE];
+        this.z = new Complex[SIZE];
+        this.mixed = new Complex[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            this.x[i] = this.representation.of(random.nextGaussian(), random.nextGaussian());
+            this.y[i] = this.representation.of(random.nextGaussian(), random.nextGaussian());
+            this.z[i] = this.representation.of(random.nextGaussian(), random.nextGaussian());
+            ComplexBenchmark.Representation other = (i % 2 == 0)
+                ? ComplexBenchmark.Representation.CARTESIAN
+                : ComplexBenchmark.Representation.POLAR;
+            this.mixed[i] = other.of(random.nextGaussian(), random.nextGaussian());
+        }
+    }
+
+    private int next() {
+        this.index = (this.index + 1) & (SIZE - 1);
+        return this.index;
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public double chainValue() {
+        int i = this.next();
+        return this.x[i].multiplyBy(this.y[i]).plus(this.z[i]).multiplyBy(this.x[i]).minus(this.y[i]).realValue();
+    }
+
+    @Benchmark
+    public Complex chainResult() {
+        int i = this.next();
+        return this.x[i].multiplyBy(this.y[i]).plus(this.z[i]).multiplyBy(this.x[i]).minus(this.y[i]);
+    }
+
+    @Benchmark
+    public double quotientValue() {
+        int i = this.next();
+        return this.x[i].divideBy(this.y[i]).plus(this.z[i]).realValue();
+    }
+
+    @Benchmark
+    public double mixedCallSite() {
+        int i = this.next();
+        return this.mixed[i].multiplyBy(this.y[i]).plus(this.z[i]).multiplyBy(this.mixed[i]).minus(this.y[i]).realValue();
+    }
+
+}
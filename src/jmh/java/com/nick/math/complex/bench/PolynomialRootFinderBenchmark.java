@@ -0,0 +1,66 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Time to compute all the roots of a random polynomial of the given {@code degree},
+ * with complex coefficients, in the calling thread and with the threads of the common pool,
+ * and as the eigenvalues of its companion matrix.
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialRootFinderBenchmark {
+
+    @Param({"20", "200", "2000"})
+    public int degree;
+
+    private ComplexPolynomial polynomial;
+    private PolynomialRootFinder sequential;
+    private PolynomialRootFinder parallel;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double[] real = new double[this.degree + 1];
+        double[] imaginary = new double[this.degree + 1];
+        for (int k = 0; k <= this.degree; k++) {
+            real[k] = random.nextGaussian();
+            imaginary[k] = random.nextGaussian();
+        }
+        this.polynomial = new ComplexPolynomial(real, imaginary);
+        this.sequential = new PolynomialRootFinder(ForkJoinPool.commonPool(), Integer.MAX_VALUE, 500);
+        this.parallel = new PolynomialRootFinder(ForkJoinPool.commonPool(), 1, 500);
+    }
+
+    @Benchmark
+    public PolynomialRoots aberthSequential() {
+        return this.sequential.solve(this.polynomial);
+    }
+
+    @Benchmark
+    public PolynomialRoots aberthParallel() {
+        return this.parallel.solve(this.polynomial);
+    }
+
+    @Benchmark
+    public PolynomialRoots durandKernerSequential() {
+        return this.sequential.solve(this.polynomial, RootFinderAlgorithm.DURAND_KERNER);
+    }
+
+    @Benchmark
+    public PolynomialRoots companionMatrix() {
+        return this.sequential.solve(this.polynomial, RootFinderAlgorithm.COMPANION_MATRIX);
+    }
+
+}
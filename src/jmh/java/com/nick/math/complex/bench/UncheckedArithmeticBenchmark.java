@@ -0,0 +1,90 @@
+package com.nick.math.complex.bench;
+
+import com.nick.math.complex.*;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Checked and unchecked products and quotients of arrays of generic, random {@link Complex} numbers:
+ * {@link Complex#multiplyBy(Complex)} tests the operands for {@code 0}, {@code 1}, real and imaginary
+ * values before the arithmetic, {@link Complex#multiplyByUnchecked(Complex)} does not.
+ * No value is special, so the difference is the cost of the checks and of the larger methods to inline.
+ * <p>
+ * Parameters:
+ * <ul>
+ *   <li> {@code representation}: </li>
+ *        the form of all the values: cartesian or polar.
+ *   <li> {@code size}: </li>
+ *        the number of products or quotients for every invocation.
+ * </ul>
+ *
+ * @author Nicolas Scalese
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UncheckedArithmeticBenchmark {
+
+    @Param({"CARTESIAN", "POLAR"})
+    public ComplexBenchmark.Representation representation;
+
+    @Param({"1024"})
+    public int size;
+
+    private Complex[] a;
+    private Complex[] b;
+    private Complex[] result;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.a = new Complex[this.size];
+        this.b = new Complex[this.size];
+        this.result = new Complex[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.a[i] = this.representation.of(random.nextGaussian(), random.nextGaussian());
+            this.b[i] = this.representation.of(random.nextGaussian(), random.nextGaussian());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Benchmark
+    public void multiplyBy(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.result[i] = this.a[i].multiplyBy(this.b[i]);
+        }
+        blackhole.consume(this.result);
+    }
+
+    @Benchmark
+    public void multiplyByUnchecked(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.result[i] = this.a[i].multiplyByUnchecked(this.b[i]);
+        }
+        blackhole.consume(this.result);
+    }
+
+    @Benchmark
+    public void divideBy(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.result[i] = this.a[i].divideBy(this.b[i]);
+        }
+        blackhole.consume(this.result);
+    }
+
+    @Benchmark
+    public void divideByUnchecked(Blackhole blackhole) {
+        for (int i = 0; i < this.size; i++) {
+            this.result[i] = this.a[i].divideByUnchecked(this.b[i]);
+        }
+        blackhole.consume(this.result);
+    }
+
+}
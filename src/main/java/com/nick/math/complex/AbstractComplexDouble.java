@@ -12,9 +12,11 @@ import java.util.Objects;
  * @see Complex
  * @see CartesianComplexDouble
  * @see PolarComplexDouble
+ * @see AdaptiveComplexDouble
  * @author Nicolas Scalese
  */
-abstract class AbstractComplexDouble implements Complex {
+abstract sealed class AbstractComplexDouble implements Complex
+        permits CartesianComplexDouble, PolarComplexDouble, AdaptiveComplexDouble {
     
     @Override
     public final double mainArgumentValue2() {
@@ -50,12 +52,30 @@ abstract class AbstractComplexDouble implements Complex {
         return BigDecimal.valueOf(this.mainArgumentValue2());
     }
     
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the result {@code real + i*imaginary} of an operation computed in cartesian form
+     * ({@code plus}, {@code minus}, {@code multiplyAdd}): a {@link CartesianComplexDouble} by default.
+     */
+    Complex cartesianResult(double real, double imaginary) {
+        return new CartesianComplexDouble(real, imaginary);
+    }
+
+    /**
+     * Returns the result {@code modulus * (cos(argument) + i*sin(argument))} of an operation computed
+     * in polar form ({@code pow}, {@code root}): a {@link PolarComplexDouble} by default.
+     */
+    Complex polarResult(double modulus, double argument) {
+        return new PolarComplexDouble(modulus, argument);
+    }
+    
     // -------------------------------------------------------------------------
     
     private Complex plus(double otherReal, double otherImaginary) {
         double real = this.realValue() + otherReal;
         double imaginary = this.imaginaryValue() + otherImaginary;
-        return new CartesianComplexDouble(real, imaginary);
+        return this.cartesianResult(real, imaginary);
     }
     
     @Override
@@ -90,14 +110,138 @@ abstract class AbstractComplexDouble implements Complex {
     
     // -------------------------------------------------------------------------
 
+    private Complex multiplyAdd(double factorReal, double factorImaginary, double addendReal, double addendImaginary) {
+        double a = this.realValue();
+        double b = this.imaginaryValue();
+        double real = differenceOfProducts(a, factorReal, b, factorImaginary) + addendReal;
+        double imaginary = differenceOfProducts(a, factorImaginary, - b, factorReal) + addendImaginary;
+        return this.cartesianResult(real, imaginary);
+    }
+
+    @Override
+    public final Complex multiplyAdd(Complex factor, Complex addend) {
+        return this.multiplyAdd(factor.realValue(), factor.imaginaryValue(), addend.realValue(), addend.imaginaryValue());
+    }
+
+    @Override
+    public final Complex multiplySubtract(Complex factor, Complex subtrahend) {
+        return this.multiplyAdd(factor.realValue(), factor.imaginaryValue(), - subtrahend.realValue(), - subtrahend.imaginaryValue());
+    }
+
+    /**
+     * Returns {@code a*b - c*d} with Kahan's algorithm: {@code c*d} is rounded, and its rounding error,
+     * computed exactly with a fused multiply-add, is added back to {@code a*b - fl(c*d)}.
+     * The result is within 2 ulps, also when {@code a*b} and {@code c*d} cancel each other.
+     */
+    static double differenceOfProducts(double a, double b, double c, double d) {
+        double cd = c * d;
+        double error = Math.fma(- c, d, cd);
+        double difference = Math.fma(a, b, - cd);
+        double result = difference + error;
+        // Infinite products: inf - inf is NaN in the error
+        return Double.isNaN(result) ? (a * b) - cd : result;
+    }
+    
+    // -------------------------------------------------------------------------
+
     @Override
     public final Complex pow(double exponent) {
+        if (exponent == 0.5) {
+            return this.squareRoot();
+        }
         double modulus = Math.pow(this.modulusValue(), exponent);
         double angulus = exponent * this.mainArgumentValue();
-        return new PolarComplexDouble(modulus, angulus);
+        return this.polarResult(modulus, angulus);
     }
     
     
+    /**
+     * Exponentiation by squaring in cartesian form: at most {@code 2*log2(|exponent|)} products,
+     * with no {@code atan2}, {@code cos} nor {@code sin}. A negative exponent raises the reciprocal.
+     * Polar values override it, since their integer powers are cheaper in polar form.
+     */
+    @Override
+    public Complex pow(int exponent) {
+        double a = this.realValue();
+        double b = this.imaginaryValue();
+        if (exponent < 0) {
+            if (this.isZero()) {
+                throw new ArithmeticException("Unable to divide by:  0 + 0i");
+            }
+            if (exponent == -1) {
+                return this.reciprocal();
+            }
+            double real2plusImg2 = (a * a) + (b * b);
+            a = a / real2plusImg2;
+            b = - b / real2plusImg2;
+        }
+
+        // |exponent| as an unsigned int: Integer.MIN_VALUE is 2^31
+        int bits = (exponent < 0) ? - exponent : exponent;
+        MutableComplex power = powerBySquaring(a, b, bits, new MutableComplex());
+        return this.cartesianResult(power.realValue(), power.imaginaryValue());
+    }
+
+    /**
+     * Sets {@code result} to {@code (a + bi)^bits}, where {@code bits} is read as an unsigned int,
+     * by repeated squaring. {@link ComplexArray#pow(int)} uses it too, with the same results.
+     */
+    static MutableComplex powerBySquaring(double a, double b, int bits, MutableComplex result) {
+        switch (bits) {
+            case 0:
+                return result.set(1, 0);
+            case 1:
+                return result.set(a, b);
+            case 2:
+                // (a + bi)^2 = (a - b)(a + b) + 2abi , without the cancellation of a^2 - b^2
+                return result.set((a - b) * (a + b), 2 * a * b);
+            case 3: {
+                double real = (a - b) * (a + b);
+                double imaginary = 2 * a * b;
+                return result.set((real * a) - (imaginary * b), (real * b) + (imaginary * a));
+            }
+            default:
+                break;
+        }
+
+        double real = 1;
+        double imaginary = 0;
+        while (true) {
+            if ((bits & 1) != 0) {
+                double product = (real * a) - (imaginary * b);
+                imaginary = (real * b) + (imaginary * a);
+                real = product;
+            }
+            bits >>>= 1;
+            if (bits == 0) {
+                return result.set(real, imaginary);
+            }
+            double square = (a - b) * (a + b);
+            b = 2 * a * b;
+            a = square;
+        }
+    }
+
+    /**
+     * Returns the principal square root, {@code pow(0.5)}, in cartesian form: one {@code sqrt} besides
+     * the modulus, with no {@code atan2}, {@code cos} nor {@code sin}. Polar values override it.
+     */
+    Complex squareRoot() {
+        double a = this.realValue();
+        double b = this.imaginaryValue();
+        double modulus = this.modulusValue();
+        if (modulus == 0) {
+            return this.cartesianResult(0, 0);
+        }
+        // t = sqrt((|a| + |z|) / 2) is the larger part of the root, the other one is b / (2t)
+        double t = Math.sqrt((0.5 * Math.abs(a)) + (0.5 * modulus));
+        if (a >= 0) {
+            return this.cartesianResult(t, b / (2 * t));
+        }
+        // The main argument of a negative real number is PI, also with b = -0.0: the root is +t*i
+        return this.cartesianResult(Math.abs(b) / (2 * t), (b >= 0) ? t : - t);
+    }
+    
     @Override
     public final Complex root(int rootIndex, int k) {
         if (rootIndex <= 0) {
@@ -109,7 +253,7 @@ abstract class AbstractComplexDouble implements Complex {
         
         double modulus = Math.pow(this.modulusValue(), 1.0 / rootIndex);
         double angulus = (this.mainArgumentValue() + (2 * k * Math.PI)) / rootIndex;
-        return new PolarComplexDouble(modulus, angulus);
+        return this.polarResult(modulus, angulus);
     }
     
     @Override
@@ -0,0 +1,397 @@
+package com.nick.math.complex;
+
+import com.nick.math.FloatingPoint;
+import static java.lang.Math.PI;
+
+/**
+ * A Complex number which carries the form it was computed in, cartesian {@code a + i*b} or polar
+ * {@code r * (cos(theta) + i*sin(theta))}, and computes the other form only on demand, at most once.
+ * <p>
+ * Every operation returns a new {@code AdaptiveComplexDouble} in the form which is cheapest for it:
+ * <ul>
+ *   <li> Cartesian: </li>
+ *        {@code plus}, {@code minus}, {@code multiplyAdd}: sums of real and imaginary parts.
+ *   <li> Polar: </li>
+ *        {@code pow(double)}, {@code root}: a power of the modulus and a multiple of the argument.
+ *        {@code pow(0.5)} is the exception: it keeps the form of this complex number, like {@code pow(int)}.
+ *   <li> The form of this complex number: </li>
+ *        {@code multiplyBy}, {@code divideBy}, {@code reciprocal}, {@code pow(int)} and the other products
+ *        and quotients, which are cheap in both forms. The operand is converted to the same form if needed, and
+ *        the conversion is kept by the operand: a factor reused by many products is converted once.
+ * </ul>
+ * So a chain of products and powers stays polar, a chain of sums stays cartesian, and a crossover
+ * costs one {@code sqrt} and {@code atan2}, or one {@code cos} and {@code sin}, only when it is needed.
+ *
+ * @see Complex
+ * @see AbstractComplexDouble
+ * @see ComplexNumbers#ofAdaptiveForm(Complex)
+ * @author Nicolas Scalese
+ */
+final class AdaptiveComplexDouble extends AbstractComplexDouble {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@code true} if {@code (first, second)} are the modulus and the main argument,
+     * {@code false} if they are the real and the imaginary part.
+     */
+    private final boolean polar;
+    private final double first;
+    private final double second;
+    /**
+     * The other form, computed on first use: {@code null} until then.
+     * Racy single-check idiom, like {@link CartesianComplexDouble} and {@link PolarComplexDouble}.
+     * Transient: a deserialized value computes it again on first use.
+     */
+    private transient OtherForm otherForm;
+
+
+    private AdaptiveComplexDouble(boolean polar, double first, double second) {
+        this.polar = polar;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Returns a complex number in cartesian form: {@code real + i*imaginary}.
+     */
+    static AdaptiveComplexDouble cartesian(double real, double imaginary) {
+        return new AdaptiveComplexDouble(false, real, imaginary);
+    }
+
+    /**
+     * Returns a complex number in polar form: {@code modulus * (cos(angle) + i*sin(angle))},
+     * with the angle moved in the range of the main argument.
+     *
+     * @throws IllegalArgumentException if {@code modulus} is negative
+     */
+    static AdaptiveComplexDouble polar(double modulus, double angle) {
+        if (modulus < 0) {
+            throw new IllegalArgumentException("Modulus must be positive or equal to 0.");
+        }
+        if (modulus == 0) {
+            return new AdaptiveComplexDouble(true, 0, 0);
+        }
+        return new AdaptiveComplexDouble(true, modulus, PolarComplexDouble.normalizeAngle(angle));
+    }
+
+    /**
+     * Returns a complex number with the value of the given one, in its form:
+     * polar for a {@link PolarComplexDouble}, cartesian otherwise.
+     */
+    static AdaptiveComplexDouble of(Complex complex) {
+        if (complex instanceof AdaptiveComplexDouble) {
+            AdaptiveComplexDouble adaptive = (AdaptiveComplexDouble) complex;
+            return new AdaptiveComplexDouble(adaptive.polar, adaptive.first, adaptive.second);
+        }
+        if (complex instanceof PolarComplexDouble) {
+            return new AdaptiveComplexDouble(true, complex.modulusValue(), complex.mainArgumentValue());
+        }
+        return new AdaptiveComplexDouble(false, complex.realValue(), complex.imaginaryValue());
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * The form which is not carried: the real and imaginary parts of a polar value,
+     * or the modulus and the main argument of a cartesian value.
+     */
+    private static final class OtherForm {
+
+        final double first;
+        final double second;
+
+
+        OtherForm(boolean polar, double first, double second) {
+            if (polar) {
+                this.first = first * Math.cos(second);
+                this.second = first * Math.sin(second);
+            } else {
+                this.first = Math.sqrt((first * first) + (second * second));
+                double angle = Math.atan2(second, first);
+                this.second = (angle == -PI) ? PI : angle;
+            }
+        }
+
+    }
+
+    private OtherForm otherForm() {
+        OtherForm form = this.otherForm;
+        if (form == null) {
+            form = new OtherForm(this.polar, this.first, this.second);
+            this.otherForm = form;
+        }
+        return form;
+    }
+
+    @Override
+    public double realValue() {
+        return this.polar ? this.otherForm().first : this.first;
+    }
+
+    @Override
+    public double imaginaryValue() {
+        return this.polar ? this.otherForm().second : this.second;
+    }
+
+    @Override
+    public double modulusValue() {
+        return this.polar ? this.first : this.otherForm().first;
+    }
+
+    @Override
+    public double mainArgumentValue() {
+        return this.polar ? this.second : this.otherForm().second;
+    }
+
+    @Override
+    Complex cartesianResult(double real, double imaginary) {
+        return cartesian(real, imaginary);
+    }
+
+    @Override
+    Complex polarResult(double modulus, double argument) {
+        return polar(modulus, argument);
+    }
+
+    @Override
+    public Complex conjugate() {
+        double secondNegated = (this.second == 0) ? 0 : -this.second;
+        if (this.polar) {
+            // The conjugate of a negative real number has argument PI, not -PI
+            return polar(this.first, secondNegated);
+        }
+        return cartesian(this.first, secondNegated);
+    }
+
+    @Override
+    public Complex negative() {
+        if (this.polar) {
+            return polar(this.first, this.second + PI);
+        }
+        double realNegated = (this.first == 0) ? 0 : -this.first;
+        double imaginaryNegated = (this.second == 0) ? 0 : -this.second;
+        return cartesian(realNegated, imaginaryNegated);
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public boolean isZero() {
+        return this.polar ? (this.first == 0) : ((this.first == 0) && (this.second == 0));
+    }
+
+    @Override
+    public boolean isZero(double eps) {
+        if (this.polar) {
+            return FloatingPoint.approxZero(this.first, eps);
+        }
+        return FloatingPoint.approxZero(this.first, eps) && FloatingPoint.approxZero(this.second, eps);
+    }
+
+    @Override
+    public boolean isOne() {
+        return (this.first == 1) && FloatingPoint.approxZero(this.second);
+    }
+
+    @Override
+    public boolean hasRealOnly() {
+        return this.polar ? ((this.second == 0) || (this.second == PI)) : (this.second == 0);
+    }
+
+    @Override
+    public boolean hasRealOnly(double eps) {
+        if (this.polar) {
+            return FloatingPoint.approxEqual(this.second, 0, eps) || FloatingPoint.approxEqual(this.second, PI, eps);
+        }
+        return FloatingPoint.approxZero(this.second, eps);
+    }
+
+    @Override
+    public boolean hasImaginaryOnly() {
+        return this.polar ? (Math.abs(this.second) == 0.5 * PI) : (this.first == 0);
+    }
+
+    @Override
+    public boolean hasImaginaryOnly(double eps) {
+        if (this.polar) {
+            return FloatingPoint.approxEqual(Math.abs(this.second), 0.5 * PI, eps);
+        }
+        return FloatingPoint.approxZero(this.first, eps);
+    }
+
+    @Override
+    public boolean hasNullArgument() {
+        return this.polar ? (this.second == 0) : ((this.first >= 0) && (this.second == 0));
+    }
+
+    @Override
+    public boolean hasNullArgument(double eps) {
+        if (this.polar) {
+            return FloatingPoint.approxZero(this.second, eps);
+        }
+        return (this.first >= -eps) && FloatingPoint.approxZero(this.second, eps);
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Complex multiplyBy(Complex complex) {
+        if (this.isZero() || complex.isZero()) {
+            return cartesian(0, 0);
+        }
+        return this.multiplyByUnchecked(complex);
+    }
+
+    @Override
+    public Complex multiplyByUnchecked(Complex complex) {
+        if (this.polar) {
+            return polar(this.first * complex.modulusValue(), this.second + complex.mainArgumentValue());
+        }
+        double a1 = this.first;
+        double b1 = this.second;
+        double a2 = complex.realValue();
+        double b2 = complex.imaginaryValue();
+        return cartesian((a1 * a2) - (b1 * b2), (a1 * b2) + (a2 * b1));
+    }
+
+    @Override
+    public Complex multiplyByReal(double amount) {
+        if (this.polar) {
+            // (r, theta) * amount = (|amount| * r, theta + (0 or PI))
+            return polar(Math.abs(amount) * this.first, (amount < 0) ? this.second + PI : this.second);
+        }
+        return cartesian(this.first * amount, this.second * amount);
+    }
+
+    @Override
+    public Complex multiplyByImaginary(double amount) {
+        if (this.polar) {
+            // (r, theta) * i*amount = (|amount| * r, theta +- PI/2)
+            return polar(Math.abs(amount) * this.first, (amount < 0) ? this.second - PI / 2 : this.second + PI / 2);
+        }
+        // (a + bi)*(0 + di) = -bd + (ad)*i
+        return cartesian(- this.second * amount, this.first * amount);
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Complex divideBy(Complex complex) {
+        if (complex.isZero()) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+        if (this.isZero()) {
+            return cartesian(0, 0);
+        }
+        return this.divideByUnchecked(complex);
+    }
+
+    @Override
+    public Complex divideByUnchecked(Complex complex) {
+        if (this.polar) {
+            return polar(this.first / complex.modulusValue(), this.second - complex.mainArgumentValue());
+        }
+        double a1 = this.first;
+        double b1 = this.second;
+        double a2 = complex.realValue();
+        double b2 = complex.imaginaryValue();
+        double real2plusImg2 = (a2 * a2) + (b2 * b2);
+        return cartesian(((a1 * a2) + (b1 * b2)) / real2plusImg2, ((b1 * a2) - (a1 * b2)) / real2plusImg2);
+    }
+
+    @Override
+    public Complex divideByReal(double amount) {
+        if (amount == 0) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+        if (this.polar) {
+            return polar(this.first / Math.abs(amount), (amount < 0) ? this.second + PI : this.second);
+        }
+        return cartesian(this.first / amount, this.second / amount);
+    }
+
+    @Override
+    public Complex divideByImaginary(double amount) {
+        if (amount == 0) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+        if (this.polar) {
+            return polar(this.first / Math.abs(amount), (amount < 0) ? this.second + PI / 2 : this.second - PI / 2);
+        }
+        // (a + bi)/(0 + di) = b/d - (a/d)*i
+        return cartesian(this.second / amount, - this.first / amount);
+    }
+
+    @Override
+    public Complex pow(int exponent) {
+        if (!this.polar) {
+            return super.pow(exponent);
+        }
+        if ((exponent < 0) && this.isZero()) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+        return this.pow((double) exponent);
+    }
+
+    @Override
+    Complex squareRoot() {
+        return this.polar ? polar(Math.sqrt(this.first), 0.5 * this.second) : super.squareRoot();
+    }
+
+    @Override
+    public Complex reciprocal() {
+        if (this.isZero()) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+        if (this.polar) {
+            return polar(1.0 / this.first, - this.second);
+        }
+        double real2plusImg2 = (this.first * this.first) + (this.second * this.second);
+        return cartesian(this.first / real2plusImg2, - this.second / real2plusImg2);
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public boolean equals(Complex complex, double epsilon) {
+        double firstDifference;
+        double secondDifference;
+        if (this.polar) {
+            firstDifference = Math.abs(this.first - complex.modulusValue());
+            secondDifference = Math.abs(this.second - complex.mainArgumentValue());
+        } else {
+            firstDifference = Math.abs(this.first - complex.realValue());
+            secondDifference = Math.abs(this.second - complex.imaginaryValue());
+        }
+        return ((firstDifference < epsilon) && (secondDifference < epsilon));
+    }
+
+    @Override
+    public boolean deepEquals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null) {
+            return false;
+        }
+
+        if (o.getClass() == this.getClass()) {
+            AdaptiveComplexDouble adaptiveComplex = (AdaptiveComplexDouble) o;
+            return (this.polar == adaptiveComplex.polar)
+                && (this.first == adaptiveComplex.first) && (this.second == adaptiveComplex.second);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return this.polar ? super.polarForm() : super.cartesianForm();
+    }
+
+    @Override
+    public Object clone() {
+        return new AdaptiveComplexDouble(this.polar, this.first, this.second);
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.nick.math.complex;
+
+import static java.lang.Math.PI;
+import java.math.BigInteger;
+
+/**
+ * Reduction of angles to the range of the main argument, {@code (-PI, PI]}. Three paths, from the fastest:
+ * <ul>
+ *   <li> {@code |angle| <= 3*PI}: </li>
+ *        the sum or the difference of 2 main arguments, or a main argument plus {@code PI}:
+ *        an exact subtraction of {@code 2*PI}, with no division.
+ *   <li> {@code |angle| < 2^20}: </li>
+ *        {@code angle - k*2*PI}, with {@code k = rint(angle / (2*PI))}, subtracted exactly with
+ *        {@link Math#fma(double, double, double)}.
+ *   <li> Larger angles: </li>
+ *        Payne and Hanek's reduction: the fractional part of {@code angle / (2*pi)} from the product
+ *        of the 53 bits of the angle by the bits of {@code 1/(2*pi)} around the position of its exponent.
+ * </ul>
+ * The first 2 paths reduce modulo {@code 2*PI}, the period of the rest of the library, where {@code PI}
+ * is {@link Math#PI}, and give the same results of the floating remainder {@code angle % (2*PI)}, with
+ * no rounding at all. So real and imaginary values stay exact: {@code PI + PI} is {@code 0},
+ * {@code 3*PI/2 + PI/2} is {@code 0}, and {@code 4*PI}, the argument of {@code (-1)^4}, is {@code 0}.
+ * <p>
+ * The last path reduces modulo the exact {@code 2*pi}: the reduced angle has the {@code cos} and
+ * {@code sin} that {@link Math#cos(double)} and {@link Math#sin(double)} compute on the angle itself.
+ * The period {@code 2*PI} differs from {@code 2*pi} by {@code 2.4 * 10^(-16)}: after more than
+ * {@code 2^20 / (2*PI)} turns the difference is above {@code 10^(-11)}, and beyond {@code 2^53} turns
+ * the floating remainder is unrelated to the direction of the angle.
+ *
+ * @see PolarComplexDouble#normalizeAngle(double)
+ * @author Nicolas Scalese
+ */
+final class AngleReduction {
+
+    /**
+     * The {@code double} nearest to {@code 2*pi}.
+     */
+    static final double TWO_PI_HI = 2 * PI;
+
+    /**
+     * The {@code double} nearest to {@code 2*pi - TWO_PI_HI}.
+     */
+    static final double TWO_PI_LO = 0x1.1a62633145c07p-52;
+
+    /**
+     * The bound of the absolute value of the angles reduced modulo {@code TWO_PI_HI}.
+     * Larger angles are reduced modulo the exact {@code 2*pi}.
+     */
+    static final double DOUBLE_PERIOD_LIMIT = 0x1p20;
+
+    /**
+     * {@code floor(2^1280 / (2*pi))}: enough bits of {@code 1/(2*pi)} for the largest {@code double},
+     * plus 128 bits of fraction, which survive the cancellation of angles close to a multiple of {@code 2*pi}.
+     */
+    private static final BigInteger INVERSE_TWO_PI = new BigInteger(
+        "28be60db9391054a7f09d5f47d4d377036d8a5664f10e4107f9458eaf7aef158" +
+        "6dc91b8e909374b801924bba827464873f877ac72c4a69cfba208d7d4baed121" +
+        "3a671c09ad17df904e64758e60d4ce7d272117e2ef7e4a0ec7fe25fff7816603" +
+        "fbcbc462d6829b47db4d9fb3c9f2c26dd3d18fd9a797fa8b5d49eeb1faf97c5e" +
+        "cf41ce7de294a4ba9afed7ec47e357421580cc11bf1edaeafc33ef0826bd0d87", 16);
+
+    private static final int INVERSE_TWO_PI_SCALE = 1280;
+
+
+    private AngleReduction() {
+    }
+
+    /**
+     * Returns the angle in {@code (-PI, PI]} with the same direction of the given one.
+     *
+     * @param angle an angle in radians
+     * @return the main argument, or {@code NaN} if {@code angle} is {@code NaN} or infinite
+     */
+    static double mainArgument(double angle) {
+        double abs = Math.abs(angle);
+        if (abs <= PI) {
+            return (angle == -PI) ? PI : angle;
+        }
+
+        if (abs <= 3 * PI) {
+            // angle -+ 2*PI is exact (Sterbenz lemma): no rounding at all
+            double reduced = (angle > 0) ? angle - TWO_PI_HI : angle + TWO_PI_HI;
+            if (reduced > PI) {
+                return reduced - TWO_PI_HI;
+            } else if (reduced <= -PI) {
+                return reduced + TWO_PI_HI;
+            }
+            return reduced;
+        }
+
+        if (abs < DOUBLE_PERIOD_LIMIT) {
+            // angle - k*TWO_PI_HI is a multiple of 2^-50 smaller than 8, which fits in 53 bits: fma rounds nothing
+            double k = Math.rint(angle / TWO_PI_HI);
+            double reduced = Math.fma(- k, TWO_PI_HI, angle);
+            if (reduced > PI) {
+                return reduced - TWO_PI_HI;
+            } else if (reduced <= -PI) {
+                return reduced + TWO_PI_HI;
+            }
+            return reduced;
+        }
+
+        double reduced;
+        if (abs < Double.POSITIVE_INFINITY) {
+            reduced = (angle > 0) ? payneHanek(abs) : - payneHanek(abs);
+        } else {
+            return Double.NaN;
+        }
+
+        // Move the angle in range: (-PI, PI] , if a rounding left it on the other side of a bound
+        if (reduced > PI) {
+            return (reduced - TWO_PI_HI) - TWO_PI_LO;
+        } else if (reduced <= -PI) {
+            return (reduced + TWO_PI_HI) + TWO_PI_LO;
+        }
+        return reduced;
+    }
+
+    /**
+     * Returns {@code x - k*2*pi} in {@code [-PI, PI]}, for a finite {@code x >= 1}.
+     */
+    private static double payneHanek(double x) {
+        // x = m * 2^e , with an integer m of 53 bits
+        int e = Math.getExponent(x) - 52;
+        long m = (Double.doubleToRawLongBits(x) & 0x000FFFFFFFFFFFFFL) | 0x0010000000000000L;
+
+        // x / (2*pi) = m * INVERSE_TWO_PI / 2^(1280 - e) : longValue() drops the integer part, keeping
+        // the first 128 bits of the fraction in (high, low), and high as a signed long rounds to the nearest turn
+        BigInteger product = INVERSE_TWO_PI.multiply(BigInteger.valueOf(m));
+        int point = INVERSE_TWO_PI_SCALE - e;
+        long high = product.shiftRight(point - 64).longValue();
+        long low = product.shiftRight(point - 128).longValue();
+
+        // fraction = (high + low / 2^64) / 2^64 , in [-1/2, 1/2): the rounding of high is carried by fractionLow
+        double fractionHigh = high;
+        double fractionLow = (high - (long) fractionHigh) + ((low >>> 11) * 0x1p-53);
+        double lowProducts = Math.fma(fractionHigh, TWO_PI_LO, fractionLow * TWO_PI_HI);
+        return Math.fma(fractionHigh, TWO_PI_HI, lowProducts) * 0x1p-64;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.nick.math.complex;
+
+import static java.lang.Math.PI;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Bluestein (chirp-z) FFT, for any length {@code n}, including large primes.
+ * <p>
+ * Using {@code j*k = (j^2 + k^2 - (k-j)^2) / 2}, the transform becomes a convolution:
+ * <ul> {@code X[k] = c[k] * sum( (x[j]*c[j]) * conj(c[k-j]) )} , where {@code c[j] = e^(-i*PI*j^2/n)} </ul>
+ * which is computed with power-of-two transforms of length {@code m >= 2n - 1},
+ * in {@code O(n log n)} time.
+ * <p>
+ * The chirp {@code c} and the transform of {@code conj(c)} are computed once,
+ * when the instance is created. Chirp values are {@link PolarComplexDouble}
+ * numbers of modulus 1, whose angle {@code PI*j^2/n} is reduced modulo {@code 2*PI}
+ * with integer arithmetic ({@code j^2 mod 2n}) before any rounding.
+ * Work buffers are allocated by every transform, so instances can be shared between threads.
+ * In a parallel transform, the two inner power-of-two transforms are parallel.
+ *
+ * @see FftKernel
+ * @author Nicolas Scalese
+ */
+final class BluesteinFft implements FftKernel {
+
+    private final int n;
+    private final Radix2Fft convolution;
+
+    // c[j] = e^(-i*PI*j^2/n) , for j in [0, n)
+    private final double[] chirpReal;
+    private final double[] chirpImaginary;
+
+    // Transform of conj(c), wrapped around the length m
+    private final double[] filterReal;
+    private final double[] filterImaginary;
+
+
+    BluesteinFft(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Length must be positive.");
+        }
+        if (n > (1 << 29)) {
+            throw new IllegalArgumentException("Length too large for the chirp-z transform: " + n);
+        }
+        this.n = n;
+        int m = Integer.highestOneBit(2 * n - 1);
+        if (m < 2 * n - 1) {
+            m *= 2;
+        }
+        this.convolution = new Radix2Fft(m);
+
+        this.chirpReal = new double[n];
+        this.chirpImaginary = new double[n];
+        for (int j = 0; j < n; j++) {
+            // j^2 mod 2n : PI*j^2/n is an exact multiple of 2*PI plus the remainder
+            long reduced = ((long) j * j) % (2L * n);
+            Complex chirp = new PolarComplexDouble(1, - PI * reduced / n);
+            this.chirpReal[j] = chirp.realValue();
+            this.chirpImaginary[j] = chirp.imaginaryValue();
+        }
+
+        this.filterReal = new double[m];
+        this.filterImaginary = new double[m];
+        this.filterReal[0] = this.chirpReal[0];
+        this.filterImaginary[0] = - this.chirpImaginary[0];
+        for (int j = 1; j < n; j++) {
+            this.filterReal[j] = this.chirpReal[j];
+            this.filterImaginary[j] = - this.chirpImaginary[j];
+            this.filterReal[m - j] = this.filterReal[j];
+            this.filterImaginary[m - j] = this.filterImaginary[j];
+        }
+        this.convolution.transform(this.filterReal, 0, this.filterImaginary, 0, 1, false);
+    }
+
+    @Override
+    public int size() {
+        return this.n;
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void transform(double[] re, int reOffset, double[] im, int imOffset, int stride, boolean inverse,
+            ForkJoinPool pool) {
+        int m = this.convolution.size();
+        double[] ar = new double[m];
+        double[] ai = new double[m];
+
+        // Inverse transform: conj( forward transform of conj(x) )
+        double conjugate = inverse ? -1 : 1;
+
+        // a[j] = x[j] * c[j]
+        for (int j = 0; j < this.n; j++) {
+            double xr = re[reOffset + j * stride];
+            double xi = conjugate * im[imOffset + j * stride];
+            ar[j] = (xr * this.chirpReal[j]) - (xi * this.chirpImaginary[j]);
+            ai[j] = (xr * this.chirpImaginary[j]) + (xi * this.chirpReal[j]);
+        }
+
+        // a = a (*) conj(c) , by the convolution theorem
+        this.convolution.transform(ar, 0, ai, 0, 1, false, pool);
+        for (int k = 0; k < m; k++) {
+            double xr = ar[k];
+            double xi = ai[k];
+            ar[k] = (xr * this.filterReal[k]) - (xi * this.filterImaginary[k]);
+            ai[k] = (xr * this.filterImaginary[k]) + (xi * this.filterReal[k]);
+        }
+        this.convolution.transform(ar, 0, ai, 0, 1, true, pool);
+
+        // X[k] = c[k] * a[k] / m
+        for (int k = 0; k < this.n; k++) {
+            double xr = ar[k] / m;
+            double xi = ai[k] / m;
+            re[reOffset + k * stride] = (xr * this.chirpReal[k]) - (xi * this.chirpImaginary[k]);
+            im[imOffset + k * stride] = conjugate * ((xr * this.chirpImaginary[k]) + (xi * this.chirpReal[k]));
+        }
+    }
+
+}
@@ -15,10 +15,17 @@ import static java.lang.Math.PI;
  * @see AbstractComplexDouble
  * @author Nicolas Scalese
  */
-class CartesianComplexDouble extends AbstractComplexDouble {
+final class CartesianComplexDouble extends AbstractComplexDouble {
     
     private final double real;
     private final double imaginary;
+    /**
+     * The modulus and main argument, computed on first use: {@code null} until then.
+     * Racy single-check idiom: threads may compute it more than once, always with the same value,
+     * and the final fields of {@link PolarParts} make every published instance fully initialized.
+     * Transient: a deserialized value computes it again on first use.
+     */
+    private transient PolarParts polarParts;
     
     
     public CartesianComplexDouble(Complex complex) {
@@ -48,10 +55,43 @@ class CartesianComplexDouble extends AbstractComplexDouble {
         return this.imaginary;
     }
 
+    /**
+     * The modulus and main argument of a cartesian complex number, computed together.
+     */
+    private static final class PolarParts {
+
+        final double modulus;
+        final double argument;
+
+
+        PolarParts(double real, double imaginary) {
+            this.modulus = Math.sqrt((real * real) + (imaginary * imaginary));
+            this.argument = mainArgument(real, imaginary);
+        }
+
+    }
+
+    /**
+     * The main argument of {@code real + imaginary*i}, in {@code (-PI, PI]}: unlike
+     * {@code Math.atan2}, a negative real number with imaginary part {@code -0.0} has argument {@code PI}.
+     */
+    static double mainArgument(double real, double imaginary) {
+        double angle = Math.atan2(imaginary, real);
+        return (angle == -PI) ? PI : angle;
+    }
+
+    private PolarParts polarParts() {
+        PolarParts parts = this.polarParts;
+        if (parts == null) {
+            parts = new PolarParts(this.real, this.imaginary);
+            this.polarParts = parts;
+        }
+        return parts;
+    }
+
     @Override
     public double modulusValue() {
-        double real2plusImg2 = this.re2PlusIm2(this.real, this.imaginary);
-        return Math.sqrt(real2plusImg2);
+        return this.polarParts().modulus;
     }
     
     private double re2PlusIm2(double real, double imaginary) {
@@ -60,11 +100,7 @@ class CartesianComplexDouble extends AbstractComplexDouble {
 
     @Override
     public double mainArgumentValue() {
-        double angle = Math.atan2(this.imaginary, this.real);
-        if (angle == -PI) {
-            return PI;
-        }
-        return angle; 
+        return this.polarParts().argument;
     }
     
     @Override
@@ -132,8 +168,30 @@ class CartesianComplexDouble extends AbstractComplexDouble {
     
     // -------------------------------------------------------------------------
     
+    /**
+     * Returns {@code true} if this complex number is none of the special cases of {@link #multiplyBy(Complex)}
+     * and {@link #divideBy(Complex)}: zero, one, a real or an imaginary number.
+     */
+    private boolean isGeneric() {
+        return (this.real != 0) && (this.imaginary != 0) && (this.real != 1);
+    }
+    
     @Override
     public Complex multiplyBy(Complex complex) {
+        if ((complex instanceof CartesianComplexDouble) && this.isGeneric()) {
+            // Cartesian * Cartesian: the fields of a final class, with no call through the Complex interface.
+            // This small method is inlined whole, and escape analysis can remove the result of a chain
+            CartesianComplexDouble other = (CartesianComplexDouble) complex;
+            if (other.isGeneric()) {
+                double real = (this.real * other.real) - (this.imaginary * other.imaginary);
+                double imaginary = (this.real * other.imaginary) + (other.real * this.imaginary);
+                return new CartesianComplexDouble(real, imaginary);
+            }
+        }
+        return this.multiplyBySpecialCases(complex);
+    }
+    
+    private Complex multiplyBySpecialCases(Complex complex) {
         if (this.isZero() || complex.isZero()) {
             return ZERO_COMPLEX_CARTESIAN;
         }
@@ -162,6 +220,15 @@ class CartesianComplexDouble extends AbstractComplexDouble {
         return new CartesianComplexDouble(real, imaginary);
     }
     
+    @Override
+    public Complex multiplyByUnchecked(Complex complex) {
+        double a1 = this.real;
+        double b1 = this.imaginary;
+        double a2 = complex.realValue();
+        double b2 = complex.imaginaryValue();
+        return new CartesianComplexDouble((a1 * a2) - (b1 * b2), (a1 * b2) + (a2 * b1));
+    }
+    
     @Override
     public Complex multiplyByReal(double amount) {
         if (this.isZero() || (amount == 0)) {
@@ -211,6 +278,20 @@ class CartesianComplexDouble extends AbstractComplexDouble {
     
     @Override
     public Complex divideBy(Complex complex) {
+        if ((complex instanceof CartesianComplexDouble) && this.isGeneric()) {
+            // Cartesian / Cartesian: the fields of a final class, like multiplyBy
+            CartesianComplexDouble other = (CartesianComplexDouble) complex;
+            if (other.isGeneric()) {
+                double real2plusImg2 = this.re2PlusIm2(other.real, other.imaginary);
+                double real = ((this.real * other.real) + (this.imaginary * other.imaginary)) / real2plusImg2;
+                double imaginary = ((this.imaginary * other.real) - (this.real * other.imaginary)) / real2plusImg2;
+                return new CartesianComplexDouble(real, imaginary);
+            }
+        }
+        return this.divideBySpecialCases(complex);
+    }
+    
+    private Complex divideBySpecialCases(Complex complex) {
         if (complex.isZero()) {
             throw new ArithmeticException("Unable to divide by:  0 + 0i");
         }
@@ -224,6 +305,16 @@ class CartesianComplexDouble extends AbstractComplexDouble {
         return this.divideBy(complex.realValue(), complex.imaginaryValue());
     }
     
+    @Override
+    public Complex divideByUnchecked(Complex complex) {
+        double a1 = this.real;
+        double b1 = this.imaginary;
+        double a2 = complex.realValue();
+        double b2 = complex.imaginaryValue();
+        double real2plusImg2 = this.re2PlusIm2(a2, b2);
+        return new CartesianComplexDouble(((a1 * a2) + (b1 * b2)) / real2plusImg2, ((b1 * a2) - (a1 * b2)) / real2plusImg2);
+    }
+    
     @Override
     public Complex divideByReal(double amount) {
         if (amount == 0) {
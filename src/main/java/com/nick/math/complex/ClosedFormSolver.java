@@ -0,0 +1,660 @@
+package com.nick.math.complex;
+
+/**
+ * Closed-form roots of cubic and quartic equations, written into primitive arrays
+ * of real and imaginary parts.
+ * <ul>
+ *   <li> Cubic equations: </li>
+ *        Cardano's formula on the depressed cubic {@code t^3 + p*t + q = 0}, choosing the cube root
+ *        of the term with the larger modulus (as the quadratic formula chooses the sign of {@code b}),
+ *        so the 2 terms never cancel. With real coefficients and 3 real roots, Viète's trigonometric
+ *        formula gives roots without imaginary round-off.
+ *   <li> Quartic equations: </li>
+ *        Ferrari's method on the depressed quartic {@code y^4 + p*y^2 + q*y + r = 0}: a root {@code m}
+ *        of the resolvent cubic {@code 8m^3 + 8p*m^2 + (2p^2 - 8r)*m - q^2 = 0} splits the quartic
+ *        into 2 quadratics. With real coefficients, {@code m} is the largest real root, which is positive,
+ *        so the quadratics have real coefficients too.
+ * </ul>
+ * Before the formulas, the monic equation is scaled: {@code x = 2^k * y}, with {@code k} chosen so that
+ * the coefficients of the equation in {@code y} are close to {@code 1}. The discriminants, the squares and
+ * the cubes of the formulas never overflow nor underflow, even when the roots are close to the limits of
+ * {@code double}, and the roots are scaled back exactly. A root much smaller than the others, which the
+ * formulas give with an error relative to the largest root, is recomputed from the product of the roots.
+ * <p>
+ * Optionally, every root is polished with a few steps of Newton's method on the original
+ * equation: a step is kept only if it reduces the modulus of the polynomial.
+ * <p>
+ * Instances hold the temporary values of the computation, so they are not thread-safe:
+ * every thread should use its own instance.
+ *
+ * @see ComplexNumbers#solveCubicEquation(double, double, double, double)
+ * @see ComplexNumbers#solveQuarticEquation(double, double, double, double, double)
+ * @author Nicolas Scalese
+ */
+final class ClosedFormSolver {
+
+    private static final double SQRT_3_HALF = Math.sqrt(3) / 2;
+
+    private static final int NEWTON_STEPS = 3;
+
+    // Coefficients of the equation to polish, from the highest degree
+    private final double[] coefficientR = new double[5];
+    private final double[] coefficientI = new double[5];
+    private int degree;
+
+    // Roots of the resolvent cubic
+    private final double[] resolventR = new double[3];
+    private final double[] resolventI = new double[3];
+
+    // Temporary values of the cubic
+    private final MutableComplex b = new MutableComplex();
+    private final MutableComplex c = new MutableComplex();
+    private final MutableComplex d = new MutableComplex();
+    private final MutableComplex p = new MutableComplex();
+    private final MutableComplex q = new MutableComplex();
+    private final MutableComplex u = new MutableComplex();
+    private final MutableComplex v = new MutableComplex();
+    private final MutableComplex t = new MutableComplex();
+
+    // Temporary values of the quartic, which solves a cubic too
+    private final MutableComplex quarticP = new MutableComplex();
+    private final MutableComplex quarticQ = new MutableComplex();
+    private final MutableComplex quarticR = new MutableComplex();
+    private final MutableComplex shift = new MutableComplex();
+    private final MutableComplex m = new MutableComplex();
+    private final MutableComplex s = new MutableComplex();
+    private final MutableComplex w = new MutableComplex();
+
+
+    // -------------------------------------------------------------------------
+    //  Complex coefficients
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the 3 roots of {@code a*x^3 + b*x^2 + c*x + d = 0} at {@code [offset, offset + 3)}
+     * of the output arrays. {@code a} must not be zero.
+     */
+    void cubic(double ar, double ai, double br, double bi, double cr, double ci, double dr, double di,
+            double[] rootR, double[] rootI, int offset, boolean polish) {
+        // x^3 + B*x^2 + C*x + D = 0 , then x = 2^exponent * y
+        divide(this.b.set(br, bi), ar, ai);
+        divide(this.c.set(cr, ci), ar, ai);
+        divide(this.d.set(dr, di), ar, ai);
+        int exponent = scaleExponent(largerPart(this.b), largerPart(this.c), largerPart(this.d), 0);
+        scale(this.b, - exponent);
+        scale(this.c, - 2 * exponent);
+        scale(this.d, - 3 * exponent);
+        double constantR = this.d.realValue();
+        double constantI = this.d.imaginaryValue();
+
+        // x = t - B/3  ->  t^3 + p*t + q = 0
+        // p = C - B^2/3 ,  q = 2*B^3/27 - B*C/3 + D
+        this.t.set(this.b).mulInPlace(this.b);
+        this.p.set(this.t).mulByRealInPlace(-1.0 / 3).addInPlace(this.c);
+        this.q.set(this.t).mulInPlace(this.b).mulByRealInPlace(2.0 / 27).addInPlace(this.d);
+        this.t.set(this.b).mulInPlace(this.c).mulByRealInPlace(1.0 / 3);
+        this.q.subtractInPlace(this.t);
+
+        // u^3 = -q/2 +- sqrt(q^2/4 + p^3/27): the sign which gives the larger modulus
+        this.u.set(this.q).mulInPlace(this.q).mulByRealInPlace(0.25);
+        this.t.set(this.p).mulInPlace(this.p).mulInPlace(this.p).mulByRealInPlace(1.0 / 27);
+        this.u.addInPlace(this.t);
+        sqrt(this.u);
+        this.t.set(this.q).mulByRealInPlace(-0.5).addInPlace(this.u);
+        this.u.mulByRealInPlace(-1).subtractInPlace(this.q.realValue() / 2, this.q.imaginaryValue() / 2);
+        if (modulus2(this.t) > modulus2(this.u)) {
+            this.u.set(this.t);
+        }
+        cbrt(this.u);
+
+        // v = -p/(3u), so that u*v = -p/3
+        if ((this.u.realValue() == 0) && (this.u.imaginaryValue() == 0)) {
+            // p = q = 0: triple root
+            this.v.set(0, 0);
+        } else {
+            this.v.set(this.p).mulByRealInPlace(-1.0 / 3).divInPlace(this.u);
+        }
+
+        // t0 = u + v ,  t1,2 = -(u + v)/2 +- i*sqrt(3)/2*(u - v)
+        double sumR = this.u.realValue() + this.v.realValue();
+        double sumI = this.u.imaginaryValue() + this.v.imaginaryValue();
+        if (4 * ((sumR * sumR) + (sumI * sumI)) < modulus2(this.u)) {
+            // u + v cancels: t0 = (u^3 + v^3)/(u^2 - u*v + v^2) = -q/(u^2 + v^2 + p/3)
+            this.t.set(this.u).mulInPlace(this.u)
+                .fmaInPlace(this.v.realValue(), this.v.imaginaryValue(), this.v.realValue(), this.v.imaginaryValue())
+                .addInPlace(this.p.realValue() / 3, this.p.imaginaryValue() / 3);
+            double denominatorR = this.t.realValue();
+            double denominatorI = this.t.imaginaryValue();
+            this.t.set(this.q).mulByRealInPlace(-1).divInPlace(denominatorR, denominatorI);
+            sumR = this.t.realValue();
+            sumI = this.t.imaginaryValue();
+        }
+        double differenceR = this.u.realValue() - this.v.realValue();
+        double differenceI = this.u.imaginaryValue() - this.v.imaginaryValue();
+        double shiftR = - this.b.realValue() / 3;
+        double shiftI = - this.b.imaginaryValue() / 3;
+
+        rootR[offset] = sumR + shiftR;
+        rootI[offset] = sumI + shiftI;
+        rootR[offset + 1] = (- sumR / 2) - (SQRT_3_HALF * differenceI) + shiftR;
+        rootI[offset + 1] = (- sumI / 2) + (SQRT_3_HALF * differenceR) + shiftI;
+        rootR[offset + 2] = (- sumR / 2) + (SQRT_3_HALF * differenceI) + shiftR;
+        rootI[offset + 2] = (- sumI / 2) - (SQRT_3_HALF * differenceR) + shiftI;
+        refineSmallest(rootR, rootI, offset, 3, - constantR, - constantI);
+        unscale(rootR, rootI, offset, 3, exponent);
+
+        if (polish) {
+            this.setCoefficients(ar, ai, br, bi, cr, ci, dr, di, 0, 0, 3);
+            this.polish(rootR, rootI, offset);
+        }
+    }
+
+    /**
+     * Writes the 4 roots of {@code a*x^4 + b*x^3 + c*x^2 + d*x + e = 0} at {@code [offset, offset + 4)}
+     * of the output arrays. {@code a} must not be zero.
+     */
+    void quartic(double ar, double ai, double br, double bi, double cr, double ci, double dr, double di,
+            double er, double ei, double[] rootR, double[] rootI, int offset, boolean polish) {
+        // x^4 + B*x^3 + C*x^2 + D*x + E = 0 , stored in b, c, d, s , then x = 2^exponent * y
+        divide(this.b.set(br, bi), ar, ai);
+        divide(this.c.set(cr, ci), ar, ai);
+        divide(this.d.set(dr, di), ar, ai);
+        divide(this.s.set(er, ei), ar, ai);
+        int exponent = scaleExponent(largerPart(this.b), largerPart(this.c), largerPart(this.d), largerPart(this.s));
+        scale(this.b, - exponent);
+        scale(this.c, - 2 * exponent);
+        scale(this.d, - 3 * exponent);
+        scale(this.s, - 4 * exponent);
+        double constantR = this.s.realValue();
+        double constantI = this.s.imaginaryValue();
+
+        // x = y - B/4  ->  y^4 + p*y^2 + q*y + r = 0
+        // p = C - 3B^2/8
+        // q = D - B*C/2 + B^3/8
+        // r = E - B*D/4 + B^2*C/16 - 3B^4/256
+        this.shift.set(this.b).mulByRealInPlace(-0.25);
+        this.w.set(this.b).mulInPlace(this.b);    // B^2
+        this.quarticP.set(this.w).mulByRealInPlace(-3.0 / 8).addInPlace(this.c);
+        this.quarticQ.set(this.w).mulInPlace(this.b).mulByRealInPlace(1.0 / 8).addInPlace(this.d);
+        this.t.set(this.b).mulInPlace(this.c).mulByRealInPlace(0.5);
+        this.quarticQ.subtractInPlace(this.t);
+        this.quarticR.set(this.w).mulInPlace(this.w).mulByRealInPlace(-3.0 / 256).addInPlace(this.s);
+        this.t.set(this.b).mulInPlace(this.d).mulByRealInPlace(0.25);
+        this.quarticR.subtractInPlace(this.t);
+        this.t.set(this.w).mulInPlace(this.c).mulByRealInPlace(1.0 / 16);
+        this.quarticR.addInPlace(this.t);
+
+        if ((this.quarticQ.realValue() == 0) && (this.quarticQ.imaginaryValue() == 0)) {
+            // Biquadratic: z^2 + p*z + r = 0 , y = +- sqrt(z)
+            monicQuadratic(this.quarticP.realValue(), this.quarticP.imaginaryValue(),
+                    this.quarticR.realValue(), this.quarticR.imaginaryValue(), rootR, rootI, offset);
+            for (int k = 1; k >= 0; k--) {
+                this.t.set(rootR[offset + k], rootI[offset + k]);
+                sqrt(this.t);
+                rootR[offset + 2 * k] = this.t.realValue() + this.shift.realValue();
+                rootI[offset + 2 * k] = this.t.imaginaryValue() + this.shift.imaginaryValue();
+                rootR[offset + 2 * k + 1] = - this.t.realValue() + this.shift.realValue();
+                rootI[offset + 2 * k + 1] = - this.t.imaginaryValue() + this.shift.imaginaryValue();
+            }
+        } else {
+            // Resolvent cubic: 8m^3 + 8p*m^2 + (2p^2 - 8r)*m - q^2 = 0
+            double pr = this.quarticP.realValue();
+            double pi = this.quarticP.imaginaryValue();
+            this.t.set(this.quarticP).mulInPlace(this.quarticP).mulByRealInPlace(2);
+            this.w.set(this.quarticR).mulByRealInPlace(-8).addInPlace(this.t);
+            this.t.set(this.quarticQ).mulInPlace(this.quarticQ);
+            this.cubic(8, 0, 8 * pr, 8 * pi, this.w.realValue(), this.w.imaginaryValue(),
+                    - this.t.realValue(), - this.t.imaginaryValue(), this.resolventR, this.resolventI, 0, true);
+
+            // The root with the largest modulus: it is not 0, because the product of the roots is q^2/8
+            int largest = 0;
+            for (int k = 1; k < 3; k++) {
+                if (Math.hypot(this.resolventR[k], this.resolventI[k]) > Math.hypot(this.resolventR[largest], this.resolventI[largest])) {
+                    largest = k;
+                }
+            }
+            this.m.set(this.resolventR[largest], this.resolventI[largest]);
+            this.splitQuartic(rootR, rootI, offset);
+        }
+        refineSmallest(rootR, rootI, offset, 4, constantR, constantI);
+        unscale(rootR, rootI, offset, 4, exponent);
+
+        if (polish) {
+            this.setCoefficients(ar, ai, br, bi, cr, ci, dr, di, er, ei, 4);
+            this.polish(rootR, rootI, offset);
+        }
+    }
+
+    /**
+     * Given the root {@code m} of the resolvent cubic, with {@code s = sqrt(2m)}:
+     * {@code y^2 - s*y + (p/2 + m + q/(2s)) = 0} and {@code y^2 + s*y + (p/2 + m - q/(2s)) = 0}.
+     */
+    private void splitQuartic(double[] rootR, double[] rootI, int offset) {
+        this.s.set(this.m).mulByRealInPlace(2);
+        sqrt(this.s);
+        // w = q/(2s) , t = p/2 + m
+        this.w.set(this.quarticQ).mulByRealInPlace(0.5).divInPlace(this.s);
+        this.t.set(this.quarticP).mulByRealInPlace(0.5).addInPlace(this.m);
+
+        monicQuadratic(- this.s.realValue(), - this.s.imaginaryValue(),
+                this.t.realValue() + this.w.realValue(), this.t.imaginaryValue() + this.w.imaginaryValue(),
+                rootR, rootI, offset);
+        monicQuadratic(this.s.realValue(), this.s.imaginaryValue(),
+                this.t.realValue() - this.w.realValue(), this.t.imaginaryValue() - this.w.imaginaryValue(),
+                rootR, rootI, offset + 2);
+        for (int k = offset; k < offset + 4; k++) {
+            rootR[k] += this.shift.realValue();
+            rootI[k] += this.shift.imaginaryValue();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Real coefficients
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the 3 roots of {@code a*x^3 + b*x^2 + c*x + d = 0} at {@code [offset, offset + 3)}
+     * of the output arrays: the real roots in ascending order, then the complex conjugate roots,
+     * the one with positive imaginary part first. {@code a} must not be zero.
+     */
+    void realCubic(double a, double b, double c, double d,
+            double[] rootR, double[] rootI, int offset, boolean polish) {
+        // x = 2^exponent * y
+        int exponent = scaleExponent(Math.abs(b / a), Math.abs(c / a), Math.abs(d / a), 0);
+        double bn = Math.scalb(b / a, - exponent);
+        double cn = Math.scalb(c / a, - 2 * exponent);
+        double dn = Math.scalb(d / a, - 3 * exponent);
+        double shiftR = - bn / 3;
+
+        // t^3 + p*t + q = 0
+        double pn = cn - (bn * bn) / 3;
+        double qn = ((2 * bn * bn * bn) / 27) - ((bn * cn) / 3) + dn;
+        double halfQ = qn / 2;
+        double thirdP = pn / 3;
+        double discriminant = (halfQ * halfQ) + (thirdP * thirdP * thirdP);
+
+        if ((pn == 0) && (qn == 0)) {
+            // Triple root
+            for (int k = 0; k < 3; k++) {
+                rootR[offset + k] = shiftR;
+                rootI[offset + k] = 0;
+            }
+        } else if (discriminant > 0) {
+            // 1 real root: u^3 = -q/2 - sgn(q)*sqrt(discriminant) , the term without cancellation
+            double sqrt = Math.sqrt(discriminant);
+            double u3 = - halfQ - ((qn >= 0) ? sqrt : - sqrt);
+            double uu = Math.cbrt(u3);
+            double vv = (uu == 0) ? 0 : - thirdP / uu;
+            // With p > 0, u and v have opposite signs: t0 = (u^3 + v^3)/(u^2 - u*v + v^2) has no cancellation
+            double sum = (thirdP > 0) ? - qn / ((uu * uu) + (vv * vv) + thirdP) : uu + vv;
+            rootR[offset] = sum + shiftR;
+            rootI[offset] = 0;
+            rootR[offset + 1] = - sum / 2 + shiftR;
+            rootI[offset + 1] = SQRT_3_HALF * Math.abs(uu - vv);
+            rootR[offset + 2] = rootR[offset + 1];
+            rootI[offset + 2] = - rootI[offset + 1];
+        } else {
+            // 3 real roots (p < 0): t = 2*sqrt(-p/3) * cos(theta/3 - 2*PI*k/3)
+            double amplitude = 2 * Math.sqrt(- thirdP);
+            double cosTheta = Math.max(-1, Math.min(1, (3 * qn / (2 * pn)) * Math.sqrt(-1 / thirdP)));
+            double theta = Math.acos(cosTheta) / 3;
+            for (int k = 0; k < 3; k++) {
+                rootR[offset + k] = amplitude * Math.cos(theta - (2 * Math.PI * k) / 3) + shiftR;
+                rootI[offset + k] = 0;
+            }
+        }
+        refineSmallest(rootR, rootI, offset, 3, - dn, 0);
+        unscale(rootR, rootI, offset, 3, exponent);
+
+        if (polish) {
+            this.setCoefficients(a, 0, b, 0, c, 0, d, 0, 0, 0, 3);
+            this.polish(rootR, rootI, offset);
+        }
+        sortRoots(rootR, rootI, offset, 3);
+    }
+
+    /**
+     * Writes the 4 roots of {@code a*x^4 + b*x^3 + c*x^2 + d*x + e = 0} at {@code [offset, offset + 4)}
+     * of the output arrays: the real roots in ascending order, then the complex conjugate roots,
+     * the one with positive imaginary part first. {@code a} must not be zero.
+     */
+    void realQuartic(double a, double b, double c, double d, double e,
+            double[] rootR, double[] rootI, int offset, boolean polish) {
+        // x = 2^exponent * y
+        int exponent = scaleExponent(Math.abs(b / a), Math.abs(c / a), Math.abs(d / a), Math.abs(e / a));
+        double bn = Math.scalb(b / a, - exponent);
+        double cn = Math.scalb(c / a, - 2 * exponent);
+        double dn = Math.scalb(d / a, - 3 * exponent);
+        double en = Math.scalb(e / a, - 4 * exponent);
+        double shiftR = - bn / 4;
+
+        // y^4 + p*y^2 + q*y + r = 0
+        double bn2 = bn * bn;
+        double pn = cn - (3 * bn2) / 8;
+        double qn = dn - (bn * cn) / 2 + (bn2 * bn) / 8;
+        double rn = en - (bn * dn) / 4 + (bn2 * cn) / 16 - (3 * bn2 * bn2) / 256;
+
+        if (qn == 0) {
+            // Biquadratic: z^2 + p*z + r = 0 , y = +- sqrt(z)
+            monicQuadratic(pn, 0, rn, 0, rootR, rootI, offset);
+            for (int k = 1; k >= 0; k--) {
+                double zr = rootR[offset + k];
+                double zi = rootI[offset + k];
+                double yr = ComplexNumbers.principalSqrtReal(zr, zi);
+                double yi = ComplexNumbers.principalSqrtImaginary(zr, zi, yr);
+                rootR[offset + 2 * k] = yr + shiftR;
+                rootI[offset + 2 * k] = yi;
+                rootR[offset + 2 * k + 1] = - yr + shiftR;
+                rootI[offset + 2 * k + 1] = (yi == 0) ? 0 : - yi;
+            }
+        } else {
+            // Resolvent cubic: 8m^3 + 8p*m^2 + (2p^2 - 8r)*m - q^2 = 0 , whose largest real root is positive
+            this.realCubic(8, 8 * pn, (2 * pn * pn) - (8 * rn), - qn * qn, this.resolventR, this.resolventI, 0, true);
+            double mm = this.resolventR[0];
+            for (int k = 1; k < 3; k++) {
+                if ((this.resolventI[k] == 0) && (this.resolventR[k] > mm)) {
+                    mm = this.resolventR[k];
+                }
+            }
+
+            double ss = Math.sqrt(2 * mm);
+            double ww = qn / (2 * ss);
+            double tt = (pn / 2) + mm;
+            monicQuadratic(- ss, 0, tt + ww, 0, rootR, rootI, offset);
+            monicQuadratic(ss, 0, tt - ww, 0, rootR, rootI, offset + 2);
+            for (int k = offset; k < offset + 4; k++) {
+                rootR[k] += shiftR;
+            }
+        }
+        refineSmallest(rootR, rootI, offset, 4, en, 0);
+        unscale(rootR, rootI, offset, 4, exponent);
+
+        if (polish) {
+            this.setCoefficients(a, 0, b, 0, c, 0, d, 0, e, 0, 4);
+            this.polish(rootR, rootI, offset);
+        }
+        sortRoots(rootR, rootI, offset, 4);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the 2 roots of {@code y^2 + beta*y + gamma = 0} at {@code [offset, offset + 2)}.
+     * The first one is {@code (-beta -+ sqrt(beta^2 - 4*gamma))/2}, with the sign which gives the
+     * larger modulus, the second one is {@code gamma/y1}: no catastrophic cancellation.
+     * With real coefficients, the roots are real, or complex conjugate with exactly opposite imaginary parts.
+     */
+    private static void monicQuadratic(double betaR, double betaI, double gammaR, double gammaI,
+            double[] rootR, double[] rootI, int offset) {
+        double deltaR = ((betaR * betaR) - (betaI * betaI)) - 4 * gammaR;
+        double deltaI = (2 * betaR * betaI) - 4 * gammaI;
+
+        if ((betaI == 0) && (gammaI == 0)) {
+            if (deltaR < 0) {
+                // Real coefficients, complex conjugate roots
+                double imaginary = Math.sqrt(- deltaR) / 2;
+                rootR[offset] = - betaR / 2;
+                rootI[offset] = imaginary;
+                rootR[offset + 1] = - betaR / 2;
+                rootI[offset + 1] = - imaginary;
+            } else {
+                // Real coefficients, real roots: y1 = (-beta - sgn(beta)*sqrt(delta))/2 , y2 = gamma/y1
+                double y1 = (- betaR - Math.copySign(Math.sqrt(deltaR), betaR)) / 2;
+                rootR[offset] = y1;
+                rootI[offset] = 0;
+                rootR[offset + 1] = (y1 == 0) ? 0 : gammaR / y1;
+                rootI[offset + 1] = 0;
+            }
+            return;
+        }
+
+        double sqrtR = ComplexNumbers.principalSqrtReal(deltaR, deltaI);
+        double sqrtI = ComplexNumbers.principalSqrtImaginary(deltaR, deltaI, sqrtR);
+        double plusR = - betaR + sqrtR;
+        double plusI = - betaI + sqrtI;
+        double minusR = - betaR - sqrtR;
+        double minusI = - betaI - sqrtI;
+        boolean plus = ((plusR * plusR) + (plusI * plusI)) > ((minusR * minusR) + (minusI * minusI));
+        double y1r = (plus ? plusR : minusR) / 2;
+        double y1i = (plus ? plusI : minusI) / 2;
+        rootR[offset] = y1r;
+        rootI[offset] = y1i;
+
+        double modulus2 = (y1r * y1r) + (y1i * y1i);
+        if (modulus2 == 0) {
+            // beta = gamma = 0
+            rootR[offset + 1] = 0;
+            rootI[offset + 1] = 0;
+        } else {
+            rootR[offset + 1] = ((gammaR * y1r) + (gammaI * y1i)) / modulus2;
+            rootI[offset + 1] = ((gammaI * y1r) - (gammaR * y1i)) / modulus2;
+        }
+    }
+
+    private void setCoefficients(double ar, double ai, double br, double bi, double cr, double ci,
+            double dr, double di, double er, double ei, int degree) {
+        this.degree = degree;
+        this.coefficientR[0] = ar;
+        this.coefficientI[0] = ai;
+        this.coefficientR[1] = br;
+        this.coefficientI[1] = bi;
+        this.coefficientR[2] = cr;
+        this.coefficientI[2] = ci;
+        this.coefficientR[3] = dr;
+        this.coefficientI[3] = di;
+        this.coefficientR[4] = er;
+        this.coefficientI[4] = ei;
+    }
+
+    /**
+     * Newton's method on every root: {@code x = x - f(x)/f'(x)},
+     * while the modulus of {@code f(x)} decreases.
+     */
+    private void polish(double[] rootR, double[] rootI, int offset) {
+        for (int k = offset; k < offset + this.degree; k++) {
+            double xr = rootR[k];
+            double xi = rootI[k];
+            for (int step = 0; step < NEWTON_STEPS; step++) {
+                // Horner: f and f'
+                double fr = this.coefficientR[0];
+                double fi = this.coefficientI[0];
+                double dfr = 0;
+                double dfi = 0;
+                for (int j = 1; j <= this.degree; j++) {
+                    double tr = (dfr * xr) - (dfi * xi) + fr;
+                    dfi = (dfr * xi) + (dfi * xr) + fi;
+                    dfr = tr;
+                    tr = (fr * xr) - (fi * xi) + this.coefficientR[j];
+                    fi = (fr * xi) + (fi * xr) + this.coefficientI[j];
+                    fr = tr;
+                }
+                double f2 = (fr * fr) + (fi * fi);
+                double df2 = (dfr * dfr) + (dfi * dfi);
+                if ((f2 == 0) || (df2 == 0) || !Double.isFinite(f2 / df2)) {
+                    break;
+                }
+
+                double nextR = xr - ((fr * dfr) + (fi * dfi)) / df2;
+                double nextI = xi - ((fi * dfr) - (fr * dfi)) / df2;
+                if (this.modulus2At(nextR, nextI) >= f2) {
+                    break;
+                }
+                xr = nextR;
+                xi = nextI;
+            }
+            rootR[k] = xr;
+            rootI[k] = xi;
+        }
+    }
+
+    private double modulus2At(double xr, double xi) {
+        double fr = this.coefficientR[0];
+        double fi = this.coefficientI[0];
+        for (int j = 1; j <= this.degree; j++) {
+            double tr = (fr * xr) - (fi * xi) + this.coefficientR[j];
+            fi = (fr * xi) + (fi * xr) + this.coefficientI[j];
+            fr = tr;
+        }
+        return (fr * fr) + (fi * fi);
+    }
+
+    /**
+     * Insertion sort: real roots in ascending order first, then complex roots by real part,
+     * the one with positive imaginary part first.
+     */
+    private static void sortRoots(double[] rootR, double[] rootI, int offset, int count) {
+        for (int k = offset + 1; k < offset + count; k++) {
+            double re = rootR[k];
+            double im = rootI[k];
+            int j = k - 1;
+            while ((j >= offset) && precedes(re, im, rootR[j], rootI[j])) {
+                rootR[j + 1] = rootR[j];
+                rootI[j + 1] = rootI[j];
+                j--;
+            }
+            rootR[j + 1] = re;
+            rootI[j + 1] = im;
+        }
+    }
+
+    private static boolean precedes(double re1, double im1, double re2, double im2) {
+        if ((im1 == 0) != (im2 == 0)) {
+            return (im1 == 0);
+        }
+        if (re1 != re2) {
+            return re1 < re2;
+        }
+        return im1 > im2;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Scaling
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the exponent {@code k} which scales {@code x^n + c1*x^(n-1) + c2*x^(n-2) + ...} with
+     * {@code x = 2^k * y}: the coefficients of the equation in {@code y} are {@code cj / 2^(j*k)},
+     * and the largest of {@code |cj|^(1/j)} becomes about {@code 1}. The arguments are the absolute
+     * values of the coefficients, {@code 0} for the missing ones.
+     */
+    private static int scaleExponent(double c1, double c2, double c3, double c4) {
+        if (!(Double.isFinite(c1) && Double.isFinite(c2) && Double.isFinite(c3) && Double.isFinite(c4))) {
+            // Infinite or NaN coefficients: no scaling
+            return 0;
+        }
+        int exponent = Integer.MIN_VALUE;
+        if (c1 != 0) {
+            exponent = Math.getExponent(c1);
+        }
+        if (c2 != 0) {
+            exponent = Math.max(exponent, Math.floorDiv(Math.getExponent(c2), 2));
+        }
+        if (c3 != 0) {
+            exponent = Math.max(exponent, Math.floorDiv(Math.getExponent(c3), 3));
+        }
+        if (c4 != 0) {
+            exponent = Math.max(exponent, Math.floorDiv(Math.getExponent(c4), 4));
+        }
+        return (exponent == Integer.MIN_VALUE) ? 0 : exponent;
+    }
+
+    /**
+     * {@code z = z / a}, with {@code a} scaled by a power of 2 close to {@code 1} first:
+     * {@code |a|^2} neither overflows nor underflows.
+     */
+    private static void divide(MutableComplex z, double ar, double ai) {
+        double larger = Math.max(Math.abs(ar), Math.abs(ai));
+        int exponent = (Double.isFinite(larger) && (larger != 0)) ? Math.getExponent(larger) : 0;
+        z.divInPlace(Math.scalb(ar, - exponent), Math.scalb(ai, - exponent));
+        scale(z, - exponent);
+    }
+
+    /**
+     * The formulas give the roots with an error relative to the largest one: a root much smaller than
+     * the others is recomputed from the product of all the roots, which is {@code product}
+     * ({@code -D} for the monic cubic, {@code E} for the monic quartic). It is done only if the smallest
+     * root is less than half every other one, which are then accurate.
+     */
+    private static void refineSmallest(double[] rootR, double[] rootI, int offset, int count,
+            double productR, double productI) {
+        int smallest = offset;
+        for (int k = offset + 1; k < offset + count; k++) {
+            if (size(rootR[k], rootI[k]) < size(rootR[smallest], rootI[smallest])) {
+                smallest = k;
+            }
+        }
+        double othersR = 1;
+        double othersI = 0;
+        for (int k = offset; k < offset + count; k++) {
+            if (k != smallest) {
+                if (!(2 * size(rootR[smallest], rootI[smallest]) < size(rootR[k], rootI[k]))) {
+                    return;
+                }
+                double nextR = (othersR * rootR[k]) - (othersI * rootI[k]);
+                othersI = (othersR * rootI[k]) + (othersI * rootR[k]);
+                othersR = nextR;
+            }
+        }
+        double modulus2 = (othersR * othersR) + (othersI * othersI);
+        if (!(modulus2 > 0) || !Double.isFinite(modulus2)) {
+            return;
+        }
+        rootR[smallest] = ((productR * othersR) + (productI * othersI)) / modulus2;
+        rootI[smallest] = ((productI * othersR) - (productR * othersI)) / modulus2;
+    }
+
+    private static double size(double re, double im) {
+        return Math.max(Math.abs(re), Math.abs(im));
+    }
+
+    private static double largerPart(MutableComplex z) {
+        return Math.max(Math.abs(z.realValue()), Math.abs(z.imaginaryValue()));
+    }
+
+    /**
+     * {@code z = z * 2^exponent}, exact unless the result is subnormal.
+     */
+    private static void scale(MutableComplex z, int exponent) {
+        z.set(Math.scalb(z.realValue(), exponent), Math.scalb(z.imaginaryValue(), exponent));
+    }
+
+    /**
+     * Multiplies the roots at {@code [offset, offset + count)} by {@code 2^exponent}.
+     */
+    private static void unscale(double[] rootR, double[] rootI, int offset, int count, int exponent) {
+        for (int k = offset; k < offset + count; k++) {
+            rootR[k] = Math.scalb(rootR[k], exponent);
+            rootI[k] = Math.scalb(rootI[k], exponent);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+
+    private static double modulus2(MutableComplex z) {
+        return (z.realValue() * z.realValue()) + (z.imaginaryValue() * z.imaginaryValue());
+    }
+
+    /**
+     * {@code z = sqrt(z)}, the principal square root.
+     */
+    private static void sqrt(MutableComplex z) {
+        double real = ComplexNumbers.principalSqrtReal(z.realValue(), z.imaginaryValue());
+        double imaginary = ComplexNumbers.principalSqrtImaginary(z.realValue(), z.imaginaryValue(), real);
+        z.set(real, imaginary);
+    }
+
+    /**
+     * {@code z = cbrt(z)}, the principal cube root: argument in {@code (-PI/3, PI/3]}.
+     */
+    private static void cbrt(MutableComplex z) {
+        double modulus = Math.hypot(z.realValue(), z.imaginaryValue());
+        if (modulus == 0) {
+            z.set(0, 0);
+            return;
+        }
+        double root = Math.cbrt(modulus);
+        double angle = Math.atan2(z.imaginaryValue(), z.realValue()) / 3;
+        z.set(root * Math.cos(angle), root * Math.sin(angle));
+    }
+
+}
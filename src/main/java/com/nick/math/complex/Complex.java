@@ -36,8 +36,12 @@ import java.text.DecimalFormat;
  * <p>
  * Some notes about the implementation:
  * <ul>
- *   <li> There are 2 different implementations of {@code Complex}, defined in Cartesian and polar/exponential form.</li>
+ *   <li> There are 3 different implementations of {@code Complex}, defined in Cartesian form, polar/exponential form,
+ *        and in the adaptive form of {@link ComplexNumbers#ofAdaptiveForm(Complex)}, which carries either of them.</li>
  *     <ul>
+ *       <li> The interface is sealed: these are the only implementations, and the JIT compiler can specialize
+ *            the operations between operands of the same implementation, like the product of 2 Cartesian
+ *            {@code Complex}, into straight-line code without calls through the interface.</li>
  *       <li> The static class {@link ComplexNumbers} has public methods that return
  *            objects implementing the {@code Complex} interface. They "automatically"
  *            choose the proper implementation without the developer needing to worry about it.</li>
@@ -53,9 +57,11 @@ import java.text.DecimalFormat;
  *            are implemented differently. In case we multiply/divide different {@code Complex} 
  *            number types, the first of the two operands "decides" how the operation is made.</li>
  *       <li> Exponentiation {@link #pow(double)} and roots {@link #nThRoot(int, int)}, {@link #allNThRoots(int)}
- *            have a common implementation: they are always computed using polar form, 
- *            calling methods {@link #modulusValue()} and {@link #mainArgumentValue()} 
- *            in every case.</li>
+ *            have a common implementation: they are computed using polar form, 
+ *            calling methods {@link #modulusValue()} and {@link #mainArgumentValue()}.
+ *            The exceptions keep the form of the value: {@code pow(0.5)} is the principal square root,
+ *            computed in Cartesian form for a Cartesian {@code Complex}, and {@link #pow(int)}
+ *            raises a Cartesian {@code Complex} by repeated squaring, with no {@code cos} nor {@code sin}.</li>
  *     </ul> 
  *   <li> String representation:</li>
  *     <ul>
@@ -80,7 +86,7 @@ import java.text.DecimalFormat;
  * @see ComplexNumbers
  * @author Nicolas Scalese
  */
-public interface Complex extends Serializable {
+public sealed interface Complex extends Serializable permits AbstractComplexDouble {
     
     /**
      * Returns the real part of this complex number.
@@ -298,6 +304,19 @@ public interface Complex extends Serializable {
      */
     Complex multiplyBy(Complex complex);
     
+    /**
+     * Multiplies this complex number by another complex number, with straight-line arithmetic:
+     * unlike {@link #multiplyBy(Complex)}, no operand is tested for {@code 0}, {@code 1},
+     * a real or an imaginary value, and the result is always a new object in the representation
+     * of this complex number, computed with the same formula for every value.
+     * For generic values the result is the same of {@link #multiplyBy(Complex)}, without the branches.
+     *
+     * @param complex the complex number to multiply this complex number by
+     * @return the product of this complex number and the specified complex number
+     * @see #multiplyBy(Complex)
+     */
+    Complex multiplyByUnchecked(Complex complex);
+    
     /**
      * Multiplies the real part of this complex number by an amount.
      * 
@@ -314,6 +333,31 @@ public interface Complex extends Serializable {
      */
     Complex multiplyByImaginary(double amount);
     
+    /**
+     * Multiplies this complex number by a factor, and adds an addend: {@code this * factor + addend},
+     * with a single object allocation instead of two.
+     * This operation is performed in Cartesian form: the real part {@code ac - bd} and the imaginary part
+     * {@code ad + bc} of the product are computed with {@link Math#fma(double, double, double)}, with
+     * Kahan's algorithm, within 2 ulps also when the 2 products cancel each other, then the addend is added.
+     *
+     * @param factor the complex number to multiply this complex number by
+     * @param addend the complex number to add to the product
+     * @return the sum of the product and the addend
+     * @see #multiplyBy(Complex)
+     */
+    Complex multiplyAdd(Complex factor, Complex addend);
+    
+    /**
+     * Multiplies this complex number by a factor, and subtracts a subtrahend: {@code this * factor - subtrahend},
+     * with a single object allocation instead of two.
+     * This operation is performed in Cartesian form, like {@link #multiplyAdd(Complex, Complex)}.
+     *
+     * @param factor the complex number to multiply this complex number by
+     * @param subtrahend the complex number to subtract from the product
+     * @return the difference of the product and the subtrahend
+     */
+    Complex multiplySubtract(Complex factor, Complex subtrahend);
+    
     /**
      * Divides this complex number by another complex number.
      *
@@ -324,6 +368,19 @@ public interface Complex extends Serializable {
      */
     Complex divideBy(Complex complex);
     
+    /**
+     * Divides this complex number by another complex number, with straight-line arithmetic:
+     * unlike {@link #divideBy(Complex)}, no operand is tested for {@code 0} or {@code 1},
+     * and the result is always a new object computed with the same formula for every value.
+     * The divisor {@code 0 + 0i} does not throw: the result follows the IEEE 754 arithmetic
+     * of {@code double}, with infinite or {@code NaN} parts.
+     *
+     * @param complex the complex number to divide this complex number by
+     * @return the quotient of this complex number and the specified complex number
+     * @see #divideBy(Complex)
+     */
+    Complex divideByUnchecked(Complex complex);
+    
     /**
      * Divides the real part of this complex number by an amount.
      * 
@@ -354,13 +411,29 @@ public interface Complex extends Serializable {
     
     /**
      * Raises this complex number to the power of the specified exponent.
-     * This operation is performed in Polar form.
+     * This operation is performed in Polar form, except {@code pow(0.5)}: the principal square root,
+     * computed in the form of this complex number without {@code cos} and {@code sin}.
      * 
      * @param exponent the exponent to raise this complex number to
      * @return this complex number raised to the specified power
+     * @see #pow(int)
      */
     Complex pow(double exponent);
     
+    /**
+     * Raises this complex number to the power of the specified integer exponent.
+     * A cartesian number is raised by repeated squaring in Cartesian form, with at most
+     * {@code 2*log2(|exponent|)} products, and no {@code atan2}, {@code cos} nor {@code sin}:
+     * {@code z.pow(2)} is {@code z*z}. A polar number is raised in Polar form.
+     * 
+     * @param exponent the exponent to raise this complex number to
+     * @return this complex number raised to the specified power: {@code 1} if {@code exponent} is {@code 0}
+     * @throws ArithmeticException if this complex number is {@code Complex} zero ({@code 0 + 0i})
+     *         and {@code exponent} is negative
+     * @see #pow(double)
+     */
+    Complex pow(int exponent);
+    
     /**
      * Computes the square root of this complex number, selecting a specific root 
      * based on the value of {@code k}.
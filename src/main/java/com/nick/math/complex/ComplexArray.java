@@ -0,0 +1,987 @@
+package com.nick.math.complex;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A fixed-length sequence of complex numbers, stored as a structure of arrays:
+ * real parts and imaginary parts live in two primitive {@code double[]}.
+ * <p>
+ * Compared to a {@code Complex[]}, this container needs {@code 16} bytes per value
+ * and no object per value, so bulk arithmetic on large signals does not allocate.
+ * <p>
+ * @apiNote
+ * Bulk operations come in two flavours:
+ * <ul>
+ *   <li> Out-of-place (for example {@link #plus(ComplexArray)}): </li>
+ *        the result is written into a new {@code ComplexArray}, this one is left unchanged.
+ *   <li> In-place (for example {@link #plusInPlace(ComplexArray)}): </li>
+ *        the result overwrites this {@code ComplexArray}, which is returned to allow chaining.
+ * </ul>
+ * Every bulk operation has the same semantics of the scalar {@link Complex}
+ * method with the same name, element by element.
+ * <p>
+ * Some notes about the implementation:
+ * <ul>
+ *   <li> A {@code ComplexArray} created with {@link #ComplexArray(double[], double[])}
+ *        is backed by the given arrays: changes made through one are visible
+ *        through the other. Use {@link #copy()} to get an independent instance.</li>
+ *   <li> Binary operations require operands of the same length.</li>
+ *   <li> All values are handled in Cartesian form. Polar values are converted
+ *        when they are stored in the array.</li>
+ *   <li> The inner loops of {@code plus}, {@code minus}, {@code multiplyBy},
+ *        {@code divideBy} and {@link #modulusValues()} use SIMD instructions when
+ *        the JVM is started with {@code --add-modules jdk.incubator.vector}, 
+ *        and plain scalar loops otherwise. The results are the same in both cases.</li>
+ * </ul>
+ *
+ * @see Complex
+ * @see ComplexNumbers
+ * @author Nicolas Scalese
+ */
+public final class ComplexArray implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ComplexKernels KERNELS = ComplexKernels.selected();
+
+    /**
+     * The number of products between two powers computed directly by {@link #powers(Complex, int)}.
+     */
+    private static final int POWERS_ANCHOR_INTERVAL = 64;
+
+    private final double[] real;
+    private final double[] imaginary;
+
+
+    /**
+     * Creates a {@code ComplexArray} of the given length, where every value is {@code 0 + 0i}.
+     *
+     * @param length the number of complex values
+     * @throws IllegalArgumentException if {@code length} is negative
+     */
+    public ComplexArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be positive or equal to 0.");
+        }
+        this.real = new double[length];
+        this.imaginary = new double[length];
+    }
+
+    /**
+     * Creates a {@code ComplexArray} backed by the given arrays of real and imaginary parts.
+     * The arrays are not copied.
+     *
+     * @param real the real parts
+     * @param imaginary the imaginary parts
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public ComplexArray(double[] real, double[] imaginary) {
+        if ((real == null) || (imaginary == null)) {
+            throw new NullPointerException();
+        }
+        if (real.length != imaginary.length) {
+            throw new IllegalArgumentException("Real and imaginary parts must have the same length.");
+        }
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Creates a {@code ComplexArray} holding the values of the given {@link Complex} numbers.
+     *
+     * @param complex the complex numbers to store
+     * @return a new {@code ComplexArray} with the same values, in the same order
+     * @throws NullPointerException if the array, or one of its elements, is {@code null}
+     */
+    public static ComplexArray of(Complex... complex) {
+        if (complex == null) {
+            throw new NullPointerException();
+        }
+
+        ComplexArray array = new ComplexArray(complex.length);
+        for (int i = 0; i < complex.length; i++) {
+            array.set(i, complex[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Creates a {@code ComplexArray} holding the values of the given {@link Complex} numbers,
+     * in iteration order.
+     *
+     * @param complexNumbers a collection of complex numbers
+     * @return a new {@code ComplexArray} with the same values
+     * @throws NullPointerException if the collection, or one of its elements, is {@code null}
+     */
+    public static ComplexArray of(Collection<Complex> complexNumbers) {
+        if (complexNumbers == null) {
+            throw new NullPointerException();
+        }
+
+        ComplexArray array = new ComplexArray(complexNumbers.size());
+        int i = 0;
+        for (Complex c : complexNumbers) {
+            array.set(i++, c);
+        }
+        return array;
+    }
+
+    /**
+     * Returns a {@code Complex[]} holding the values of this array, in Cartesian form.
+     *
+     * @return a new array of {@link Complex} numbers
+     */
+    public Complex[] toArray() {
+        Complex[] complex = new Complex[this.real.length];
+        for (int i = 0; i < complex.length; i++) {
+            complex[i] = this.get(i);
+        }
+        return complex;
+    }
+
+    /**
+     * Returns an independent copy of this {@code ComplexArray}.
+     *
+     * @return a copy of this array
+     */
+    public ComplexArray copy() {
+        return new ComplexArray(this.real.clone(), this.imaginary.clone());
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the number of complex values in this array.
+     *
+     * @return the length of this array
+     */
+    public int length() {
+        return this.real.length;
+    }
+
+    /**
+     * Returns the array of real parts backing this {@code ComplexArray}.
+     * Changes to the returned array are reflected in this one.
+     *
+     * @return the real parts
+     */
+    public double[] realArray() {
+        return this.real;
+    }
+
+    /**
+     * Returns the array of imaginary parts backing this {@code ComplexArray}.
+     * Changes to the returned array are reflected in this one.
+     *
+     * @return the imaginary parts
+     */
+    public double[] imaginaryArray() {
+        return this.imaginary;
+    }
+
+    /**
+     * Returns the real part of the value at the given index.
+     *
+     * @param index the index of the value
+     * @return the real part of the value at {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public double realValue(int index) {
+        return this.real[index];
+    }
+
+    /**
+     * Returns the imaginary part of the value at the given index.
+     *
+     * @param index the index of the value
+     * @return the imaginary part of the value at {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public double imaginaryValue(int index) {
+        return this.imaginary[index];
+    }
+
+    /**
+     * Returns the modulus of every value of this array.
+     *
+     * @return a new array with the moduli
+     * @see Complex#modulusValue()
+     */
+    public double[] modulusValues() {
+        double[] modulus = new double[this.real.length];
+        KERNELS.modulus(this.real, this.imaginary, modulus, 0, modulus.length);
+        return modulus;
+    }
+
+    /**
+     * Returns the value at the given index, as a {@link Complex} number in Cartesian form.
+     *
+     * @param index the index of the value
+     * @return a new {@code Complex} with the value at {@code index}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public Complex get(int index) {
+        return new CartesianComplexDouble(this.real[index], this.imaginary[index]);
+    }
+
+    /**
+     * Stores the value of the given {@link Complex} number at the given index.
+     *
+     * @param index the index of the value
+     * @param complex the value to store
+     * @throws NullPointerException if {@code complex} is {@code null}
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public void set(int index, Complex complex) {
+        this.set(index, complex.realValue(), complex.imaginaryValue());
+    }
+
+    /**
+     * Stores the given real and imaginary parts at the given index.
+     *
+     * @param index the index of the value
+     * @param real the real part of the value to store
+     * @param imaginary the imaginary part of the value to store
+     * @throws ArrayIndexOutOfBoundsException if {@code index} is out of bounds
+     */
+    public void set(int index, double real, double imaginary) {
+        this.real[index] = real;
+        this.imaginary[index] = imaginary;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds the given array to this one, element by element.
+     *
+     * @param other the complex numbers to add
+     * @return a new {@code ComplexArray} with the sums
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#plus(Complex)
+     */
+    public ComplexArray plus(ComplexArray other) {
+        return this.plus(other, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Adds the given array to this one, element by element, and stores the result in this array.
+     *
+     * @param other the complex numbers to add
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#plus(Complex)
+     */
+    public ComplexArray plusInPlace(ComplexArray other) {
+        return this.plus(other, this);
+    }
+
+    private ComplexArray plus(ComplexArray other, ComplexArray result) {
+        this.validateSameLength(other);
+        KERNELS.add(this.real, this.imaginary, other.real, other.imaginary,
+                result.real, result.imaginary, 0, this.real.length);
+        return result;
+    }
+
+    /**
+     * Adds the given complex number to every value of this array.
+     *
+     * @param complex the complex number to add
+     * @return a new {@code ComplexArray} with the sums
+     * @see Complex#plus(Complex)
+     */
+    public ComplexArray plus(Complex complex) {
+        return this.plus(complex.realValue(), complex.imaginaryValue(), new ComplexArray(this.length()));
+    }
+
+    /**
+     * Adds the given complex number to every value of this array, and stores the result in this array.
+     *
+     * @param complex the complex number to add
+     * @return this array
+     * @see Complex#plus(Complex)
+     */
+    public ComplexArray plusInPlace(Complex complex) {
+        return this.plus(complex.realValue(), complex.imaginaryValue(), this);
+    }
+
+    private ComplexArray plus(double otherReal, double otherImaginary, ComplexArray result) {
+        for (int i = 0; i < this.real.length; i++) {
+            result.real[i] = this.real[i] + otherReal;
+            result.imaginary[i] = this.imaginary[i] + otherImaginary;
+        }
+        return result;
+    }
+
+    /**
+     * Subtracts the given array from this one, element by element.
+     *
+     * @param other the complex numbers to subtract
+     * @return a new {@code ComplexArray} with the differences
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#minus(Complex)
+     */
+    public ComplexArray minus(ComplexArray other) {
+        return this.minus(other, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Subtracts the given array from this one, element by element, and stores the result in this array.
+     *
+     * @param other the complex numbers to subtract
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#minus(Complex)
+     */
+    public ComplexArray minusInPlace(ComplexArray other) {
+        return this.minus(other, this);
+    }
+
+    private ComplexArray minus(ComplexArray other, ComplexArray result) {
+        this.validateSameLength(other);
+        KERNELS.subtract(this.real, this.imaginary, other.real, other.imaginary,
+                result.real, result.imaginary, 0, this.real.length);
+        return result;
+    }
+
+    /**
+     * Subtracts the given complex number from every value of this array.
+     *
+     * @param complex the complex number to subtract
+     * @return a new {@code ComplexArray} with the differences
+     * @see Complex#minus(Complex)
+     */
+    public ComplexArray minus(Complex complex) {
+        return this.plus(- complex.realValue(), - complex.imaginaryValue(), new ComplexArray(this.length()));
+    }
+
+    /**
+     * Subtracts the given complex number from every value of this array,
+     * and stores the result in this array.
+     *
+     * @param complex the complex number to subtract
+     * @return this array
+     * @see Complex#minus(Complex)
+     */
+    public ComplexArray minusInPlace(Complex complex) {
+        return this.plus(- complex.realValue(), - complex.imaginaryValue(), this);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Multiplies this array by the given one, element by element.
+     *
+     * @param other the complex numbers to multiply by
+     * @return a new {@code ComplexArray} with the products
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplyBy(Complex)
+     */
+    public ComplexArray multiplyBy(ComplexArray other) {
+        return this.multiplyBy(other, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Multiplies this array by the given one, element by element, and stores the result in this array.
+     *
+     * @param other the complex numbers to multiply by
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplyBy(Complex)
+     */
+    public ComplexArray multiplyByInPlace(ComplexArray other) {
+        return this.multiplyBy(other, this);
+    }
+
+    private ComplexArray multiplyBy(ComplexArray other, ComplexArray result) {
+        this.validateSameLength(other);
+        KERNELS.multiply(this.real, this.imaginary, other.real, other.imaginary,
+                result.real, result.imaginary, 0, this.real.length);
+        return result;
+    }
+
+    /**
+     * Multiplies every value of this array by the given complex number.
+     *
+     * @param complex the complex number to multiply by
+     * @return a new {@code ComplexArray} with the products
+     * @see Complex#multiplyBy(Complex)
+     */
+    public ComplexArray multiplyBy(Complex complex) {
+        return this.multiplyBy(complex.realValue(), complex.imaginaryValue(), new ComplexArray(this.length()));
+    }
+
+    /**
+     * Multiplies every value of this array by the given complex number,
+     * and stores the result in this array.
+     *
+     * @param complex the complex number to multiply by
+     * @return this array
+     * @see Complex#multiplyBy(Complex)
+     */
+    public ComplexArray multiplyByInPlace(Complex complex) {
+        return this.multiplyBy(complex.realValue(), complex.imaginaryValue(), this);
+    }
+
+    private ComplexArray multiplyBy(double otherReal, double otherImaginary, ComplexArray result) {
+        for (int i = 0; i < this.real.length; i++) {
+            double a1 = this.real[i];
+            double b1 = this.imaginary[i];
+            result.real[i] = (a1 * otherReal) - (b1 * otherImaginary);
+            result.imaginary[i] = (a1 * otherImaginary) + (otherReal * b1);
+        }
+        return result;
+    }
+
+    /**
+     * Divides this array by the given one, element by element.
+     *
+     * @param other the complex numbers to divide by
+     * @return a new {@code ComplexArray} with the quotients
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws ArithmeticException if one of the divisors is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#divideBy(Complex)
+     */
+    public ComplexArray divideBy(ComplexArray other) {
+        return this.divideBy(other, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Divides this array by the given one, element by element, and stores the result in this array.
+     * If one of the divisors is zero, this array is left unchanged.
+     *
+     * @param other the complex numbers to divide by
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws ArithmeticException if one of the divisors is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#divideBy(Complex)
+     */
+    public ComplexArray divideByInPlace(ComplexArray other) {
+        return this.divideBy(other, this);
+    }
+
+    private ComplexArray divideBy(ComplexArray other, ComplexArray result) {
+        this.validateSameLength(other);
+        other.validateNoZero();
+        KERNELS.divide(this.real, this.imaginary, other.real, other.imaginary,
+                result.real, result.imaginary, 0, this.real.length);
+        return result;
+    }
+
+    /**
+     * Divides every value of this array by the given complex number.
+     *
+     * @param complex the complex number to divide by
+     * @return a new {@code ComplexArray} with the quotients
+     * @throws ArithmeticException if the divisor is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#divideBy(Complex)
+     */
+    public ComplexArray divideBy(Complex complex) {
+        return this.divideBy(complex, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Divides every value of this array by the given complex number,
+     * and stores the result in this array.
+     *
+     * @param complex the complex number to divide by
+     * @return this array
+     * @throws ArithmeticException if the divisor is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#divideBy(Complex)
+     */
+    public ComplexArray divideByInPlace(Complex complex) {
+        return this.divideBy(complex, this);
+    }
+
+    private ComplexArray divideBy(Complex complex, ComplexArray result) {
+        if (complex.isZero()) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+
+        double a2 = complex.realValue();
+        double b2 = complex.imaginaryValue();
+        double real2plusImg2 = (a2 * a2) + (b2 * b2);
+        for (int i = 0; i < this.real.length; i++) {
+            double a1 = this.real[i];
+            double b1 = this.imaginary[i];
+            result.real[i] = ((a1 * a2) + (b1 * b2)) / real2plusImg2;
+            result.imaginary[i] = ((b1 * a2) - (a1 * b2)) / real2plusImg2;
+        }
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Multiplies this array by the given factors and adds the given addends, element by element:
+     * {@code this[i] * factor[i] + addend[i]}, with {@link Math#fma(double, double, double)}.
+     *
+     * @param factor the complex numbers to multiply by
+     * @param addend the complex numbers to add to the products
+     * @return a new {@code ComplexArray} with the results
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplyAdd(Complex, Complex)
+     */
+    public ComplexArray multiplyAdd(ComplexArray factor, ComplexArray addend) {
+        return this.multiplyAdd(factor, addend, 1, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Multiplies this array by the given factors and adds the given addends, element by element,
+     * and stores the result in this array.
+     *
+     * @param factor the complex numbers to multiply by
+     * @param addend the complex numbers to add to the products
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplyAdd(Complex, Complex)
+     */
+    public ComplexArray multiplyAddInPlace(ComplexArray factor, ComplexArray addend) {
+        return this.multiplyAdd(factor, addend, 1, this);
+    }
+
+    /**
+     * Multiplies every value of this array by the given complex number and adds the given addends:
+     * {@code this[i] * factor + addend[i]}.
+     *
+     * @param factor the complex number to multiply by
+     * @param addend the complex numbers to add to the products
+     * @return a new {@code ComplexArray} with the results
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplyAdd(Complex, Complex)
+     */
+    public ComplexArray multiplyAdd(Complex factor, ComplexArray addend) {
+        return this.multiplyAdd(factor.realValue(), factor.imaginaryValue(), addend, 1, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Multiplies every value of this array by the given complex number and adds the given addends,
+     * and stores the result in this array.
+     *
+     * @param factor the complex number to multiply by
+     * @param addend the complex numbers to add to the products
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplyAdd(Complex, Complex)
+     */
+    public ComplexArray multiplyAddInPlace(Complex factor, ComplexArray addend) {
+        return this.multiplyAdd(factor.realValue(), factor.imaginaryValue(), addend, 1, this);
+    }
+
+    /**
+     * Multiplies this array by the given factors and subtracts the given subtrahends, element by element:
+     * {@code this[i] * factor[i] - subtrahend[i]}.
+     *
+     * @param factor the complex numbers to multiply by
+     * @param subtrahend the complex numbers to subtract from the products
+     * @return a new {@code ComplexArray} with the results
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplySubtract(Complex, Complex)
+     */
+    public ComplexArray multiplySubtract(ComplexArray factor, ComplexArray subtrahend) {
+        return this.multiplyAdd(factor, subtrahend, -1, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Multiplies this array by the given factors and subtracts the given subtrahends, element by element,
+     * and stores the result in this array.
+     *
+     * @param factor the complex numbers to multiply by
+     * @param subtrahend the complex numbers to subtract from the products
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplySubtract(Complex, Complex)
+     */
+    public ComplexArray multiplySubtractInPlace(ComplexArray factor, ComplexArray subtrahend) {
+        return this.multiplyAdd(factor, subtrahend, -1, this);
+    }
+
+    /**
+     * Multiplies every value of this array by the given complex number and subtracts the given subtrahends:
+     * {@code this[i] * factor - subtrahend[i]}.
+     *
+     * @param factor the complex number to multiply by
+     * @param subtrahend the complex numbers to subtract from the products
+     * @return a new {@code ComplexArray} with the results
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplySubtract(Complex, Complex)
+     */
+    public ComplexArray multiplySubtract(Complex factor, ComplexArray subtrahend) {
+        return this.multiplyAdd(factor.realValue(), factor.imaginaryValue(), subtrahend, -1, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Multiplies every value of this array by the given complex number and subtracts the given subtrahends,
+     * and stores the result in this array.
+     *
+     * @param factor the complex number to multiply by
+     * @param subtrahend the complex numbers to subtract from the products
+     * @return this array
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @see Complex#multiplySubtract(Complex, Complex)
+     */
+    public ComplexArray multiplySubtractInPlace(Complex factor, ComplexArray subtrahend) {
+        return this.multiplyAdd(factor.realValue(), factor.imaginaryValue(), subtrahend, -1, this);
+    }
+
+    private ComplexArray multiplyAdd(ComplexArray factor, ComplexArray addend, double sign, ComplexArray result) {
+        this.validateSameLength(factor);
+        this.validateSameLength(addend);
+        for (int i = 0; i < this.real.length; i++) {
+            double a1 = this.real[i];
+            double b1 = this.imaginary[i];
+            double a2 = factor.real[i];
+            double b2 = factor.imaginary[i];
+            result.real[i] = AbstractComplexDouble.differenceOfProducts(a1, a2, b1, b2) + (sign * addend.real[i]);
+            result.imaginary[i] = AbstractComplexDouble.differenceOfProducts(a1, b2, - b1, a2) + (sign * addend.imaginary[i]);
+        }
+        return result;
+    }
+
+    private ComplexArray multiplyAdd(double otherReal, double otherImaginary, ComplexArray addend, double sign,
+            ComplexArray result) {
+        this.validateSameLength(addend);
+        for (int i = 0; i < this.real.length; i++) {
+            double a1 = this.real[i];
+            double b1 = this.imaginary[i];
+            result.real[i] = AbstractComplexDouble.differenceOfProducts(a1, otherReal, b1, otherImaginary)
+                + (sign * addend.real[i]);
+            result.imaginary[i] = AbstractComplexDouble.differenceOfProducts(a1, otherImaginary, - b1, otherReal)
+                + (sign * addend.imaginary[i]);
+        }
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the conjugate of every value of this array.
+     *
+     * @return a new {@code ComplexArray} with the conjugates
+     * @see Complex#conjugate()
+     */
+    public ComplexArray conjugate() {
+        return this.conjugate(new ComplexArray(this.length()));
+    }
+
+    /**
+     * Replaces every value of this array with its conjugate.
+     *
+     * @return this array
+     * @see Complex#conjugate()
+     */
+    public ComplexArray conjugateInPlace() {
+        return this.conjugate(this);
+    }
+
+    private ComplexArray conjugate(ComplexArray result) {
+        for (int i = 0; i < this.real.length; i++) {
+            result.real[i] = this.real[i];
+            // 0.0 - 0.0 = +0.0 : same as Complex#conjugate(), without branches
+            result.imaginary[i] = 0.0 - this.imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the reciprocal of every value of this array.
+     *
+     * @return a new {@code ComplexArray} with the reciprocals
+     * @throws ArithmeticException if one of the values is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#reciprocal()
+     */
+    public ComplexArray reciprocal() {
+        return this.reciprocal(new ComplexArray(this.length()));
+    }
+
+    /**
+     * Replaces every value of this array with its reciprocal.
+     * If one of the values is zero, this array is left unchanged.
+     *
+     * @return this array
+     * @throws ArithmeticException if one of the values is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#reciprocal()
+     */
+    public ComplexArray reciprocalInPlace() {
+        return this.reciprocal(this);
+    }
+
+    private ComplexArray reciprocal(ComplexArray result) {
+        this.validateNoZero();
+        for (int i = 0; i < this.real.length; i++) {
+            double a = this.real[i];
+            double b = this.imaginary[i];
+            double real2plusImg2 = (a * a) + (b * b);
+            result.real[i] = a / real2plusImg2;
+            result.imaginary[i] = - b / real2plusImg2;
+        }
+        return result;
+    }
+
+    /**
+     * Raises every value of this array to the power of the specified exponent.
+     * This operation is performed in Polar form, except {@code pow(0.5)}: the principal square root,
+     * computed in Cartesian form like {@link Complex#pow(double)} of a Cartesian value.
+     * {@link #pow(int)} raises to integer exponents without {@code cos} and {@code sin}.
+     *
+     * @param exponent the exponent to raise the values to
+     * @return a new {@code ComplexArray} with the powers
+     * @see Complex#pow(double)
+     * @see #pow(int)
+     */
+    public ComplexArray pow(double exponent) {
+        return this.pow(exponent, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Raises every value of this array to the power of the specified exponent,
+     * and stores the result in this array.
+     * This operation is performed in Polar form, except {@code pow(0.5)}: the principal square root,
+     * computed in Cartesian form like {@link Complex#pow(double)} of a Cartesian value.
+     * {@link #powInPlace(int)} raises to integer exponents without {@code cos} and {@code sin}.
+     *
+     * @param exponent the exponent to raise the values to
+     * @return this array
+     * @see Complex#pow(double)
+     * @see #powInPlace(int)
+     */
+    public ComplexArray powInPlace(double exponent) {
+        return this.pow(exponent, this);
+    }
+
+    private ComplexArray pow(double exponent, ComplexArray result) {
+        if (exponent == 0.5) {
+            return this.squareRoot(result);
+        }
+        for (int i = 0; i < this.real.length; i++) {
+            double a = this.real[i];
+            double b = this.imaginary[i];
+            double modulus = Math.pow(Math.sqrt((a * a) + (b * b)), exponent);
+            if (modulus == 0) {
+                result.real[i] = 0;
+                result.imaginary[i] = 0;
+                continue;
+            }
+
+            double angle = PolarComplexDouble.normalizeAngle(exponent * CartesianComplexDouble.mainArgument(a, b));
+            result.real[i] = modulus * Math.cos(angle);
+            result.imaginary[i] = modulus * Math.sin(angle);
+        }
+        return result;
+    }
+
+    /**
+     * Raises every value of this array to the power of the specified integer exponent, by repeated
+     * squaring in Cartesian form like {@link Complex#pow(int)} of a Cartesian value, with the same results:
+     * no {@code atan2}, {@code cos} nor {@code sin}, and {@code pow(2)} is the product of every value by itself.
+     *
+     * @param exponent the exponent to raise the values to
+     * @return a new {@code ComplexArray} with the powers
+     * @throws ArithmeticException if {@code exponent} is negative and one of the values
+     *         is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#pow(int)
+     */
+    public ComplexArray pow(int exponent) {
+        return this.pow(exponent, new ComplexArray(this.length()));
+    }
+
+    /**
+     * Raises every value of this array to the power of the specified integer exponent,
+     * and stores the result in this array. The powers are computed by repeated squaring
+     * in Cartesian form, like {@link Complex#pow(int)} of a Cartesian value.
+     * If {@code exponent} is negative and one of the values is zero, this array is left unchanged.
+     *
+     * @param exponent the exponent to raise the values to
+     * @return this array
+     * @throws ArithmeticException if {@code exponent} is negative and one of the values
+     *         is {@code Complex} zero ({@code 0 + 0i})
+     * @see Complex#pow(int)
+     */
+    public ComplexArray powInPlace(int exponent) {
+        return this.pow(exponent, this);
+    }
+
+    private ComplexArray pow(int exponent, ComplexArray result) {
+        if (exponent < 0) {
+            this.validateNoZero();
+        }
+        // |exponent| as an unsigned int: Integer.MIN_VALUE is 2^31
+        int bits = (exponent < 0) ? - exponent : exponent;
+        MutableComplex power = new MutableComplex();
+        for (int i = 0; i < this.real.length; i++) {
+            double a = this.real[i];
+            double b = this.imaginary[i];
+            if (exponent < 0) {
+                // A negative exponent raises the reciprocal
+                double real2plusImg2 = (a * a) + (b * b);
+                a = a / real2plusImg2;
+                b = - b / real2plusImg2;
+            }
+            AbstractComplexDouble.powerBySquaring(a, b, bits, power);
+            result.real[i] = power.realValue();
+            result.imaginary[i] = power.imaginaryValue();
+        }
+        return result;
+    }
+
+    /**
+     * The principal square roots, with the formulas of the square root of a Cartesian value.
+     */
+    private ComplexArray squareRoot(ComplexArray result) {
+        for (int i = 0; i < this.real.length; i++) {
+            double a = this.real[i];
+            double b = this.imaginary[i];
+            double modulus = Math.sqrt((a * a) + (b * b));
+            if (modulus == 0) {
+                result.real[i] = 0;
+                result.imaginary[i] = 0;
+                continue;
+            }
+            // t = sqrt((|a| + |z|) / 2) is the larger part of the root, the other one is b / (2t)
+            double t = Math.sqrt((0.5 * Math.abs(a)) + (0.5 * modulus));
+            if (a >= 0) {
+                result.real[i] = t;
+                result.imaginary[i] = b / (2 * t);
+            } else {
+                // The main argument of a negative real number is PI, also with b = -0.0: the root is +t*i
+                result.real[i] = Math.abs(b) / (2 * t);
+                result.imaginary[i] = (b >= 0) ? t : - t;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the powers {@code z^0, z^1, ..., z^n} of the given complex number, for example
+     * the rows of a Vandermonde matrix or the terms of a Z-transform.
+     * Every power is the previous one multiplied by {@code z}, and every {@code 64} powers the
+     * recurrence restarts from {@link Complex#pow(int) z.pow(k)}: the rounding errors of the products
+     * do not accumulate over the whole sequence.
+     *
+     * @param z the complex number to raise
+     * @param n the greatest exponent
+     * @return a new {@code ComplexArray} of length {@code n + 1}, with {@code z^k} at index {@code k}
+     * @throws NullPointerException if {@code z} is {@code null}
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static ComplexArray powers(Complex z, int n) {
+        if (z == null) {
+            throw new NullPointerException();
+        }
+        if (n < 0) {
+            throw new IllegalArgumentException("Greatest exponent must be positive or equal to 0.");
+        }
+
+        ComplexArray result = new ComplexArray(n + 1);
+        double a = z.realValue();
+        double b = z.imaginaryValue();
+        double real = 1;
+        double imaginary = 0;
+        result.real[0] = real;
+        result.imaginary[0] = imaginary;
+        for (int k = 1; k <= n; k++) {
+            if (k % POWERS_ANCHOR_INTERVAL == 0) {
+                Complex anchor = z.pow(k);
+                real = anchor.realValue();
+                imaginary = anchor.imaginaryValue();
+            } else {
+                double product = (real * a) - (imaginary * b);
+                imaginary = (real * b) + (imaginary * a);
+                real = product;
+            }
+            result.real[k] = real;
+            result.imaginary[k] = imaginary;
+        }
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the sum of all the values of this array, with the Kahan compensated sum.
+     *
+     * @return the sum, or {@code 0 + 0i} if this array is empty
+     * @see #sum(SummationAlgorithm)
+     */
+    public Complex sum() {
+        return this.sum(SummationAlgorithm.KAHAN);
+    }
+
+    /**
+     * Computes the sum of all the values of this array, with the given algorithm.
+     * Real and imaginary parts are summed directly on the backing arrays.
+     *
+     * @param algorithm the trade-off between speed and accuracy
+     * @return the sum, or {@code 0 + 0i} if this array is empty
+     * @throws NullPointerException if {@code algorithm} is {@code null}
+     * @see ComplexNumbers#sumAll(SummationAlgorithm, Complex...)
+     */
+    public Complex sum(SummationAlgorithm algorithm) {
+        if (algorithm == null) {
+            throw new NullPointerException();
+        }
+        return new CartesianComplexDouble(algorithm.sum(this.real), algorithm.sum(this.imaginary));
+    }
+
+    // -------------------------------------------------------------------------
+
+    private void validateSameLength(ComplexArray other) {
+        if (this.real.length != other.real.length) {
+            throw new IllegalArgumentException("Complex arrays must have the same length.");
+        }
+    }
+
+    private void validateNoZero() {
+        for (int i = 0; i < this.real.length; i++) {
+            if ((this.real[i] == 0) && (this.imaginary[i] == 0)) {
+                throw new ArithmeticException("Unable to divide by:  0 + 0i");
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns {@code true} if the given object is a {@code ComplexArray} with
+     * the same length, and the same real and imaginary parts, in the same order.
+     *
+     * @param o the object to compare with this array
+     * @return {@code true} if the given object is equal to this array, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || !(o instanceof ComplexArray)) {
+            return false;
+        }
+
+        ComplexArray array = (ComplexArray) o;
+        return Arrays.equals(this.real, array.real) && Arrays.equals(this.imaginary, array.imaginary);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 97 * hash + Arrays.hashCode(this.real);
+        hash = 97 * hash + Arrays.hashCode(this.imaginary);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        //  [+1.0 + 2.0i, -3.0 - 4.0i]
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < this.real.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(this.get(i).cartesianForm());
+        }
+        return sb.append(']').toString();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.nick.math.complex;
+
+/**
+ * Inner loops of the bulk operations of {@link ComplexArray}, working on
+ * the primitive arrays of real and imaginary parts.
+ * <p>
+ * Every method processes the indexes in range: {@code [from, to)}.
+ * The output arrays may be the same as the input ones (in-place operations).
+ * <p>
+ * There are 2 implementations, chosen at runtime by {@link #selected()}:
+ * <ul>
+ *   <li> {@code VectorComplexKernels}: </li>
+ *        uses {@code DoubleVector} lanes of the {@code jdk.incubator.vector} module.
+ *        It is compiled separately (source set {@code src/vector/java}),
+ *        so the rest of the library compiles without the vector module.
+ *   <li> {@link ScalarComplexKernels}: </li>
+ *        plain loops, used when the vector module is not available.
+ * </ul>
+ * Both implementations compute exactly the same results: the vector one
+ * performs the same floating-point operations, in the same order, lane by lane.
+ *
+ * @see ComplexArray
+ * @author Nicolas Scalese
+ */
+interface ComplexKernels {
+
+    /**
+     * The system property which forces the choice of the implementation:
+     * {@code scalar} or {@code vector}.
+     */
+    String KERNELS_PROPERTY = "com.nick.math.complex.kernels";
+
+    /**
+     * The binary name of the vectorized implementation, which is never
+     * referenced at compile time.
+     */
+    String VECTOR_KERNELS = "com.nick.math.complex.VectorComplexKernels";
+
+
+    void add(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to);
+
+    void subtract(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to);
+
+    void multiply(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to);
+
+    void divide(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to);
+
+    void modulus(double[] ar, double[] ai, double[] result, int from, int to);
+
+    String name();
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the vectorized implementation if the {@code jdk.incubator.vector}
+     * module has been added to the JVM ({@code --add-modules jdk.incubator.vector})
+     * and the hardware has vector registers of at least 2 lanes.
+     * Otherwise, returns the scalar implementation.
+     *
+     * @return the implementation to use in this JVM
+     * @see #KERNELS_PROPERTY
+     */
+    static ComplexKernels selected() {
+        String choice = System.getProperty(KERNELS_PROPERTY, "vector");
+        if (choice.equalsIgnoreCase("scalar")) {
+            return ScalarComplexKernels.INSTANCE;
+        }
+
+        try {
+            // Loaded by name: the class cannot be linked without the vector module
+            Class<?> vectorKernels = Class.forName(VECTOR_KERNELS);
+            return (ComplexKernels) vectorKernels.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // jdk.incubator.vector not available, or too few lanes: fall back to scalar loops
+        }
+        return ScalarComplexKernels.INSTANCE;
+    }
+
+}
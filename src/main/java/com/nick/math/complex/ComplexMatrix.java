@@ -0,0 +1,285 @@
+package com.nick.math.complex;
+
+import com.nick.math.FloatingPoint;
+import java.util.Arrays;
+
+/**
+ * A square matrix of complex numbers, stored like a {@link ComplexArray}: real parts and imaginary parts
+ * live in two flat primitive {@code double[]}, row after row. The element {@code [row][column]}
+ * is at index {@code row * size + column}.
+ * <p>
+ * Compared to a {@code Complex[][]}, a matrix of size {@code n} needs {@code 16*n^2} bytes,
+ * no object per element, and every row is contiguous in memory: a {@code 2000 x 2000} matrix
+ * is 2 arrays of 32 MB, which the eigenvalue iterations traverse row by row.
+ * <pre>{@code
+ * ComplexMatrix matrix = ComplexMatrix.of(new Complex[][] {
+ *     {ComplexNumbers.ONE_COMPLEX_CARTESIAN, ComplexNumbers.IMAGINARY_UNIT},
+ *     {ComplexNumbers.IMAGINARY_UNIT, ComplexNumbers.ONE_COMPLEX_CARTESIAN}
+ * });
+ * ComplexArray eigenvalues = matrix.eigenvalues();    // 1 + i, 1 - i
+ * }</pre>
+ *
+ * @see HessenbergQR
+ * @author Nicolas Scalese
+ */
+public final class ComplexMatrix {
+
+    private final int size;
+    private final double[] real;
+    private final double[] imaginary;
+
+
+    /**
+     * Creates a matrix of the given size, where every element is {@code 0 + 0i}.
+     *
+     * @param size the number of rows and columns
+     * @throws IllegalArgumentException if {@code size} is negative
+     */
+    public ComplexMatrix(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be positive or equal to 0.");
+        }
+        this.size = size;
+        this.real = new double[size * size];
+        this.imaginary = new double[size * size];
+    }
+
+    /**
+     * Creates a matrix of the given size backed by the given arrays of real and imaginary parts,
+     * row after row. The arrays are not copied.
+     *
+     * @param size the number of rows and columns
+     * @param real the real parts
+     * @param imaginary the imaginary parts
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if {@code size} is negative, or the length of an array
+     *         is not {@code size * size}
+     */
+    public ComplexMatrix(int size, double[] real, double[] imaginary) {
+        if ((real == null) || (imaginary == null)) {
+            throw new NullPointerException();
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be positive or equal to 0.");
+        }
+        if ((real.length != size * size) || (imaginary.length != size * size)) {
+            throw new IllegalArgumentException("Real and imaginary parts must have length size * size.");
+        }
+        this.size = size;
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Creates a matrix holding the values of the given rows of {@link Complex} numbers.
+     *
+     * @param rows the rows of the matrix, all with length {@code rows.length}
+     * @return a new matrix with the same values
+     * @throws NullPointerException if the array, one of its rows, or one of their elements, is {@code null}
+     * @throws IllegalArgumentException if the matrix is not square
+     */
+    public static ComplexMatrix of(Complex[][] rows) {
+        if (rows == null) {
+            throw new NullPointerException();
+        }
+
+        ComplexMatrix matrix = new ComplexMatrix(rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i].length != rows.length) {
+                throw new IllegalArgumentException("The matrix must be square.");
+            }
+            for (int j = 0; j < rows.length; j++) {
+                matrix.set(i, j, rows[i][j]);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates the companion matrix of the given polynomial, whose eigenvalues are its roots:
+     * the upper Hessenberg matrix with first row {@code -c[n-1]/c[n], ..., -c[0]/c[n]}
+     * and {@code 1} on the subdiagonal.
+     *
+     * @param polynomial a polynomial of degree {@code n}
+     * @return the companion matrix, of size {@code n}
+     * @throws NullPointerException if {@code polynomial} is {@code null}
+     * @throws IllegalArgumentException if {@code polynomial} is the zero polynomial
+     */
+    public static ComplexMatrix companion(ComplexPolynomial polynomial) {
+        if (polynomial.isZero()) {
+            throw new IllegalArgumentException("Every complex number is a root of the zero polynomial.");
+        }
+
+        int n = polynomial.degree();
+        double[] cr = polynomial.realArray();
+        double[] ci = polynomial.imaginaryArray();
+        double leadingR = cr[n];
+        double leadingI = ci[n];
+        double leading2 = (leadingR * leadingR) + (leadingI * leadingI);
+
+        ComplexMatrix matrix = new ComplexMatrix(n);
+        for (int j = 0; j < n; j++) {
+            // - c[n-1-j] / c[n]
+            double r = cr[n - 1 - j];
+            double i = ci[n - 1 - j];
+            matrix.real[j] = - ((r * leadingR) + (i * leadingI)) / leading2;
+            matrix.imaginary[j] = - ((i * leadingR) - (r * leadingI)) / leading2;
+        }
+        for (int i = 1; i < n; i++) {
+            matrix.real[i * n + i - 1] = 1;
+        }
+        return matrix;
+    }
+
+    /**
+     * Returns an independent copy of this matrix.
+     */
+    public ComplexMatrix copy() {
+        return new ComplexMatrix(this.size, this.real.clone(), this.imaginary.clone());
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the number of rows and columns of this matrix.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the array of real parts backing this matrix, row after row.
+     * Changes to the returned array are reflected in this matrix.
+     */
+    public double[] realArray() {
+        return this.real;
+    }
+
+    /**
+     * Returns the array of imaginary parts backing this matrix, row after row.
+     * Changes to the returned array are reflected in this matrix.
+     */
+    public double[] imaginaryArray() {
+        return this.imaginary;
+    }
+
+    public double realValue(int row, int column) {
+        return this.real[this.index(row, column)];
+    }
+
+    public double imaginaryValue(int row, int column) {
+        return this.imaginary[this.index(row, column)];
+    }
+
+    /**
+     * Returns the element {@code [row][column]}, as a {@link Complex} number in Cartesian form.
+     *
+     * @throws IndexOutOfBoundsException if {@code row} or {@code column} is out of bounds
+     */
+    public Complex get(int row, int column) {
+        int index = this.index(row, column);
+        return new CartesianComplexDouble(this.real[index], this.imaginary[index]);
+    }
+
+    /**
+     * Stores the value of the given {@link Complex} number in the element {@code [row][column]}.
+     *
+     * @throws NullPointerException if {@code complex} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code row} or {@code column} is out of bounds
+     */
+    public void set(int row, int column, Complex complex) {
+        this.set(row, column, complex.realValue(), complex.imaginaryValue());
+    }
+
+    public void set(int row, int column, double real, double imaginary) {
+        int index = this.index(row, column);
+        this.real[index] = real;
+        this.imaginary[index] = imaginary;
+    }
+
+    private int index(int row, int column) {
+        if ((row < 0) || (row >= this.size) || (column < 0) || (column >= this.size)) {
+            throw new IndexOutOfBoundsException("Element [" + row + "][" + column + "] out of bounds for size " + this.size);
+        }
+        return row * this.size + column;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the eigenvalues of this matrix, repeated according to their algebraic multiplicity,
+     * with the QR algorithm: the matrix is balanced, reduced to upper Hessenberg form, then
+     * iterated to triangular form with shifted QR steps. This matrix is not changed.
+     *
+     * @return the eigenvalues, in no particular order
+     * @throws IllegalArgumentException if an element is {@code NaN} or infinite
+     * @throws ArithmeticException if the QR iterations do not converge
+     * @see HessenbergQR
+     */
+    public ComplexArray eigenvalues() {
+        for (int k = 0; k < this.real.length; k++) {
+            if (!Double.isFinite(this.real[k]) || !Double.isFinite(this.imaginary[k])) {
+                throw FloatingPoint.NAN_OR_INFINITY_ARGUMENT;
+            }
+        }
+
+        HessenbergQR qr = new HessenbergQR(this.size, this.real.clone(), this.imaginary.clone());
+        qr.balance();
+        qr.reduceToHessenberg();
+        ComplexArray eigenvalues = new ComplexArray(this.size);
+        if (!qr.eigenvalues(eigenvalues.realArray(), eigenvalues.imaginaryArray())) {
+            throw new ArithmeticException("The QR iterations did not converge.");
+        }
+        return eigenvalues;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns {@code true} if the given object is a {@code ComplexMatrix} with
+     * the same size and the same elements.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || !(o instanceof ComplexMatrix)) {
+            return false;
+        }
+
+        ComplexMatrix matrix = (ComplexMatrix) o;
+        return (this.size == matrix.size)
+            && Arrays.equals(this.real, matrix.real) && Arrays.equals(this.imaginary, matrix.imaginary);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 3;
+        hash = 59 * hash + this.size;
+        hash = 59 * hash + Arrays.hashCode(this.real);
+        hash = 59 * hash + Arrays.hashCode(this.imaginary);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        //  [[+1.0 + 0.0i, +0.0 + 1.0i], [+0.0 + 1.0i, +1.0 + 0.0i]]
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('[');
+            for (int j = 0; j < this.size; j++) {
+                if (j > 0) {
+                    sb.append(", ");
+                }
+                sb.append(this.get(i, j).cartesianForm());
+            }
+            sb.append(']');
+        }
+        return sb.append(']').toString();
+    }
+
+}
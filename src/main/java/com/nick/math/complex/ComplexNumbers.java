@@ -3,6 +3,7 @@ package com.nick.math.complex;
 import com.nick.math.FloatingPoint;
 import static com.nick.math.FloatingPoint.NAN_OR_INFINITY_ARGUMENT;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.math.BigDecimal;
 
 /**
@@ -68,21 +69,21 @@ public class ComplexNumbers {
      * Returns a copy of the given {@code Complex} number. 
      * <p>
      * More specifically: creates another instance of {@link Complex} using the same 
-     * implementing class (Cartesian or Polar form), and assigns it the same value
+     * implementing class (Cartesian, Polar or adaptive form), and assigns it the same value.
+     * {@link Complex} is sealed, so every {@code Complex} number is one of these.
      *
      * @param complex A complex number to copy.
      * @return Returns a copy of the given {@code Complex} number.
-     * @throws UnsupportedOperationException if the provided complex number implementation is not supported (yet).
+     * @throws NullPointerException if {@code complex} is {@code null}
      */
     public static Complex of(Complex complex) {
-        if (complex instanceof CartesianComplexDouble) {
-            return new CartesianComplexDouble(complex);
-        }
         if (complex instanceof PolarComplexDouble) {
             return new PolarComplexDouble(complex);
         }
-        // should be updated in the future
-        throw new UnsupportedOperationException("This instance/implementation of \'Complex\' is not supported (yet).");
+        if (complex instanceof AdaptiveComplexDouble) {
+            return AdaptiveComplexDouble.of(complex);
+        }
+        return new CartesianComplexDouble(complex);
     }
     
     /**
@@ -232,6 +233,31 @@ public class ComplexNumbers {
     }
     
     
+    /**
+     * Creates a complex number with the value of the given one, which adapts its representation
+     * to the operations: it carries the form it was computed in, and computes the other one only
+     * on demand. Sums and differences return cartesian values, powers and roots return polar values,
+     * products and quotients keep the form of the receiver, and the results are adaptive too.
+     * <p>
+     * The initial form is polar if the given complex number is in polar form, cartesian otherwise.
+     * <pre>{@code
+     * Complex z = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2, PI / 3));
+     * Complex w = z.multiplyBy(z).pow(3);     // polar: no cos, sin, atan2
+     * Complex s = w.plus(z);                  // cartesian: cos and sin of w and z, once
+     * }</pre>
+     *
+     * @param complex the value of the complex number
+     * @return an adaptive complex number with the same value
+     * @throws NullPointerException if {@code complex} is {@code null}
+     */
+    public static Complex ofAdaptiveForm(Complex complex) {
+        if (complex == null) {
+            throw new NullPointerException();
+        }
+        return AdaptiveComplexDouble.of(complex);
+    }
+    
+    
     private static void validateFinite(double value) {
         if (!Double.isFinite(value)) {
             throw NAN_OR_INFINITY_ARGUMENT;
@@ -289,26 +315,10 @@ public class ComplexNumbers {
      * @return The resulting complex sum.
      * @throws IllegalArgumentException if no complex numbers are provided.
      * @throws NullPointerException
+     * @see SummationAlgorithm#KAHAN
      */
     public static Complex sumAll(Complex... complex) {
-        if (complex == null) {
-            throw new NullPointerException();
-        }
-        if (complex.length == 0) {
-            return ZERO_COMPLEX_CARTESIAN;
-        }
-        
-        // Kahan sum to compensate numeric canceling
-        Complex sum = complex[0];
-        Complex compensation = ComplexNumbers.ZERO_COMPLEX_CARTESIAN;  // For less-significant digits lost.
-        for (int i = 1; i < complex.length; i++) {
-            // sum = sum.plus(complex[i]);
-            Complex y = complex[i].minus(compensation);    // Equals y at the first iteration. Otherwise, adds the lost part of previous summation.
-            Complex t = sum.plus(y);    // If sum is big and y is smaller, there could be digits lost
-            compensation = t.minus(sum).minus(y);    // Recovers the less significant part of y, negated.
-            sum = t;
-        }
-        return sum;
+        return sumAll(SummationAlgorithm.KAHAN, complex);
     }
     
     /**
@@ -320,30 +330,62 @@ public class ComplexNumbers {
      * @param complexNumbers A collection of complex numbers
      * @return The resulting complex sum.
      * @throws NullPointerException
+     * @see SummationAlgorithm#KAHAN
      */
     public static Complex sumAll(Collection<Complex> complexNumbers) {
-        if (complexNumbers == null) {
+        return sumAll(SummationAlgorithm.KAHAN, complexNumbers);
+    }
+
+    /**
+     * Computes the sum of all the provided {@link Complex} numbers with the given algorithm,
+     * on the primitive real and imaginary parts: no object is allocated for each value.
+     *
+     * @param algorithm the trade-off between speed and accuracy
+     * @param complex Varargs of complex numbers to sum.
+     * @return The resulting complex sum, in Cartesian form:
+     *         {@code 0 + 0i} if there are no values, the value itself if there is only one.
+     * @throws NullPointerException if the algorithm or the array is {@code null}
+     */
+    public static Complex sumAll(SummationAlgorithm algorithm, Complex... complex) {
+        if ((algorithm == null) || (complex == null)) {
+            throw new NullPointerException();
+        }
+        if (complex.length == 0) {
+            return ZERO_COMPLEX_CARTESIAN;
+        }
+        
+        if (complex.length == 1) {
+            return complex[0];
+        }
+        return algorithm.sum(complex, 0, complex.length);
+    }
+
+    /**
+     * Computes the sum of all the provided {@link Complex} numbers with the given algorithm,
+     * in iteration order.
+     * <p>
+     * {@link SummationAlgorithm#PAIRWISE} copies the references of the collection
+     * into an array; the other algorithms iterate the collection once.
+     *
+     * @param algorithm the trade-off between speed and accuracy
+     * @param complexNumbers A collection of complex numbers
+     * @return The resulting complex sum, in Cartesian form:
+     *         {@code 0 + 0i} if there are no values, the value itself if there is only one.
+     * @throws NullPointerException if the algorithm or the collection is {@code null}
+     * @see #sumAll(SummationAlgorithm, Complex...)
+     */
+    public static Complex sumAll(SummationAlgorithm algorithm, Collection<Complex> complexNumbers) {
+        if ((algorithm == null) || (complexNumbers == null)) {
             throw new NullPointerException();
         }
         if (complexNumbers.isEmpty()) {
             return ZERO_COMPLEX_CARTESIAN;
         }
         
-        // Kahan sum to compensate numeric canceling
-        Complex sum = null;
-        Complex compensation = ComplexNumbers.ZERO_COMPLEX_CARTESIAN;  // For less-significant digits lost.
-        for (Complex c : complexNumbers) {
-            if (sum != null) {
-                // sum = sum.plus(c);
-                Complex y = c.minus(compensation);    // Equals y at the 1st iteration. Adds the lost part of previous summation.
-                Complex t = sum.plus(y);    // If sum is big and y is smaller, there could be digits lost
-                compensation = t.minus(sum).minus(y);    // Recovers the less significant part of y, negated.
-                sum = t;
-            } else {
-                sum = c;
-            }
+        if (complexNumbers.size() == 1) {
+            return complexNumbers.iterator().next();
         }
-        return sum;
+        return algorithm.sum(complexNumbers);
     }
     
     /**
@@ -409,6 +451,63 @@ public class ComplexNumbers {
         }
         return product;
     }
+
+    /**
+     * Computes the product of all the provided {@link Complex} numbers with a {@link ComplexProduct},
+     * so intermediate products never overflow nor underflow: the result is infinite, or zero,
+     * only if the exact product is out of the range of {@code double}.
+     * <p>
+     * Every factor is multiplied in its own representation: the moduli of polar numbers
+     * are multiplied and their arguments are added with a compensated sum, without computing
+     * sines, cosines or powers on each step.
+     *
+     * @param complex Varargs of complex numbers to multiply.
+     * @return The resulting complex product: in polar form if all the values are polar,
+     *         in cartesian form otherwise.
+     * @throws NullPointerException if the array, or one of its elements, is {@code null}
+     * @throws UnsupportedOperationException if no complex numbers are provided.
+     * @see ParallelReduction#multiplyAll(Complex...)
+     */
+    public static Complex multiplyAllScaled(Complex... complex) {
+        if (complex == null) {
+            throw new NullPointerException();
+        }
+        if (complex.length == 0) {
+            throw new UnsupportedOperationException("Product for empty collection of complex numbers is not supported.");
+        }
+
+        ComplexProduct product = new ComplexProduct();
+        for (Complex c : complex) {
+            product.multiply(c);
+        }
+        return product.toComplex();
+    }
+
+    /**
+     * Computes the product of all the provided {@link Complex} numbers with a {@link ComplexProduct},
+     * in iteration order.
+     *
+     * @param complexNumbers A collection of complex numbers
+     * @return The resulting complex product: in polar form if all the values are polar,
+     *         in cartesian form otherwise.
+     * @throws NullPointerException if the collection, or one of its elements, is {@code null}
+     * @throws UnsupportedOperationException if the collection is empty
+     * @see #multiplyAllScaled(Complex...)
+     */
+    public static Complex multiplyAllScaled(Collection<Complex> complexNumbers) {
+        if (complexNumbers == null) {
+            throw new NullPointerException();
+        }
+        if (complexNumbers.isEmpty()) {
+            throw new UnsupportedOperationException("Product for empty collection of complex numbers is not supported.");
+        }
+
+        ComplexProduct product = new ComplexProduct();
+        for (Complex c : complexNumbers) {
+            product.multiply(c);
+        }
+        return product.toComplex();
+    }
     
     // -------------------------------------------------------------------------
     
@@ -642,4 +741,778 @@ public class ComplexNumbers {
         return new Complex[] {x1, x2};
     }
     
-}
\ No newline at end of file
+    // -------------------------------------------------------------------------
+    //  Cubic and quartic equations
+    // -------------------------------------------------------------------------
+
+    /**
+     * Solves a cubic equation of the form {@code ax^3 + bx^2 + cx + d = 0}, where the coefficients are real numbers,
+     * with Cardano's formula, or Viète's trigonometric formula when the 3 roots are real.
+     * The roots are polished with Newton's method.
+     *
+     * @param a The coefficient of {@code x^3}. Must be non-zero.
+     * @param b The coefficient of {@code x^2}.
+     * @param c The coefficient of {@code x^1}.
+     * @param d The coefficient of {@code x^0} (known term).
+     * @return the 3 roots: the real roots in ascending order, then the complex conjugate roots,
+     *         the one with positive imaginary part first
+     * @throws IllegalArgumentException if {@code a} is zero
+     * @see #solveCubicEquation(double, double, double, double, boolean)
+     */
+    public static Complex[] solveCubicEquation(double a, double b, double c, double d) {
+        return solveCubicEquation(a, b, c, d, true);
+    }
+
+    /**
+     * Solves a cubic equation of the form {@code ax^3 + bx^2 + cx + d = 0}, where the coefficients are real numbers.
+     * <ul>
+     *   <li> With 1 real root, Cardano's formula computes the cube root of {@code -q/2 - sgn(q)*sqrt(delta)}:
+     *        like the alternative formula of {@link #solveQuadraticEquation(double, double, double)},
+     *        the terms never cancel each other. </li>
+     *   <li> With 3 real roots, Viète's trigonometric formula gives them without any imaginary round-off. </li>
+     * </ul>
+     *
+     * @param a The coefficient of {@code x^3}. Must be non-zero.
+     * @param b The coefficient of {@code x^2}.
+     * @param c The coefficient of {@code x^1}.
+     * @param d The coefficient of {@code x^0} (known term).
+     * @param polish {@code true} to refine the roots with a few steps of Newton's method,
+     *        each kept only if it reduces the residual
+     * @return the 3 roots: the real roots in ascending order, then the complex conjugate roots,
+     *         the one with positive imaginary part first
+     * @throws IllegalArgumentException if {@code a} is zero
+     */
+    public static Complex[] solveCubicEquation(double a, double b, double c, double d, boolean polish) {
+        if (a == 0) {
+            throw new IllegalArgumentException("Coeff of x^3 cannot be zero.");
+        }
+        double[] rootR = new double[3];
+        double[] rootI = new double[3];
+        new ClosedFormSolver().realCubic(a, b, c, d, rootR, rootI, 0, polish);
+        return ComplexNumbers.rootsOf(rootR, rootI);
+    }
+
+    /**
+     * Solves a cubic equation of the form {@code ax^3 + bx^2 + cx + d = 0}, where the coefficients are complex numbers.
+     * The roots are polished with Newton's method.
+     *
+     * @param a The complex coefficient of {@code x^3}. Must be non-zero.
+     * @param b The complex coefficient of {@code x^2}.
+     * @param c The complex coefficient of {@code x^1}.
+     * @param d The complex coefficient of {@code x^0} (known term).
+     * @return the 3 roots, in Cartesian form
+     * @throws IllegalArgumentException if {@code a} is zero
+     * @see #solveCubicEquation(Complex, Complex, Complex, Complex, boolean)
+     */
+    public static Complex[] solveCubicEquation(Complex a, Complex b, Complex c, Complex d) {
+        return solveCubicEquation(a, b, c, d, true);
+    }
+
+    /**
+     * Solves a cubic equation of the form {@code ax^3 + bx^2 + cx + d = 0}, where the coefficients are complex numbers,
+     * with Cardano's formula: of the 2 values {@code -q/2 +- sqrt(delta)}, the cube root is computed on the one
+     * with the larger modulus, so the terms never cancel each other.
+     *
+     * @param a The complex coefficient of {@code x^3}. Must be non-zero.
+     * @param b The complex coefficient of {@code x^2}.
+     * @param c The complex coefficient of {@code x^1}.
+     * @param d The complex coefficient of {@code x^0} (known term).
+     * @param polish {@code true} to refine the roots with a few steps of Newton's method,
+     *        each kept only if it reduces the residual
+     * @return the 3 roots, in Cartesian form
+     * @throws IllegalArgumentException if {@code a} is zero
+     */
+    public static Complex[] solveCubicEquation(Complex a, Complex b, Complex c, Complex d, boolean polish) {
+        if (a.isZero()) {
+            throw new IllegalArgumentException("Coeff of x^3 cannot be zero.");
+        }
+        double[] rootR = new double[3];
+        double[] rootI = new double[3];
+        new ClosedFormSolver().cubic(a.realValue(), a.imaginaryValue(), b.realValue(), b.imaginaryValue(),
+                c.realValue(), c.imaginaryValue(), d.realValue(), d.imaginaryValue(), rootR, rootI, 0, polish);
+        return ComplexNumbers.rootsOf(rootR, rootI);
+    }
+
+    /**
+     * Solves a quartic equation of the form {@code ax^4 + bx^3 + cx^2 + dx + e = 0}, where the coefficients are real numbers,
+     * with Ferrari's method. The roots are polished with Newton's method.
+     *
+     * @param a The coefficient of {@code x^4}. Must be non-zero.
+     * @param b The coefficient of {@code x^3}.
+     * @param c The coefficient of {@code x^2}.
+     * @param d The coefficient of {@code x^1}.
+     * @param e The coefficient of {@code x^0} (known term).
+     * @return the 4 roots: the real roots in ascending order, then the complex conjugate roots,
+     *         the one with positive imaginary part first
+     * @throws IllegalArgumentException if {@code a} is zero
+     * @see #solveQuarticEquation(double, double, double, double, double, boolean)
+     */
+    public static Complex[] solveQuarticEquation(double a, double b, double c, double d, double e) {
+        return solveQuarticEquation(a, b, c, d, e, true);
+    }
+
+    /**
+     * Solves a quartic equation of the form {@code ax^4 + bx^3 + cx^2 + dx + e = 0}, where the coefficients are real numbers,
+     * with Ferrari's method: the largest real root of the resolvent cubic splits the equation into
+     * 2 quadratic equations with real coefficients, which are solved with the alternative formula
+     * of {@link #solveQuadraticEquation(double, double, double)}.
+     *
+     * @param a The coefficient of {@code x^4}. Must be non-zero.
+     * @param b The coefficient of {@code x^3}.
+     * @param c The coefficient of {@code x^2}.
+     * @param d The coefficient of {@code x^1}.
+     * @param e The coefficient of {@code x^0} (known term).
+     * @param polish {@code true} to refine the roots with a few steps of Newton's method,
+     *        each kept only if it reduces the residual
+     * @return the 4 roots: the real roots in ascending order, then the complex conjugate roots,
+     *         the one with positive imaginary part first
+     * @throws IllegalArgumentException if {@code a} is zero
+     */
+    public static Complex[] solveQuarticEquation(double a, double b, double c, double d, double e, boolean polish) {
+        if (a == 0) {
+            throw new IllegalArgumentException("Coeff of x^4 cannot be zero.");
+        }
+        double[] rootR = new double[4];
+        double[] rootI = new double[4];
+        new ClosedFormSolver().realQuartic(a, b, c, d, e, rootR, rootI, 0, polish);
+        return ComplexNumbers.rootsOf(rootR, rootI);
+    }
+
+    /**
+     * Solves a quartic equation of the form {@code ax^4 + bx^3 + cx^2 + dx + e = 0}, where the coefficients are complex numbers,
+     * with Ferrari's method. The roots are polished with Newton's method.
+     *
+     * @param a The complex coefficient of {@code x^4}. Must be non-zero.
+     * @param b The complex coefficient of {@code x^3}.
+     * @param c The complex coefficient of {@code x^2}.
+     * @param d The complex coefficient of {@code x^1}.
+     * @param e The complex coefficient of {@code x^0} (known term).
+     * @return the 4 roots, in Cartesian form
+     * @throws IllegalArgumentException if {@code a} is zero
+     * @see #solveQuarticEquation(Complex, Complex, Complex, Complex, Complex, boolean)
+     */
+    public static Complex[] solveQuarticEquation(Complex a, Complex b, Complex c, Complex d, Complex e) {
+        return solveQuarticEquation(a, b, c, d, e, true);
+    }
+
+    /**
+     * Solves a quartic equation of the form {@code ax^4 + bx^3 + cx^2 + dx + e = 0}, where the coefficients are complex numbers,
+     * with Ferrari's method: the root with the largest modulus of the resolvent cubic splits the equation
+     * into 2 quadratic equations, each solved without catastrophic cancellation.
+     *
+     * @param a The complex coefficient of {@code x^4}. Must be non-zero.
+     * @param b The complex coefficient of {@code x^3}.
+     * @param c The complex coefficient of {@code x^2}.
+     * @param d The complex coefficient of {@code x^1}.
+     * @param e The complex coefficient of {@code x^0} (known term).
+     * @param polish {@code true} to refine the roots with a few steps of Newton's method,
+     *        each kept only if it reduces the residual
+     * @return the 4 roots, in Cartesian form
+     * @throws IllegalArgumentException if {@code a} is zero
+     */
+    public static Complex[] solveQuarticEquation(Complex a, Complex b, Complex c, Complex d, Complex e, boolean polish) {
+        if (a.isZero()) {
+            throw new IllegalArgumentException("Coeff of x^4 cannot be zero.");
+        }
+        double[] rootR = new double[4];
+        double[] rootI = new double[4];
+        new ClosedFormSolver().quartic(a.realValue(), a.imaginaryValue(), b.realValue(), b.imaginaryValue(),
+                c.realValue(), c.imaginaryValue(), d.realValue(), d.imaginaryValue(),
+                e.realValue(), e.imaginaryValue(), rootR, rootI, 0, polish);
+        return ComplexNumbers.rootsOf(rootR, rootI);
+    }
+
+    private static Complex[] rootsOf(double[] rootR, double[] rootI) {
+        Complex[] roots = new Complex[rootR.length];
+        for (int k = 0; k < roots.length; k++) {
+            roots[k] = new CartesianComplexDouble(rootR[k], rootI[k]);
+        }
+        return roots;
+    }
+    
+    // -------------------------------------------------------------------------
+    //  Batch solvers
+    // -------------------------------------------------------------------------
+
+    /**
+     * Equations per task of the parallel batch solvers.
+     */
+    private static final int BATCH_GRAIN = 1 << 12;
+
+    /**
+     * Solves the quadratic equations {@code a[i]*x^2 + b[i]*x + c[i] = 0}, with real coefficients,
+     * and writes their roots into the given arrays: {@code firstRoots[i]} and {@code secondRoots[i]}
+     * are the roots of the {@code i}-th equation, in the same order of
+     * {@link #solveQuadraticEquation(double, double, double)}.
+     * <p>
+     * The roots are computed with the same formulas, including the alternative formula
+     * which avoids catastrophic cancellation, directly on primitive values:
+     * no object is allocated for each equation.
+     *
+     * @param a the coefficients of {@code x^2}, all non-zero
+     * @param b the coefficients of {@code x^1}
+     * @param c the coefficients of {@code x^0} (known terms)
+     * @param firstRoots the output array of the first roots
+     * @param secondRoots the output array of the second roots
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or a coefficient of {@code x^2} is zero: in that case, no root is written
+     * @see #solveQuadraticEquation(double, double, double)
+     */
+    public static void solveQuadraticEquations(double[] a, double[] b, double[] c,
+            ComplexArray firstRoots, ComplexArray secondRoots) {
+        solveQuadraticEquations(a, b, c, firstRoots, secondRoots, null);
+    }
+
+    /**
+     * Solves the quadratic equations {@code a[i]*x^2 + b[i]*x + c[i] = 0}, with real coefficients,
+     * dividing the equations between the threads of the given pool.
+     * The roots are the same of {@link #solveQuadraticEquations(double[], double[], double[], ComplexArray, ComplexArray)}.
+     *
+     * @param a the coefficients of {@code x^2}, all non-zero
+     * @param b the coefficients of {@code x^1}
+     * @param c the coefficients of {@code x^0} (known terms)
+     * @param firstRoots the output array of the first roots
+     * @param secondRoots the output array of the second roots
+     * @param pool the threads which solve the equations, or {@code null} to solve them in the calling thread
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or a coefficient of {@code x^2} is zero: in that case, no root is written
+     */
+    public static void solveQuadraticEquations(double[] a, double[] b, double[] c,
+            ComplexArray firstRoots, ComplexArray secondRoots, ForkJoinPool pool) {
+        if ((a == null) || (b == null) || (c == null) || (firstRoots == null) || (secondRoots == null)) {
+            throw new NullPointerException();
+        }
+        validateBatchLength(a.length, b.length, c.length, firstRoots, secondRoots);
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                throw new IllegalArgumentException("Coeff of x^2 cannot be zero (equation " + i + ").");
+            }
+        }
+
+        double[] x1r = firstRoots.realArray();
+        double[] x1i = firstRoots.imaginaryArray();
+        double[] x2r = secondRoots.realArray();
+        double[] x2i = secondRoots.imaginaryArray();
+        ParallelLoop.forRange(pool, 0, a.length, BATCH_GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                solveQuadratic(a[i], b[i], c[i], x1r, x1i, x2r, x2i, i);
+            }
+        });
+    }
+
+    /**
+     * Solves the quadratic equations {@code a[i]*x^2 + b[i]*x + c[i] = 0}, with complex coefficients,
+     * and writes their roots into the given arrays: {@code firstRoots[i]} and {@code secondRoots[i]}
+     * are the roots of the {@code i}-th equation, in the same order of
+     * {@link #solveQuadraticEquation(Complex, Complex, Complex)}.
+     * <p>
+     * The roots are computed with the same formulas, in Cartesian form, directly on primitive values:
+     * no object is allocated for each equation.
+     *
+     * @param a the coefficients of {@code x^2}, all non-zero
+     * @param b the coefficients of {@code x^1}
+     * @param c the coefficients of {@code x^0} (known terms)
+     * @param firstRoots the output array of the first roots
+     * @param secondRoots the output array of the second roots
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or a coefficient of {@code x^2} is zero: in that case, no root is written
+     * @see #solveQuadraticEquation(Complex, Complex, Complex)
+     */
+    public static void solveQuadraticEquations(ComplexArray a, ComplexArray b, ComplexArray c,
+            ComplexArray firstRoots, ComplexArray secondRoots) {
+        solveQuadraticEquations(a, b, c, firstRoots, secondRoots, null);
+    }
+
+    /**
+     * Solves the quadratic equations {@code a[i]*x^2 + b[i]*x + c[i] = 0}, with complex coefficients,
+     * dividing the equations between the threads of the given pool.
+     * The roots are the same of {@link #solveQuadraticEquations(ComplexArray, ComplexArray, ComplexArray, ComplexArray, ComplexArray)}.
+     *
+     * @param a the coefficients of {@code x^2}, all non-zero
+     * @param b the coefficients of {@code x^1}
+     * @param c the coefficients of {@code x^0} (known terms)
+     * @param firstRoots the output array of the first roots
+     * @param secondRoots the output array of the second roots
+     * @param pool the threads which solve the equations, or {@code null} to solve them in the calling thread
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or a coefficient of {@code x^2} is zero: in that case, no root is written
+     */
+    public static void solveQuadraticEquations(ComplexArray a, ComplexArray b, ComplexArray c,
+            ComplexArray firstRoots, ComplexArray secondRoots, ForkJoinPool pool) {
+        if ((a == null) || (b == null) || (c == null) || (firstRoots == null) || (secondRoots == null)) {
+            throw new NullPointerException();
+        }
+        validateBatchLength(a.length(), b.length(), c.length(), firstRoots, secondRoots);
+        double[] ar = a.realArray();
+        double[] ai = a.imaginaryArray();
+        for (int i = 0; i < ar.length; i++) {
+            if ((ar[i] == 0) && (ai[i] == 0)) {
+                throw new IllegalArgumentException("Coeff of x^2 cannot be zero (equation " + i + ").");
+            }
+        }
+
+        double[] br = b.realArray();
+        double[] bi = b.imaginaryArray();
+        double[] cr = c.realArray();
+        double[] ci = c.imaginaryArray();
+        double[] x1r = firstRoots.realArray();
+        double[] x1i = firstRoots.imaginaryArray();
+        double[] x2r = secondRoots.realArray();
+        double[] x2i = secondRoots.imaginaryArray();
+        ParallelLoop.forRange(pool, 0, ar.length, BATCH_GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                solveQuadratic(ar[i], ai[i], br[i], bi[i], cr[i], ci[i], x1r, x1i, x2r, x2i, i);
+            }
+        });
+    }
+
+    /**
+     * Solves the cubic equations {@code a[i]*x^3 + b[i]*x^2 + c[i]*x + d[i] = 0}, with real coefficients,
+     * and writes their roots into the given array: the roots of the {@code i}-th equation are at
+     * indexes {@code [3*i, 3*i + 3)}, in the same order of {@link #solveCubicEquation(double, double, double, double)}.
+     * <p>
+     * The roots are computed with the same formulas, and polished, directly on primitive values:
+     * no object is allocated for each equation.
+     *
+     * @param a the coefficients of {@code x^3}, all non-zero
+     * @param b the coefficients of {@code x^2}
+     * @param c the coefficients of {@code x^1}
+     * @param d the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 3 times as long as the coefficients
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^3} is zero: in that case, no root is written
+     */
+    public static void solveCubicEquations(double[] a, double[] b, double[] c, double[] d, ComplexArray roots) {
+        solveCubicEquations(a, b, c, d, roots, null);
+    }
+
+    /**
+     * Solves the cubic equations {@code a[i]*x^3 + b[i]*x^2 + c[i]*x + d[i] = 0}, with real coefficients,
+     * dividing the equations between the threads of the given pool.
+     * The roots are the same of {@link #solveCubicEquations(double[], double[], double[], double[], ComplexArray)}.
+     *
+     * @param a the coefficients of {@code x^3}, all non-zero
+     * @param b the coefficients of {@code x^2}
+     * @param c the coefficients of {@code x^1}
+     * @param d the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 3 times as long as the coefficients
+     * @param pool the threads which solve the equations, or {@code null} to solve them in the calling thread
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^3} is zero: in that case, no root is written
+     */
+    public static void solveCubicEquations(double[] a, double[] b, double[] c, double[] d,
+            ComplexArray roots, ForkJoinPool pool) {
+        if ((a == null) || (b == null) || (c == null) || (d == null) || (roots == null)) {
+            throw new NullPointerException();
+        }
+        validateBatchLength(3, roots, a.length, b.length, c.length, d.length);
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                throw new IllegalArgumentException("Coeff of x^3 cannot be zero (equation " + i + ").");
+            }
+        }
+
+        double[] rootR = roots.realArray();
+        double[] rootI = roots.imaginaryArray();
+        ParallelLoop.forRange(pool, 0, a.length, BATCH_GRAIN, (from, to) -> {
+            ClosedFormSolver solver = new ClosedFormSolver();
+            for (int i = from; i < to; i++) {
+                solver.realCubic(a[i], b[i], c[i], d[i], rootR, rootI, 3 * i, true);
+            }
+        });
+    }
+
+    /**
+     * Solves the cubic equations {@code a[i]*x^3 + b[i]*x^2 + c[i]*x + d[i] = 0}, with complex coefficients,
+     * and writes their roots into the given array: the roots of the {@code i}-th equation are at
+     * indexes {@code [3*i, 3*i + 3)}, in the same order of {@link #solveCubicEquation(Complex, Complex, Complex, Complex)}.
+     *
+     * @param a the coefficients of {@code x^3}, all non-zero
+     * @param b the coefficients of {@code x^2}
+     * @param c the coefficients of {@code x^1}
+     * @param d the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 3 times as long as the coefficients
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^3} is zero: in that case, no root is written
+     */
+    public static void solveCubicEquations(ComplexArray a, ComplexArray b, ComplexArray c, ComplexArray d,
+            ComplexArray roots) {
+        solveCubicEquations(a, b, c, d, roots, null);
+    }
+
+    /**
+     * Solves the cubic equations {@code a[i]*x^3 + b[i]*x^2 + c[i]*x + d[i] = 0}, with complex coefficients,
+     * dividing the equations between the threads of the given pool.
+     * The roots are the same of {@link #solveCubicEquations(ComplexArray, ComplexArray, ComplexArray, ComplexArray, ComplexArray)}.
+     *
+     * @param a the coefficients of {@code x^3}, all non-zero
+     * @param b the coefficients of {@code x^2}
+     * @param c the coefficients of {@code x^1}
+     * @param d the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 3 times as long as the coefficients
+     * @param pool the threads which solve the equations, or {@code null} to solve them in the calling thread
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^3} is zero: in that case, no root is written
+     */
+    public static void solveCubicEquations(ComplexArray a, ComplexArray b, ComplexArray c, ComplexArray d,
+            ComplexArray roots, ForkJoinPool pool) {
+        if ((a == null) || (b == null) || (c == null) || (d == null) || (roots == null)) {
+            throw new NullPointerException();
+        }
+        validateBatchLength(3, roots, a.length(), b.length(), c.length(), d.length());
+        double[] ar = a.realArray();
+        double[] ai = a.imaginaryArray();
+        for (int i = 0; i < ar.length; i++) {
+            if ((ar[i] == 0) && (ai[i] == 0)) {
+                throw new IllegalArgumentException("Coeff of x^3 cannot be zero (equation " + i + ").");
+            }
+        }
+
+        double[] br = b.realArray();
+        double[] bi = b.imaginaryArray();
+        double[] cr = c.realArray();
+        double[] ci = c.imaginaryArray();
+        double[] dr = d.realArray();
+        double[] di = d.imaginaryArray();
+        double[] rootR = roots.realArray();
+        double[] rootI = roots.imaginaryArray();
+        ParallelLoop.forRange(pool, 0, ar.length, BATCH_GRAIN, (from, to) -> {
+            ClosedFormSolver solver = new ClosedFormSolver();
+            for (int i = from; i < to; i++) {
+                solver.cubic(ar[i], ai[i], br[i], bi[i], cr[i], ci[i], dr[i], di[i], rootR, rootI, 3 * i, true);
+            }
+        });
+    }
+
+    /**
+     * Solves the quartic equations {@code a[i]*x^4 + b[i]*x^3 + c[i]*x^2 + d[i]*x + e[i] = 0}, with real coefficients,
+     * and writes their roots into the given array: the roots of the {@code i}-th equation are at
+     * indexes {@code [4*i, 4*i + 4)}, in the same order of {@link #solveQuarticEquation(double, double, double, double, double)}.
+     * <p>
+     * The roots are computed with the same formulas, and polished, directly on primitive values:
+     * no object is allocated for each equation.
+     *
+     * @param a the coefficients of {@code x^4}, all non-zero
+     * @param b the coefficients of {@code x^3}
+     * @param c the coefficients of {@code x^2}
+     * @param d the coefficients of {@code x^1}
+     * @param e the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 4 times as long as the coefficients
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^4} is zero: in that case, no root is written
+     */
+    public static void solveQuarticEquations(double[] a, double[] b, double[] c, double[] d, double[] e,
+            ComplexArray roots) {
+        solveQuarticEquations(a, b, c, d, e, roots, null);
+    }
+
+    /**
+     * Solves the quartic equations {@code a[i]*x^4 + b[i]*x^3 + c[i]*x^2 + d[i]*x + e[i] = 0}, with real coefficients,
+     * dividing the equations between the threads of the given pool.
+     * The roots are the same of {@link #solveQuarticEquations(double[], double[], double[], double[], double[], ComplexArray)}.
+     *
+     * @param a the coefficients of {@code x^4}, all non-zero
+     * @param b the coefficients of {@code x^3}
+     * @param c the coefficients of {@code x^2}
+     * @param d the coefficients of {@code x^1}
+     * @param e the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 4 times as long as the coefficients
+     * @param pool the threads which solve the equations, or {@code null} to solve them in the calling thread
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^4} is zero: in that case, no root is written
+     */
+    public static void solveQuarticEquations(double[] a, double[] b, double[] c, double[] d, double[] e,
+            ComplexArray roots, ForkJoinPool pool) {
+        if ((a == null) || (b == null) || (c == null) || (d == null) || (e == null) || (roots == null)) {
+            throw new NullPointerException();
+        }
+        validateBatchLength(4, roots, a.length, b.length, c.length, d.length, e.length);
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                throw new IllegalArgumentException("Coeff of x^4 cannot be zero (equation " + i + ").");
+            }
+        }
+
+        double[] rootR = roots.realArray();
+        double[] rootI = roots.imaginaryArray();
+        ParallelLoop.forRange(pool, 0, a.length, BATCH_GRAIN, (from, to) -> {
+            ClosedFormSolver solver = new ClosedFormSolver();
+            for (int i = from; i < to; i++) {
+                solver.realQuartic(a[i], b[i], c[i], d[i], e[i], rootR, rootI, 4 * i, true);
+            }
+        });
+    }
+
+    /**
+     * Solves the quartic equations {@code a[i]*x^4 + b[i]*x^3 + c[i]*x^2 + d[i]*x + e[i] = 0}, with complex coefficients,
+     * and writes their roots into the given array: the roots of the {@code i}-th equation are at
+     * indexes {@code [4*i, 4*i + 4)}, in the same order of
+     * {@link #solveQuarticEquation(Complex, Complex, Complex, Complex, Complex)}.
+     *
+     * @param a the coefficients of {@code x^4}, all non-zero
+     * @param b the coefficients of {@code x^3}
+     * @param c the coefficients of {@code x^2}
+     * @param d the coefficients of {@code x^1}
+     * @param e the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 4 times as long as the coefficients
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^4} is zero: in that case, no root is written
+     */
+    public static void solveQuarticEquations(ComplexArray a, ComplexArray b, ComplexArray c, ComplexArray d,
+            ComplexArray e, ComplexArray roots) {
+        solveQuarticEquations(a, b, c, d, e, roots, null);
+    }
+
+    /**
+     * Solves the quartic equations {@code a[i]*x^4 + b[i]*x^3 + c[i]*x^2 + d[i]*x + e[i] = 0}, with complex coefficients,
+     * dividing the equations between the threads of the given pool.
+     * The roots are the same of
+     * {@link #solveQuarticEquations(ComplexArray, ComplexArray, ComplexArray, ComplexArray, ComplexArray, ComplexArray)}.
+     *
+     * @param a the coefficients of {@code x^4}, all non-zero
+     * @param b the coefficients of {@code x^3}
+     * @param c the coefficients of {@code x^2}
+     * @param d the coefficients of {@code x^1}
+     * @param e the coefficients of {@code x^0} (known terms)
+     * @param roots the output array, 4 times as long as the coefficients
+     * @param pool the threads which solve the equations, or {@code null} to solve them in the calling thread
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have wrong lengths,
+     *         or a coefficient of {@code x^4} is zero: in that case, no root is written
+     */
+    public static void solveQuarticEquations(ComplexArray a, ComplexArray b, ComplexArray c, ComplexArray d,
+            ComplexArray e, ComplexArray roots, ForkJoinPool pool) {
+        if ((a == null) || (b == null) || (c == null) || (d == null) || (e == null) || (roots == null)) {
+            throw new NullPointerException();
+        }
+        validateBatchLength(4, roots, a.length(), b.length(), c.length(), d.length(), e.length());
+        double[] ar = a.realArray();
+        double[] ai = a.imaginaryArray();
+        for (int i = 0; i < ar.length; i++) {
+            if ((ar[i] == 0) && (ai[i] == 0)) {
+                throw new IllegalArgumentException("Coeff of x^4 cannot be zero (equation " + i + ").");
+            }
+        }
+
+        double[] br = b.realArray();
+        double[] bi = b.imaginaryArray();
+        double[] cr = c.realArray();
+        double[] ci = c.imaginaryArray();
+        double[] dr = d.realArray();
+        double[] di = d.imaginaryArray();
+        double[] er = e.realArray();
+        double[] ei = e.imaginaryArray();
+        double[] rootR = roots.realArray();
+        double[] rootI = roots.imaginaryArray();
+        ParallelLoop.forRange(pool, 0, ar.length, BATCH_GRAIN, (from, to) -> {
+            ClosedFormSolver solver = new ClosedFormSolver();
+            for (int i = from; i < to; i++) {
+                solver.quartic(ar[i], ai[i], br[i], bi[i], cr[i], ci[i], dr[i], di[i], er[i], ei[i],
+                        rootR, rootI, 4 * i, true);
+            }
+        });
+    }
+
+    private static void validateBatchLength(int degree, ComplexArray roots, int aLength, int... otherLengths) {
+        for (int length : otherLengths) {
+            if (length != aLength) {
+                throw new IllegalArgumentException("Coefficients must have the same length.");
+            }
+        }
+        if ((long) degree * aLength != roots.length()) {
+            throw new IllegalArgumentException("Roots must be " + degree + " times as many as the equations.");
+        }
+    }
+
+    private static void validateBatchLength(int aLength, int bLength, int cLength,
+            ComplexArray firstRoots, ComplexArray secondRoots) {
+        if ((aLength != bLength) || (aLength != cLength)
+                || (aLength != firstRoots.length()) || (aLength != secondRoots.length())) {
+            throw new IllegalArgumentException("Coefficients and roots must have the same length.");
+        }
+    }
+
+    /**
+     * The real solver, without objects: writes the roots of {@code a*x^2 + b*x + c = 0}
+     * at index {@code i} of the output arrays.
+     */
+    private static void solveQuadratic(double a, double b, double c,
+            double[] x1r, double[] x1i, double[] x2r, double[] x2i, int i) {
+        if (b == 0) {
+            // a(x^2) + c = 0  -> x1 = x2 = +- sqrt(-c/a)
+            double q = (c == 0) ? 0 : -c / a;
+            double sqrt = Math.sqrt(Math.abs(q));
+            boolean real = (q >= 0);
+            x1r[i] = real ? sqrt : 0;
+            x1i[i] = real ? 0 : sqrt;
+            x2r[i] = real ? negate(sqrt) : 0;
+            x2i[i] = real ? 0 : negate(sqrt);
+            return;
+        }
+        if (c == 0) {
+            // a(x^2) + bx = 0  -> x = 0, x = -b/a
+            x1r[i] = 0;
+            x1i[i] = 0;
+            x2r[i] = -b / a;
+            x2i[i] = 0;
+            return;
+        }
+
+        double delta = (b * b) - 4 * a * c;
+        if (FloatingPoint.approxZero(delta)) {
+            // x1 = x2 = -b /(2*a)
+            x1r[i] = -b / (2 * a);
+            x1i[i] = 0;
+            x2r[i] = x1r[i];
+            x2i[i] = 0;
+            return;
+        }
+
+        // x1 = (-b - sgn(b)*sqrt(delta)) /(2*a)  -> Alternative formula: avoid catastrophic cancellation
+        // x2 = c / (a * x1)
+        double sqrt = Math.sqrt(Math.abs(delta));
+        double sgnB = Math.signum(b);
+        if (delta > 0) {
+            double root1 = (-b - (sgnB * sqrt)) / (2 * a);
+            x1r[i] = root1;
+            x1i[i] = 0;
+            x2r[i] = c / (a * root1);
+            x2i[i] = 0;
+        } else {
+            // sqrt(delta) = i*sqrt(-delta): complex conjugate roots
+            double root1r = -b / (2 * a);
+            double root1i = -(sgnB * sqrt) / (2 * a);
+            double denominatorR = a * root1r;
+            double denominatorI = a * root1i;
+            double real2plusImg2 = (denominatorR * denominatorR) + (denominatorI * denominatorI);
+            x1r[i] = root1r;
+            x1i[i] = root1i;
+            x2r[i] = (c * denominatorR) / real2plusImg2;
+            x2i[i] = -(c * denominatorI) / real2plusImg2;
+        }
+    }
+
+    /**
+     * The complex solver, without objects, in Cartesian form: writes the roots of
+     * {@code a*x^2 + b*x + c = 0} at index {@code i} of the output arrays.
+     */
+    private static void solveQuadratic(double ar, double ai, double br, double bi, double cr, double ci,
+            double[] x1r, double[] x1i, double[] x2r, double[] x2i, int i) {
+        boolean bZero = (br == 0) && (bi == 0);
+        boolean cZero = (cr == 0) && (ci == 0);
+        double aModulus2 = (ar * ar) + (ai * ai);
+
+        if (bZero && cZero) {
+            // a(x^2) = 0  -> x1 = x2 = 0
+            x1r[i] = 0;
+            x1i[i] = 0;
+            x2r[i] = 0;
+            x2i[i] = 0;
+            return;
+        }
+        if (bZero) {
+            // a(x^2) + c = 0  -> x1 = x2 = +- sqrt(-c/a)
+            double qr = -((cr * ar) + (ci * ai)) / aModulus2;
+            double qi = -((ci * ar) - (cr * ai)) / aModulus2;
+            double sqrtR = principalSqrtReal(qr, qi);
+            double sqrtI = principalSqrtImaginary(qr, qi, sqrtR);
+            x1r[i] = sqrtR;
+            x1i[i] = sqrtI;
+            x2r[i] = negate(sqrtR);
+            x2i[i] = negate(sqrtI);
+            return;
+        }
+        if (cZero) {
+            // a(x^2) + bx = 0  -> x = 0, x = (-b)/a
+            x1r[i] = 0;
+            x1i[i] = 0;
+            x2r[i] = -((br * ar) + (bi * ai)) / aModulus2;
+            x2i[i] = -((bi * ar) - (br * ai)) / aModulus2;
+            return;
+        }
+
+        // delta = b^2 - 4ac
+        double deltaR = ((br * br) - (bi * bi)) - 4 * ((ar * cr) - (ai * ci));
+        double deltaI = (2 * br * bi) - 4 * ((ar * ci) + (ai * cr));
+        double sqrtR = principalSqrtReal(deltaR, deltaI);
+        double sqrtI = principalSqrtImaginary(deltaR, deltaI, sqrtR);
+
+        double twoAr = 2 * ar;
+        double twoAi = 2 * ai;
+        double twoAModulus2 = (twoAr * twoAr) + (twoAi * twoAi);
+        if ((sqrtR == 0) && (sqrtI == 0)) {
+            // x1 = x2 = -b /(2*a)
+            x1r[i] = -((br * twoAr) + (bi * twoAi)) / twoAModulus2;
+            x1i[i] = -((bi * twoAr) - (br * twoAi)) / twoAModulus2;
+            x2r[i] = x1r[i];
+            x2i[i] = x1i[i];
+            return;
+        }
+
+        // expression = -b - sgn(b)*sqrt(delta), with sgn(b) = sgn(Re b) + i*sgn(Im b)
+        double sgnR = Math.signum(br);
+        double sgnI = Math.signum(bi);
+        double expressionR = -br - ((sqrtR * sgnR) - (sqrtI * sgnI));
+        double expressionI = -bi - ((sqrtR * sgnI) + (sqrtI * sgnR));
+        // x1 = expression /(2*a)  -> Alternative formula: avoid catastrophic cancellation
+        double root1r = ((expressionR * twoAr) + (expressionI * twoAi)) / twoAModulus2;
+        double root1i = ((expressionI * twoAr) - (expressionR * twoAi)) / twoAModulus2;
+        x1r[i] = root1r;
+        x1i[i] = root1i;
+
+        if ((expressionR == 0) && (expressionI == 0)) {
+            // x2 = (-b - sqrt(delta)) /(2*a)  -> Traditional formula
+            double numeratorR = -br - sqrtR;
+            double numeratorI = -bi - sqrtI;
+            x2r[i] = ((numeratorR * twoAr) + (numeratorI * twoAi)) / twoAModulus2;
+            x2i[i] = ((numeratorI * twoAr) - (numeratorR * twoAi)) / twoAModulus2;
+        } else {
+            // x2 = c / (a * x1)  -> Alternative formula: avoid catastrophic cancellation
+            double denominatorR = (root1r * ar) - (root1i * ai);
+            double denominatorI = (root1r * ai) + (ar * root1i);
+            double denominatorModulus2 = (denominatorR * denominatorR) + (denominatorI * denominatorI);
+            x2r[i] = ((cr * denominatorR) + (ci * denominatorI)) / denominatorModulus2;
+            x2i[i] = ((ci * denominatorR) - (cr * denominatorI)) / denominatorModulus2;
+        }
+    }
+
+    /**
+     * Real part of the principal square root of {@code re + i*im}, with argument in {@code (-PI/2, PI/2]}.
+     */
+    static double principalSqrtReal(double re, double im) {
+        double modulus = Math.hypot(re, im);
+        if (re >= 0) {
+            return Math.sqrt((modulus + re) / 2);
+        }
+        // Avoids the cancellation of (modulus + re)
+        double t = Math.sqrt((modulus - re) / 2);
+        return (t == 0) ? 0 : Math.abs(im) / (2 * t);
+    }
+
+    /**
+     * Imaginary part of the principal square root of {@code re + i*im}, given its real part.
+     */
+    static double principalSqrtImaginary(double re, double im, double sqrtReal) {
+        if (re >= 0) {
+            return (sqrtReal == 0) ? 0 : im / (2 * sqrtReal);
+        }
+        double t = Math.sqrt((Math.hypot(re, im) - re) / 2);
+        return (im < 0) ? -t : t;
+    }
+
+    private static double negate(double value) {
+        return (value == 0) ? 0 : -value;
+    }
+    
+}
@@ -0,0 +1,440 @@
+package com.nick.math.complex;
+
+import com.nick.math.FloatingPoint;
+import java.util.Arrays;
+
+/**
+ * An immutable polynomial with complex coefficients:
+ * {@code p(x) = c[0] + c[1]*x + c[2]*x^2 + ... + c[n]*x^n}.
+ * <p>
+ * The coefficients are stored, like a {@link ComplexArray}, in 2 primitive arrays of real and
+ * imaginary parts, in ascending order of power. The highest coefficient is never {@code 0},
+ * except for the zero polynomial: zero coefficients of the highest powers are removed.
+ * <pre>{@code
+ * // x^3 - 1
+ * ComplexPolynomial p = ComplexPolynomial.of(-1, 0, 0, 1);
+ * Complex value = p.evaluate(ComplexNumbers.IMAGINARY_UNIT);   // -1 - i
+ * ComplexArray roots = p.roots();
+ * }</pre>
+ * Products of polynomials with many coefficients are computed with FFTs (see {@link PolynomialArithmetic}),
+ * and so are the values at many points evenly spaced on a circle ({@link #evaluateOnCircle(double, double, int)}).
+ *
+ * @see PolynomialRootFinder
+ * @author Nicolas Scalese
+ */
+public final class ComplexPolynomial {
+
+    private final double[] real;
+    private final double[] imaginary;
+
+
+    /**
+     * Creates a polynomial with the given real and imaginary parts of the coefficients,
+     * in ascending order of power. The arrays are copied.
+     *
+     * @param real the real parts of the coefficients
+     * @param imaginary the imaginary parts of the coefficients
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths, or are empty,
+     *         or a coefficient is {@code NaN} or infinite
+     */
+    public ComplexPolynomial(double[] real, double[] imaginary) {
+        if ((real == null) || (imaginary == null)) {
+            throw new NullPointerException();
+        }
+        if (real.length != imaginary.length) {
+            throw new IllegalArgumentException("Real and imaginary parts must have the same length.");
+        }
+        if (real.length == 0) {
+            throw new IllegalArgumentException("A polynomial must have at least 1 coefficient.");
+        }
+        for (int k = 0; k < real.length; k++) {
+            if (!Double.isFinite(real[k]) || !Double.isFinite(imaginary[k])) {
+                throw FloatingPoint.NAN_OR_INFINITY_ARGUMENT;
+            }
+        }
+
+        int length = real.length;
+        while ((length > 1) && (real[length - 1] == 0) && (imaginary[length - 1] == 0)) {
+            length--;
+        }
+        this.real = Arrays.copyOf(real, length);
+        this.imaginary = Arrays.copyOf(imaginary, length);
+    }
+
+    /**
+     * Creates a polynomial with real coefficients, in ascending order of power.
+     *
+     * @param coefficients the coefficients, from {@code x^0} to {@code x^n}
+     * @return the polynomial
+     */
+    public static ComplexPolynomial of(double... coefficients) {
+        if (coefficients == null) {
+            throw new NullPointerException();
+        }
+        return new ComplexPolynomial(coefficients, new double[coefficients.length]);
+    }
+
+    /**
+     * Creates a polynomial with the given coefficients, in ascending order of power.
+     *
+     * @param coefficients the coefficients, from {@code x^0} to {@code x^n}
+     * @return the polynomial
+     */
+    public static ComplexPolynomial of(Complex... coefficients) {
+        return ComplexPolynomial.of(ComplexArray.of(coefficients));
+    }
+
+    /**
+     * Creates a polynomial with the given coefficients, in ascending order of power.
+     *
+     * @param coefficients the coefficients, from {@code x^0} to {@code x^n}
+     * @return the polynomial
+     */
+    public static ComplexPolynomial of(ComplexArray coefficients) {
+        return new ComplexPolynomial(coefficients.realArray(), coefficients.imaginaryArray());
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the degree of this polynomial: {@code 0} for constant polynomials,
+     * including the zero polynomial.
+     */
+    public int degree() {
+        return this.real.length - 1;
+    }
+
+    public boolean isZero() {
+        return (this.real.length == 1) && (this.real[0] == 0) && (this.imaginary[0] == 0);
+    }
+
+    /**
+     * Returns the coefficient of {@code x^power}, which is {@code 0} for powers higher than the degree.
+     *
+     * @throws IllegalArgumentException if {@code power} is negative
+     */
+    public Complex coefficient(int power) {
+        return new CartesianComplexDouble(this.realCoefficient(power), this.imaginaryCoefficient(power));
+    }
+
+    public double realCoefficient(int power) {
+        if (power < 0) {
+            throw new IllegalArgumentException("Power must be positive or equal to 0.");
+        }
+        return (power < this.real.length) ? this.real[power] : 0;
+    }
+
+    public double imaginaryCoefficient(int power) {
+        if (power < 0) {
+            throw new IllegalArgumentException("Power must be positive or equal to 0.");
+        }
+        return (power < this.imaginary.length) ? this.imaginary[power] : 0;
+    }
+
+    /**
+     * Returns a copy of the coefficients, in ascending order of power.
+     */
+    public ComplexArray coefficients() {
+        return new ComplexArray(this.real.clone(), this.imaginary.clone());
+    }
+
+    /**
+     * Returns the real parts of the coefficients, without copying them.
+     */
+    double[] realArray() {
+        return this.real;
+    }
+
+    /**
+     * Returns the imaginary parts of the coefficients, without copying them.
+     */
+    double[] imaginaryArray() {
+        return this.imaginary;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Evaluates this polynomial at {@code x}, with Horner's method.
+     *
+     * @param x the point where the polynomial is evaluated
+     * @return {@code p(x)}, in Cartesian form
+     */
+    public Complex evaluate(Complex x) {
+        return this.evaluate(x.realValue(), x.imaginaryValue());
+    }
+
+    /**
+     * Evaluates this polynomial at {@code real + i*imaginary}, with Horner's method.
+     *
+     * @return {@code p(real + i*imaginary)}, in Cartesian form
+     */
+    public Complex evaluate(double real, double imaginary) {
+        return this.evaluate(real, imaginary, new MutableComplex()).toComplex();
+    }
+
+    /**
+     * Evaluates this polynomial at {@code real + i*imaginary}, with Horner's method,
+     * and stores the value into {@code result}, without allocating objects.
+     *
+     * @return {@code result}
+     * @throws NullPointerException if {@code result} is {@code null}
+     */
+    public MutableComplex evaluate(double real, double imaginary, MutableComplex result) {
+        int n = this.degree();
+        double pr = this.real[n];
+        double pi = this.imaginary[n];
+        for (int k = n - 1; k >= 0; k--) {
+            double t = (pr * real) - (pi * imaginary) + this.real[k];
+            pi = (pr * imaginary) + (pi * real) + this.imaginary[k];
+            pr = t;
+        }
+        return result.set(pr, pi);
+    }
+
+    /**
+     * Evaluates this polynomial at {@code x}, with the compensated Horner's method:
+     * as accurate as Horner's method in twice the working precision, also close to a root,
+     * where most digits of {@link #evaluate(Complex)} are lost.
+     *
+     * @param x the point where the polynomial is evaluated
+     * @return {@code p(x)}, in Cartesian form
+     * @throws NullPointerException if {@code x} is {@code null}
+     * @see #evaluateCompensated(double, double, MutableComplex)
+     */
+    public Complex evaluateCompensated(Complex x) {
+        MutableComplex result = new MutableComplex();
+        CompensatedHorner.evaluate(this.real, this.imaginary, x.realValue(), x.imaginaryValue(), result);
+        return result.toComplex();
+    }
+
+    /**
+     * Evaluates this polynomial at {@code real + i*imaginary}, with the compensated Horner's method,
+     * and stores the value into {@code result}, without allocating objects. The exact rounding errors
+     * of every step, computed with error-free transformations (TwoSum, and TwoProduct with
+     * {@link Math#fma(double, double, double)}), are evaluated at the same point, and correct the value.
+     * The same loop computes a bound of the error, which is small compared to {@code |p(x)|}
+     * unless the evaluation is very ill-conditioned: close to a multiple root, for example.
+     *
+     * @return a bound of {@code |result - p(real + i*imaginary)|}
+     * @throws NullPointerException if {@code result} is {@code null}
+     * @see CompensatedHorner
+     */
+    public double evaluateCompensated(double real, double imaginary, MutableComplex result) {
+        if (result == null) {
+            throw new NullPointerException();
+        }
+        return CompensatedHorner.evaluate(this.real, this.imaginary, real, imaginary, result);
+    }
+
+    /**
+     * Evaluates this polynomial at every point, with Horner's method: {@code O(n*m)} operations
+     * for a polynomial of degree {@code n} at {@code m} points, and no object per point.
+     *
+     * @param points the points where the polynomial is evaluated
+     * @return a new {@code ComplexArray} with the values, in the same order of the points
+     * @throws NullPointerException if {@code points} is {@code null}
+     */
+    public ComplexArray evaluate(ComplexArray points) {
+        ComplexArray values = new ComplexArray(points.length());
+        MutableComplex value = new MutableComplex();
+        for (int i = 0; i < points.length(); i++) {
+            this.evaluate(points.realValue(i), points.imaginaryValue(i), value);
+            values.set(i, value.realValue(), value.imaginaryValue());
+        }
+        return values;
+    }
+
+    /**
+     * Evaluates this polynomial at {@code count} points evenly spaced on a circle centred at the origin:
+     * {@code x[j] = radius * e^(i*(angle + 2*PI*j/count))}, for {@code j} in {@code [0, count)}.
+     * <p>
+     * The values are the inverse discrete Fourier transform, without scaling, of the coefficients
+     * {@code c[k] * radius^k * e^(i*k*angle)} added modulo {@code count}, computed with an {@link FftPlan}:
+     * {@code O(n + m log m)} operations for a polynomial of degree {@code n} at {@code m} points, instead of
+     * {@code O(n*m)} with Horner's method. Like the one of Horner's method, the rounding error is bounded
+     * by a multiple of {@code eps * sum(|c[k]| * radius^k)} which grows slowly with {@code n} and {@code m},
+     * for any radius and angle.
+     *
+     * @param radius the radius of the circle
+     * @param angle the argument of the first point, in radians
+     * @param count the number of points
+     * @return a new {@code ComplexArray} with the values at {@code x[0]}, {@code x[1]}, ...
+     * @throws IllegalArgumentException if {@code radius} is negative, if {@code radius} or {@code angle}
+     *         is {@code NaN} or infinite, or if {@code count} is not positive
+     * @see FftPlan
+     */
+    public ComplexArray evaluateOnCircle(double radius, double angle, int count) {
+        if (!Double.isFinite(radius) || !Double.isFinite(angle)) {
+            throw FloatingPoint.NAN_OR_INFINITY_ARGUMENT;
+        }
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius must be positive or equal to 0.");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive.");
+        }
+
+        // p(x[j]) = sum(c[k] * radius^k * e^(i*k*angle) * e^(2*PI*i*j*k/count)) , with |angle| <= PI
+        double argument = PolarComplexDouble.normalizeAngle(angle);
+        double[] valuesR = new double[count];
+        double[] valuesI = new double[count];
+        for (int k = 0; k < this.real.length; k++) {
+            double scale = Math.pow(radius, k);
+            double cos = Math.cos(k * argument);
+            double sin = Math.sin(k * argument);
+            double cr = scale * ((this.real[k] * cos) - (this.imaginary[k] * sin));
+            double ci = scale * ((this.real[k] * sin) + (this.imaginary[k] * cos));
+            valuesR[k % count] += cr;
+            valuesI[k % count] += ci;
+        }
+        FftPlan.of(count, true).execute(valuesR, valuesI, FftNormalization.FORWARD);
+        return new ComplexArray(valuesR, valuesI);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the sum of this polynomial and the given one.
+     *
+     * @throws NullPointerException if {@code other} is {@code null}
+     */
+    public ComplexPolynomial plus(ComplexPolynomial other) {
+        int length = Math.max(this.real.length, other.real.length);
+        double[] sumR = new double[length];
+        double[] sumI = new double[length];
+        for (int k = 0; k < length; k++) {
+            sumR[k] = this.realCoefficient(k) + other.realCoefficient(k);
+            sumI[k] = this.imaginaryCoefficient(k) + other.imaginaryCoefficient(k);
+        }
+        return new ComplexPolynomial(sumR, sumI);
+    }
+
+    /**
+     * Returns the difference of this polynomial and the given one.
+     *
+     * @throws NullPointerException if {@code other} is {@code null}
+     */
+    public ComplexPolynomial minus(ComplexPolynomial other) {
+        int length = Math.max(this.real.length, other.real.length);
+        double[] differenceR = new double[length];
+        double[] differenceI = new double[length];
+        for (int k = 0; k < length; k++) {
+            differenceR[k] = this.realCoefficient(k) - other.realCoefficient(k);
+            differenceI[k] = this.imaginaryCoefficient(k) - other.imaginaryCoefficient(k);
+        }
+        return new ComplexPolynomial(differenceR, differenceI);
+    }
+
+    /**
+     * Returns the product of this polynomial and the given one. If both have at least
+     * {@value PolynomialArithmetic#FFT_THRESHOLD} coefficients, the product is computed with FFTs,
+     * in {@code O(n log n)} operations, and every coefficient has a rounding error relative to the
+     * largest coefficients of the factors, instead of its own magnitude.
+     *
+     * @throws NullPointerException if {@code other} is {@code null}
+     */
+    public ComplexPolynomial multiplyBy(ComplexPolynomial other) {
+        if (this.isZero() || other.isZero()) {
+            return ComplexPolynomial.of(0);
+        }
+        ComplexArray product = PolynomialArithmetic.multiply(
+                new ComplexArray(this.real, this.imaginary), new ComplexArray(other.real, other.imaginary));
+        return new ComplexPolynomial(product.realArray(), product.imaginaryArray());
+    }
+
+    /**
+     * Returns the remainder of the division of this polynomial by the given one:
+     * the polynomial {@code r} of degree lower than {@code divisor}, with {@code this = q*divisor + r}.
+     *
+     * @throws NullPointerException if {@code divisor} is {@code null}
+     * @throws ArithmeticException if {@code divisor} is the zero polynomial
+     */
+    public ComplexPolynomial remainder(ComplexPolynomial divisor) {
+        if (divisor.isZero()) {
+            throw new ArithmeticException("Unable to divide by the zero polynomial.");
+        }
+        ComplexArray remainder = PolynomialArithmetic.remainder(
+                new ComplexArray(this.real, this.imaginary), new ComplexArray(divisor.real, divisor.imaginary));
+        if (remainder.length() == 0) {
+            return ComplexPolynomial.of(0);
+        }
+        return new ComplexPolynomial(remainder.realArray(), remainder.imaginaryArray());
+    }
+
+    /**
+     * Returns the derivative of this polynomial: {@code c[1] + 2*c[2]*x + ... + n*c[n]*x^(n-1)}.
+     */
+    public ComplexPolynomial derivative() {
+        int n = this.degree();
+        if (n == 0) {
+            return new ComplexPolynomial(new double[1], new double[1]);
+        }
+        double[] derivativeR = new double[n];
+        double[] derivativeI = new double[n];
+        for (int k = 1; k <= n; k++) {
+            derivativeR[k - 1] = k * this.real[k];
+            derivativeI[k - 1] = k * this.imaginary[k];
+        }
+        return new ComplexPolynomial(derivativeR, derivativeI);
+    }
+
+    /**
+     * Returns the {@link #degree()} roots of this polynomial, repeated according to their multiplicity,
+     * computed by a {@link PolynomialRootFinder} with the default settings.
+     *
+     * @return the roots, in no particular order
+     * @throws IllegalArgumentException if this is the zero polynomial
+     * @see PolynomialRootFinder#solve(ComplexPolynomial)
+     */
+    public ComplexArray roots() {
+        return new PolynomialRootFinder().solve(this).roots();
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns {@code true} if the given object is a {@code ComplexPolynomial}
+     * with the same coefficients.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || !(o instanceof ComplexPolynomial)) {
+            return false;
+        }
+
+        ComplexPolynomial polynomial = (ComplexPolynomial) o;
+        return Arrays.equals(this.real, polynomial.real) && Arrays.equals(this.imaginary, polynomial.imaginary);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 31 * hash + Arrays.hashCode(this.real);
+        hash = 31 * hash + Arrays.hashCode(this.imaginary);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        //  (+1.0 + 0.0i) + (+2.0 - 1.0i)*x + (-3.0 + 0.0i)*x^2
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < this.real.length; k++) {
+            if (k > 0) {
+                sb.append(" + ");
+            }
+            sb.append('(').append(new CartesianComplexDouble(this.real[k], this.imaginary[k]).cartesianForm()).append(')');
+            if (k == 1) {
+                sb.append("*x");
+            } else if (k > 1) {
+                sb.append("*x^").append(k);
+            }
+        }
+        return sb.toString();
+    }
+
+}
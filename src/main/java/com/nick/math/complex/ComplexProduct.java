@@ -0,0 +1,233 @@
+package com.nick.math.complex;
+
+/**
+ * A mutable product of many complex numbers, which does not overflow nor underflow
+ * while the factors are multiplied: only the final result may be out of the range of {@code double}.
+ * <p>
+ * The product is stored as {@code (real + i*imaginary) * 2^exponent * e^(i*angle)}:
+ * <ul>
+ *   <li> Cartesian factors multiply the mantissa {@code real + i*imaginary}. </li>
+ *   <li> Polar factors multiply the mantissa by their modulus, and add their argument
+ *        to {@code angle}, with a compensated sum: no sine or cosine is computed
+ *        until the end. </li>
+ *   <li> When the mantissa, or a factor, becomes too large or too small, its binary exponent
+ *        is moved to {@code exponent} (like {@code frexp} in C), with an exact scaling
+ *        by a power of 2. </li>
+ * </ul>
+ * So every factor costs the same operations of a plain multiplication, plus a comparison.
+ * <pre>{@code
+ * ComplexProduct product = new ComplexProduct();
+ * for (Complex c : factors) {
+ *     product.multiply(c);
+ * }
+ * double log = product.logModulus();    // Even if the product is out of range
+ * Complex result = product.toComplex();
+ * }</pre>
+ * <p>
+ * @apiNote
+ * While no factor is out of range, Cartesian factors give the same result of a chain of
+ * {@link MutableComplex#mulInPlace(Complex)}, because scaling by a power of 2 is exact.
+ * Instances are not thread-safe: every thread should compute its own partial product,
+ * and combine them with {@link #multiply(ComplexProduct)}.
+ *
+ * @see ComplexNumbers#multiplyAllScaled(Complex...)
+ * @see ParallelReduction#multiplyAll(Complex...)
+ * @author Nicolas Scalese
+ */
+public final class ComplexProduct {
+
+    /**
+     * The mantissa and the factors are kept in range: {@code [2^-MAX_EXPONENT, 2^MAX_EXPONENT]},
+     * so their products (at most {@code 2^(2*MAX_EXPONENT + 1)}) are never out of the range of {@code double}.
+     */
+    private static final int MAX_EXPONENT = 448;
+
+    // 2*PI = TWO_PI_HIGH + TWO_PI_LOW, with twice the precision of a double
+    private static final double TWO_PI_HIGH = 2 * Math.PI;
+    private static final double TWO_PI_LOW = 2.4492935982947064e-16;
+
+    private double real;
+    private double imaginary;
+    private long exponent;
+
+    private double angle;
+    private double angleCompensation;
+    private boolean cartesian;
+
+
+    /**
+     * Creates an empty product, equal to {@code 1}.
+     */
+    public ComplexProduct() {
+        this.real = 1;
+        this.imaginary = 0;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@code this = this * (real + i*imaginary)}
+     */
+    public ComplexProduct multiply(double real, double imaginary) {
+        int factorExponent = scaleExponent(Math.max(Math.abs(real), Math.abs(imaginary)));
+        if (factorExponent != 0) {
+            real = Math.scalb(real, - factorExponent);
+            imaginary = Math.scalb(imaginary, - factorExponent);
+            this.exponent += factorExponent;
+        }
+
+        double a1 = this.real;
+        double b1 = this.imaginary;
+        this.real = (a1 * real) - (b1 * imaginary);
+        this.imaginary = (a1 * imaginary) + (real * b1);
+        this.cartesian = true;
+        this.normalize();
+        return this;
+    }
+
+    /**
+     * {@code this = this * modulus * e^(i*angle)}
+     *
+     * @throws IllegalArgumentException if {@code modulus} is negative
+     */
+    public ComplexProduct multiplyPolar(double modulus, double angle) {
+        if (modulus < 0) {
+            throw new IllegalArgumentException("Modulus must be positive or equal to 0.");
+        }
+        int factorExponent = scaleExponent(modulus);
+        if (factorExponent != 0) {
+            modulus = Math.scalb(modulus, - factorExponent);
+            this.exponent += factorExponent;
+        }
+
+        this.real *= modulus;
+        this.imaginary *= modulus;
+        this.addAngle(((angle > Math.PI) || (angle < - Math.PI)) ? PolarComplexDouble.normalizeAngle(angle) : angle);
+        this.normalize();
+        return this;
+    }
+
+    /**
+     * {@code this = this * complex}, in the representation of {@code complex}:
+     * polar numbers are multiplied with {@link #multiplyPolar(double, double)},
+     * the others with {@link #multiply(double, double)}.
+     */
+    public ComplexProduct multiply(Complex complex) {
+        if (complex instanceof PolarComplexDouble) {
+            return this.multiplyPolar(complex.modulusValue(), complex.mainArgumentValue());
+        }
+        return this.multiply(complex.realValue(), complex.imaginaryValue());
+    }
+
+    /**
+     * {@code this = this * other}: combines 2 partial products.
+     */
+    public ComplexProduct multiply(ComplexProduct other) {
+        double a1 = this.real;
+        double b1 = this.imaginary;
+        this.real = (a1 * other.real) - (b1 * other.imaginary);
+        this.imaginary = (a1 * other.imaginary) + (other.real * b1);
+        this.exponent += other.exponent;
+        this.cartesian |= other.cartesian;
+        this.addAngle(other.angle);
+        this.addAngle(other.angleCompensation);
+        this.normalize();
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the natural logarithm of the modulus of the product,
+     * which is finite also when the modulus is out of the range of {@code double}.
+     *
+     * @return {@code log(|product|)}, or {@code -Infinity} if the product is {@code 0}
+     */
+    public double logModulus() {
+        return Math.log(Math.hypot(this.real, this.imaginary)) + (this.exponent * Math.log(2));
+    }
+
+    /**
+     * Returns the main argument of the product, in range: {@code (-PI, PI]}.
+     */
+    public double mainArgumentValue() {
+        double argument = this.angle + this.angleCompensation;
+        if (this.cartesian) {
+            argument += Math.atan2(this.imaginary, this.real);
+        }
+        return PolarComplexDouble.normalizeAngle(argument);
+    }
+
+    /**
+     * Returns the product as an immutable {@link Complex}: in polar form if all the factors
+     * were polar, in cartesian form otherwise. Its parts may be infinite, or {@code 0},
+     * if the product is out of the range of {@code double}.
+     */
+    public Complex toComplex() {
+        int scale = (int) Math.max(-4096, Math.min(4096, this.exponent));
+        if (!this.cartesian) {
+            // The mantissa is still real and positive
+            return new PolarComplexDouble(Math.scalb(this.real, scale), this.angle + this.angleCompensation);
+        }
+
+        double real = this.real;
+        double imaginary = this.imaginary;
+        if ((this.angle != 0) || (this.angleCompensation != 0)) {
+            double cos = Math.cos(this.angle + this.angleCompensation);
+            double sin = Math.sin(this.angle + this.angleCompensation);
+            real = (this.real * cos) - (this.imaginary * sin);
+            imaginary = (this.real * sin) + (this.imaginary * cos);
+        }
+        return new CartesianComplexDouble(Math.scalb(real, scale), Math.scalb(imaginary, scale));
+    }
+
+    @Override
+    public String toString() {
+        return "(" + new CartesianComplexDouble(this.real, this.imaginary).cartesianForm() + ") * 2^" + this.exponent
+            + " * e^(i*" + (this.angle + this.angleCompensation) + ")";
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the binary exponent of a value out of range {@code [2^-MAX_EXPONENT, 2^MAX_EXPONENT]},
+     * which must be moved to the exponent of the product, or {@code 0} if the value does not need scaling.
+     * Zeros, infinities and NaN are never scaled.
+     */
+    private static int scaleExponent(double absValue) {
+        int valueExponent = Math.getExponent(absValue);
+        if (((valueExponent > MAX_EXPONENT) || (valueExponent < -MAX_EXPONENT))
+                && (absValue != 0) && Double.isFinite(absValue)) {
+            return valueExponent;
+        }
+        return 0;
+    }
+
+    private void normalize() {
+        int mantissaExponent = scaleExponent(Math.max(Math.abs(this.real), Math.abs(this.imaginary)));
+        if (mantissaExponent != 0) {
+            this.real = Math.scalb(this.real, - mantissaExponent);
+            this.imaginary = Math.scalb(this.imaginary, - mantissaExponent);
+            this.exponent += mantissaExponent;
+        }
+    }
+
+    /**
+     * Neumaier sum of the angles, kept in range {@code [-PI, PI]}: the angle is never larger
+     * than {@code 2*PI}, so subtracting {@code TWO_PI_HIGH} is exact.
+     */
+    private void addAngle(double value) {
+        double t = this.angle + value;
+        this.angleCompensation += (Math.abs(this.angle) >= Math.abs(value)) ? (this.angle - t) + value : (value - t) + this.angle;
+        this.angle = t;
+
+        if (this.angle > Math.PI) {
+            this.angle -= TWO_PI_HIGH;
+            this.angleCompensation -= TWO_PI_LOW;
+        } else if (this.angle < - Math.PI) {
+            this.angle += TWO_PI_HIGH;
+            this.angleCompensation += TWO_PI_LOW;
+        }
+    }
+
+}
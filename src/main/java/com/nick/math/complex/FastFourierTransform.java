@@ -0,0 +1,266 @@
+package com.nick.math.complex;
+
+/**
+ * This static class computes the discrete Fourier transform (DFT) of complex
+ * sequences, and its inverse, with Fast Fourier Transform algorithms.
+ * <p>
+ * The forward transform of a sequence {@code x} of length {@code n} is:
+ * <ul> {@code X[k] = sum( x[j] * e^(-2*PI*i*j*k/n) )} , for {@code j} in {@code [0, n)} </ul>
+ * and the inverse transform uses {@code e^(+2*PI*i*j*k/n)}.
+ * Both are scaled according to a {@link FftNormalization}, which defaults to
+ * {@link FftNormalization#BACKWARD}, as in {@code numpy.fft}.
+ * <p>
+ * Sequences are stored in primitive arrays, and transformed in place:
+ * <ul>
+ *   <li> Split arrays: </li>
+ *        real parts and imaginary parts in two arrays of the same length {@code n}.
+ *   <li> Interleaved array: </li>
+ *        a single array of length {@code 2*n}: {@code [re0, im0, re1, im1, ...]}.
+ *   <li> {@link ComplexArray}.</li>
+ * </ul>
+ * <p>
+ * @apiNote
+ * Every positive length is supported, in {@code O(n log n)} time:
+ * <ul>
+ *   <li> Powers of 2: </li>
+ *        iterative radix-2/radix-4 algorithm.
+ *   <li> Lengths whose prime factors are only 2, 3, 5, 7 (for example 1000, 1536): </li>
+ *        mixed-radix Cooley-Tukey algorithm.
+ *   <li> Any other length (for example the prime 4099): </li>
+ *        Bluestein (chirp-z) algorithm, which is about 3 times slower than the others.
+ * </ul>
+ * Twiddle factors and permutation tables are computed once per length, in a
+ * {@link FftPlan}, and reused by the following transforms of the same length.
+ * Use {@link FftPlan#tuned(int, boolean)} to choose the fastest algorithm
+ * for a length, by measuring the candidates.
+ * <p>
+ * Transforms run in the calling thread: {@link ParallelFft} splits
+ * large transforms between the threads of a {@code ForkJoinPool}.
+ *
+ * @see FftPlan
+ * @see ParallelFft
+ * @see FftNormalization
+ * @see ComplexArray
+ * @author Nicolas Scalese
+ */
+public class FastFourierTransform {
+
+    private FastFourierTransform() {}
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the forward transform of the given sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling (no scaling).
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     */
+    public static void transform(double[] real, double[] imaginary) {
+        FastFourierTransform.transform(real, imaginary, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the forward transform of the given sequence, in place.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @param normalization the scaling convention
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     */
+    public static void transform(double[] real, double[] imaginary, FftNormalization normalization) {
+        FftPlan.validateSplit(real, imaginary);
+        execute(real, 0, imaginary, 0, 1, real.length, false, normalization);
+    }
+
+    /**
+     * Computes the inverse transform of the given sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling ({@code 1/n}).
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     */
+    public static void inverseTransform(double[] real, double[] imaginary) {
+        FastFourierTransform.inverseTransform(real, imaginary, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the inverse transform of the given sequence, in place.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @param normalization the scaling convention
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     */
+    public static void inverseTransform(double[] real, double[] imaginary, FftNormalization normalization) {
+        FftPlan.validateSplit(real, imaginary);
+        execute(real, 0, imaginary, 0, 1, real.length, true, normalization);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the forward transform of the given interleaved sequence
+     * {@code [re0, im0, re1, im1, ...]}, in place, with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param data the interleaved real and imaginary parts
+     * @throws NullPointerException if {@code data} is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty or has an odd length
+     */
+    public static void transformInterleaved(double[] data) {
+        FastFourierTransform.transformInterleaved(data, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the forward transform of the given interleaved sequence
+     * {@code [re0, im0, re1, im1, ...]}, in place.
+     *
+     * @param data the interleaved real and imaginary parts
+     * @param normalization the scaling convention
+     * @throws NullPointerException if {@code data} is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty or has an odd length
+     */
+    public static void transformInterleaved(double[] data, FftNormalization normalization) {
+        FftPlan.validateInterleaved(data);
+        execute(data, 0, data, 1, 2, data.length / 2, false, normalization);
+    }
+
+    /**
+     * Computes the inverse transform of the given interleaved sequence
+     * {@code [re0, im0, re1, im1, ...]}, in place, with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param data the interleaved real and imaginary parts
+     * @throws NullPointerException if {@code data} is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty or has an odd length
+     */
+    public static void inverseTransformInterleaved(double[] data) {
+        FastFourierTransform.inverseTransformInterleaved(data, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the inverse transform of the given interleaved sequence
+     * {@code [re0, im0, re1, im1, ...]}, in place.
+     *
+     * @param data the interleaved real and imaginary parts
+     * @param normalization the scaling convention
+     * @throws NullPointerException if {@code data} is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty or has an odd length
+     */
+    public static void inverseTransformInterleaved(double[] data, FftNormalization normalization) {
+        FftPlan.validateInterleaved(data);
+        execute(data, 0, data, 1, 2, data.length / 2, true, normalization);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the forward transform of the given multidimensional sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     * The elements are stored in row-major order: for example, the element {@code (r, c)}
+     * of a 2D sequence with shape {@code {rows, columns}} has index {@code r * columns + c}.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @param shape the length of every dimension
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     */
+    public static void transformND(double[] real, double[] imaginary, int[] shape) {
+        FastFourierTransform.transformND(real, imaginary, shape, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the forward transform of the given multidimensional sequence, in place.
+     * The normalization uses the total length of the sequence (the product of the dimensions).
+     *
+     * @param real the real parts of the sequence, in row-major order
+     * @param imaginary the imaginary parts of the sequence, in row-major order
+     * @param shape the length of every dimension
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     */
+    public static void transformND(double[] real, double[] imaginary, int[] shape, FftNormalization normalization) {
+        MultidimensionalFft.transform(real, imaginary, shape, false, normalization, null);
+    }
+
+    /**
+     * Computes the inverse transform of the given multidimensional sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param real the real parts of the sequence, in row-major order
+     * @param imaginary the imaginary parts of the sequence, in row-major order
+     * @param shape the length of every dimension
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     */
+    public static void inverseTransformND(double[] real, double[] imaginary, int[] shape) {
+        FastFourierTransform.inverseTransformND(real, imaginary, shape, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the inverse transform of the given multidimensional sequence, in place.
+     * The normalization uses the total length of the sequence (the product of the dimensions).
+     *
+     * @param real the real parts of the sequence, in row-major order
+     * @param imaginary the imaginary parts of the sequence, in row-major order
+     * @param shape the length of every dimension
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     */
+    public static void inverseTransformND(double[] real, double[] imaginary, int[] shape,
+            FftNormalization normalization) {
+        MultidimensionalFft.transform(real, imaginary, shape, true, normalization, null);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the forward transform of the given {@link ComplexArray}, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param array the sequence to transform
+     * @return the same {@code array}, holding its transform
+     * @throws IllegalArgumentException if {@code array} is empty
+     */
+    public static ComplexArray transform(ComplexArray array) {
+        FastFourierTransform.transform(array.realArray(), array.imaginaryArray());
+        return array;
+    }
+
+    /**
+     * Computes the inverse transform of the given {@link ComplexArray}, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param array the sequence to transform
+     * @return the same {@code array}, holding its inverse transform
+     * @throws IllegalArgumentException if {@code array} is empty
+     */
+    public static ComplexArray inverseTransform(ComplexArray array) {
+        FastFourierTransform.inverseTransform(array.realArray(), array.imaginaryArray());
+        return array;
+    }
+
+    // -------------------------------------------------------------------------
+
+    private static void execute(double[] re, int reOffset, double[] im, int imOffset, int stride,
+            int n, boolean inverse, FftNormalization normalization) {
+        FftPlan.of(n, inverse).execute(re, reOffset, im, imOffset, stride, normalization);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.nick.math.complex;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * An unscaled, in-place discrete Fourier transform of a fixed length.
+ * <p>
+ * The element {@code k} of the sequence has real part {@code re[reOffset + k*stride]}
+ * and imaginary part {@code im[imOffset + k*stride]}. This layout covers split arrays
+ * ({@code stride = 1}), interleaved arrays ({@code re == im}, offsets 0 and 1, {@code stride = 2})
+ * and rows or columns of multidimensional arrays.
+ * <p>
+ * Implementations precompute their tables when they are created, and are
+ * immutable, so they can be shared between threads.
+ * A transform can also be split between the threads of a {@link ForkJoinPool}:
+ * the butterflies of every stage are divided in ranges of {@link #GRAIN} butterflies,
+ * and each one is computed exactly as in the single-threaded transform,
+ * so the results are the same bit for bit.
+ *
+ * @see FastFourierTransform
+ * @see Radix2Fft
+ * @see MixedRadixFft
+ * @see BluesteinFft
+ * @author Nicolas Scalese
+ */
+interface FftKernel {
+
+    /**
+     * The number of butterflies (or elements) processed by each task of a parallel transform.
+     */
+    int GRAIN = 1 << 11;
+
+
+    int size();
+
+    default void transform(double[] re, int reOffset, double[] im, int imOffset, int stride, boolean inverse) {
+        this.transform(re, reOffset, im, imOffset, stride, inverse, null);
+    }
+
+    /**
+     * Computes the transform with the threads of the given pool,
+     * or in the calling thread if {@code pool} is {@code null}.
+     */
+    void transform(double[] re, int reOffset, double[] im, int imOffset, int stride, boolean inverse,
+            ForkJoinPool pool);
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the fastest available algorithm for the given length:
+     * <ul>
+     *   <li> {@link Radix2Fft} for powers of 2.</li>
+     *   <li> {@link MixedRadixFft} for lengths whose prime factors are only 2, 3, 5, 7.</li>
+     *   <li> {@link BluesteinFft} for any other length (for example, large primes).</li>
+     * </ul>
+     *
+     * @param n the length of the transform
+     * @return a new kernel for the given length
+     * @throws IllegalArgumentException if {@code n} is not positive
+     */
+    static FftKernel forSize(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Length must be positive.");
+        }
+        if (Integer.bitCount(n) == 1) {
+            return new Radix2Fft(n);
+        }
+        if (MixedRadixFft.isSmooth(n)) {
+            return new MixedRadixFft(n);
+        }
+        return new BluesteinFft(n);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.nick.math.complex;
+
+/**
+ * Scaling conventions of a discrete Fourier transform of length {@code n},
+ * with the same names and meaning of the {@code norm} argument of {@code numpy.fft}.
+ * <ul>
+ *   <li> {@link #BACKWARD} (default): </li>
+ *        forward transform not scaled, inverse transform scaled by {@code 1/n}.
+ *   <li> {@link #ORTHO}: </li>
+ *        both transforms scaled by {@code 1/sqrt(n)}, so they are unitary.
+ *   <li> {@link #FORWARD}: </li>
+ *        forward transform scaled by {@code 1/n}, inverse transform not scaled.
+ * </ul>
+ * With any convention, the inverse transform of the forward transform
+ * gives back the original sequence.
+ *
+ * @see FastFourierTransform
+ * @author Nicolas Scalese
+ */
+public enum FftNormalization {
+
+    BACKWARD,
+    ORTHO,
+    FORWARD;
+
+    /**
+     * Returns the factor which multiplies the (not scaled) transform of length {@code n}.
+     *
+     * @param n the length of the transform
+     * @param inverse {@code true} for the inverse transform, {@code false} for the forward one
+     * @return the scale factor: {@code 1}, {@code 1/sqrt(n)} or {@code 1/n}
+     */
+    double scaleFactor(int n, boolean inverse) {
+        switch (this) {
+            case ORTHO:
+                return 1.0 / Math.sqrt(n);
+            case FORWARD:
+                return inverse ? 1.0 : 1.0 / n;
+            default:
+                return inverse ? 1.0 / n : 1.0;
+        }
+    }
+
+}
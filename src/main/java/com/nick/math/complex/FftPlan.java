@@ -0,0 +1,640 @@
+package com.nick.math.complex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A precomputed discrete Fourier transform of a fixed length and direction.
+ * <p>
+ * A plan holds everything which depends only on the length of the sequence:
+ * the algorithm, the factorization of the length in radices, the twiddle factors
+ * and the permutation tables. Plans are immutable, so they can be shared between
+ * threads, and executed any number of times on sequences of their length.
+ * <p>
+ * Plans are obtained in 2 ways:
+ * <ul>
+ *   <li> {@link #of(int, boolean)}: </li>
+ *        the default algorithm for the length (see {@link FastFourierTransform}),
+ *        or the one previously chosen by {@link #tuned(int, boolean)}.
+ *   <li> {@link #tuned(int, boolean)}: </li>
+ *        times every candidate factorization of the length, and keeps the fastest one.
+ * </ul>
+ * Both methods share a cache of the most recently used plans, keyed by length and
+ * direction, with at most {@value #DEFAULT_CACHE_SIZE} plans (or the value of the
+ * system property {@value #CACHE_SIZE_PROPERTY}). {@link FastFourierTransform} uses
+ * the same cache. Lookups take no lock, so the transforms of parallel tasks do not
+ * wait for each other; the eviction of the least recently used plans is approximate.
+ * <p>
+ * The choices of the autotuning ("wisdom") are kept in memory, and can be saved to
+ * and loaded from a properties file with {@link #saveWisdom(Path)} and {@link #loadWisdom(Path)}.
+ * If the system property {@value #WISDOM_PROPERTY} names a file, the wisdom is loaded
+ * from it when this class is initialized, and saved to it atomically after every new autotuning,
+ * so a restarted JVM skips the tuning of the lengths already measured.
+ *
+ * @apiNote
+ * Autotuning takes from some milliseconds to some seconds, according to the length:
+ * it pays off only for lengths transformed many times.
+ * Timings depend on the hardware and on the JVM, so a wisdom file
+ * should not be copied between different machines.
+ *
+ * @see FastFourierTransform
+ * @see FftNormalization
+ * @author Nicolas Scalese
+ */
+public final class FftPlan {
+
+    /**
+     * The system property with the maximum number of cached plans.
+     */
+    public static final String CACHE_SIZE_PROPERTY = "com.nick.math.complex.fft.cacheSize";
+
+    /**
+     * The system property with the path of the wisdom file.
+     */
+    public static final String WISDOM_PROPERTY = "com.nick.math.complex.fft.wisdom";
+
+    static final int DEFAULT_CACHE_SIZE = 64;
+
+    private static final String RADIX_2 = "radix2";
+    private static final String MIXED_RADIX = "mixed";
+    private static final String BLUESTEIN = "bluestein";
+
+    private static final int CACHE_CAPACITY = cacheSize();
+
+    // Lookups take no lock: only the insertions of new plans scan the cache to evict the least recently used
+    private static final ConcurrentMap<Long, FftPlan> CACHE = new ConcurrentHashMap<>();
+
+    // Incremented by every insertion in the cache: plans used since the last one share the same stamp
+    private static final AtomicLong CACHE_CLOCK = new AtomicLong();
+
+    // "<n>.forward" or "<n>.inverse" -> "radix2", "mixed:4,2,3" or "bluestein"
+    private static final ConcurrentMap<String, String> WISDOM = new ConcurrentHashMap<>();
+
+    // Serializes the saves of the wisdom: the last one written holds every choice made before it
+    private static final Object WISDOM_FILE_LOCK = new Object();
+
+    static {
+        String wisdomFile = System.getProperty(WISDOM_PROPERTY);
+        if (wisdomFile != null) {
+            try {
+                loadWisdom(Paths.get(wisdomFile));
+            } catch (IOException | RuntimeException e) {
+                // Missing or corrupted file: plans will be tuned again
+            }
+        }
+    }
+
+    private final FftKernel kernel;
+    private final boolean inverse;
+
+    // cos and sin of 2*PI*k/(2n), for k in [0, n/2]: computed by the first real transform
+    private volatile double[] realTwiddles;
+
+    // The value of CACHE_CLOCK when this plan was last returned from the cache
+    private volatile long lastUse;
+
+
+    private FftPlan(FftKernel kernel, boolean inverse) {
+        this.kernel = kernel;
+        this.inverse = inverse;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the plan of the given length and direction, from the cache if possible.
+     * If the length has been tuned (in this JVM, or in a loaded wisdom file),
+     * the plan uses the tuned algorithm, otherwise the default one.
+     *
+     * @param n the length of the sequences
+     * @param inverse {@code true} for the inverse transform, {@code false} for the forward one
+     * @return the plan of the transform
+     * @throws IllegalArgumentException if {@code n} is not positive
+     */
+    public static FftPlan of(int n, boolean inverse) {
+        validateLength(n);
+        Long key = cacheKey(n, inverse);
+        FftPlan plan = CACHE.get(key);
+        if (plan == null) {
+            String algorithm = WISDOM.get(wisdomKey(n, inverse));
+            FftKernel kernel = (algorithm != null) ? parseKernel(n, algorithm) : FftKernel.forSize(n);
+            return cache(key, new FftPlan(kernel, inverse));
+        }
+        long now = CACHE_CLOCK.get();
+        if (plan.lastUse != now) {
+            // Written once per insertion at most: repeated lookups only read the stamp
+            plan.lastUse = now;
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the fastest plan of the given length and direction, measuring the
+     * execution time of every candidate algorithm and radix factorization.
+     * The measurement is skipped if the length has already been tuned.
+     *
+     * @param n the length of the sequences
+     * @param inverse {@code true} for the inverse transform, {@code false} for the forward one
+     * @return the fastest plan of the transform
+     * @throws IllegalArgumentException if {@code n} is not positive
+     */
+    public static FftPlan tuned(int n, boolean inverse) {
+        validateLength(n);
+        String wisdomKey = wisdomKey(n, inverse);
+        if (WISDOM.containsKey(wisdomKey)) {
+            return FftPlan.of(n, inverse);
+        }
+
+        FftKernel fastest = null;
+        long fastestTime = Long.MAX_VALUE;
+        for (FftKernel candidate : candidates(n)) {
+            long time = measure(candidate, inverse);
+            if (time < fastestTime) {
+                fastest = candidate;
+                fastestTime = time;
+            }
+        }
+
+        WISDOM.put(wisdomKey, describeKernel(fastest));
+        FftPlan plan = new FftPlan(fastest, inverse);
+        plan.lastUse = CACHE_CLOCK.incrementAndGet();
+        CACHE.put(cacheKey(n, inverse), plan);
+        evictLeastRecentlyUsed(plan);
+        autosaveWisdom();
+        return plan;
+    }
+
+    /**
+     * Removes all plans from the cache. The wisdom is not affected.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Forgets the results of the autotuning, and removes all plans from the cache.
+     */
+    public static void clearWisdom() {
+        WISDOM.clear();
+        CACHE.clear();
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the results of the autotuning to the given properties file.
+     * The wisdom is written to a temporary file in the same directory, then moved over the given one
+     * atomically: readers, also after a crash, see either the previous file or the complete new one.
+     * Concurrent saves are serialized.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void saveWisdom(Path file) throws IOException {
+        if (file == null) {
+            throw new NullPointerException();
+        }
+        Path target = file.toAbsolutePath();
+        synchronized (WISDOM_FILE_LOCK) {
+            Properties properties = new Properties();
+            properties.putAll(WISDOM);
+            Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temporary)) {
+                    properties.store(out, "FFT wisdom: fastest algorithm of each length");
+                }
+                try {
+                    Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    // File systems without atomic renames: still never a partially written file
+                    Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    /**
+     * Reads the results of a previous autotuning from the given properties file,
+     * and adds them to the current ones. Cached plans of the loaded lengths are discarded.
+     *
+     * @param file the file to read
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file contains an invalid entry
+     *         (in that case, no entries are loaded)
+     */
+    public static void loadWisdom(Path file) throws IOException {
+        if (file == null) {
+            throw new NullPointerException();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+
+        Map<String, String> loaded = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key);
+            validateWisdom(key, value);
+            loaded.put(key, value);
+        }
+        WISDOM.putAll(loaded);
+        for (String key : loaded.keySet()) {
+            int dot = key.indexOf('.');
+            CACHE.remove(cacheKey(Integer.parseInt(key.substring(0, dot)), key.endsWith(".inverse")));
+        }
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the length of the sequences transformed by this plan.
+     */
+    public int size() {
+        return this.kernel.size();
+    }
+
+    /**
+     * Returns {@code true} if this plan computes the inverse transform,
+     * {@code false} if it computes the forward one.
+     */
+    public boolean isInverse() {
+        return this.inverse;
+    }
+
+    /**
+     * Returns a description of the algorithm used by this plan:
+     * {@code radix2}, {@code mixed:} followed by the sequence of radices
+     * (for example {@code mixed:4,4,2,3}), or {@code bluestein}.
+     */
+    public String algorithm() {
+        return describeKernel(this.kernel);
+    }
+
+    /**
+     * Transforms the given sequence, in place, with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the length of the arrays is not {@link #size()}
+     */
+    public void execute(double[] real, double[] imaginary) {
+        this.execute(real, imaginary, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Transforms the given sequence, in place.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @param normalization the scaling convention
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the length of the arrays is not {@link #size()}
+     */
+    public void execute(double[] real, double[] imaginary, FftNormalization normalization) {
+        validateSplit(real, imaginary);
+        this.validateSize(real.length);
+        this.execute(real, 0, imaginary, 0, 1, normalization);
+    }
+
+    /**
+     * Transforms the given interleaved sequence {@code [re0, im0, re1, im1, ...]}, in place.
+     *
+     * @param data the interleaved real and imaginary parts
+     * @param normalization the scaling convention
+     * @throws NullPointerException if {@code data} is {@code null}
+     * @throws IllegalArgumentException if the length of {@code data} is not {@code 2 * size()}
+     */
+    public void executeInterleaved(double[] data, FftNormalization normalization) {
+        validateInterleaved(data);
+        this.validateSize(data.length / 2);
+        this.execute(data, 0, data, 1, 2, normalization);
+    }
+
+    /**
+     * Transforms the given {@link ComplexArray}, in place, with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param array the sequence to transform
+     * @return the same {@code array}, holding its transform
+     * @throws IllegalArgumentException if the length of {@code array} is not {@link #size()}
+     */
+    public ComplexArray execute(ComplexArray array) {
+        this.execute(array.realArray(), array.imaginaryArray());
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return "FftPlan[n=" + this.size() + ", " + (this.inverse ? "inverse" : "forward")
+            + ", " + this.algorithm() + "]";
+    }
+
+    // -------------------------------------------------------------------------
+
+    void execute(double[] re, int reOffset, double[] im, int imOffset, int stride,
+            FftNormalization normalization) {
+        this.execute(re, reOffset, im, imOffset, stride, normalization, null);
+    }
+
+    /**
+     * Transforms the sequence with the threads of the given pool,
+     * or in the calling thread if {@code pool} is {@code null}.
+     */
+    void execute(double[] re, int reOffset, double[] im, int imOffset, int stride,
+            FftNormalization normalization, ForkJoinPool pool) {
+        if (normalization == null) {
+            throw new NullPointerException();
+        }
+
+        int n = this.kernel.size();
+        this.transformUnscaled(re, reOffset, im, imOffset, stride, pool);
+        scale(re, reOffset, im, imOffset, stride, n, normalization.scaleFactor(n, this.inverse), pool);
+    }
+
+    void transformUnscaled(double[] re, int reOffset, double[] im, int imOffset, int stride, ForkJoinPool pool) {
+        this.kernel.transform(re, reOffset, im, imOffset, stride, this.inverse, pool);
+    }
+
+    static void scale(double[] re, int reOffset, double[] im, int imOffset, int stride,
+            int n, double factor, ForkJoinPool pool) {
+        if (factor == 1) {
+            return;
+        }
+        ParallelLoop.forRange(pool, 0, n, FftKernel.GRAIN, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                re[reOffset + k * stride] *= factor;
+                im[imOffset + k * stride] *= factor;
+            }
+        });
+    }
+
+    /**
+     * Returns the twiddle factors of the real transforms of length {@code 2n},
+     * which use this plan on sequences of length {@code n}:
+     * {@code cos(2*PI*k/(2n))} at index {@code 2k}, and {@code sin(2*PI*k/(2n))} at index {@code 2k+1},
+     * for {@code k} in {@code [0, n/2]}.
+     */
+    double[] realTwiddles() {
+        double[] twiddles = this.realTwiddles;
+        if (twiddles == null) {
+            // Benign race: every thread computes the same values
+            int n = this.kernel.size();
+            twiddles = new double[2 * (n / 2 + 1)];
+            for (int k = 0; k <= n / 2; k++) {
+                double angle = Math.PI * k / n;
+                twiddles[2 * k] = Math.cos(angle);
+                twiddles[2 * k + 1] = Math.sin(angle);
+            }
+            this.realTwiddles = twiddles;
+        }
+        return twiddles;
+    }
+
+    private void validateSize(int n) {
+        if (n != this.kernel.size()) {
+            throw new IllegalArgumentException("Length " + n + " does not match the plan length: " + this.size());
+        }
+    }
+
+    static void validateSplit(double[] real, double[] imaginary) {
+        if ((real == null) || (imaginary == null)) {
+            throw new NullPointerException();
+        }
+        if (real.length != imaginary.length) {
+            throw new IllegalArgumentException("Real and imaginary parts must have the same length.");
+        }
+        validateLength(real.length);
+    }
+
+    static void validateInterleaved(double[] data) {
+        if (data == null) {
+            throw new NullPointerException();
+        }
+        if ((data.length % 2) != 0) {
+            throw new IllegalArgumentException("Interleaved data must have an even length.");
+        }
+        validateLength(data.length / 2);
+    }
+
+    static void validateLength(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Length must be positive.");
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Cache and wisdom
+    // -------------------------------------------------------------------------
+
+    private static int cacheSize() {
+        try {
+            return Math.max(1, Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+        } catch (SecurityException e) {
+            return DEFAULT_CACHE_SIZE;
+        }
+    }
+
+    private static Long cacheKey(int n, boolean inverse) {
+        return (((long) n) << 1) | (inverse ? 1 : 0);
+    }
+
+    private static String wisdomKey(int n, boolean inverse) {
+        return n + (inverse ? ".inverse" : ".forward");
+    }
+
+    /**
+     * Adds the plan to the cache, unless another thread has already done it.
+     * Plans are created before, without blocking the other threads, because large ones take some time.
+     */
+    private static FftPlan cache(Long key, FftPlan plan) {
+        plan.lastUse = CACHE_CLOCK.incrementAndGet();
+        FftPlan previous = CACHE.putIfAbsent(key, plan);
+        if (previous != null) {
+            return previous;
+        }
+        evictLeastRecentlyUsed(plan);
+        return plan;
+    }
+
+    /**
+     * Removes the least recently used plans while the cache is full, except the one just added.
+     * The eviction is approximate: the plans used between 2 insertions have the same age,
+     * and concurrent insertions may evict one plan more than needed.
+     */
+    private static void evictLeastRecentlyUsed(FftPlan added) {
+        while (CACHE.size() > CACHE_CAPACITY) {
+            Map.Entry<Long, FftPlan> eldest = null;
+            for (Map.Entry<Long, FftPlan> entry : CACHE.entrySet()) {
+                if ((eldest == null) || (entry.getValue().lastUse < eldest.getValue().lastUse)) {
+                    eldest = entry;
+                }
+            }
+            if ((eldest == null) || (eldest.getValue() == added)) {
+                return;
+            }
+            CACHE.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private static void autosaveWisdom() {
+        String wisdomFile = System.getProperty(WISDOM_PROPERTY);
+        if (wisdomFile != null) {
+            try {
+                saveWisdom(Paths.get(wisdomFile));
+            } catch (IOException | RuntimeException e) {
+                // Not persisted: the length will be tuned again by the next JVM
+            }
+        }
+    }
+
+    private static String describeKernel(FftKernel kernel) {
+        if (kernel instanceof Radix2Fft) {
+            return RADIX_2;
+        }
+        if (kernel instanceof MixedRadixFft) {
+            StringBuilder description = new StringBuilder(MIXED_RADIX).append(':');
+            int[] factors = ((MixedRadixFft) kernel).factors();
+            for (int i = 0; i < factors.length; i++) {
+                description.append((i == 0) ? "" : ",").append(factors[i]);
+            }
+            return description.toString();
+        }
+        return BLUESTEIN;
+    }
+
+    private static FftKernel parseKernel(int n, String algorithm) {
+        if (algorithm.equals(RADIX_2)) {
+            return new Radix2Fft(n);
+        }
+        if (algorithm.equals(BLUESTEIN)) {
+            return new BluesteinFft(n);
+        }
+        if (algorithm.startsWith(MIXED_RADIX + ":")) {
+            String radices = algorithm.substring(MIXED_RADIX.length() + 1);
+            int[] factors = radices.isEmpty()
+                ? new int[0]
+                : Arrays.stream(radices.split(",")).mapToInt(Integer::parseInt).toArray();
+            return new MixedRadixFft(n, factors);
+        }
+        throw new IllegalArgumentException("Unknown FFT algorithm: " + algorithm);
+    }
+
+    private static void validateWisdom(String key, String algorithm) {
+        int dot = key.indexOf('.');
+        String direction = (dot < 0) ? "" : key.substring(dot + 1);
+        if (!direction.equals("forward") && !direction.equals("inverse")) {
+            throw new IllegalArgumentException("Invalid wisdom key: " + key);
+        }
+        try {
+            int n = Integer.parseInt(key.substring(0, dot));
+            validateLength(n);
+            parseKernel(n, algorithm);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid wisdom entry: " + key + "=" + algorithm, e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    //  Autotuning
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the algorithms which can transform sequences of length {@code n}:
+     * the radix-2 kernel for powers of 2, some orderings of the radices for
+     * lengths with prime factors 2, 3, 5, 7 only, or Bluestein's algorithm.
+     */
+    static List<FftKernel> candidates(int n) {
+        List<FftKernel> candidates = new ArrayList<>();
+        if (Integer.bitCount(n) == 1) {
+            candidates.add(new Radix2Fft(n));
+        }
+        if (!MixedRadixFft.isSmooth(n)) {
+            candidates.add(new BluesteinFft(n));
+            return candidates;
+        }
+
+        // Radices 4 first or last, and radix 4 split in two radix-2 stages
+        int[] factors = MixedRadixFft.factorize(n);
+        int[] radix2Only = new int[factors.length + (int) Arrays.stream(factors).filter(f -> f == 4).count()];
+        int count = 0;
+        for (int factor : factors) {
+            if (factor == 4) {
+                radix2Only[count++] = 2;
+                radix2Only[count++] = 2;
+            } else {
+                radix2Only[count++] = factor;
+            }
+        }
+        Set<String> orderings = new LinkedHashSet<>();
+        for (int[] ordering : new int[][] {factors, reversed(factors), radix2Only, reversed(radix2Only)}) {
+            if (orderings.add(Arrays.toString(ordering))) {
+                candidates.add(new MixedRadixFft(n, ordering));
+            }
+        }
+        return candidates;
+    }
+
+    private static int[] reversed(int[] array) {
+        int[] reversed = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            reversed[i] = array[array.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    /**
+     * Returns the best time, in nanoseconds, of some runs of the kernel on random data.
+     */
+    private static long measure(FftKernel kernel, boolean inverse) {
+        int n = kernel.size();
+        Random random = new Random(n);
+        double[] inputRe = new double[n];
+        double[] inputIm = new double[n];
+        for (int k = 0; k < n; k++) {
+            inputRe[k] = random.nextDouble() - 0.5;
+            inputIm[k] = random.nextDouble() - 0.5;
+        }
+        double[] re = new double[n];
+        double[] im = new double[n];
+
+        // About 2^18 points per run, at least one transform
+        int repetitions = Math.max(1, (1 << 18) / n);
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 8; run++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < repetitions; r++) {
+                // Unscaled transforms would overflow if repeated on the same data
+                System.arraycopy(inputRe, 0, re, 0, n);
+                System.arraycopy(inputIm, 0, im, 0, n);
+                kernel.transform(re, 0, im, 0, 1, inverse);
+            }
+            // The first 3 runs are a warm-up for the JIT compiler
+            if (run >= 3) {
+                best = Math.min(best, System.nanoTime() - start);
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,429 @@
+package com.nick.math.complex;
+
+import java.util.Arrays;
+
+/**
+ * Eigenvalues of a square complex matrix, stored in 2 flat row-major arrays of real and imaginary parts,
+ * which are overwritten:
+ * <ul>
+ *   <li> {@link #balance()}: </li>
+ *        a diagonal similarity by powers of 2 (exact), which makes the norms of every row and column
+ *        close, and reduces the rounding errors of the next steps.
+ *   <li> {@link #reduceToHessenberg()}: </li>
+ *        a unitary similarity by Householder reflections, which makes the matrix upper Hessenberg:
+ *        zero below the first subdiagonal.
+ *   <li> {@link #eigenvalues(double[], double[])}: </li>
+ *        implicit single-shift QR iterations (the complex Francis step) with Givens rotations,
+ *        with Wilkinson shifts, and exceptional shifts after {@value #EXCEPTIONAL_SHIFT_PERIOD}
+ *        iterations without deflation. Negligible subdiagonal elements split the matrix,
+ *        and the iterations continue on the last unreduced block, which is the only part
+ *        updated when only eigenvalues are needed.
+ * </ul>
+ * Rows are contiguous in memory: the reflections and rotations are applied row by row whenever possible.
+ *
+ * @see ComplexMatrix#eigenvalues()
+ * @see RootFinderAlgorithm#COMPANION_MATRIX
+ * @author Nicolas Scalese
+ */
+final class HessenbergQR {
+
+    private static final double ULP = Math.ulp(1.0);
+
+    private static final int EXCEPTIONAL_SHIFT_PERIOD = 10;
+
+    /**
+     * The maximum number of QR iterations is {@code ITERATIONS_PER_EIGENVALUE * max(10, n)}.
+     */
+    private static final int ITERATIONS_PER_EIGENVALUE = 30;
+
+    private final int n;
+    private final double[] real;
+    private final double[] imaginary;
+
+    // History of the QR iterations
+    private int iterations;
+    private double[] subdiagonals = new double[16];
+    private int[] deflated = new int[16];
+
+
+    HessenbergQR(int n, double[] real, double[] imaginary) {
+        this.n = n;
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Parlett-Reinsch balancing, with powers of 2: row {@code i} is divided, and column {@code i}
+     * multiplied, by {@code f}, until no {@code f} reduces the sum of their norms by 5%.
+     */
+    void balance() {
+        boolean converged = false;
+        while (!converged) {
+            converged = true;
+            for (int i = 0; i < this.n; i++) {
+                double column = 0;
+                double row = 0;
+                for (int j = 0; j < this.n; j++) {
+                    if (j != i) {
+                        column += abs1(this.real[j * this.n + i], this.imaginary[j * this.n + i]);
+                        row += abs1(this.real[i * this.n + j], this.imaginary[i * this.n + j]);
+                    }
+                }
+                if ((column == 0) || (row == 0)) {
+                    continue;
+                }
+
+                double sum = column + row;
+                double f = 1;
+                while (column < row / 2) {
+                    f *= 2;
+                    column *= 4;
+                }
+                while (column >= row * 2) {
+                    f /= 2;
+                    column /= 4;
+                }
+                if ((column + row) / f < 0.95 * sum) {
+                    converged = false;
+                    for (int j = 0; j < this.n; j++) {
+                        this.real[i * this.n + j] /= f;
+                        this.imaginary[i * this.n + j] /= f;
+                        this.real[j * this.n + i] *= f;
+                        this.imaginary[j * this.n + i] *= f;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * For every column {@code k}, the Householder reflection {@code H = I - tau*v*v^H} which zeroes
+     * the elements below the subdiagonal: {@code A = H^H * A * H}.
+     */
+    void reduceToHessenberg() {
+        int n = this.n;
+        double[] vr = new double[n];
+        double[] vi = new double[n];
+        double[] wr = new double[n];
+        double[] wi = new double[n];
+
+        for (int k = 0; k < n - 2; k++) {
+            // x = A[k+1 .. n-1][k]
+            double alphaR = this.real[(k + 1) * n + k];
+            double alphaI = this.imaginary[(k + 1) * n + k];
+            double norm = 0;
+            for (int i = k + 2; i < n; i++) {
+                norm = Math.hypot(norm, Math.hypot(this.real[i * n + k], this.imaginary[i * n + k]));
+            }
+            if ((norm == 0) && (alphaI == 0)) {
+                continue;
+            }
+
+            // beta = -sgn(Re alpha) * |x| , tau = (beta - alpha)/beta , v = [1, x[1..]/(alpha - beta)]
+            double beta = - Math.copySign(Math.hypot(Math.hypot(alphaR, alphaI), norm), alphaR);
+            double tauR = (beta - alphaR) / beta;
+            double tauI = - alphaI / beta;
+            double denominatorR = alphaR - beta;
+            double denominatorI = alphaI;
+            double denominator2 = (denominatorR * denominatorR) + (denominatorI * denominatorI);
+            vr[k + 1] = 1;
+            vi[k + 1] = 0;
+            for (int i = k + 2; i < n; i++) {
+                double xr = this.real[i * n + k];
+                double xi = this.imaginary[i * n + k];
+                vr[i] = ((xr * denominatorR) + (xi * denominatorI)) / denominator2;
+                vi[i] = ((xi * denominatorR) - (xr * denominatorI)) / denominator2;
+            }
+
+            // Left: A = (I - conj(tau)*v*v^H) * A , on rows k+1 .. n-1 and columns k+1 .. n-1
+            // w = v^H * A, accumulated row by row
+            Arrays.fill(wr, k + 1, n, 0);
+            Arrays.fill(wi, k + 1, n, 0);
+            for (int i = k + 1; i < n; i++) {
+                int row = i * n;
+                for (int j = k + 1; j < n; j++) {
+                    // conj(v[i]) * A[i][j]
+                    wr[j] += (vr[i] * this.real[row + j]) + (vi[i] * this.imaginary[row + j]);
+                    wi[j] += (vr[i] * this.imaginary[row + j]) - (vi[i] * this.real[row + j]);
+                }
+            }
+            for (int i = k + 1; i < n; i++) {
+                // conj(tau) * v[i]
+                double fr = (tauR * vr[i]) + (tauI * vi[i]);
+                double fi = (tauR * vi[i]) - (tauI * vr[i]);
+                int row = i * n;
+                for (int j = k + 1; j < n; j++) {
+                    this.real[row + j] -= (fr * wr[j]) - (fi * wi[j]);
+                    this.imaginary[row + j] -= (fr * wi[j]) + (fi * wr[j]);
+                }
+            }
+
+            // Right: A = A * (I - tau*v*v^H) , on all the rows and columns k+1 .. n-1
+            for (int i = 0; i < n; i++) {
+                int row = i * n;
+                double sr = 0;
+                double si = 0;
+                for (int j = k + 1; j < n; j++) {
+                    sr += (this.real[row + j] * vr[j]) - (this.imaginary[row + j] * vi[j]);
+                    si += (this.real[row + j] * vi[j]) + (this.imaginary[row + j] * vr[j]);
+                }
+                // tau * (A*v)[i]
+                double fr = (tauR * sr) - (tauI * si);
+                double fi = (tauR * si) + (tauI * sr);
+                for (int j = k + 1; j < n; j++) {
+                    // conj(v[j])
+                    this.real[row + j] -= (fr * vr[j]) + (fi * vi[j]);
+                    this.imaginary[row + j] -= (fi * vr[j]) - (fr * vi[j]);
+                }
+            }
+
+            // Column k: [beta, 0, ..., 0]
+            this.real[(k + 1) * n + k] = beta;
+            this.imaginary[(k + 1) * n + k] = 0;
+            for (int i = k + 2; i < n; i++) {
+                this.real[i * n + k] = 0;
+                this.imaginary[i * n + k] = 0;
+            }
+        }
+    }
+
+    /**
+     * Computes the eigenvalues of the upper Hessenberg matrix, and writes them into the given arrays.
+     *
+     * @return {@code true} if all the eigenvalues converged within the maximum number of iterations
+     */
+    boolean eigenvalues(double[] eigenvalueR, double[] eigenvalueI) {
+        int n = this.n;
+        double small = Double.MIN_NORMAL * (n / ULP);
+        int maxIterations = ITERATIONS_PER_EIGENVALUE * Math.max(10, n);
+        int withoutDeflation = 0;
+        int found = 0;
+
+        int hi = n - 1;
+        while (hi >= 0) {
+            // The last unreduced block: [lo, hi]
+            int lo = hi;
+            while (lo > 0) {
+                double subdiagonal = abs1(this.real[lo * n + lo - 1], this.imaginary[lo * n + lo - 1]);
+                if (subdiagonal <= small) {
+                    break;
+                }
+                if (subdiagonal <= ULP * this.diagonalScale(lo, hi)) {
+                    break;
+                }
+                lo--;
+            }
+            if (lo > 0) {
+                this.real[lo * n + lo - 1] = 0;
+                this.imaginary[lo * n + lo - 1] = 0;
+            }
+
+            if (lo == hi) {
+                // 1x1 block: an eigenvalue
+                eigenvalueR[hi] = this.real[hi * n + hi];
+                eigenvalueI[hi] = this.imaginary[hi * n + hi];
+                found++;
+                hi--;
+                withoutDeflation = 0;
+                continue;
+            }
+            if (this.iterations >= maxIterations) {
+                return false;
+            }
+
+            double shiftR;
+            double shiftI;
+            withoutDeflation++;
+            if (withoutDeflation % EXCEPTIONAL_SHIFT_PERIOD == 0) {
+                shiftR = this.real[hi * n + hi] + 0.75 * Math.abs(this.real[hi * n + hi - 1]);
+                shiftI = this.imaginary[hi * n + hi];
+            } else {
+                double[] shift = this.wilkinsonShift(hi);
+                shiftR = shift[0];
+                shiftI = shift[1];
+            }
+            this.sweep(lo, hi, shiftR, shiftI);
+
+            double relative = abs1(this.real[hi * n + hi - 1], this.imaginary[hi * n + hi - 1])
+                / Math.max(this.diagonalScale(hi, hi), Double.MIN_NORMAL);
+            this.record(relative, found);
+        }
+        return true;
+    }
+
+    /**
+     * The scale of the subdiagonal element {@code [k][k-1]}: the moduli of its diagonal neighbours,
+     * or of its subdiagonal neighbours if they are {@code 0}.
+     */
+    private double diagonalScale(int k, int hi) {
+        int n = this.n;
+        double scale = abs1(this.real[(k - 1) * n + k - 1], this.imaginary[(k - 1) * n + k - 1])
+            + abs1(this.real[k * n + k], this.imaginary[k * n + k]);
+        if (scale == 0) {
+            if (k - 2 >= 0) {
+                scale += Math.abs(this.real[(k - 1) * n + k - 2]);
+            }
+            if (k + 1 <= hi) {
+                scale += Math.abs(this.real[(k + 1) * n + k]);
+            }
+        }
+        return scale;
+    }
+
+    /**
+     * The eigenvalue of the trailing 2x2 block {@code [[a, b], [c, d]]} closest to {@code d}:
+     * {@code d - b*c / (t + s)}, with {@code t = (a - d)/2}, {@code s = +-sqrt(t^2 + b*c)}
+     * and the sign of {@code s} which gives the larger denominator.
+     */
+    private double[] wilkinsonShift(int hi) {
+        int n = this.n;
+        double ar = this.real[(hi - 1) * n + hi - 1];
+        double ai = this.imaginary[(hi - 1) * n + hi - 1];
+        double br = this.real[(hi - 1) * n + hi];
+        double bi = this.imaginary[(hi - 1) * n + hi];
+        double cr = this.real[hi * n + hi - 1];
+        double ci = this.imaginary[hi * n + hi - 1];
+        double dr = this.real[hi * n + hi];
+        double di = this.imaginary[hi * n + hi];
+
+        double tr = (ar - dr) / 2;
+        double ti = (ai - di) / 2;
+        double bcR = (br * cr) - (bi * ci);
+        double bcI = (br * ci) + (bi * cr);
+        double discriminantR = (tr * tr) - (ti * ti) + bcR;
+        double discriminantI = (2 * tr * ti) + bcI;
+        double sr = ComplexNumbers.principalSqrtReal(discriminantR, discriminantI);
+        double si = ComplexNumbers.principalSqrtImaginary(discriminantR, discriminantI, sr);
+        if ((tr * sr) + (ti * si) < 0) {
+            sr = - sr;
+            si = - si;
+        }
+        double denominatorR = tr + sr;
+        double denominatorI = ti + si;
+        double denominator2 = (denominatorR * denominatorR) + (denominatorI * denominatorI);
+        if (denominator2 == 0) {
+            return new double[] {dr, di};
+        }
+        return new double[] {
+            dr - ((bcR * denominatorR) + (bcI * denominatorI)) / denominator2,
+            di - ((bcI * denominatorR) - (bcR * denominatorI)) / denominator2
+        };
+    }
+
+    /**
+     * An implicit single-shift QR iteration on the block {@code [lo, hi]}: the Givens rotation
+     * {@code G = [[c, s], [-conj(s), c]]} of the first column of {@code H - shift*I} creates a bulge
+     * below the subdiagonal, which the next rotations chase down to the end of the block.
+     */
+    private void sweep(int lo, int hi, double shiftR, double shiftI) {
+        int n = this.n;
+        double xr = this.real[lo * n + lo] - shiftR;
+        double xi = this.imaginary[lo * n + lo] - shiftI;
+        double yr = this.real[(lo + 1) * n + lo];
+        double yi = this.imaginary[(lo + 1) * n + lo];
+
+        for (int k = lo; k < hi; k++) {
+            if (k > lo) {
+                xr = this.real[k * n + k - 1];
+                xi = this.imaginary[k * n + k - 1];
+                yr = this.real[(k + 1) * n + k - 1];
+                yi = this.imaginary[(k + 1) * n + k - 1];
+            }
+
+            // c = |x|/nu , s = (x/|x|) * conj(y)/nu , r = (x/|x|) * nu
+            double xModulus = Math.hypot(xr, xi);
+            double nu = Math.hypot(xModulus, Math.hypot(yr, yi));
+            if (nu == 0) {
+                continue;
+            }
+            double c;
+            double sr;
+            double si;
+            double rr;
+            double ri;
+            if (xModulus == 0) {
+                c = 0;
+                sr = 1;
+                si = 0;
+                rr = yr;
+                ri = yi;
+            } else {
+                double ur = xr / xModulus;
+                double ui = xi / xModulus;
+                c = xModulus / nu;
+                sr = ((ur * yr) + (ui * yi)) / nu;
+                si = ((ui * yr) - (ur * yi)) / nu;
+                rr = ur * nu;
+                ri = ui * nu;
+            }
+            if (k > lo) {
+                this.real[k * n + k - 1] = rr;
+                this.imaginary[k * n + k - 1] = ri;
+                this.real[(k + 1) * n + k - 1] = 0;
+                this.imaginary[(k + 1) * n + k - 1] = 0;
+            }
+
+            // Rows k, k+1: [x; y] = [c*x + s*y; -conj(s)*x + c*y]
+            int row = k * n;
+            int next = row + n;
+            for (int j = k; j <= hi; j++) {
+                double ar = this.real[row + j];
+                double ai = this.imaginary[row + j];
+                double br = this.real[next + j];
+                double bi = this.imaginary[next + j];
+                this.real[row + j] = (c * ar) + (sr * br) - (si * bi);
+                this.imaginary[row + j] = (c * ai) + (sr * bi) + (si * br);
+                this.real[next + j] = (c * br) - ((sr * ar) + (si * ai));
+                this.imaginary[next + j] = (c * bi) - ((sr * ai) - (si * ar));
+            }
+
+            // Columns k, k+1: [x, y] = [c*x + conj(s)*y, -s*x + c*y]
+            int last = Math.min(k + 2, hi);
+            for (int i = lo; i <= last; i++) {
+                int index = i * n + k;
+                double ar = this.real[index];
+                double ai = this.imaginary[index];
+                double br = this.real[index + 1];
+                double bi = this.imaginary[index + 1];
+                this.real[index] = (c * ar) + (sr * br) + (si * bi);
+                this.imaginary[index] = (c * ai) + (sr * bi) - (si * br);
+                this.real[index + 1] = (c * br) - ((sr * ar) - (si * ai));
+                this.imaginary[index + 1] = (c * bi) - ((sr * ai) + (si * ar));
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+
+    private void record(double subdiagonal, int found) {
+        if (this.iterations == this.subdiagonals.length) {
+            this.subdiagonals = Arrays.copyOf(this.subdiagonals, 2 * this.iterations);
+            this.deflated = Arrays.copyOf(this.deflated, 2 * this.iterations);
+        }
+        this.subdiagonals[this.iterations] = subdiagonal;
+        this.deflated[this.iterations] = found;
+        this.iterations++;
+    }
+
+    /**
+     * Returns, for every QR iteration, the modulus of the last subdiagonal element of the block,
+     * relative to its diagonal neighbours.
+     */
+    double[] subdiagonals() {
+        return Arrays.copyOf(this.subdiagonals, this.iterations);
+    }
+
+    /**
+     * Returns, for every QR iteration, the number of eigenvalues found before it.
+     */
+    int[] deflated() {
+        return Arrays.copyOf(this.deflated, this.iterations);
+    }
+
+    private static double abs1(double real, double imaginary) {
+        return Math.abs(real) + Math.abs(imaginary);
+    }
+
+}
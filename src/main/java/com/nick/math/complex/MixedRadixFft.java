@@ -0,0 +1,318 @@
+package com.nick.math.complex;
+
+import static java.lang.Math.PI;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Mixed-radix Cooley-Tukey FFT for lengths whose prime factors are only 2, 3, 5, 7
+ * (for example 1000 = 4*2*5*5*5, or 1536 = 4*4*4*4*2*3).
+ * <p>
+ * The length is split in radices 4, 2, 3, 5, 7, and every radix is a stage of
+ * the Stockham auto-sort algorithm: each stage reads one work buffer and writes
+ * the other one, so no bit-reversal permutation is needed.
+ * Radix 2 and 4 butterflies are specialized, odd radices use the symmetry
+ * {@code cos(t) = cos(-t)}, {@code sin(t) = -sin(-t)} to halve the multiplications.
+ * <p>
+ * Twiddle factors ({@code n}-th roots of unity) are computed once,
+ * when the instance is created. Work buffers are allocated by every transform,
+ * so instances can be shared between threads.
+ * In a parallel transform, the butterflies of every stage are split in ranges.
+ *
+ * @see FftKernel
+ * @author Nicolas Scalese
+ */
+final class MixedRadixFft implements FftKernel {
+
+    private static final int[] RADICES = {4, 2, 3, 5, 7};
+
+    private final int n;
+    private final int[] factors;
+
+    // cos(2*PI*k/n) and sin(2*PI*k/n), for k in [0, n)
+    private final double[] cos;
+    private final double[] sin;
+
+
+    MixedRadixFft(int n) {
+        this(n, factorize(n));
+    }
+
+    /**
+     * Creates the kernel with the given sequence of radices, whose product must be {@code n}.
+     */
+    MixedRadixFft(int n, int[] factors) {
+        int product = 1;
+        for (int factor : factors) {
+            if (Arrays.binarySearch(new int[] {2, 3, 4, 5, 7}, factor) < 0) {
+                throw new IllegalArgumentException("Unsupported radix: " + factor);
+            }
+            product *= factor;
+        }
+        if (product != n) {
+            throw new IllegalArgumentException("Radices do not match length: " + n);
+        }
+
+        this.n = n;
+        this.factors = factors.clone();
+        this.cos = new double[n];
+        this.sin = new double[n];
+        for (int k = 0; k < n; k++) {
+            double angle = 2 * PI * k / n;
+            this.cos[k] = Math.cos(angle);
+            this.sin[k] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Returns {@code true} if {@code n} has no prime factors other than 2, 3, 5, 7.
+     */
+    static boolean isSmooth(int n) {
+        if (n <= 0) {
+            return false;
+        }
+        for (int p : new int[] {2, 3, 5, 7}) {
+            while (n % p == 0) {
+                n /= p;
+            }
+        }
+        return n == 1;
+    }
+
+    /**
+     * Splits {@code n} in radices: 4 as many times as possible, then 2, 3, 5, 7.
+     */
+    static int[] factorize(int n) {
+        if (!isSmooth(n)) {
+            throw new IllegalArgumentException("Length has prime factors greater than 7: " + n);
+        }
+
+        int[] factors = new int[32];
+        int count = 0;
+        for (int radix : RADICES) {
+            while (n % radix == 0) {
+                factors[count++] = radix;
+                n /= radix;
+            }
+        }
+        return Arrays.copyOf(factors, count);
+    }
+
+    int[] factors() {
+        return this.factors.clone();
+    }
+
+    @Override
+    public int size() {
+        return this.n;
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void transform(double[] re, int reOffset, double[] im, int imOffset, int stride, boolean inverse,
+            ForkJoinPool pool) {
+        double[] xr = new double[this.n];
+        double[] xi = new double[this.n];
+        double[] yr = new double[this.n];
+        double[] yi = new double[this.n];
+        for (int k = 0; k < this.n; k++) {
+            xr[k] = re[reOffset + k * stride];
+            xi[k] = im[imOffset + k * stride];
+        }
+
+        // Forward: w = e^(-i*2*PI*k/n) , inverse: w = e^(+i*2*PI*k/n)
+        double sign = inverse ? 1 : -1;
+        int s = 1;    // product of the radices already processed
+        for (int radix : this.factors) {
+            int m = this.n / (s * radix);
+            this.stage(xr, xi, yr, yi, m, s, radix, sign, pool);
+            s *= radix;
+
+            double[] t = xr;
+            xr = yr;
+            yr = t;
+            t = xi;
+            xi = yi;
+            yi = t;
+        }
+
+        for (int k = 0; k < this.n; k++) {
+            re[reOffset + k * stride] = xr[k];
+            im[imOffset + k * stride] = xi[k];
+        }
+    }
+
+    /*
+     * Stockham stage of radix r, on a sub-sequence of length l = r*m, with s sub-sequences:
+     *   a[t] = x[q + s*(p + t*m)]   , t in [0, r)
+     *   y[q + s*(r*p + u)] = DFT_r(a)[u] * w^(p*u*s)   , u in [0, r)
+     * for p in [0, m) and q in [0, s).
+     * The m*s butterflies are numbered b = p*s + q, and each method computes those in [from, to).
+     */
+
+    private void stage(double[] xr, double[] xi, double[] yr, double[] yi,
+            int m, int s, int radix, double sign, ForkJoinPool pool) {
+        ParallelLoop.forRange(pool, 0, m * s, GRAIN, (from, to) -> {
+            switch (radix) {
+                case 2:
+                    this.radix2Stage(xr, xi, yr, yi, m, s, sign, from, to);
+                    break;
+                case 4:
+                    this.radix4Stage(xr, xi, yr, yi, m, s, sign, from, to);
+                    break;
+                default:
+                    this.oddRadixStage(xr, xi, yr, yi, m, s, radix, sign, from, to);
+            }
+        });
+    }
+
+    private void radix2Stage(double[] xr, double[] xi, double[] yr, double[] yi,
+            int m, int s, double sign, int from, int to) {
+        for (int p = from / s; p * s < to; p++) {
+            double wr = this.cos[p * s];
+            double wi = sign * this.sin[p * s];
+            // Sub-sequences of the butterflies in [from, to)
+            int qFrom = Math.max(0, from - p * s);
+            int qTo = Math.min(s, to - p * s);
+            for (int q = qFrom; q < qTo; q++) {
+                int x0 = q + s * p;
+                int x1 = x0 + s * m;
+                int y0 = q + s * (2 * p);
+                int y1 = y0 + s;
+
+                double ar = xr[x0] - xr[x1];
+                double ai = xi[x0] - xi[x1];
+                yr[y0] = xr[x0] + xr[x1];
+                yi[y0] = xi[x0] + xi[x1];
+                yr[y1] = (ar * wr) - (ai * wi);
+                yi[y1] = (ar * wi) + (ai * wr);
+            }
+        }
+    }
+
+    private void radix4Stage(double[] xr, double[] xi, double[] yr, double[] yi,
+            int m, int s, double sign, int from, int to) {
+        for (int p = from / s; p * s < to; p++) {
+            int k = p * s;
+            double w1r = this.cos[k];
+            double w1i = sign * this.sin[k];
+            double w2r = this.cos[2 * k];
+            double w2i = sign * this.sin[2 * k];
+            double w3r = this.cos[3 * k];
+            double w3i = sign * this.sin[3 * k];
+
+            // Sub-sequences of the butterflies in [from, to)
+            int qFrom = Math.max(0, from - p * s);
+            int qTo = Math.min(s, to - p * s);
+            for (int q = qFrom; q < qTo; q++) {
+                int x0 = q + s * p;
+                int x1 = x0 + s * m;
+                int x2 = x1 + s * m;
+                int x3 = x2 + s * m;
+
+                double s02r = xr[x0] + xr[x2];
+                double s02i = xi[x0] + xi[x2];
+                double d02r = xr[x0] - xr[x2];
+                double d02i = xi[x0] - xi[x2];
+                double s13r = xr[x1] + xr[x3];
+                double s13i = xi[x1] + xi[x3];
+                // (sign * i) * (x1 - x3)
+                double d13r = - sign * (xi[x1] - xi[x3]);
+                double d13i = sign * (xr[x1] - xr[x3]);
+
+                int y0 = q + s * (4 * p);
+                yr[y0] = s02r + s13r;
+                yi[y0] = s02i + s13i;
+
+                double ar = d02r + d13r;
+                double ai = d02i + d13i;
+                yr[y0 + s] = (ar * w1r) - (ai * w1i);
+                yi[y0 + s] = (ar * w1i) + (ai * w1r);
+
+                ar = s02r - s13r;
+                ai = s02i - s13i;
+                yr[y0 + 2 * s] = (ar * w2r) - (ai * w2i);
+                yi[y0 + 2 * s] = (ar * w2i) + (ai * w2r);
+
+                ar = d02r - d13r;
+                ai = d02i - d13i;
+                yr[y0 + 3 * s] = (ar * w3r) - (ai * w3i);
+                yi[y0 + 3 * s] = (ar * w3i) + (ai * w3r);
+            }
+        }
+    }
+
+    private void oddRadixStage(double[] xr, double[] xi, double[] yr, double[] yi,
+            int m, int s, int radix, double sign, int from, int to) {
+        int half = (radix - 1) / 2;
+        // cos and sin of 2*PI*j/radix, taken from the n-th roots of unity
+        int rootStep = this.n / radix;
+
+        double[] sumR = new double[half + 1];
+        double[] sumI = new double[half + 1];
+        double[] diffR = new double[half + 1];
+        double[] diffI = new double[half + 1];
+        double[] ar = new double[radix];
+        double[] ai = new double[radix];
+
+        for (int p = from / s; p * s < to; p++) {
+            // Sub-sequences of the butterflies in [from, to)
+            int qFrom = Math.max(0, from - p * s);
+            int qTo = Math.min(s, to - p * s);
+            for (int q = qFrom; q < qTo; q++) {
+                int x0 = q + s * p;
+                for (int t = 1; t <= half; t++) {
+                    int xt = x0 + s * m * t;
+                    int xrt = x0 + s * m * (radix - t);
+                    sumR[t] = xr[xt] + xr[xrt];
+                    sumI[t] = xi[xt] + xi[xrt];
+                    diffR[t] = xr[xt] - xr[xrt];
+                    diffI[t] = xi[xt] - xi[xrt];
+                }
+
+                // A[0] = sum of all a[t]
+                double a0r = xr[x0];
+                double a0i = xi[x0];
+                ar[0] = a0r;
+                ai[0] = a0i;
+                for (int t = 1; t <= half; t++) {
+                    ar[0] += sumR[t];
+                    ai[0] += sumI[t];
+                }
+
+                // A[u] , A[radix-u] = a[0] + sum( s[t]*cos(t*u) ) +- (sign*i) * sum( d[t]*sin(t*u) )
+                for (int u = 1; u <= half; u++) {
+                    double cr = a0r;
+                    double ci = a0i;
+                    double sr = 0;
+                    double si = 0;
+                    for (int t = 1; t <= half; t++) {
+                        int j = ((t * u) % radix) * rootStep;
+                        cr += sumR[t] * this.cos[j];
+                        ci += sumI[t] * this.cos[j];
+                        sr += diffR[t] * this.sin[j];
+                        si += diffI[t] * this.sin[j];
+                    }
+                    // (sign * i) * (sr + i*si) = - sign*si + i*sign*sr
+                    ar[u] = cr - sign * si;
+                    ai[u] = ci + sign * sr;
+                    ar[radix - u] = cr + sign * si;
+                    ai[radix - u] = ci - sign * sr;
+                }
+
+                int y0 = q + s * (radix * p);
+                yr[y0] = ar[0];
+                yi[y0] = ai[0];
+                for (int u = 1; u < radix; u++) {
+                    int k = p * u * s;
+                    double wr = this.cos[k];
+                    double wi = sign * this.sin[k];
+                    yr[y0 + u * s] = (ar[u] * wr) - (ai[u] * wi);
+                    yi[y0 + u * s] = (ar[u] * wi) + (ai[u] * wr);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.nick.math.complex;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Discrete Fourier transform of multidimensional sequences, stored in
+ * row-major order (the last index varies fastest), as in {@code numpy.fft.fftn}.
+ * <p>
+ * The transform is separable: every axis is transformed in turn, line by line,
+ * with the {@link FftPlan} of its length. Lines along the last axis are contiguous,
+ * and are transformed in place; lines along the other axes are copied to
+ * a contiguous buffer, transformed, and copied back, to avoid cache misses.
+ * The whole sequence is scaled once, at the end, by the factor of its total length.
+ * <p>
+ * In a parallel transform, the lines of every axis are divided between the threads;
+ * an axis with a single line (a one-dimensional sequence) uses the parallel kernel.
+ * Each line is transformed by the same code in any case, so the results
+ * do not depend on the number of threads.
+ *
+ * @see FastFourierTransform
+ * @see ParallelFft
+ * @author Nicolas Scalese
+ */
+final class MultidimensionalFft {
+
+    private MultidimensionalFft() {}
+
+    // -------------------------------------------------------------------------
+
+    static void transform(double[] re, double[] im, int[] shape, boolean inverse,
+            FftNormalization normalization, ForkJoinPool pool) {
+        FftPlan.validateSplit(re, im);
+        validateShape(shape, re.length);
+        if (normalization == null) {
+            throw new NullPointerException();
+        }
+
+        int total = re.length;
+        int stride = total;
+        for (int length : shape) {
+            // Lines of this axis: 'outer' blocks of 'stride' elements, each one with 'inner' lines
+            int outer = total / stride;
+            stride /= length;
+            int inner = stride;
+            if (length > 1) {
+                transformAxis(re, im, length, outer, inner, inverse, pool);
+            }
+        }
+        FftPlan.scale(re, 0, im, 0, 1, total, normalization.scaleFactor(total, inverse), pool);
+    }
+
+    private static void transformAxis(double[] re, double[] im, int length, int outer, int inner,
+            boolean inverse, ForkJoinPool pool) {
+        FftPlan plan = FftPlan.of(length, inverse);
+        int lines = outer * inner;
+        if (lines == 1) {
+            plan.transformUnscaled(re, 0, im, 0, 1, pool);
+            return;
+        }
+
+        int grain = Math.max(1, FftKernel.GRAIN / length);
+        ParallelLoop.forRange(pool, 0, lines, grain, (from, to) -> {
+            double[] lineRe = (inner == 1) ? null : new double[length];
+            double[] lineIm = (inner == 1) ? null : new double[length];
+            for (int line = from; line < to; line++) {
+                int offset = (line / inner) * length * inner + (line % inner);
+                if (inner == 1) {
+                    plan.transformUnscaled(re, offset, im, offset, 1, null);
+                    continue;
+                }
+                for (int k = 0; k < length; k++) {
+                    lineRe[k] = re[offset + k * inner];
+                    lineIm[k] = im[offset + k * inner];
+                }
+                plan.transformUnscaled(lineRe, 0, lineIm, 0, 1, null);
+                for (int k = 0; k < length; k++) {
+                    re[offset + k * inner] = lineRe[k];
+                    im[offset + k * inner] = lineIm[k];
+                }
+            }
+        });
+    }
+
+    private static void validateShape(int[] shape, int length) {
+        if (shape == null) {
+            throw new NullPointerException();
+        }
+        if (shape.length == 0) {
+            throw new IllegalArgumentException("Shape must have at least one dimension.");
+        }
+        long product = 1;
+        for (int dimension : shape) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimensions must be positive.");
+            }
+            product *= dimension;
+            if (product > length) {
+                break;
+            }
+        }
+        if (product != length) {
+            throw new IllegalArgumentException("Shape does not match the length of the arrays: " + length);
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package com.nick.math.complex;
+
+/**
+ * A mutable complex number in cartesian form, for loops which combine many values:
+ * every operation overwrites this instance, so it allocates no objects.
+ * <p>
+ * It is not a {@link Complex}, whose instances are immutable: use {@link #toComplex()}
+ * to get the final result of the computation.
+ * <pre>{@code
+ * MutableComplex sum = new MutableComplex();
+ * for (int i = 0; i < n; i++) {
+ *     sum.fmaInPlace(a[i], b[i]);    // sum += a[i] * b[i]
+ * }
+ * Complex result = sum.toComplex();
+ * }</pre>
+ * <p>
+ * @apiNote
+ * Operations use the same formulas of {@link Complex#plus(Complex)},
+ * {@link Complex#multiplyBy(Complex)} and {@link Complex#divideBy(Complex)} in cartesian form,
+ * without their special cases (for example, multiplications by {@code 1}).
+ * Methods return this instance, to allow chaining.
+ * Instances are not thread-safe.
+ *
+ * @see Complex
+ * @see ComplexArray
+ * @author Nicolas Scalese
+ */
+public final class MutableComplex {
+
+    private double real;
+    private double imaginary;
+
+
+    /**
+     * Creates a {@code MutableComplex} equal to {@code 0 + 0i}.
+     */
+    public MutableComplex() {
+        this(0, 0);
+    }
+
+    public MutableComplex(double real, double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    public MutableComplex(Complex complex) {
+        this(complex.realValue(), complex.imaginaryValue());
+    }
+
+    // -------------------------------------------------------------------------
+
+    public double realValue() {
+        return this.real;
+    }
+
+    public double imaginaryValue() {
+        return this.imaginary;
+    }
+
+    public MutableComplex set(double real, double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+        return this;
+    }
+
+    public MutableComplex set(Complex complex) {
+        return this.set(complex.realValue(), complex.imaginaryValue());
+    }
+
+    public MutableComplex set(MutableComplex other) {
+        return this.set(other.real, other.imaginary);
+    }
+
+    /**
+     * Returns an immutable {@link Complex}, in cartesian form, with the current value.
+     */
+    public Complex toComplex() {
+        return new CartesianComplexDouble(this.real, this.imaginary);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@code this = this + (real + i*imaginary)}
+     */
+    public MutableComplex addInPlace(double real, double imaginary) {
+        this.real += real;
+        this.imaginary += imaginary;
+        return this;
+    }
+
+    /**
+     * {@code this = this + complex}
+     */
+    public MutableComplex addInPlace(Complex complex) {
+        return this.addInPlace(complex.realValue(), complex.imaginaryValue());
+    }
+
+    /**
+     * {@code this = this + other}
+     */
+    public MutableComplex addInPlace(MutableComplex other) {
+        return this.addInPlace(other.real, other.imaginary);
+    }
+
+    /**
+     * {@code this = this - (real + i*imaginary)}
+     */
+    public MutableComplex subtractInPlace(double real, double imaginary) {
+        this.real -= real;
+        this.imaginary -= imaginary;
+        return this;
+    }
+
+    /**
+     * {@code this = this - complex}
+     */
+    public MutableComplex subtractInPlace(Complex complex) {
+        return this.subtractInPlace(complex.realValue(), complex.imaginaryValue());
+    }
+
+    /**
+     * {@code this = this - other}
+     */
+    public MutableComplex subtractInPlace(MutableComplex other) {
+        return this.subtractInPlace(other.real, other.imaginary);
+    }
+
+    /**
+     * {@code this = this * (real + i*imaginary)}
+     */
+    public MutableComplex mulInPlace(double real, double imaginary) {
+        double a1 = this.real;
+        double b1 = this.imaginary;
+        this.real = (a1 * real) - (b1 * imaginary);
+        this.imaginary = (a1 * imaginary) + (real * b1);
+        return this;
+    }
+
+    /**
+     * {@code this = this * complex}
+     */
+    public MutableComplex mulInPlace(Complex complex) {
+        return this.mulInPlace(complex.realValue(), complex.imaginaryValue());
+    }
+
+    /**
+     * {@code this = this * other}
+     */
+    public MutableComplex mulInPlace(MutableComplex other) {
+        return this.mulInPlace(other.real, other.imaginary);
+    }
+
+    /**
+     * {@code this = this * amount}
+     */
+    public MutableComplex mulByRealInPlace(double amount) {
+        this.real *= amount;
+        this.imaginary *= amount;
+        return this;
+    }
+
+    /**
+     * {@code this = this + (ar + i*ai) * (br + i*bi)}, with fused multiply-add operations:
+     * each part is rounded twice, instead of 3 times.
+     */
+    public MutableComplex fmaInPlace(double ar, double ai, double br, double bi) {
+        this.real = Math.fma(ar, br, Math.fma(- ai, bi, this.real));
+        this.imaginary = Math.fma(ar, bi, Math.fma(ai, br, this.imaginary));
+        return this;
+    }
+
+    /**
+     * {@code this = this + c1 * c2}, with fused multiply-add operations.
+     *
+     * @see #fmaInPlace(double, double, double, double)
+     */
+    public MutableComplex fmaInPlace(Complex c1, Complex c2) {
+        return this.fmaInPlace(c1.realValue(), c1.imaginaryValue(), c2.realValue(), c2.imaginaryValue());
+    }
+
+    /**
+     * {@code this = this / (real + i*imaginary)}
+     *
+     * @throws ArithmeticException if the divisor is {@code 0 + 0i}:
+     *         in that case, this instance is not modified
+     */
+    public MutableComplex divInPlace(double real, double imaginary) {
+        if ((real == 0) && (imaginary == 0)) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+
+        double a1 = this.real;
+        double b1 = this.imaginary;
+        double real2plusImg2 = (real * real) + (imaginary * imaginary);
+        this.real = ((a1 * real) + (b1 * imaginary)) / real2plusImg2;
+        this.imaginary = ((b1 * real) - (a1 * imaginary)) / real2plusImg2;
+        return this;
+    }
+
+    /**
+     * {@code this = this / complex}
+     *
+     * @throws ArithmeticException if {@code complex} is {@code 0 + 0i}:
+     *         in that case, this instance is not modified
+     */
+    public MutableComplex divInPlace(Complex complex) {
+        return this.divInPlace(complex.realValue(), complex.imaginaryValue());
+    }
+
+    /**
+     * {@code this = this / other}
+     *
+     * @throws ArithmeticException if {@code other} is {@code 0 + 0i}:
+     *         in that case, this instance is not modified
+     */
+    public MutableComplex divInPlace(MutableComplex other) {
+        return this.divInPlace(other.real, other.imaginary);
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public String toString() {
+        return this.toComplex().cartesianForm();
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.nick.math.complex;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes discrete Fourier transforms with the threads of a {@link ForkJoinPool}.
+ * <p>
+ * The methods have the same meaning of the ones of {@link FastFourierTransform}:
+ * <ul>
+ *   <li> One-dimensional transforms: </li>
+ *        the butterflies of every stage of the algorithm are divided between the threads,
+ *        and the stages are executed one after the other.
+ *   <li> Multidimensional transforms: </li>
+ *        the lines (rows, columns, ...) of every axis are divided between the threads.
+ * </ul>
+ * Sequences shorter than the parallelism threshold are transformed in the calling thread,
+ * because the synchronization would cost more than the transform.
+ * The default threshold is {@value #DEFAULT_THRESHOLD} complex numbers,
+ * or the value of the system property {@value #THRESHOLD_PROPERTY}.
+ *
+ * @apiNote
+ * The results are the same, bit for bit, of the single-threaded transforms of
+ * {@link FastFourierTransform}: every butterfly is computed by the same code,
+ * with the same operands, whichever thread executes it.
+ *
+ * @see FastFourierTransform
+ * @see FftPlan
+ * @author Nicolas Scalese
+ */
+public final class ParallelFft {
+
+    /**
+     * The system property with the default parallelism threshold.
+     */
+    public static final String THRESHOLD_PROPERTY = "com.nick.math.complex.fft.parallelThreshold";
+
+    static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+
+    /**
+     * Creates an instance which uses the common pool, with the default threshold.
+     */
+    public ParallelFft() {
+        this(ForkJoinPool.commonPool(), defaultThreshold());
+    }
+
+    /**
+     * Creates an instance which uses the given pool and threshold.
+     *
+     * @param pool the threads which compute the transforms
+     * @param threshold the minimum length of a sequence transformed in parallel
+     * @throws NullPointerException if {@code pool} is {@code null}
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    public ParallelFft(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    private static int defaultThreshold() {
+        try {
+            return Math.max(1, Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD));
+        } catch (SecurityException e) {
+            return DEFAULT_THRESHOLD;
+        }
+    }
+
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    public int threshold() {
+        return this.threshold;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the forward transform of the given sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     * @see FastFourierTransform#transform(double[], double[])
+     */
+    public void transform(double[] real, double[] imaginary) {
+        this.transform(real, imaginary, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the forward transform of the given sequence, in place.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     * @see FastFourierTransform#transform(double[], double[], FftNormalization)
+     */
+    public void transform(double[] real, double[] imaginary, FftNormalization normalization) {
+        FftPlan.validateSplit(real, imaginary);
+        FftPlan.of(real.length, false).execute(real, 0, imaginary, 0, 1, normalization, this.poolFor(real.length));
+    }
+
+    /**
+     * Computes the inverse transform of the given sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @throws NullPointerException if either array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     * @see FastFourierTransform#inverseTransform(double[], double[])
+     */
+    public void inverseTransform(double[] real, double[] imaginary) {
+        this.inverseTransform(real, imaginary, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the inverse transform of the given sequence, in place.
+     *
+     * @param real the real parts of the sequence
+     * @param imaginary the imaginary parts of the sequence
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or they are empty
+     * @see FastFourierTransform#inverseTransform(double[], double[], FftNormalization)
+     */
+    public void inverseTransform(double[] real, double[] imaginary, FftNormalization normalization) {
+        FftPlan.validateSplit(real, imaginary);
+        FftPlan.of(real.length, true).execute(real, 0, imaginary, 0, 1, normalization, this.poolFor(real.length));
+    }
+
+    /**
+     * Computes the forward transform of the given {@link ComplexArray}, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param array the sequence to transform
+     * @return the same {@code array}, holding its transform
+     * @throws IllegalArgumentException if {@code array} is empty
+     */
+    public ComplexArray transform(ComplexArray array) {
+        this.transform(array.realArray(), array.imaginaryArray());
+        return array;
+    }
+
+    /**
+     * Computes the inverse transform of the given {@link ComplexArray}, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param array the sequence to transform
+     * @return the same {@code array}, holding its inverse transform
+     * @throws IllegalArgumentException if {@code array} is empty
+     */
+    public ComplexArray inverseTransform(ComplexArray array) {
+        this.inverseTransform(array.realArray(), array.imaginaryArray());
+        return array;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the forward transform of the given multidimensional sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param real the real parts of the sequence, in row-major order
+     * @param imaginary the imaginary parts of the sequence, in row-major order
+     * @param shape the length of every dimension
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     * @see FastFourierTransform#transformND(double[], double[], int[])
+     */
+    public void transformND(double[] real, double[] imaginary, int[] shape) {
+        this.transformND(real, imaginary, shape, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the forward transform of the given multidimensional sequence, in place.
+     *
+     * @param real the real parts of the sequence, in row-major order
+     * @param imaginary the imaginary parts of the sequence, in row-major order
+     * @param shape the length of every dimension
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     * @see FastFourierTransform#transformND(double[], double[], int[], FftNormalization)
+     */
+    public void transformND(double[] real, double[] imaginary, int[] shape, FftNormalization normalization) {
+        FftPlan.validateSplit(real, imaginary);
+        MultidimensionalFft.transform(real, imaginary, shape, false, normalization, this.poolFor(real.length));
+    }
+
+    /**
+     * Computes the inverse transform of the given multidimensional sequence, in place,
+     * with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param real the real parts of the sequence, in row-major order
+     * @param imaginary the imaginary parts of the sequence, in row-major order
+     * @param shape the length of every dimension
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     * @see FastFourierTransform#inverseTransformND(double[], double[], int[])
+     */
+    public void inverseTransformND(double[] real, double[] imaginary, int[] shape) {
+        this.inverseTransformND(real, imaginary, shape, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the inverse transform of the given multidimensional sequence, in place.
+     *
+     * @param real the real parts of the sequence, in row-major order
+     * @param imaginary the imaginary parts of the sequence, in row-major order
+     * @param shape the length of every dimension
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths,
+     *         or the product of the dimensions is not their length
+     * @see FastFourierTransform#inverseTransformND(double[], double[], int[], FftNormalization)
+     */
+    public void inverseTransformND(double[] real, double[] imaginary, int[] shape, FftNormalization normalization) {
+        FftPlan.validateSplit(real, imaginary);
+        MultidimensionalFft.transform(real, imaginary, shape, true, normalization, this.poolFor(real.length));
+    }
+
+    // -------------------------------------------------------------------------
+
+    private ForkJoinPool poolFor(int n) {
+        return (n >= this.threshold) ? this.pool : null;
+    }
+
+}
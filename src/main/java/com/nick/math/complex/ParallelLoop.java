@@ -0,0 +1,65 @@
+package com.nick.math.complex;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A loop over the indexes {@code [from, to)}, split in ranges of at most
+ * {@code grain} indexes which are executed by the threads of a {@link ForkJoinPool}.
+ * <p>
+ * Every index is processed exactly once, by the same code of the sequential loop,
+ * so the results do not depend on the number of threads, as long as the body
+ * writes disjoint elements for disjoint ranges.
+ *
+ * @author Nicolas Scalese
+ */
+final class ParallelLoop extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The body of the loop, which processes the indexes in range: {@code [from, to)}.
+     */
+    @FunctionalInterface
+    interface Body {
+        void run(int from, int to);
+    }
+
+    private final int from;
+    private final int to;
+    private final int grain;
+    private final transient Body body;
+
+
+    private ParallelLoop(int from, int to, int grain, Body body) {
+        this.from = from;
+        this.to = to;
+        this.grain = grain;
+        this.body = body;
+    }
+
+    /**
+     * Runs the loop in the given pool, and waits for its completion.
+     * If {@code pool} is {@code null}, or the range is not larger than {@code grain},
+     * the loop runs in the calling thread.
+     */
+    static void forRange(ForkJoinPool pool, int from, int to, int grain, Body body) {
+        if ((pool == null) || (to - from <= grain)) {
+            body.run(from, to);
+        } else {
+            pool.invoke(new ParallelLoop(from, to, Math.max(1, grain), body));
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (this.to - this.from <= this.grain) {
+            this.body.run(this.from, this.to);
+            return;
+        }
+        int middle = (this.from + this.to) >>> 1;
+        invokeAll(new ParallelLoop(this.from, middle, this.grain, this.body),
+                  new ParallelLoop(middle, this.to, this.grain, this.body));
+    }
+
+}
@@ -0,0 +1,363 @@
+package com.nick.math.complex;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes sums and products of many complex numbers with the threads of a {@link ForkJoinPool}.
+ * <p>
+ * The values are split in chunks, which are reduced on primitive real and imaginary parts:
+ * <ul>
+ *   <li> Sums: </li>
+ *        every chunk computes a Neumaier compensated sum, and the partial sums are
+ *        combined together with their compensations, so the result has the accuracy
+ *        of {@link SummationAlgorithm#NEUMAIER}.
+ *   <li> Products: </li>
+ *        every chunk computes a {@link ComplexProduct}, which never overflows nor underflows,
+ *        and the partial products are multiplied together.
+ * </ul>
+ * The {@link ReductionMode} chooses the chunks: {@link ReductionMode#FAST} adapts them to the
+ * parallelism of the pool, {@link ReductionMode#REPRODUCIBLE} uses chunks of fixed length
+ * and a fixed order of the partial results, so the result does not depend on the pool, on the number
+ * of threads nor on the threshold (but it may depend on the platform, see {@link ReductionMode}).
+ * <p>
+ * Sequences shorter than the parallelism threshold are reduced in the calling thread.
+ * The default threshold is {@value #DEFAULT_THRESHOLD} complex numbers,
+ * or the value of the system property {@value #THRESHOLD_PROPERTY}.
+ *
+ * @apiNote
+ * Collections are copied into an array, to be split between the threads.
+ * Unlike {@link ComplexNumbers#multiplyAll(Complex...)}, every factor of a product is
+ * multiplied in its own representation, so the result does not depend on the first value.
+ *
+ * @see ComplexNumbers#sumAll(Complex...)
+ * @see ComplexNumbers#multiplyAll(Complex...)
+ * @author Nicolas Scalese
+ */
+public final class ParallelReduction {
+
+    /**
+     * The system property with the default parallelism threshold.
+     */
+    public static final String THRESHOLD_PROPERTY = "com.nick.math.complex.reduction.parallelThreshold";
+
+    static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /**
+     * The length of the chunks of {@link ReductionMode#REPRODUCIBLE} reductions,
+     * and the minimum length of the chunks of {@link ReductionMode#FAST} ones.
+     */
+    static final int CHUNK = 1 << 12;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final ReductionMode mode;
+
+
+    /**
+     * Creates an instance which uses the common pool, with the default threshold
+     * and {@link ReductionMode#FAST} mode.
+     */
+    public ParallelReduction() {
+        this(ReductionMode.FAST);
+    }
+
+    /**
+     * Creates an instance which uses the common pool, with the default threshold.
+     *
+     * @param mode how the values are divided between the threads
+     * @throws NullPointerException if {@code mode} is {@code null}
+     */
+    public ParallelReduction(ReductionMode mode) {
+        this(ForkJoinPool.commonPool(), defaultThreshold(), mode);
+    }
+
+    /**
+     * Creates an instance which uses the given pool, threshold and mode.
+     *
+     * @param pool the threads which compute the reductions
+     * @param threshold the minimum length of a sequence reduced in parallel
+     * @param mode how the values are divided between the threads
+     * @throws NullPointerException if {@code pool} or {@code mode} is {@code null}
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    public ParallelReduction(ForkJoinPool pool, int threshold, ReductionMode mode) {
+        if ((pool == null) || (mode == null)) {
+            throw new NullPointerException();
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.mode = mode;
+    }
+
+    private static int defaultThreshold() {
+        try {
+            return Math.max(1, Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD));
+        } catch (SecurityException e) {
+            return DEFAULT_THRESHOLD;
+        }
+    }
+
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    public int threshold() {
+        return this.threshold;
+    }
+
+    public ReductionMode mode() {
+        return this.mode;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Sums
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the sum of all the provided {@link Complex} numbers.
+     *
+     * @param complex the complex numbers to sum
+     * @return the sum, in Cartesian form, or {@code 0 + 0i} if there are no values
+     * @throws NullPointerException if the array, or one of its elements, is {@code null}
+     * @see ComplexNumbers#sumAll(Complex...)
+     */
+    public Complex sumAll(Complex... complex) {
+        if (complex == null) {
+            throw new NullPointerException();
+        }
+        return total(this.reduce(complex.length, (from, to) -> {
+            double[] sum = new double[4];
+            for (int i = from; i < to; i++) {
+                SummationAlgorithm.neumaierAdd(sum, complex[i].realValue(), complex[i].imaginaryValue());
+            }
+            return sum;
+        }, ParallelReduction::combineSums, new double[4]));
+    }
+
+    /**
+     * Computes the sum of all the provided {@link Complex} numbers, in iteration order.
+     *
+     * @param complexNumbers a collection of complex numbers
+     * @return the sum, in Cartesian form, or {@code 0 + 0i} if there are no values
+     * @throws NullPointerException if the collection, or one of its elements, is {@code null}
+     * @see ComplexNumbers#sumAll(Collection)
+     */
+    public Complex sumAll(Collection<Complex> complexNumbers) {
+        if (complexNumbers == null) {
+            throw new NullPointerException();
+        }
+        return this.sumAll(complexNumbers.toArray(new Complex[0]));
+    }
+
+    /**
+     * Computes the sum of all the values of the given {@link ComplexArray}.
+     *
+     * @param array the values to sum
+     * @return the sum, in Cartesian form, or {@code 0 + 0i} if the array is empty
+     * @throws NullPointerException if {@code array} is {@code null}
+     * @see ComplexArray#sum(SummationAlgorithm)
+     */
+    public Complex sum(ComplexArray array) {
+        double[] real = array.realArray();
+        double[] imaginary = array.imaginaryArray();
+        return total(this.reduce(real.length, (from, to) -> {
+            double[] sum = new double[4];
+            for (int i = from; i < to; i++) {
+                SummationAlgorithm.neumaierAdd(sum, real[i], imaginary[i]);
+            }
+            return sum;
+        }, ParallelReduction::combineSums, new double[4]));
+    }
+
+    // -------------------------------------------------------------------------
+    //  Products
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the product of all the provided {@link Complex} numbers.
+     * Every chunk computes a {@link ComplexProduct}, so intermediate products never overflow
+     * nor underflow.
+     *
+     * @param complex the complex numbers to multiply
+     * @return the product, as returned by {@link ComplexProduct#toComplex()}
+     * @throws NullPointerException if the array, or one of its elements, is {@code null}
+     * @throws UnsupportedOperationException if there are no values
+     * @see ComplexNumbers#multiplyAllScaled(Complex...)
+     */
+    public Complex multiplyAll(Complex... complex) {
+        if (complex == null) {
+            throw new NullPointerException();
+        }
+        if (complex.length == 0) {
+            throw new UnsupportedOperationException("Product for empty collection of complex numbers is not supported.");
+        }
+        return this.reduce(complex.length, (from, to) -> {
+            ComplexProduct partial = new ComplexProduct();
+            for (int i = from; i < to; i++) {
+                partial.multiply(complex[i]);
+            }
+            return partial;
+        }, ComplexProduct::multiply, null).toComplex();
+    }
+
+    /**
+     * Computes the product of all the provided {@link Complex} numbers, in iteration order.
+     *
+     * @param complexNumbers a collection of complex numbers
+     * @return the product, as returned by {@link ComplexProduct#toComplex()}
+     * @throws NullPointerException if the collection, or one of its elements, is {@code null}
+     * @throws UnsupportedOperationException if the collection is empty
+     * @see ComplexNumbers#multiplyAllScaled(Collection)
+     */
+    public Complex multiplyAll(Collection<Complex> complexNumbers) {
+        if (complexNumbers == null) {
+            throw new NullPointerException();
+        }
+        return this.multiplyAll(complexNumbers.toArray(new Complex[0]));
+    }
+
+    /**
+     * Computes the product of all the values of the given {@link ComplexArray}.
+     * Every chunk computes a {@link ComplexProduct}, so intermediate products never overflow
+     * nor underflow.
+     *
+     * @param array the values to multiply
+     * @return the product, in Cartesian form
+     * @throws NullPointerException if {@code array} is {@code null}
+     * @throws UnsupportedOperationException if the array is empty
+     */
+    public Complex product(ComplexArray array) {
+        double[] real = array.realArray();
+        double[] imaginary = array.imaginaryArray();
+        if (real.length == 0) {
+            throw new UnsupportedOperationException("Product for empty collection of complex numbers is not supported.");
+        }
+        return this.reduce(real.length, (from, to) -> {
+            ComplexProduct partial = new ComplexProduct();
+            for (int i = from; i < to; i++) {
+                partial.multiply(real[i], imaginary[i]);
+            }
+            return partial;
+        }, ComplexProduct::multiply, null).toComplex();
+    }
+
+    // -------------------------------------------------------------------------
+    //  Partial sums
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds two Neumaier partial sums: {@code [real, imaginary, realCompensation, imaginaryCompensation]}.
+     * The digits lost by the sum of the partial sums are added to the compensations.
+     */
+    private static double[] combineSums(double[] left, double[] right) {
+        left[2] += right[2];
+        left[3] += right[3];
+        SummationAlgorithm.neumaierAdd(left, right[0], right[1]);
+        return left;
+    }
+
+    private static Complex total(double[] sum) {
+        return new CartesianComplexDouble(SummationAlgorithm.neumaierTotal(sum[0], sum[2]),
+                                          SummationAlgorithm.neumaierTotal(sum[1], sum[3]));
+    }
+
+    // -------------------------------------------------------------------------
+    //  Reduction tree
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reduces the values of a range of indexes: {@code [from, to)}.
+     */
+    @FunctionalInterface
+    private interface Leaf<T> {
+        T reduce(int from, int to);
+    }
+
+    /**
+     * Combines the partial results of 2 adjacent ranges, the left one first.
+     * It may overwrite and return {@code left}.
+     */
+    @FunctionalInterface
+    private interface Combiner<T> {
+        T combine(T left, T right);
+    }
+
+    /**
+     * Reduces the indexes {@code [0, n)}: the range is halved, recursively,
+     * until the length of the chunks; the partial results are combined in the same order,
+     * so the result depends only on {@code n} and on the length of the chunks.
+     */
+    private <T> T reduce(int n, Leaf<T> leaf, Combiner<T> combiner, T empty) {
+        if (n == 0) {
+            return empty;
+        }
+
+        boolean parallel = (n >= this.threshold);
+        int grain;
+        if (this.mode == ReductionMode.REPRODUCIBLE) {
+            grain = CHUNK;
+        } else if (parallel) {
+            // About 4 chunks for every thread, to balance the load
+            int chunks = 4 * this.pool.getParallelism();
+            grain = Math.max(CHUNK, (n + chunks - 1) / chunks);
+        } else {
+            grain = n;
+        }
+
+        if (parallel && (n > grain)) {
+            return this.pool.invoke(new Task<>(0, n, grain, leaf, combiner));
+        }
+        return sequential(0, n, grain, leaf, combiner);
+    }
+
+    private static <T> T sequential(int from, int to, int grain, Leaf<T> leaf, Combiner<T> combiner) {
+        if (to - from <= grain) {
+            return leaf.reduce(from, to);
+        }
+        int middle = (from + to) >>> 1;
+        T left = sequential(from, middle, grain, leaf, combiner);
+        return combiner.combine(left, sequential(middle, to, grain, leaf, combiner));
+    }
+
+    /**
+     * The same tree of {@link #sequential(int, int, int, Leaf, Combiner)}, with the left halves
+     * computed by other threads.
+     */
+    private static final class Task<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final transient Leaf<T> leaf;
+        private final transient Combiner<T> combiner;
+
+
+        Task(int from, int to, int grain, Leaf<T> leaf, Combiner<T> combiner) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.leaf = leaf;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected T compute() {
+            if (this.to - this.from <= this.grain) {
+                return this.leaf.reduce(this.from, this.to);
+            }
+            int middle = (this.from + this.to) >>> 1;
+            Task<T> left = new Task<>(this.from, middle, this.grain, this.leaf, this.combiner);
+            left.fork();
+            T right = new Task<>(middle, this.to, this.grain, this.leaf, this.combiner).compute();
+            return this.combiner.combine(left.join(), right);
+        }
+    }
+
+}
@@ -15,10 +15,17 @@ import static java.lang.Math.PI;
  * @see AbstractComplexDouble
  * @author Nicolas Scalese
  */
-class PolarComplexDouble extends AbstractComplexDouble {
+final class PolarComplexDouble extends AbstractComplexDouble {
     
     private final double modulus;
     private final double argument;
+    /**
+     * The cartesian parts, computed on first use: {@code null} until then.
+     * Racy single-check idiom: threads may compute it more than once, always with the same value,
+     * and the final fields of {@link CartesianParts} make every published instance fully initialized.
+     * Transient: a deserialized value computes it again on first use.
+     */
+    private transient CartesianParts cartesianParts;
     
     
     public PolarComplexDouble(Complex complex) {
@@ -37,18 +44,17 @@ class PolarComplexDouble extends AbstractComplexDouble {
         }
         
         this.modulus = modulus;
-        
-        angle = angle % (2 * PI);
-        // Move the angle in range: (-PI, PI] , if necessary
-        if (angle == PI || angle == -PI) {
-            this.argument = PI;
-        } else if (angle > PI) {
-            this.argument = angle - (2 * PI);
-        } else if (angle < -PI) {
-            this.argument = angle + (2 * PI); 
-        } else {
-            this.argument = angle;
-        }
+        this.argument = normalizeAngle(angle);
+    }
+    
+    /**
+     * Creates a polar value without validation, for the unchecked arithmetic: the modulus is stored
+     * as it is, also {@code 0}, and the angle is only reduced to the main argument.
+     * The {@code unchecked} flag only tells this constructor from the checked one.
+     */
+    private PolarComplexDouble(double modulus, double angle, boolean unchecked) {
+        this.modulus = modulus;
+        this.argument = normalizeAngle(angle);
     }
     
     public PolarComplexDouble(double real) {
@@ -61,16 +67,53 @@ class PolarComplexDouble extends AbstractComplexDouble {
         }
     }
     
+    /**
+     * Moves the given angle in range: {@code (-PI, PI]}, the range of the main argument,
+     * modulo the exact {@code 2*pi} even for huge angles.
+     * 
+     * @param angle an angle in radians
+     * @return the equivalent main argument
+     * @see AngleReduction
+     */
+    static double normalizeAngle(double angle) {
+        return AngleReduction.mainArgument(angle);
+    }
+    
     // -------------------------------------------------------------------------
 
+    /**
+     * The real and imaginary parts of a polar complex number, computed together.
+     */
+    private static final class CartesianParts {
+
+        final double real;
+        final double imaginary;
+
+
+        CartesianParts(double modulus, double argument) {
+            this.real = modulus * Math.cos(argument);
+            this.imaginary = modulus * Math.sin(argument);
+        }
+
+    }
+
+    private CartesianParts cartesianParts() {
+        CartesianParts parts = this.cartesianParts;
+        if (parts == null) {
+            parts = new CartesianParts(this.modulus, this.argument);
+            this.cartesianParts = parts;
+        }
+        return parts;
+    }
+
     @Override
     public double realValue() {
-        return (this.modulus * Math.cos(this.argument));
+        return this.cartesianParts().real;
     }
 
     @Override
     public double imaginaryValue() {
-        return (this.modulus * Math.sin(this.argument));
+        return this.cartesianParts().imaginary;
     }
 
     @Override
@@ -157,6 +200,20 @@ class PolarComplexDouble extends AbstractComplexDouble {
     
     @Override
     public Complex multiplyBy(Complex complex) {
+        if (complex instanceof PolarComplexDouble) {
+            // Polar * polar: the same cases on the fields of a final class, with no call through the interface
+            PolarComplexDouble other = (PolarComplexDouble) complex;
+            if (this.isZero() || other.isZero()) {
+                return ZERO_COMPLEX_POLAR;
+            }
+            if (this.isOne()) {
+                return other;
+            }
+            if (other.isOne()) {
+                return this;
+            }
+            return this.multiplyBy(other.modulus, other.argument);
+        }
         if (this.isZero() || complex.isZero()) {
             return ZERO_COMPLEX_POLAR; 
         }
@@ -170,6 +227,11 @@ class PolarComplexDouble extends AbstractComplexDouble {
         return this.multiplyBy(complex.modulusValue(), complex.mainArgumentValue());
     }
 
+    @Override
+    public Complex multiplyByUnchecked(Complex complex) {
+        return new PolarComplexDouble(this.modulus * complex.modulusValue(), this.argument + complex.mainArgumentValue(), true);
+    }
+
     @Override
     public Complex multiplyByReal(double amount) {
         if (this.isZero() || (amount == 0)) {
@@ -215,6 +277,20 @@ class PolarComplexDouble extends AbstractComplexDouble {
 
     @Override
     public Complex divideBy(Complex complex) {
+        if (complex instanceof PolarComplexDouble) {
+            // Polar / polar: the same cases on the fields of a final class, like multiplyBy
+            PolarComplexDouble other = (PolarComplexDouble) complex;
+            if (other.isZero()) {
+                throw new ArithmeticException("Unable to divide by:  0 + 0i");
+            }
+            if (this.isZero()) {
+                return ZERO_COMPLEX_POLAR;
+            }
+            if (other.isOne()) {
+                return this;
+            }
+            return this.divideFor(other.modulus, other.argument);
+        }
         if (complex.isZero()) {
             throw new ArithmeticException("Unable to divide by:  0 + 0i");
         }
@@ -228,6 +304,11 @@ class PolarComplexDouble extends AbstractComplexDouble {
         return this.divideFor(complex.modulusValue(), complex.mainArgumentValue());
     }
 
+    @Override
+    public Complex divideByUnchecked(Complex complex) {
+        return new PolarComplexDouble(this.modulus / complex.modulusValue(), this.argument - complex.mainArgumentValue(), true);
+    }
+
     @Override
     public Complex divideByReal(double amount) {
         if (amount == 0) {
@@ -267,6 +348,19 @@ class PolarComplexDouble extends AbstractComplexDouble {
     }
 
     
+    @Override
+    public Complex pow(int exponent) {
+        if ((exponent < 0) && this.isZero()) {
+            throw new ArithmeticException("Unable to divide by:  0 + 0i");
+        }
+        return this.pow((double) exponent);
+    }
+
+    @Override
+    Complex squareRoot() {
+        return new PolarComplexDouble(Math.sqrt(this.modulus), 0.5 * this.argument);
+    }
+
     @Override
     public Complex reciprocal() {
         if (this.isZero()) {
@@ -0,0 +1,167 @@
+package com.nick.math.complex;
+
+import java.util.Arrays;
+
+/**
+ * Arithmetic on the coefficients of polynomials, stored in {@link ComplexArray}s in ascending order
+ * of power, with the leading coefficient (not {@code 0}) last:
+ * <ul>
+ *   <li> {@link #multiply(ComplexArray, ComplexArray)}: </li>
+ *        the schoolbook product, or the cyclic convolution of the zero-padded coefficients with
+ *        {@link FftPlan}s of a power of 2 length, when both factors have at least
+ *        {@value #FFT_THRESHOLD} coefficients: {@code O(n log n)} instead of {@code O(n^2)}.
+ *   <li> {@link #remainder(ComplexArray, ComplexArray)}: </li>
+ *        long division, or, for large quotients and divisors, the quotient computed from the reversed
+ *        polynomials and the power series inverse of the reversed divisor, with Newton's iterations
+ *        {@code g = g*(2 - f*g)}: a constant number of products.
+ * </ul>
+ *
+ * @see ComplexPolynomial
+ * @author Nicolas Scalese
+ */
+final class PolynomialArithmetic {
+
+    /**
+     * The minimum number of coefficients of both factors of a product computed with FFTs.
+     */
+    static final int FFT_THRESHOLD = 64;
+
+
+    private PolynomialArithmetic() {
+    }
+
+    // -------------------------------------------------------------------------
+    //  Products
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the coefficients of the product, with length {@code a.length() + b.length() - 1}.
+     */
+    static ComplexArray multiply(ComplexArray a, ComplexArray b) {
+        int length = a.length() + b.length() - 1;
+        if (Math.min(a.length(), b.length()) < FFT_THRESHOLD) {
+            return schoolbookMultiply(a, b);
+        }
+
+        int size = Integer.highestOneBit(length - 1) << 1;
+        double[] xr = Arrays.copyOf(a.realArray(), size);
+        double[] xi = Arrays.copyOf(a.imaginaryArray(), size);
+        double[] yr = Arrays.copyOf(b.realArray(), size);
+        double[] yi = Arrays.copyOf(b.imaginaryArray(), size);
+        FftPlan forward = FftPlan.of(size, false);
+        forward.execute(xr, xi);
+        forward.execute(yr, yi);
+        for (int k = 0; k < size; k++) {
+            double t = (xr[k] * yr[k]) - (xi[k] * yi[k]);
+            xi[k] = (xr[k] * yi[k]) + (xi[k] * yr[k]);
+            xr[k] = t;
+        }
+        FftPlan.of(size, true).execute(xr, xi);
+        return new ComplexArray(Arrays.copyOf(xr, length), Arrays.copyOf(xi, length));
+    }
+
+    private static ComplexArray schoolbookMultiply(ComplexArray a, ComplexArray b) {
+        double[] ar = a.realArray();
+        double[] ai = a.imaginaryArray();
+        double[] br = b.realArray();
+        double[] bi = b.imaginaryArray();
+        double[] cr = new double[ar.length + br.length - 1];
+        double[] ci = new double[cr.length];
+        for (int i = 0; i < ar.length; i++) {
+            for (int j = 0; j < br.length; j++) {
+                cr[i + j] += (ar[i] * br[j]) - (ai[i] * bi[j]);
+                ci[i + j] += (ar[i] * bi[j]) + (ai[i] * br[j]);
+            }
+        }
+        return new ComplexArray(cr, ci);
+    }
+
+    /**
+     * Returns the first {@code length} coefficients of {@code a}, padded with zeros: {@code a mod x^length}.
+     */
+    private static ComplexArray truncate(ComplexArray a, int length) {
+        return new ComplexArray(Arrays.copyOf(a.realArray(), length), Arrays.copyOf(a.imaginaryArray(), length));
+    }
+
+    /**
+     * Returns the coefficients of {@code x^(length-1) * a(1/x)}.
+     */
+    private static ComplexArray reverse(ComplexArray a) {
+        int length = a.length();
+        ComplexArray reversed = new ComplexArray(length);
+        for (int k = 0; k < length; k++) {
+            reversed.set(length - 1 - k, a.realValue(k), a.imaginaryValue(k));
+        }
+        return reversed;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Division
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the {@code b.length() - 1} coefficients of the remainder of {@code a} divided by {@code b}.
+     */
+    static ComplexArray remainder(ComplexArray a, ComplexArray b) {
+        int m = b.length() - 1;
+        int quotientLength = a.length() - m;
+        if (quotientLength <= 0) {
+            return truncate(a, m);
+        }
+        if ((m < FFT_THRESHOLD) || (quotientLength < FFT_THRESHOLD)) {
+            return longDivisionRemainder(a, b);
+        }
+
+        // rev(q) = rev(a) * rev(b)^-1 mod x^(n - m + 1) , r = a - q*b mod x^m
+        ComplexArray reversedQuotient = multiply(truncate(reverse(a), quotientLength),
+                inverseSeries(reverse(b), quotientLength));
+        ComplexArray product = multiply(reverse(truncate(reversedQuotient, quotientLength)), truncate(b, m));
+        ComplexArray remainder = truncate(a, m);
+        for (int k = 0; k < m; k++) {
+            remainder.set(k, remainder.realValue(k) - product.realValue(k),
+                    remainder.imaginaryValue(k) - product.imaginaryValue(k));
+        }
+        return remainder;
+    }
+
+    private static ComplexArray longDivisionRemainder(ComplexArray a, ComplexArray b) {
+        int m = b.length() - 1;
+        double[] rr = a.realArray().clone();
+        double[] ri = a.imaginaryArray().clone();
+        double[] br = b.realArray();
+        double[] bi = b.imaginaryArray();
+        double leading2 = (br[m] * br[m]) + (bi[m] * bi[m]);
+        for (int k = rr.length - 1; k >= m; k--) {
+            // q = r[k] / b[m] , r = r - q * x^(k-m) * b
+            double qr = ((rr[k] * br[m]) + (ri[k] * bi[m])) / leading2;
+            double qi = ((ri[k] * br[m]) - (rr[k] * bi[m])) / leading2;
+            for (int j = 0; j < m; j++) {
+                rr[k - m + j] -= (qr * br[j]) - (qi * bi[j]);
+                ri[k - m + j] -= (qr * bi[j]) + (qi * br[j]);
+            }
+        }
+        return new ComplexArray(Arrays.copyOf(rr, m), Arrays.copyOf(ri, m));
+    }
+
+    /**
+     * Returns {@code g = f^-1 mod x^length}, with Newton's iterations {@code g = g*(2 - f*g)},
+     * which double the number of correct coefficients.
+     */
+    private static ComplexArray inverseSeries(ComplexArray f, int length) {
+        double f2 = (f.realValue(0) * f.realValue(0)) + (f.imaginaryValue(0) * f.imaginaryValue(0));
+        ComplexArray g = new ComplexArray(1);
+        g.set(0, f.realValue(0) / f2, - f.imaginaryValue(0) / f2);
+        int correct = 1;
+        while (correct < length) {
+            correct = Math.min(2 * correct, length);
+            ComplexArray e = truncate(multiply(truncate(f, correct), g), correct);
+            for (int k = 0; k < correct; k++) {
+                e.set(k, - e.realValue(k), - e.imaginaryValue(k));
+            }
+            e.set(0, e.realValue(0) + 2, e.imaginaryValue(0));
+            g = truncate(multiply(g, e), correct);
+        }
+        return g;
+    }
+
+}
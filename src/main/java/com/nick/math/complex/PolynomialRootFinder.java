@@ -0,0 +1,549 @@
+package com.nick.math.complex;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes all the roots of a polynomial at once, with simultaneous iterations:
+ * {@link RootFinderAlgorithm#ABERTH_EHRLICH}, and {@link RootFinderAlgorithm#DURAND_KERNER}
+ * if Aberth's iterations do not converge.
+ * <p>
+ * The iterations run on primitive arrays of real and imaginary parts:
+ * <ul>
+ *   <li> Zero roots are removed before the iterations, and the coefficients are scaled
+ *        by a power of 2 (exactly), so the largest one has modulus close to {@code 1}. </li>
+ *   <li> The initial approximations are the {@link Complex#allRoots(int) n-th roots} of a unit value,
+ *        slightly rotated, on a circle whose radius is the geometric mean of the moduli of the roots:
+ *        {@code |c[0]/c[n]|^(1/n)}. </li>
+ *   <li> The polynomial is evaluated with Horner's method at {@code z} if {@code |z| <= 1},
+ *        otherwise its reversed polynomial is evaluated at {@code 1/z}: no power of {@code z}
+ *        overflows, also for polynomials of very high degree. </li>
+ *   <li> Every iteration computes the corrections of all the roots from the approximations of the
+ *        previous one (Jacobi style), so the roots of polynomials of degree {@code >= threshold}
+ *        are updated by the threads of a {@link ForkJoinPool}, with the same results of a single thread. </li>
+ *   <li> A root stops changing when its residual {@code |p(z)|} is within the rounding error of Horner's method
+ *        and the compensated Horner's method, as accurate as twice the precision, shows {@code p} vanishing
+ *        within a few ulps of it, or not decreasing for {@value #MAX_STALLS} iterations (a multiple root). </li>
+ * </ul>
+ * {@link RootFinderAlgorithm#COMPANION_MATRIX} computes instead the eigenvalues of the balanced
+ * companion matrix of the polynomial without zero roots, with at most 30 QR iterations per root.
+ * <p>
+ * The default threshold is a degree of {@value #DEFAULT_THRESHOLD},
+ * or the value of the system property {@value #THRESHOLD_PROPERTY}.
+ *
+ * @see ComplexPolynomial#roots()
+ * @see PolynomialRoots
+ * @author Nicolas Scalese
+ */
+public final class PolynomialRootFinder {
+
+    /**
+     * The system property with the default parallelism threshold.
+     */
+    public static final String THRESHOLD_PROPERTY = "com.nick.math.complex.polynomial.parallelThreshold";
+
+    static final int DEFAULT_THRESHOLD = 1000;
+
+    static final int DEFAULT_MAX_ITERATIONS = 500;
+
+    /**
+     * Roots updated by every task of a parallel iteration.
+     */
+    private static final int GRAIN = 32;
+
+    private static final double EPS = Math.ulp(1.0);
+
+    /**
+     * The rotation of the initial approximations: with real coefficients, a set of approximations
+     * symmetric around the real axis would keep the real ones real forever.
+     */
+    private static final double START_ANGLE = 0.4;
+
+    /**
+     * Products of the Durand-Kerner iterations are rescaled out of range {@code [2^-SCALE_EXPONENT, 2^SCALE_EXPONENT]}.
+     */
+    private static final int SCALE_EXPONENT = 256;
+
+    /**
+     * Consecutive iterations without a smaller compensated residual, after which a root in the rounding error
+     * of Horner's method stops changing: in a multiple root the residual never gets within a few ulps.
+     */
+    private static final int MAX_STALLS = 3;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int maxIterations;
+
+
+    /**
+     * Creates an instance which uses the common pool, with the default threshold
+     * and maximum number of iterations.
+     */
+    public PolynomialRootFinder() {
+        this(ForkJoinPool.commonPool(), defaultThreshold(), DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Creates an instance which uses the given pool, threshold and maximum number of iterations.
+     *
+     * @param pool the threads which update the roots
+     * @param threshold the minimum degree of a polynomial whose roots are updated in parallel
+     * @param maxIterations the maximum number of simultaneous iterations of every algorithm
+     * @throws NullPointerException if {@code pool} is {@code null}
+     * @throws IllegalArgumentException if {@code threshold} or {@code maxIterations} is not positive
+     */
+    public PolynomialRootFinder(ForkJoinPool pool, int threshold, int maxIterations) {
+        if (pool == null) {
+            throw new NullPointerException();
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum number of iterations must be positive.");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.maxIterations = maxIterations;
+    }
+
+    private static int defaultThreshold() {
+        try {
+            return Math.max(1, Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD));
+        } catch (SecurityException e) {
+            return DEFAULT_THRESHOLD;
+        }
+    }
+
+    public ForkJoinPool pool() {
+        return this.pool;
+    }
+
+    public int threshold() {
+        return this.threshold;
+    }
+
+    public int maxIterations() {
+        return this.maxIterations;
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the roots of the polynomial with the given coefficients, in ascending order of power,
+     * with {@link RootFinderAlgorithm#ABERTH_EHRLICH}.
+     *
+     * @param real the real parts of the coefficients
+     * @param imaginary the imaginary parts of the coefficients
+     * @return the roots, with the history of the iterations
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths, or are empty,
+     *         or a coefficient is {@code NaN} or infinite, or all the coefficients are {@code 0}
+     */
+    public PolynomialRoots solve(double[] real, double[] imaginary) {
+        return this.solve(new ComplexPolynomial(real, imaginary));
+    }
+
+    /**
+     * Computes the roots of the given polynomial with {@link RootFinderAlgorithm#ABERTH_EHRLICH}.
+     *
+     * @param polynomial the polynomial to solve
+     * @return the roots, with the history of the iterations
+     * @throws NullPointerException if {@code polynomial} is {@code null}
+     * @throws IllegalArgumentException if {@code polynomial} is the zero polynomial
+     */
+    public PolynomialRoots solve(ComplexPolynomial polynomial) {
+        return this.solve(polynomial, RootFinderAlgorithm.ABERTH_EHRLICH);
+    }
+
+    /**
+     * Computes the roots of the given polynomial with the given algorithm.
+     * If {@link RootFinderAlgorithm#ABERTH_EHRLICH} does not converge, the roots are computed
+     * again, from the same initial approximations, with {@link RootFinderAlgorithm#DURAND_KERNER}:
+     * the result is the one of the algorithm which converged, or the one with more converged roots.
+     *
+     * @param polynomial the polynomial to solve
+     * @param algorithm the simultaneous iterations
+     * @return the roots, with the history of the iterations
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code polynomial} is the zero polynomial
+     */
+    public PolynomialRoots solve(ComplexPolynomial polynomial, RootFinderAlgorithm algorithm) {
+        if ((polynomial == null) || (algorithm == null)) {
+            throw new NullPointerException();
+        }
+        if (polynomial.isZero()) {
+            throw new IllegalArgumentException("Every complex number is a root of the zero polynomial.");
+        }
+        if (algorithm == RootFinderAlgorithm.COMPANION_MATRIX) {
+            return companionMatrixRoots(polynomial);
+        }
+
+        Iteration first = new Iteration(polynomial);
+        first.run(algorithm, (first.n < this.threshold) ? null : this.pool);
+        if (first.converged() || (algorithm == RootFinderAlgorithm.DURAND_KERNER)) {
+            return first.result();
+        }
+
+        Iteration fallback = new Iteration(polynomial);
+        fallback.run(RootFinderAlgorithm.DURAND_KERNER, (fallback.n < this.threshold) ? null : this.pool);
+        return (fallback.convergedCount >= first.convergedCount) ? fallback.result() : first.result();
+    }
+
+    /**
+     * The eigenvalues of the companion matrix of the polynomial without zero roots,
+     * followed by the zero roots.
+     */
+    private static PolynomialRoots companionMatrixRoots(ComplexPolynomial polynomial) {
+        double[] real = polynomial.realArray();
+        double[] imaginary = polynomial.imaginaryArray();
+        int degree = polynomial.degree();
+        int zeros = 0;
+        while ((real[zeros] == 0) && (imaginary[zeros] == 0)) {
+            zeros++;
+        }
+        ComplexMatrix companion = ComplexMatrix.companion(new ComplexPolynomial(
+                Arrays.copyOfRange(real, zeros, degree + 1), Arrays.copyOfRange(imaginary, zeros, degree + 1)));
+
+        // Already upper Hessenberg, and balancing keeps it so
+        HessenbergQR qr = new HessenbergQR(companion.size(), companion.realArray(), companion.imaginaryArray());
+        qr.balance();
+        ComplexArray roots = new ComplexArray(degree);
+        boolean converged = qr.eigenvalues(roots.realArray(), roots.imaginaryArray());
+        return new PolynomialRoots(roots, RootFinderAlgorithm.COMPANION_MATRIX, converged,
+                qr.subdiagonals(), qr.deflated());
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * The state of the iterations on a polynomial: its scaled coefficients, without zero roots,
+     * and the current approximations of its roots.
+     */
+    private final class Iteration {
+
+        private final int degree;
+        private final int n;
+
+        // Scaled coefficients, in ascending order of power, and their moduli
+        private final double[] cr;
+        private final double[] ci;
+        private final double[] modulus;
+        // The coefficients of the reversed polynomial, in ascending order of power
+        private final double[] reversedR;
+        private final double[] reversedI;
+
+        private final double[] zr;
+        private final double[] zi;
+        private final double[] nextR;
+        private final double[] nextI;
+        private final double[] correction;
+        // The smallest compensated residual of every root, and the iterations since it was found
+        private final double[] residual;
+        private final int[] stalls;
+        private final boolean[] done;
+
+        private RootFinderAlgorithm algorithm;
+        private int convergedCount;
+        private boolean failed;
+        private int iterations;
+        private final double[] corrections = new double[PolynomialRootFinder.this.maxIterations];
+        private final int[] convergedRoots = new int[PolynomialRootFinder.this.maxIterations];
+
+
+        Iteration(ComplexPolynomial polynomial) {
+            double[] real = polynomial.realArray();
+            double[] imaginary = polynomial.imaginaryArray();
+            this.degree = polynomial.degree();
+
+            // c[0] = ... = c[zeros - 1] = 0: zeros roots equal to 0
+            int zeros = 0;
+            while ((real[zeros] == 0) && (imaginary[zeros] == 0)) {
+                zeros++;
+            }
+            this.n = this.degree - zeros;
+
+            double largest = 0;
+            for (int k = zeros; k <= this.degree; k++) {
+                largest = Math.max(largest, Math.max(Math.abs(real[k]), Math.abs(imaginary[k])));
+            }
+            int scale = Math.getExponent(largest);
+            this.cr = new double[this.n + 1];
+            this.ci = new double[this.n + 1];
+            this.modulus = new double[this.n + 1];
+            for (int k = 0; k <= this.n; k++) {
+                this.cr[k] = Math.scalb(real[k + zeros], - scale);
+                this.ci[k] = Math.scalb(imaginary[k + zeros], - scale);
+                this.modulus[k] = Math.hypot(this.cr[k], this.ci[k]);
+            }
+            this.reversedR = new double[this.n + 1];
+            this.reversedI = new double[this.n + 1];
+            for (int k = 0; k <= this.n; k++) {
+                this.reversedR[k] = this.cr[this.n - k];
+                this.reversedI[k] = this.ci[this.n - k];
+            }
+
+            this.zr = new double[this.n];
+            this.zi = new double[this.n];
+            this.nextR = new double[this.n];
+            this.nextI = new double[this.n];
+            this.correction = new double[this.n];
+            this.residual = new double[this.n];
+            Arrays.fill(this.residual, Double.POSITIVE_INFINITY);
+            this.stalls = new int[this.n];
+            this.done = new boolean[this.n];
+
+            if (this.n > 0) {
+                // On the circle of radius |c[0]/c[n]|^(1/n), computed with logarithms: no overflow
+                double radius = Math.exp((Math.log(this.modulus[0]) - Math.log(this.modulus[this.n])) / this.n);
+                Complex[] unitRoots = ComplexNumbers.ofPolarForm(1, START_ANGLE).allRoots(this.n);
+                for (int i = 0; i < this.n; i++) {
+                    this.zr[i] = radius * unitRoots[i].realValue();
+                    this.zi[i] = radius * unitRoots[i].imaginaryValue();
+                }
+            }
+        }
+
+        void run(RootFinderAlgorithm algorithm, ForkJoinPool pool) {
+            this.algorithm = algorithm;
+            int maxIterations = PolynomialRootFinder.this.maxIterations;
+            while ((this.convergedCount < this.n) && (this.iterations < maxIterations)) {
+                ParallelLoop.forRange(pool, 0, this.n, GRAIN, (from, to) -> {
+                    double[] value = new double[5];
+                    for (int i = from; i < to; i++) {
+                        this.update(i, value);
+                    }
+                });
+
+                double largest = 0;
+                int converged = 0;
+                for (int i = 0; i < this.n; i++) {
+                    if (!Double.isFinite(this.nextR[i]) || !Double.isFinite(this.nextI[i])) {
+                        // The approximations of the previous iteration are the result
+                        this.failed = true;
+                        return;
+                    }
+                    largest = Math.max(largest, this.correction[i]);
+                    if (this.done[i]) {
+                        converged++;
+                    }
+                }
+                System.arraycopy(this.nextR, 0, this.zr, 0, this.n);
+                System.arraycopy(this.nextI, 0, this.zi, 0, this.n);
+                this.convergedCount = converged;
+                this.corrections[this.iterations] = largest;
+                this.convergedRoots[this.iterations] = converged;
+                this.iterations++;
+            }
+        }
+
+        boolean converged() {
+            return !this.failed && (this.convergedCount == this.n);
+        }
+
+        PolynomialRoots result() {
+            // The zero roots are the last ones
+            ComplexArray roots = new ComplexArray(this.degree);
+            System.arraycopy(this.zr, 0, roots.realArray(), 0, this.n);
+            System.arraycopy(this.zi, 0, roots.imaginaryArray(), 0, this.n);
+            return new PolynomialRoots(roots, this.algorithm, this.converged(),
+                    Arrays.copyOf(this.corrections, this.iterations), Arrays.copyOf(this.convergedRoots, this.iterations));
+        }
+
+        /**
+         * Computes the next approximation of the {@code i}-th root, from the current approximations of all the roots.
+         */
+        private void update(int i, double[] value) {
+            double xr = this.zr[i];
+            double xi = this.zi[i];
+            this.nextR[i] = xr;
+            this.nextI[i] = xi;
+            this.correction[i] = 0;
+            if (this.done[i]) {
+                return;
+            }
+
+            boolean reversed = this.evaluate(xr, xi, value);
+            if (Math.hypot(value[0], value[1]) <= 2 * this.n * EPS * value[4]) {
+                // Residual within the rounding error of Horner's method: in an ill-conditioned cluster this holds
+                // far from any root, so only the compensated value tells whether p vanishes within an ulp of x
+                this.evaluateCompensated(xr, xi, reversed, value);
+                double residual = Math.hypot(value[0], value[1]);
+                this.stalls[i] = (residual < this.residual[i]) ? 0 : this.stalls[i] + 1;
+                if ((residual <= value[4]) || (this.stalls[i] >= MAX_STALLS)) {
+                    // p vanishes within a few ulps of x, or the last corrections did not reduce the residual:
+                    // x is as close to a multiple root as the compensated value can tell
+                    this.done[i] = true;
+                    return;
+                }
+                this.residual[i] = Math.min(this.residual[i], residual);
+            }
+            double vr = value[0];
+            double vi = value[1];
+
+            double wr;
+            double wi;
+            if (this.algorithm == RootFinderAlgorithm.ABERTH_EHRLICH) {
+                // Newton correction: p(x)/p'(x) , or x*q(w) / (n*q(w) - w*q'(w)) with w = 1/x
+                double numeratorR = vr;
+                double numeratorI = vi;
+                double denominatorR = value[2];
+                double denominatorI = value[3];
+                if (reversed) {
+                    double x2 = (xr * xr) + (xi * xi);
+                    double invR = xr / x2;
+                    double invI = - xi / x2;
+                    numeratorR = (xr * vr) - (xi * vi);
+                    numeratorI = (xr * vi) + (xi * vr);
+                    denominatorR = (this.n * vr) - ((invR * value[2]) - (invI * value[3]));
+                    denominatorI = (this.n * vi) - ((invR * value[3]) + (invI * value[2]));
+                }
+                double denominator2 = (denominatorR * denominatorR) + (denominatorI * denominatorI);
+                double newtonR = ((numeratorR * denominatorR) + (numeratorI * denominatorI)) / denominator2;
+                double newtonI = ((numeratorI * denominatorR) - (numeratorR * denominatorI)) / denominator2;
+
+                // S = sum(1/(x - z_j)) , correction = N / (1 - N*S)
+                double sr = 0;
+                double si = 0;
+                for (int j = 0; j < this.n; j++) {
+                    if (j != i) {
+                        double dr = xr - this.zr[j];
+                        double di = xi - this.zi[j];
+                        double d2 = (dr * dr) + (di * di);
+                        sr += dr / d2;
+                        si -= di / d2;
+                    }
+                }
+                double br = 1 - ((newtonR * sr) - (newtonI * si));
+                double bi = - ((newtonR * si) + (newtonI * sr));
+                double b2 = (br * br) + (bi * bi);
+                wr = ((newtonR * br) + (newtonI * bi)) / b2;
+                wi = ((newtonI * br) - (newtonR * bi)) / b2;
+            } else {
+                // p(x) / (c[n] * prod(x - z_j)) , or x*q(w) / (c[n] * prod(1 - z_j*w)) with w = 1/x
+                double numeratorR = vr;
+                double numeratorI = vi;
+                double invR = 0;
+                double invI = 0;
+                if (reversed) {
+                    double x2 = (xr * xr) + (xi * xi);
+                    invR = xr / x2;
+                    invI = - xi / x2;
+                    numeratorR = (xr * vr) - (xi * vi);
+                    numeratorI = (xr * vi) + (xi * vr);
+                }
+                double pr = this.cr[this.n];
+                double pi = this.ci[this.n];
+                int exponent = 0;
+                for (int j = 0; j < this.n; j++) {
+                    if (j != i) {
+                        double fr;
+                        double fi;
+                        if (reversed) {
+                            fr = 1 - ((this.zr[j] * invR) - (this.zi[j] * invI));
+                            fi = - ((this.zr[j] * invI) + (this.zi[j] * invR));
+                        } else {
+                            fr = xr - this.zr[j];
+                            fi = xi - this.zi[j];
+                        }
+                        double t = (pr * fr) - (pi * fi);
+                        pi = (pr * fi) + (pi * fr);
+                        pr = t;
+
+                        int productExponent = Math.getExponent(Math.max(Math.abs(pr), Math.abs(pi)));
+                        if ((productExponent > SCALE_EXPONENT) || (productExponent < - SCALE_EXPONENT)) {
+                            if ((pr == 0) && (pi == 0)) {
+                                break;
+                            }
+                            pr = Math.scalb(pr, - productExponent);
+                            pi = Math.scalb(pi, - productExponent);
+                            exponent += productExponent;
+                        }
+                    }
+                }
+                double p2 = (pr * pr) + (pi * pi);
+                wr = Math.scalb(((numeratorR * pr) + (numeratorI * pi)) / p2, - exponent);
+                wi = Math.scalb(((numeratorI * pr) - (numeratorR * pi)) / p2, - exponent);
+            }
+
+            this.nextR[i] = xr - wr;
+            this.nextI[i] = xi - wi;
+            this.correction[i] = Math.hypot(wr, wi) / Math.max(Math.hypot(xr, xi), Double.MIN_NORMAL);
+        }
+
+        /**
+         * Evaluates, with Horner's method, {@code p(x)} and {@code p'(x)} if {@code |x| <= 1},
+         * otherwise the reversed polynomial {@code q(w) = w^n * p(1/w)} and {@code q'(w)} at {@code w = 1/x}.
+         * Writes the real and imaginary parts of the value and the derivative, then the bound
+         * {@code sum(|c[k]|*|x|^k)} of the rounding error, into {@code value}.
+         *
+         * @return {@code true} if the reversed polynomial was evaluated
+         */
+        private boolean evaluate(double xr, double xi, double[] value) {
+            double modulus = Math.hypot(xr, xi);
+            boolean reversed = modulus > 1;
+            double pointR = xr;
+            double pointI = xi;
+            double pointModulus = modulus;
+            if (reversed) {
+                pointR = xr / (modulus * modulus);
+                pointI = - xi / (modulus * modulus);
+                pointModulus = 1 / modulus;
+            }
+
+            int first = reversed ? 0 : this.n;
+            int step = reversed ? 1 : -1;
+            double pr = this.cr[first];
+            double pi = this.ci[first];
+            double dr = 0;
+            double di = 0;
+            double bound = this.modulus[first];
+            for (int k = first + step; (k >= 0) && (k <= this.n); k += step) {
+                double t = (dr * pointR) - (di * pointI) + pr;
+                di = (dr * pointI) + (di * pointR) + pi;
+                dr = t;
+                t = (pr * pointR) - (pi * pointI) + this.cr[k];
+                pi = (pr * pointI) + (pi * pointR) + this.ci[k];
+                pr = t;
+                bound = (bound * pointModulus) + this.modulus[k];
+            }
+
+            value[0] = pr;
+            value[1] = pi;
+            value[2] = dr;
+            value[3] = di;
+            value[4] = bound;
+            return reversed;
+        }
+
+        /**
+         * Evaluates again {@code p(x)}, or {@code q(w)}, at the point of {@link #evaluate(double, double, double[])}
+         * with {@link CompensatedHorner}, as accurate as if computed with twice the precision.
+         * Overwrites the value, and replaces the bound with the residual allowed at a root: the change of
+         * the polynomial within a few ulps of the point, plus the error bound of the compensated value.
+         * The derivative is left unchanged.
+         */
+        private void evaluateCompensated(double xr, double xi, boolean reversed, double[] value) {
+            double pointR = xr;
+            double pointI = xi;
+            double pointModulus = Math.hypot(xr, xi);
+            if (reversed) {
+                pointR = xr / (pointModulus * pointModulus);
+                pointI = - xi / (pointModulus * pointModulus);
+                pointModulus = 1 / pointModulus;
+            }
+
+            MutableComplex result = new MutableComplex();
+            double error = reversed
+                ? CompensatedHorner.evaluate(this.reversedR, this.reversedI, pointR, pointI, result)
+                : CompensatedHorner.evaluate(this.cr, this.ci, pointR, pointI, result);
+            double vr = result.realValue();
+            double vi = result.imaginaryValue();
+            value[0] = vr;
+            value[1] = vi;
+            value[4] = (EPS * (Math.hypot(vr, vi) + (4 * pointModulus * Math.hypot(value[2], value[3])))) + error;
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.nick.math.complex;
+
+/**
+ * The roots of a polynomial computed by a {@link PolynomialRootFinder},
+ * with the history of the iterations which computed them.
+ * <pre>{@code
+ * PolynomialRoots result = new PolynomialRootFinder().solve(polynomial);
+ * if (!result.converged()) {
+ *     double[] corrections = result.corrections();    // Largest relative correction of every iteration
+ * }
+ * ComplexArray roots = result.roots();
+ * }</pre>
+ *
+ * @author Nicolas Scalese
+ */
+public final class PolynomialRoots {
+
+    private final ComplexArray roots;
+    private final RootFinderAlgorithm algorithm;
+    private final boolean converged;
+    private final double[] corrections;
+    private final int[] convergedRoots;
+
+
+    PolynomialRoots(ComplexArray roots, RootFinderAlgorithm algorithm, boolean converged,
+            double[] corrections, int[] convergedRoots) {
+        this.roots = roots;
+        this.algorithm = algorithm;
+        this.converged = converged;
+        this.corrections = corrections;
+        this.convergedRoots = convergedRoots;
+    }
+
+    /**
+     * Returns the roots, repeated according to their multiplicity, in no particular order.
+     */
+    public ComplexArray roots() {
+        return this.roots;
+    }
+
+    /**
+     * Returns the algorithm which computed the roots: {@link RootFinderAlgorithm#DURAND_KERNER}
+     * also when it was the fallback of {@link RootFinderAlgorithm#ABERTH_EHRLICH}.
+     */
+    public RootFinderAlgorithm algorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Returns {@code true} if every root converged before the maximum number of iterations.
+     * A root converged when its residual {@code |p(z)|} is within the rounding error of the
+     * evaluation, or its correction is negligible compared to its modulus. With
+     * {@link RootFinderAlgorithm#COMPANION_MATRIX}, when its subdiagonal element is negligible.
+     */
+    public boolean converged() {
+        return this.converged;
+    }
+
+    /**
+     * Returns the number of iterations of the algorithm which computed the roots.
+     */
+    public int iterations() {
+        return this.corrections.length;
+    }
+
+    /**
+     * Returns, for every iteration, the largest correction of a root, relative to its modulus.
+     * With {@link RootFinderAlgorithm#COMPANION_MATRIX}, for every QR iteration, the modulus of the
+     * last subdiagonal element of the active block, relative to its diagonal neighbours.
+     */
+    public double[] corrections() {
+        return this.corrections.clone();
+    }
+
+    /**
+     * Returns, for every iteration, the number of roots which converged until that iteration.
+     */
+    public int[] convergedRoots() {
+        return this.convergedRoots.clone();
+    }
+
+    @Override
+    public String toString() {
+        return this.algorithm + (this.converged ? " converged" : " did not converge")
+            + " in " + this.iterations() + " iterations: " + this.roots;
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.nick.math.complex;
+
+import static java.lang.Math.PI;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * In-place iterative Cooley-Tukey FFT for power-of-two lengths.
+ * <p>
+ * The input is permuted in bit-reversed order, then butterflies are computed
+ * by radix-4 passes (each one equivalent to two radix-2 stages), with a single
+ * radix-2 pass first if {@code log2(n)} is odd.
+ * <p>
+ * Twiddle factors ({@code n}-th roots of unity, the same values of
+ * {@code ONE_COMPLEX_POLAR.allRoots(n)}) and the bit-reversal permutation
+ * are computed once, when the instance is created.
+ * Instances are immutable, so they can be shared between threads.
+ * <p>
+ * In a parallel transform, the permutation and every pass are split in ranges
+ * of butterflies: the passes are still executed one after the other.
+ *
+ * @see FftKernel
+ * @author Nicolas Scalese
+ */
+final class Radix2Fft implements FftKernel {
+
+    private final int n;
+    private final int log2n;
+
+    // cos(2*PI*k/n) and sin(2*PI*k/n), for k in [0, n)
+    private final double[] cos;
+    private final double[] sin;
+    private final int[] bitReversed;
+
+
+    Radix2Fft(int n) {
+        if ((n <= 0) || (Integer.bitCount(n) != 1)) {
+            throw new IllegalArgumentException("Length must be a power of 2.");
+        }
+        this.n = n;
+        this.log2n = Integer.numberOfTrailingZeros(n);
+
+        this.cos = new double[n];
+        this.sin = new double[n];
+        for (int k = 0; k < n; k++) {
+            double angle = 2 * PI * k / n;
+            this.cos[k] = Math.cos(angle);
+            this.sin[k] = Math.sin(angle);
+        }
+
+        this.bitReversed = new int[n];
+        for (int k = 0; k < n; k++) {
+            this.bitReversed[k] = (this.log2n == 0) ? 0 : Integer.reverse(k) >>> (Integer.SIZE - this.log2n);
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.n;
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void transform(double[] re, int reOffset, double[] im, int imOffset, int stride, boolean inverse,
+            ForkJoinPool pool) {
+        ParallelLoop.forRange(pool, 0, this.n, 2 * GRAIN,
+            (from, to) -> this.permute(re, reOffset, im, imOffset, stride, from, to));
+
+        // Forward: w = e^(-i*2*PI*k/n) , inverse: w = e^(+i*2*PI*k/n)
+        double sign = inverse ? 1 : -1;
+        int quarter = 1;
+        if ((this.log2n & 1) == 1) {
+            ParallelLoop.forRange(pool, 0, this.n / 2, GRAIN,
+                (from, to) -> this.radix2Pass(re, reOffset, im, imOffset, stride, from, to));
+            quarter = 2;
+        }
+        for (; quarter < this.n; quarter *= 4) {
+            int q = quarter;
+            ParallelLoop.forRange(pool, 0, this.n / 4, GRAIN,
+                (from, to) -> this.radix4Pass(re, reOffset, im, imOffset, stride, q, sign, from, to));
+        }
+    }
+
+    /**
+     * Swaps the elements {@code k} and {@code bitReversed[k]}, for {@code k} in {@code [from, to)}.
+     * Every pair is swapped only by its lower index, so disjoint ranges never swap the same pair.
+     */
+    private void permute(double[] re, int reOffset, double[] im, int imOffset, int stride, int from, int to) {
+        for (int k = from; k < to; k++) {
+            int j = this.bitReversed[k];
+            if (k < j) {
+                int rk = reOffset + k * stride;
+                int rj = reOffset + j * stride;
+                int ik = imOffset + k * stride;
+                int ij = imOffset + j * stride;
+                double t = re[rk];
+                re[rk] = re[rj];
+                re[rj] = t;
+                t = im[ik];
+                im[ik] = im[ij];
+                im[ij] = t;
+            }
+        }
+    }
+
+    private void radix2Pass(double[] re, int reOffset, double[] im, int imOffset, int stride, int from, int to) {
+        // Butterflies of length 2: twiddle factor is always 1
+        for (int k = 2 * from; k < 2 * to; k += 2) {
+            int r0 = reOffset + k * stride;
+            int r1 = r0 + stride;
+            int i0 = imOffset + k * stride;
+            int i1 = i0 + stride;
+            double xr = re[r1];
+            double xi = im[i1];
+            re[r1] = re[r0] - xr;
+            im[i1] = im[i0] - xi;
+            re[r0] += xr;
+            im[i0] += xi;
+        }
+    }
+
+    /**
+     * Merges transforms of length {@code quarter} into transforms of length
+     * {@code 4 * quarter}, which is the same of two radix-2 stages.
+     * Computes the butterflies in range {@code [from, to)}, of the {@code n/4} of the pass:
+     * butterfly {@code b} is the element {@code j = b % quarter} of the block {@code b / quarter}.
+     */
+    private void radix4Pass(double[] re, int reOffset, double[] im, int imOffset, int stride,
+            int quarter, double sign, int from, int to) {
+        int twiddleStep = this.n / (4 * quarter);
+        int quarterStride = quarter * stride;
+
+        int block = (from / quarter) * 4 * quarter;
+        int j = from % quarter;
+        for (int b = from; b < to; b++) {
+            int r0 = reOffset + (block + j) * stride;
+            int i0 = imOffset + (block + j) * stride;
+
+            // Twiddle factors: w^1, w^2, w^3
+            int k = j * twiddleStep;
+            double w1r = this.cos[k];
+            double w1i = sign * this.sin[k];
+            double w2r = this.cos[2 * k];
+            double w2i = sign * this.sin[2 * k];
+            double w3r = this.cos[3 * k];
+            double w3i = sign * this.sin[3 * k];
+
+            // b0 = x0 , b1 = w^1 * x2 , b2 = w^2 * x1 , b3 = w^3 * x3
+            double b0r = re[r0];
+            double b0i = im[i0];
+            double xr = re[r0 + 2 * quarterStride];
+            double xi = im[i0 + 2 * quarterStride];
+            double b1r = (w1r * xr) - (w1i * xi);
+            double b1i = (w1r * xi) + (w1i * xr);
+            xr = re[r0 + quarterStride];
+            xi = im[i0 + quarterStride];
+            double b2r = (w2r * xr) - (w2i * xi);
+            double b2i = (w2r * xi) + (w2i * xr);
+            xr = re[r0 + 3 * quarterStride];
+            xi = im[i0 + 3 * quarterStride];
+            double b3r = (w3r * xr) - (w3i * xi);
+            double b3i = (w3r * xi) + (w3i * xr);
+
+            double s02r = b0r + b2r;
+            double s02i = b0i + b2i;
+            double d02r = b0r - b2r;
+            double d02i = b0i - b2i;
+            double s13r = b1r + b3r;
+            double s13i = b1i + b3i;
+            // (sign * i) * (b1 - b3)
+            double d13r = - sign * (b1i - b3i);
+            double d13i = sign * (b1r - b3r);
+
+            re[r0] = s02r + s13r;
+            im[i0] = s02i + s13i;
+            re[r0 + quarterStride] = d02r + d13r;
+            im[i0 + quarterStride] = d02i + d13i;
+            re[r0 + 2 * quarterStride] = s02r - s13r;
+            im[i0 + 2 * quarterStride] = s02i - s13i;
+            re[r0 + 3 * quarterStride] = d02r - d13r;
+            im[i0 + 3 * quarterStride] = d02i - d13i;
+
+            if (++j == quarter) {
+                j = 0;
+                block += 4 * quarter;
+            }
+        }
+    }
+
+}
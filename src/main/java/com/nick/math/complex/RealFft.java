@@ -0,0 +1,386 @@
+package com.nick.math.complex;
+
+/**
+ * This static class computes the discrete Fourier transform of real sequences,
+ * with half of the memory and about half of the work of a complex transform.
+ * <p>
+ * The transform {@code X} of a real sequence of length {@code n} is Hermitian:
+ * {@code X[n-k] = conj(X[k])}, so only the {@code n/2 + 1} values {@code X[0]} ... {@code X[n/2]}
+ * are computed (as in {@code numpy.fft.rfft}). They are stored in 2 formats:
+ * <ul>
+ *   <li> Hermitian-packed array, of the same length {@code n} of the sequence: </li>
+ *        {@code [X0.re, X(n/2).re, X1.re, X1.im, X2.re, X2.im, ...]} if {@code n} is even
+ *        ({@code X[0]} and {@code X[n/2]} are real), or
+ *        {@code [X0.re, X1.re, X1.im, X2.re, X2.im, ...]} if {@code n} is odd.
+ *        The packed transforms work in place, without other memory.
+ *   <li> Split arrays of real and imaginary parts, or a {@link ComplexArray},
+ *        of length {@code n/2 + 1}. </li>
+ * </ul>
+ * The scaling conventions are the same of {@link FastFourierTransform}.
+ * <p>
+ * @apiNote
+ * If {@code n} is even, the sequence is seen as a complex sequence of length {@code n/2}
+ * ({@code z[j] = x[2j] + i*x[2j+1]}), whose transform gives {@code X} with a single
+ * {@code O(n)} pass. If {@code n} is odd, a complex transform of length {@code n} is computed,
+ * so there is no speed-up.
+ *
+ * @see FastFourierTransform
+ * @see FftNormalization
+ * @author Nicolas Scalese
+ */
+public class RealFft {
+
+    private RealFft() {}
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the transform of the given real sequence, in place, with
+     * {@link FftNormalization#BACKWARD} scaling, and stores it in Hermitian-packed format.
+     *
+     * @param data the real sequence, replaced by its packed transform
+     * @throws NullPointerException if {@code data} is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty
+     */
+    public static void transformPacked(double[] data) {
+        RealFft.transformPacked(data, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the transform of the given real sequence, in place,
+     * and stores it in Hermitian-packed format.
+     *
+     * @param data the real sequence, replaced by its packed transform
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty
+     */
+    public static void transformPacked(double[] data, FftNormalization normalization) {
+        validate(data, normalization);
+        int n = data.length;
+        if ((n % 2) == 0) {
+            forwardEven(data);
+        } else {
+            forwardOdd(data);
+        }
+        scale(data, normalization.scaleFactor(n, false));
+    }
+
+    /**
+     * Computes the real sequence whose transform is given in Hermitian-packed format, in place,
+     * with {@link FftNormalization#BACKWARD} scaling ({@code 1/n}).
+     *
+     * @param data the packed transform, replaced by the real sequence
+     * @throws NullPointerException if {@code data} is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty
+     */
+    public static void inverseTransformPacked(double[] data) {
+        RealFft.inverseTransformPacked(data, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the real sequence whose transform is given in Hermitian-packed format, in place.
+     *
+     * @param data the packed transform, replaced by the real sequence
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code data} is empty
+     */
+    public static void inverseTransformPacked(double[] data, FftNormalization normalization) {
+        validate(data, normalization);
+        int n = data.length;
+        double factor = normalization.scaleFactor(n, true);
+        if ((n % 2) == 0) {
+            inverseEven(data);
+            // The complex transform of length n/2 gives n/2 times the sequence
+            factor *= 2;
+        } else {
+            inverseOdd(data);
+        }
+        scale(data, factor);
+    }
+
+    // -------------------------------------------------------------------------
+
+    /**
+     * Computes the transform of the given real sequence, with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param signal the real sequence, of length {@code n}: it is not modified
+     * @param real the array which receives the real parts of {@code X[0]} ... {@code X[n/2]}
+     * @param imaginary the array which receives the imaginary parts of {@code X[0]} ... {@code X[n/2]}
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if {@code signal} is empty,
+     *         or the other arrays are shorter than {@code n/2 + 1}
+     */
+    public static void transform(double[] signal, double[] real, double[] imaginary) {
+        RealFft.transform(signal, real, imaginary, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the transform of the given real sequence.
+     *
+     * @param signal the real sequence, of length {@code n}: it is not modified
+     * @param real the array which receives the real parts of {@code X[0]} ... {@code X[n/2]}
+     * @param imaginary the array which receives the imaginary parts of {@code X[0]} ... {@code X[n/2]}
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code signal} is empty,
+     *         or the other arrays are shorter than {@code n/2 + 1}
+     */
+    public static void transform(double[] signal, double[] real, double[] imaginary,
+            FftNormalization normalization) {
+        validate(signal, normalization);
+        validateSpectrum(real, imaginary, signal.length);
+
+        double[] packed = signal.clone();
+        RealFft.transformPacked(packed, normalization);
+        unpack(packed, real, imaginary);
+    }
+
+    /**
+     * Computes the transform of the given real sequence, with {@link FftNormalization#BACKWARD} scaling.
+     *
+     * @param signal the real sequence, of length {@code n}: it is not modified
+     * @return the values {@code X[0]} ... {@code X[n/2]} of the transform
+     * @throws NullPointerException if {@code signal} is {@code null}
+     * @throws IllegalArgumentException if {@code signal} is empty
+     */
+    public static ComplexArray transform(double[] signal) {
+        if (signal == null) {
+            throw new NullPointerException();
+        }
+        ComplexArray spectrum = new ComplexArray(signal.length / 2 + 1);
+        RealFft.transform(signal, spectrum.realArray(), spectrum.imaginaryArray());
+        return spectrum;
+    }
+
+    /**
+     * Computes the real sequence of length {@code signal.length} whose transform is given,
+     * with {@link FftNormalization#BACKWARD} scaling ({@code 1/n}).
+     * The imaginary parts of {@code X[0]}, and of {@code X[n/2]} if {@code n} is even, are ignored.
+     *
+     * @param real the real parts of {@code X[0]} ... {@code X[n/2]}: they are not modified
+     * @param imaginary the imaginary parts of {@code X[0]} ... {@code X[n/2]}: they are not modified
+     * @param signal the array which receives the real sequence
+     * @throws NullPointerException if any array is {@code null}
+     * @throws IllegalArgumentException if {@code signal} is empty,
+     *         or the other arrays are shorter than {@code n/2 + 1}
+     */
+    public static void inverseTransform(double[] real, double[] imaginary, double[] signal) {
+        RealFft.inverseTransform(real, imaginary, signal, FftNormalization.BACKWARD);
+    }
+
+    /**
+     * Computes the real sequence of length {@code signal.length} whose transform is given.
+     * The imaginary parts of {@code X[0]}, and of {@code X[n/2]} if {@code n} is even, are ignored.
+     *
+     * @param real the real parts of {@code X[0]} ... {@code X[n/2]}: they are not modified
+     * @param imaginary the imaginary parts of {@code X[0]} ... {@code X[n/2]}: they are not modified
+     * @param signal the array which receives the real sequence
+     * @param normalization the scaling convention
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws IllegalArgumentException if {@code signal} is empty,
+     *         or the other arrays are shorter than {@code n/2 + 1}
+     */
+    public static void inverseTransform(double[] real, double[] imaginary, double[] signal,
+            FftNormalization normalization) {
+        validate(signal, normalization);
+        validateSpectrum(real, imaginary, signal.length);
+
+        pack(real, imaginary, signal);
+        RealFft.inverseTransformPacked(signal, normalization);
+    }
+
+    /**
+     * Computes the real sequence of length {@code n} whose transform is given,
+     * with {@link FftNormalization#BACKWARD} scaling ({@code 1/n}).
+     *
+     * @param spectrum the values {@code X[0]} ... {@code X[n/2]} of the transform
+     * @param n the length of the real sequence
+     * @return the real sequence
+     * @throws IllegalArgumentException if {@code n} is not positive,
+     *         or {@code spectrum} is shorter than {@code n/2 + 1}
+     */
+    public static double[] inverseTransform(ComplexArray spectrum, int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Length must be positive.");
+        }
+        double[] signal = new double[n];
+        RealFft.inverseTransform(spectrum.realArray(), spectrum.imaginaryArray(), signal);
+        return signal;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Even lengths: complex transform of length h = n/2
+    // -------------------------------------------------------------------------
+
+    /*
+     * With Z the transform of z[j] = x[2j] + i*x[2j+1], A = Z[k] and B = conj(Z[h-k]):
+     *   X[k]   = E + w^k * O   , where E = (A + B)/2 , O = -i*(A - B)/2 , w = e^(-2*PI*i/n)
+     *   X[h-k] = conj(E - w^k * O)
+     * so every pair (k, h-k) is computed in place from the same pair of Z.
+     */
+
+    private static void forwardEven(double[] data) {
+        int h = data.length / 2;
+        FftPlan plan = FftPlan.of(h, false);
+        plan.transformUnscaled(data, 0, data, 1, 2, null);
+        double[] twiddles = plan.realTwiddles();
+
+        // X[0] = Z0.re + Z0.im , X[h] = Z0.re - Z0.im
+        double z0r = data[0];
+        double z0i = data[1];
+        data[0] = z0r + z0i;
+        data[1] = z0r - z0i;
+
+        for (int k = 1, j = h - 1; k <= j; k++, j--) {
+            double ar = data[2 * k];
+            double ai = data[2 * k + 1];
+            double br = data[2 * j];
+            double bi = - data[2 * j + 1];
+
+            double er = 0.5 * (ar + br);
+            double ei = 0.5 * (ai + bi);
+            double or = 0.5 * (ai - bi);
+            double oi = 0.5 * (br - ar);
+
+            // t = w^k * O , with w^k = cos - i*sin
+            double wr = twiddles[2 * k];
+            double wi = - twiddles[2 * k + 1];
+            double tr = (wr * or) - (wi * oi);
+            double ti = (wr * oi) + (wi * or);
+
+            data[2 * k] = er + tr;
+            data[2 * k + 1] = ei + ti;
+            data[2 * j] = er - tr;
+            data[2 * j + 1] = ti - ei;
+        }
+    }
+
+    private static void inverseEven(double[] data) {
+        int h = data.length / 2;
+        FftPlan plan = FftPlan.of(h, true);
+        double[] twiddles = plan.realTwiddles();
+
+        // Z0 = E + i*O , with E = (X[0] + X[h])/2 , O = (X[0] - X[h])/2
+        double x0 = data[0];
+        double xh = data[1];
+        data[0] = 0.5 * (x0 + xh);
+        data[1] = 0.5 * (x0 - xh);
+
+        for (int k = 1, j = h - 1; k <= j; k++, j--) {
+            double ar = data[2 * k];
+            double ai = data[2 * k + 1];
+            double cr = data[2 * j];
+            double ci = - data[2 * j + 1];
+
+            // E = (X[k] + conj(X[h-k]))/2 , O = conj(w^k) * (X[k] - conj(X[h-k]))/2
+            double er = 0.5 * (ar + cr);
+            double ei = 0.5 * (ai + ci);
+            double dr = 0.5 * (ar - cr);
+            double di = 0.5 * (ai - ci);
+            double wr = twiddles[2 * k];
+            double wi = twiddles[2 * k + 1];
+            double or = (wr * dr) - (wi * di);
+            double oi = (wr * di) + (wi * dr);
+
+            // Z[k] = E + i*O , Z[h-k] = conj(E - i*O)
+            data[2 * k] = er - oi;
+            data[2 * k + 1] = ei + or;
+            data[2 * j] = er + oi;
+            data[2 * j + 1] = or - ei;
+        }
+
+        plan.transformUnscaled(data, 0, data, 1, 2, null);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Odd lengths: complex transform of length n
+    // -------------------------------------------------------------------------
+
+    private static void forwardOdd(double[] data) {
+        int n = data.length;
+        double[] re = data.clone();
+        double[] im = new double[n];
+        FftPlan.of(n, false).transformUnscaled(re, 0, im, 0, 1, null);
+
+        data[0] = re[0];
+        for (int k = 1; k <= n / 2; k++) {
+            data[2 * k - 1] = re[k];
+            data[2 * k] = im[k];
+        }
+    }
+
+    private static void inverseOdd(double[] data) {
+        int n = data.length;
+        double[] re = new double[n];
+        double[] im = new double[n];
+        re[0] = data[0];
+        for (int k = 1; k <= n / 2; k++) {
+            re[k] = data[2 * k - 1];
+            im[k] = data[2 * k];
+            re[n - k] = re[k];
+            im[n - k] = - im[k];
+        }
+        FftPlan.of(n, true).transformUnscaled(re, 0, im, 0, 1, null);
+        System.arraycopy(re, 0, data, 0, n);
+    }
+
+    // -------------------------------------------------------------------------
+
+    private static void unpack(double[] packed, double[] real, double[] imaginary) {
+        int n = packed.length;
+        real[0] = packed[0];
+        imaginary[0] = 0;
+        int offset = 1;
+        if ((n % 2) == 0) {
+            real[n / 2] = packed[1];
+            imaginary[n / 2] = 0;
+            offset = 2;
+        }
+        for (int k = 1; k < (n + 1) / 2; k++) {
+            real[k] = packed[2 * k - 2 + offset];
+            imaginary[k] = packed[2 * k - 1 + offset];
+        }
+    }
+
+    private static void pack(double[] real, double[] imaginary, double[] packed) {
+        int n = packed.length;
+        packed[0] = real[0];
+        int offset = 1;
+        if ((n % 2) == 0) {
+            packed[1] = real[n / 2];
+            offset = 2;
+        }
+        for (int k = 1; k < (n + 1) / 2; k++) {
+            packed[2 * k - 2 + offset] = real[k];
+            packed[2 * k - 1 + offset] = imaginary[k];
+        }
+    }
+
+    private static void scale(double[] data, double factor) {
+        if (factor == 1) {
+            return;
+        }
+        for (int k = 0; k < data.length; k++) {
+            data[k] *= factor;
+        }
+    }
+
+    private static void validate(double[] data, FftNormalization normalization) {
+        if ((data == null) || (normalization == null)) {
+            throw new NullPointerException();
+        }
+        FftPlan.validateLength(data.length);
+    }
+
+    private static void validateSpectrum(double[] real, double[] imaginary, int n) {
+        if ((real == null) || (imaginary == null)) {
+            throw new NullPointerException();
+        }
+        if ((real.length < n / 2 + 1) || (imaginary.length < n / 2 + 1)) {
+            throw new IllegalArgumentException("Spectrum arrays must have length at least: " + (n / 2 + 1));
+        }
+    }
+
+}
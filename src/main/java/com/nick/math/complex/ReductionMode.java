@@ -0,0 +1,28 @@
+package com.nick.math.complex;
+
+/**
+ * How a {@link ParallelReduction} divides the values between the threads.
+ * <ul>
+ *   <li> {@link #FAST}: </li>
+ *        the values are split in as many chunks as needed to keep every thread busy,
+ *        and short sequences are reduced in one pass by the calling thread.
+ *        The result may change, in the last digits, with the parallelism of the pool.
+ *   <li> {@link #REPRODUCIBLE}: </li>
+ *        the values are split in chunks of fixed length, and the partial results are
+ *        combined in a fixed order, whichever thread computes them.
+ *        The result is the same, bit for bit, with any pool, any number of threads and any threshold.
+ * </ul>
+ * Reproducibility holds within one JVM: sums of cartesian values use only additions,
+ * and are the same on every platform, but products, and the parts of polar values,
+ * come from {@link Math#cos(double)}, {@link Math#sin(double)} and other methods of
+ * {@link Math}, which may differ in the last bit between platforms and JVMs.
+ *
+ * @see ParallelReduction
+ * @author Nicolas Scalese
+ */
+public enum ReductionMode {
+
+    FAST,
+    REPRODUCIBLE;
+
+}
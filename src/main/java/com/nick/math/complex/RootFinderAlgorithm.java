@@ -0,0 +1,29 @@
+package com.nick.math.complex;
+
+/**
+ * The algorithms of a {@link PolynomialRootFinder}: simultaneous iterations, which refine
+ * approximations of all the roots of a polynomial at once, or the eigenvalues of its companion matrix.
+ * <ul>
+ *   <li> {@link #ABERTH_EHRLICH}: </li>
+ *        the Newton correction {@code N = p(z)/p'(z)} of every root, deflated by the other roots:
+ *        {@code z = z - N / (1 - N * sum(1/(z - z_j)))}. Cubic convergence to simple roots.
+ *        If it does not converge, the roots are computed again with {@link #DURAND_KERNER}.
+ *   <li> {@link #DURAND_KERNER}: </li>
+ *        {@code z = z - p(z) / (c[n] * prod(z - z_j))}. Quadratic convergence to simple roots,
+ *        more robust to bad initial approximations.
+ *   <li> {@link #COMPANION_MATRIX}: </li>
+ *        the eigenvalues of the {@link ComplexMatrix#companion(ComplexPolynomial) companion matrix},
+ *        computed with shifted QR iterations. No initial approximations, {@code O(n^2)} memory
+ *        and {@code O(n^3)} operations: a backward stable reference for polynomials of moderate degree.
+ * </ul>
+ *
+ * @see PolynomialRootFinder
+ * @author Nicolas Scalese
+ */
+public enum RootFinderAlgorithm {
+
+    ABERTH_EHRLICH,
+    DURAND_KERNER,
+    COMPANION_MATRIX;
+
+}
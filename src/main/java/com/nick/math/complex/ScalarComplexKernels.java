@@ -0,0 +1,78 @@
+package com.nick.math.complex;
+
+/**
+ * Scalar implementation of {@link ComplexKernels}: straight-line loops,
+ * without the special-case checks of the {@link Complex} methods.
+ *
+ * @see ComplexKernels
+ * @author Nicolas Scalese
+ */
+final class ScalarComplexKernels implements ComplexKernels {
+
+    static final ScalarComplexKernels INSTANCE = new ScalarComplexKernels();
+
+
+    private ScalarComplexKernels() {}
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void add(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        for (int i = from; i < to; i++) {
+            cr[i] = ar[i] + br[i];
+            ci[i] = ai[i] + bi[i];
+        }
+    }
+
+    @Override
+    public void subtract(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        for (int i = from; i < to; i++) {
+            cr[i] = ar[i] - br[i];
+            ci[i] = ai[i] - bi[i];
+        }
+    }
+
+    @Override
+    public void multiply(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double a1 = ar[i];
+            double b1 = ai[i];
+            double a2 = br[i];
+            double b2 = bi[i];
+            cr[i] = (a1 * a2) - (b1 * b2);
+            ci[i] = (a1 * b2) + (a2 * b1);
+        }
+    }
+
+    @Override
+    public void divide(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double a1 = ar[i];
+            double b1 = ai[i];
+            double a2 = br[i];
+            double b2 = bi[i];
+            double real2plusImg2 = (a2 * a2) + (b2 * b2);
+            cr[i] = ((a1 * a2) + (b1 * b2)) / real2plusImg2;
+            ci[i] = ((b1 * a2) - (a1 * b2)) / real2plusImg2;
+        }
+    }
+
+    @Override
+    public void modulus(double[] ar, double[] ai, double[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double a = ar[i];
+            double b = ai[i];
+            result[i] = Math.sqrt((a * a) + (b * b));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+}
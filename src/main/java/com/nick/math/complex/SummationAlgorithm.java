@@ -0,0 +1,239 @@
+package com.nick.math.complex;
+
+import java.util.Collection;
+
+/**
+ * Algorithms for the sum of many floating-point values, from the fastest to the most accurate.
+ * Complex values are summed part by part: real parts and imaginary parts are 2 independent sums,
+ * computed on primitive {@code double} values, so no object is allocated for each addend.
+ * <ul>
+ *   <li> {@link #NAIVE}: </li>
+ *        plain left-to-right sum. The error grows linearly with the number of values.
+ *   <li> {@link #PAIRWISE}: </li>
+ *        the values are split in halves, recursively, and the partial sums are added in pairs.
+ *        The error grows with the logarithm of the number of values, at almost the speed of
+ *        the naive sum.
+ *   <li> {@link #KAHAN} (default of {@link ComplexNumbers#sumAll(Complex...)}): </li>
+ *        compensated sum: the low-order digits lost by each addition are carried to the next one.
+ *        The error does not depend on the number of values.
+ *   <li> {@link #NEUMAIER}: </li>
+ *        improved compensated sum, which is accurate also when an addend is larger than the
+ *        running sum: for example, it gives {@code 2} for {@code [1, 1e100, 1, -1e100]},
+ *        where the Kahan sum gives {@code 0}.
+ * </ul>
+ * <p>
+ * @apiNote
+ * Compensated sums cost about 4 times the floating-point operations of the naive sum.
+ * Every algorithm gives the same result for the same values in the same order,
+ * but different algorithms may give slightly different results.
+ *
+ * @see ComplexNumbers#sumAll(SummationAlgorithm, Complex...)
+ * @see ComplexArray#sum(SummationAlgorithm)
+ * @author Nicolas Scalese
+ */
+public enum SummationAlgorithm {
+
+    NAIVE,
+    PAIRWISE,
+    KAHAN,
+    NEUMAIER;
+
+    /**
+     * Ranges up to this length are summed naively by {@link #PAIRWISE}.
+     */
+    private static final int PAIRWISE_BLOCK = 32;
+
+
+    /**
+     * Computes the sum of all the given values with this algorithm.
+     *
+     * @param values the values to sum
+     * @return the sum, or {@code 0} if the array is empty
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public double sum(double[] values) {
+        if (values == null) {
+            throw new NullPointerException();
+        }
+        return this.sum(values, 0, values.length);
+    }
+
+    /**
+     * Computes the sum of the values with indexes in range: {@code [from, to)}.
+     */
+    double sum(double[] values, int from, int to) {
+        switch (this) {
+            case NAIVE:
+                return naiveSum(values, from, to);
+            case PAIRWISE:
+                return pairwiseSum(values, from, to);
+            case KAHAN:
+                return kahanSum(values, from, to);
+            default:
+                return neumaierSum(values, from, to);
+        }
+    }
+
+    /**
+     * Computes the sum of the {@link Complex} values with indexes in range: {@code [from, to)},
+     * which must not be empty.
+     */
+    Complex sum(Complex[] values, int from, int to) {
+        if (this == PAIRWISE) {
+            double[] sum = new double[2];
+            pairwiseSum(values, from, to, sum);
+            return new CartesianComplexDouble(sum[0], sum[1]);
+        }
+
+        // [real, imaginary, realCompensation, imaginaryCompensation]
+        double[] sum = {values[from].realValue(), values[from].imaginaryValue(), 0, 0};
+        for (int i = from + 1; i < to; i++) {
+            this.add(sum, values[i].realValue(), values[i].imaginaryValue());
+        }
+        return this.total(sum);
+    }
+
+    /**
+     * Computes the sum of the {@link Complex} values of the given collection,
+     * which must not be empty.
+     */
+    Complex sum(Collection<Complex> values) {
+        if (this == PAIRWISE) {
+            // Needs random access to split the values
+            Complex[] array = values.toArray(new Complex[0]);
+            return this.sum(array, 0, array.length);
+        }
+
+        double[] sum = null;
+        for (Complex c : values) {
+            if (sum != null) {
+                this.add(sum, c.realValue(), c.imaginaryValue());
+            } else {
+                sum = new double[] {c.realValue(), c.imaginaryValue(), 0, 0};
+            }
+        }
+        return this.total(sum);
+    }
+
+    // -------------------------------------------------------------------------
+    //  Sums of Complex values, on primitives:
+    //  sum = [real, imaginary, realCompensation, imaginaryCompensation]
+    // -------------------------------------------------------------------------
+
+    private void add(double[] sum, double real, double imaginary) {
+        switch (this) {
+            case KAHAN:
+                kahanAdd(sum, real, imaginary);
+                break;
+            case NEUMAIER:
+                neumaierAdd(sum, real, imaginary);
+                break;
+            default:
+                sum[0] += real;
+                sum[1] += imaginary;
+        }
+    }
+
+    private Complex total(double[] sum) {
+        if (this == NEUMAIER) {
+            return new CartesianComplexDouble(neumaierTotal(sum[0], sum[2]), neumaierTotal(sum[1], sum[3]));
+        }
+        // Kahan: the compensation is already added to the next values
+        return new CartesianComplexDouble(sum[0], sum[1]);
+    }
+
+    private static void kahanAdd(double[] sum, double real, double imaginary) {
+        double y = real - sum[2];    // Equals c at the 1st iteration. Adds the lost part of previous summation.
+        double t = sum[0] + y;    // If sum is big and y is smaller, there could be digits lost
+        sum[2] = (t - sum[0]) - y;    // Recovers the less significant part of y, negated.
+        sum[0] = t;
+
+        y = imaginary - sum[3];
+        t = sum[1] + y;
+        sum[3] = (t - sum[1]) - y;
+        sum[1] = t;
+    }
+
+    static void neumaierAdd(double[] sum, double real, double imaginary) {
+        // The lost digits belong to the smaller operand, which may be the running sum
+        double t = sum[0] + real;
+        sum[2] += (Math.abs(sum[0]) >= Math.abs(real)) ? (sum[0] - t) + real : (real - t) + sum[0];
+        sum[0] = t;
+
+        t = sum[1] + imaginary;
+        sum[3] += (Math.abs(sum[1]) >= Math.abs(imaginary)) ? (sum[1] - t) + imaginary : (imaginary - t) + sum[1];
+        sum[1] = t;
+    }
+
+    static double neumaierTotal(double sum, double compensation) {
+        // After an overflow the compensation is NaN (infinity - infinity): the sum is the result
+        return Double.isFinite(compensation) ? sum + compensation : sum;
+    }
+
+    private static void pairwiseSum(Complex[] values, int from, int to, double[] sum) {
+        if (to - from <= PAIRWISE_BLOCK) {
+            double real = 0;
+            double imaginary = 0;
+            for (int i = from; i < to; i++) {
+                real += values[i].realValue();
+                imaginary += values[i].imaginaryValue();
+            }
+            sum[0] = real;
+            sum[1] = imaginary;
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        pairwiseSum(values, from, middle, sum);
+        double real = sum[0];
+        double imaginary = sum[1];
+        pairwiseSum(values, middle, to, sum);
+        sum[0] += real;
+        sum[1] += imaginary;
+    }
+
+    // -------------------------------------------------------------------------
+    //  Sums of real values
+    // -------------------------------------------------------------------------
+
+    private static double naiveSum(double[] values, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    private static double pairwiseSum(double[] values, int from, int to) {
+        if (to - from <= PAIRWISE_BLOCK) {
+            return naiveSum(values, from, to);
+        }
+        int middle = (from + to) >>> 1;
+        return pairwiseSum(values, from, middle) + pairwiseSum(values, middle, to);
+    }
+
+    private static double kahanSum(double[] values, int from, int to) {
+        double sum = 0;
+        double compensation = 0;
+        for (int i = from; i < to; i++) {
+            double y = values[i] - compensation;
+            double t = sum + y;
+            compensation = (t - sum) - y;
+            sum = t;
+        }
+        return sum;
+    }
+
+    private static double neumaierSum(double[] values, int from, int to) {
+        double sum = 0;
+        double compensation = 0;
+        for (int i = from; i < to; i++) {
+            double value = values[i];
+            double t = sum + value;
+            compensation += (Math.abs(sum) >= Math.abs(value)) ? (sum - t) + value : (value - t) + sum;
+            sum = t;
+        }
+        return neumaierTotal(sum, compensation);
+    }
+
+}
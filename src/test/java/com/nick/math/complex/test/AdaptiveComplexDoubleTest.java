@@ -0,0 +1,150 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import java.io.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class AdaptiveComplexDoubleTest {
+
+    private static final double EPS = 1e-12;
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testConstructorAndGetters() {
+        Complex cartesian = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofCartesianForm(-3.0, 4.0));
+        Assertions.assertEquals(-3.0, cartesian.realValue());
+        Assertions.assertEquals(4.0, cartesian.imaginaryValue());
+        Assertions.assertEquals(5.0, cartesian.modulusValue());
+        Assertions.assertEquals(Math.atan2(4.0, -3.0), cartesian.mainArgumentValue());
+        Assertions.assertEquals("-3.0 + 4.0i", cartesian.toString());
+
+        Complex polar = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2.0, Math.PI / 3));
+        Assertions.assertEquals(2.0, polar.modulusValue());
+        Assertions.assertEquals(Math.PI / 3, polar.mainArgumentValue());
+        Assertions.assertEquals(2.0 * Math.cos(Math.PI / 3), polar.realValue());
+        Assertions.assertEquals(ComplexNumbers.ofPolarForm(2.0, Math.PI / 3).toString(), polar.toString());
+
+        Complex copy = ComplexNumbers.of(polar);
+        Assertions.assertTrue(copy.deepEquals(polar));
+        Assertions.assertFalse(polar.deepEquals(ComplexNumbers.ofPolarForm(2.0, Math.PI / 3)));
+    }
+
+    @Test
+    public void testOperationsMatchFixedForms() {
+        Random random = new Random(22);
+        for (int i = 0; i < 100; i++) {
+            Complex x = ComplexNumbers.ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            Complex y = ComplexNumbers.ofPolarForm(Math.abs(random.nextGaussian()), 3 * random.nextGaussian());
+            for (Complex ax : new Complex[] {ComplexNumbers.ofAdaptiveForm(x), ComplexNumbers.ofAdaptiveForm(x.pow(1))}) {
+                for (Complex ay : new Complex[] {ComplexNumbers.ofAdaptiveForm(y), ComplexNumbers.ofAdaptiveForm(y.plus(ComplexNumbers.ZERO_COMPLEX_CARTESIAN))}) {
+                    assertSameValue(x.plus(y), ax.plus(ay));
+                    assertSameValue(x.minus(y), ax.minus(ay));
+                    assertSameValue(x.multiplyBy(y), ax.multiplyBy(ay));
+                    assertSameValue(x.divideBy(y), ax.divideBy(ay));
+                    assertSameValue(x.multiplyAdd(y, x), ax.multiplyAdd(ay, ax));
+                    assertSameValue(x.multiplyByReal(-1.5), ax.multiplyByReal(-1.5));
+                    assertSameValue(x.multiplyByImaginary(-0.5), ax.multiplyByImaginary(-0.5));
+                    assertSameValue(x.divideByReal(-2.5), ax.divideByReal(-2.5));
+                    assertSameValue(x.divideByImaginary(0.25), ax.divideByImaginary(0.25));
+                    assertSameValue(x.reciprocal(), ax.reciprocal());
+                    assertSameValue(x.conjugate(), ax.conjugate());
+                    assertSameValue(x.negative(), ax.negative());
+                    assertSameValue(x.pow(2.5), ax.pow(2.5));
+                    assertSameValue(x.root(3, 1), ax.root(3, 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testResultsStayAdaptive() {
+        Complex z = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(1.0, 0.5));
+        Complex chain = z.multiplyBy(z).plus(ComplexNumbers.ONE_COMPLEX_POLAR).pow(2).minus(z);
+        Assertions.assertEquals(ComplexNumbers.ofAdaptiveForm(chain).getClass(), chain.getClass());
+
+        Complex expected = ComplexNumbers.ofPolarForm(1.0, 0.5);
+        expected = expected.multiplyBy(expected).plus(ComplexNumbers.ONE_COMPLEX_POLAR).pow(2).minus(expected);
+        assertSameValue(expected, chain);
+    }
+
+    @Test
+    public void testSerializationAfterOtherForm() throws Exception {
+        Complex polar = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2.0, 1.0));
+        Complex cartesian = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofCartesianForm(-3.0, 4.0));
+        Assertions.assertEquals(2.0 * Math.cos(1.0), polar.realValue());
+        Assertions.assertEquals(5.0, cartesian.modulusValue());
+        for (Complex complex : new Complex[] {polar, cartesian}) {
+            Complex copy = serializeAndDeserialize(complex);
+            Assertions.assertTrue(complex.deepEquals(copy));
+            Assertions.assertEquals(complex.realValue(), copy.realValue());
+            Assertions.assertEquals(complex.modulusValue(), copy.modulusValue());
+        }
+    }
+
+    @Test
+    public void testPredicates() {
+        Complex zero = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ZERO_COMPLEX_POLAR);
+        Assertions.assertTrue(zero.isZero());
+        Assertions.assertTrue(ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ONE_COMPLEX_CARTESIAN).isOne());
+        Assertions.assertTrue(ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2.0, Math.PI)).hasRealOnly());
+        Assertions.assertTrue(ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2.0, -Math.PI / 2)).hasImaginaryOnly());
+        Assertions.assertTrue(ComplexNumbers.ofAdaptiveForm(ComplexNumbers.IMAGINARY_UNIT).hasImaginaryOnly());
+        Assertions.assertTrue(ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofCartesianForm(3.0, 0.0)).hasNullArgument());
+        Assertions.assertTrue(zero.multiplyBy(ComplexNumbers.IMAGINARY_UNIT).isZero());
+    }
+
+    @Test
+    public void testConjugateOfNegativeReal() {
+        // The argument stays in (-PI, PI]: the conjugate of a negative real number is the number itself
+        Complex negative = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2.0, Math.PI));
+        Complex conjugate = negative.conjugate();
+        Assertions.assertEquals(Math.PI, conjugate.mainArgumentValue());
+        Assertions.assertTrue(conjugate.hasRealOnly());
+        Assertions.assertEquals(negative, conjugate);
+        Assertions.assertEquals(-Math.PI / 2, ComplexNumbers.ofAdaptiveForm(ComplexNumbers.IMAGINARY_UNIT).conjugate().mainArgumentValue());
+        Assertions.assertEquals(0.0, ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ZERO_COMPLEX_POLAR).conjugate().mainArgumentValue());
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testDivideByZero() {
+        Complex complex = ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2.0, 1.0));
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            complex.divideBy(ComplexNumbers.ZERO_COMPLEX_CARTESIAN);
+        });
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            complex.divideByReal(0);
+        });
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ZERO_COMPLEX_CARTESIAN).reciprocal();
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            ComplexNumbers.ofAdaptiveForm(null);
+        });
+    }
+
+    private static Complex serializeAndDeserialize(Complex complex) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(complex);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Complex) in.readObject();
+        }
+    }
+
+    private static void assertSameValue(Complex expected, Complex actual) {
+        double tolerance = EPS * Math.max(1, expected.modulusValue());
+        Assertions.assertEquals(expected.realValue(), actual.realValue(), tolerance, expected + " != " + actual);
+        Assertions.assertEquals(expected.imaginaryValue(), actual.imaginaryValue(), tolerance, expected + " != " + actual);
+    }
+
+}
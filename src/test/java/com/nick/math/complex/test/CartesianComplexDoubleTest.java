@@ -1,6 +1,7 @@
 package com.nick.math.complex.test;
 
 import com.nick.math.complex.*;
+import java.io.*;
 import org.junit.jupiter.api.*;
 
 public class CartesianComplexDoubleTest {
@@ -82,6 +83,98 @@ public class CartesianComplexDoubleTest {
         Assertions.assertEquals(10.0, result.imaginaryValue());
     }
 
+    @Test
+    public void testMultiplyAdd() {
+        Complex c1 = ComplexNumbers.ofCartesianForm(1.0, 2.0);
+        Complex c2 = ComplexNumbers.ofCartesianForm(2.0, 3.0);
+        Complex c3 = ComplexNumbers.ofCartesianForm(0.5, -1.0);
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(-3.5, 6.0), c1.multiplyAdd(c2, c3));
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(-4.5, 8.0), c1.multiplySubtract(c2, c3));
+    }
+
+    @Test
+    public void testMultiplyAddCancellation() {
+        // (1 + e)(1 - e) - 1*1 = -e^2 exactly, with e = 2^-27: the rounded products cancel to 0
+        double e = Math.scalb(1.0, -27);
+        Complex c1 = ComplexNumbers.ofCartesianForm(1 + e, 1);
+        Complex c2 = ComplexNumbers.ofCartesianForm(1 - e, 1);
+        Assertions.assertEquals(0.0, c1.multiplyBy(c2).realValue());
+        Assertions.assertEquals(- e * e, c1.multiplyAdd(c2, ComplexNumbers.ZERO_COMPLEX_CARTESIAN).realValue());
+        Assertions.assertEquals(2.0, c1.multiplyAdd(c2, ComplexNumbers.ZERO_COMPLEX_CARTESIAN).imaginaryValue());
+    }
+
+    @Test
+    public void testUncheckedArithmetic() {
+        Complex c1 = ComplexNumbers.ofCartesianForm(1.0, 2.0);
+        Complex c2 = ComplexNumbers.ofCartesianForm(2.0, 3.0);
+        Assertions.assertEquals(c1.multiplyBy(c2), c1.multiplyByUnchecked(c2));
+        Assertions.assertEquals(c1.divideBy(c2), c1.divideByUnchecked(c2));
+        Assertions.assertEquals(ComplexNumbers.ZERO_COMPLEX_CARTESIAN, c1.multiplyByUnchecked(ComplexNumbers.ZERO_COMPLEX_POLAR));
+        Assertions.assertEquals(c1, c1.multiplyByUnchecked(ComplexNumbers.ONE_COMPLEX_CARTESIAN));
+
+        // No exception: IEEE 754 arithmetic
+        Complex quotient = c1.divideByUnchecked(ComplexNumbers.ZERO_COMPLEX_CARTESIAN);
+        Assertions.assertTrue(Double.isNaN(quotient.realValue()));
+    }
+
+    @Test
+    public void testPowInt() {
+        Complex complex = ComplexNumbers.ofCartesianForm(1.0, 1.0);
+        // Repeated squaring: exact for small integer parts
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(0.0, 2.0), complex.pow(2));
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(-2.0, 2.0), complex.pow(3));
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(16.0, 0.0), complex.pow(8));
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(0.0, -1.0 / 32), complex.pow(-10));
+        Assertions.assertEquals(ComplexNumbers.ONE_COMPLEX_CARTESIAN, complex.pow(0));
+        Assertions.assertEquals(complex, complex.pow(1));
+        Assertions.assertEquals(complex.reciprocal(), complex.pow(-1));
+        Assertions.assertEquals(ComplexNumbers.ONE_COMPLEX_CARTESIAN, ComplexNumbers.ZERO_COMPLEX_CARTESIAN.pow(0));
+        Assertions.assertTrue(ComplexNumbers.ZERO_COMPLEX_CARTESIAN.pow(5).isZero());
+
+        Complex other = ComplexNumbers.ofCartesianForm(-0.8, 0.7);
+        for (int exponent : new int[] {-7, -2, 2, 3, 5, 13, 100}) {
+            Complex expected = other.pow((double) exponent);
+            Complex actual = other.pow(exponent);
+            double tolerance = 1e-12 * expected.modulusValue();
+            Assertions.assertEquals(expected.realValue(), actual.realValue(), tolerance);
+            Assertions.assertEquals(expected.imaginaryValue(), actual.imaginaryValue(), tolerance);
+        }
+        Assertions.assertEquals(1.0, ComplexNumbers.ofCartesianForm(0.0, 1.0).pow(Integer.MIN_VALUE).realValue());
+    }
+
+    @Test
+    public void testPowOneHalf() {
+        double[][] values = {{4.0, 0.0}, {-4.0, 0.0}, {-4.0, -0.0}, {3.0, 4.0}, {-3.0, 4.0}, {-3.0, -4.0}, {0.0, -2.0}};
+        for (double[] value : values) {
+            Complex complex = ComplexNumbers.ofCartesianForm(value[0], value[1]);
+            Complex expected = complex.root(2, 0);
+            Complex actual = complex.pow(0.5);
+            Assertions.assertEquals(expected.realValue(), actual.realValue(), 1e-15);
+            Assertions.assertEquals(expected.imaginaryValue(), actual.imaginaryValue(), 1e-15);
+        }
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(2.0, 1.0), ComplexNumbers.ofCartesianForm(3.0, 4.0).pow(0.5));
+        Assertions.assertTrue(ComplexNumbers.ZERO_COMPLEX_CARTESIAN.pow(0.5).isZero());
+    }
+
+    @Test
+    public void testPolarPartsAreMemoized() {
+        Complex complex = ComplexNumbers.ofCartesianForm(-3.0, 4.0);
+        Assertions.assertEquals(5.0, complex.modulusValue());
+        Assertions.assertEquals(Math.atan2(4.0, -3.0), complex.mainArgumentValue());
+        Assertions.assertEquals(complex.modulusValue(), complex.modulusValue());
+        Assertions.assertEquals(Math.PI, ComplexNumbers.ofCartesianForm(-1.0, -0.0).mainArgumentValue());
+    }
+
+    @Test
+    public void testSerializationAfterPolarParts() throws Exception {
+        Complex complex = ComplexNumbers.ofCartesianForm(-3.0, 4.0);
+        Assertions.assertEquals(5.0, complex.modulusValue());
+        Complex copy = serializeAndDeserialize(complex);
+        Assertions.assertTrue(complex.deepEquals(copy));
+        Assertions.assertEquals(5.0, copy.modulusValue());
+        Assertions.assertEquals(complex.mainArgumentValue(), copy.mainArgumentValue());
+    }
+
     @Test
     public void testDivideByReal() {
         Complex complex = ComplexNumbers.ofCartesianForm(4.0, 2.0);
@@ -195,6 +288,16 @@ public class CartesianComplexDoubleTest {
         });
     }
 
+    @Test
+    public void testNegativePowOfZero() {
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            ComplexNumbers.ZERO_COMPLEX_CARTESIAN.pow(-2);
+        });
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            ComplexNumbers.ZERO_COMPLEX_POLAR.pow(-1);
+        });
+    }
+
     @Test
     public void testInvalidRootIndex() {
         Complex complex = ComplexNumbers.ONE_COMPLEX_CARTESIAN;
@@ -206,4 +309,15 @@ public class CartesianComplexDoubleTest {
             complex.root(0, 2);
         });
     }
-}
\ No newline at end of file
+
+    private static Complex serializeAndDeserialize(Complex complex) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(complex);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Complex) in.readObject();
+        }
+    }
+
+}
@@ -0,0 +1,398 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class ComplexArrayTest {
+
+    private static final double EPS = 1e-12;
+
+    private Complex[] values;
+    private Complex[] others;
+
+    @BeforeEach
+    public void setUp() {
+        values = new Complex[] {
+            ComplexNumbers.ofCartesianForm(1.0, 2.0),
+            ComplexNumbers.ofPolarForm(2.0, Math.PI / 3),
+            ComplexNumbers.ofCartesianForm(-3.5, 0.0),
+            ComplexNumbers.ofCartesianForm(0.0, -4.0)
+        };
+        others = new Complex[] {
+            ComplexNumbers.ofCartesianForm(2.0, 3.0),
+            ComplexNumbers.ofCartesianForm(-1.0, 0.5),
+            ComplexNumbers.ofPolarForm(1.5, -Math.PI / 4),
+            ComplexNumbers.ofCartesianForm(0.25, 0.0)
+        };
+    }
+
+    private static void assertSameValues(Complex[] expected, ComplexArray actual) {
+        Assertions.assertEquals(expected.length, actual.length());
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i].realValue(), actual.realValue(i), EPS);
+            Assertions.assertEquals(expected[i].imaginaryValue(), actual.imaginaryValue(i), EPS);
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testConversionFromAndToComplexArray() {
+        ComplexArray array = ComplexArray.of(values);
+        assertSameValues(values, array);
+
+        Complex[] converted = array.toArray();
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertTrue(values[i].equals(converted[i], EPS));
+        }
+
+        assertSameValues(values, ComplexArray.of(Arrays.asList(values)));
+    }
+
+    @Test
+    public void testPlusAndMinus() {
+        ComplexArray array = ComplexArray.of(values);
+        ComplexArray other = ComplexArray.of(others);
+
+        Complex[] sums = new Complex[values.length];
+        Complex[] differences = new Complex[values.length];
+        for (int i = 0; i < values.length; i++) {
+            sums[i] = values[i].plus(others[i]);
+            differences[i] = values[i].minus(others[i]);
+        }
+
+        assertSameValues(sums, array.plus(other));
+        assertSameValues(differences, array.minus(other));
+        assertSameValues(values, array);    // out-of-place: unchanged
+    }
+
+    @Test
+    public void testMultiplyByAndDivideBy() {
+        ComplexArray array = ComplexArray.of(values);
+        ComplexArray other = ComplexArray.of(others);
+
+        Complex[] products = new Complex[values.length];
+        Complex[] quotients = new Complex[values.length];
+        for (int i = 0; i < values.length; i++) {
+            products[i] = values[i].multiplyBy(others[i]);
+            quotients[i] = values[i].divideBy(others[i]);
+        }
+
+        assertSameValues(products, array.multiplyBy(other));
+        assertSameValues(quotients, array.divideBy(other));
+    }
+
+    @Test
+    public void testMultiplyAddAndMultiplySubtract() {
+        ComplexArray array = ComplexArray.of(values);
+        ComplexArray other = ComplexArray.of(others);
+        ComplexArray addend = array.conjugate();
+        Complex factor = ComplexNumbers.ofCartesianForm(0.5, -2.0);
+
+        Complex[] sums = new Complex[values.length];
+        Complex[] differences = new Complex[values.length];
+        Complex[] scalarSums = new Complex[values.length];
+        Complex[] scalarDifferences = new Complex[values.length];
+        for (int i = 0; i < values.length; i++) {
+            sums[i] = values[i].multiplyAdd(others[i], addend.get(i));
+            differences[i] = values[i].multiplySubtract(others[i], addend.get(i));
+            scalarSums[i] = values[i].multiplyAdd(factor, addend.get(i));
+            scalarDifferences[i] = values[i].multiplySubtract(factor, addend.get(i));
+        }
+
+        assertSameValues(sums, array.multiplyAdd(other, addend));
+        assertSameValues(differences, array.multiplySubtract(other, addend));
+        assertSameValues(scalarSums, array.multiplyAdd(factor, addend));
+        assertSameValues(scalarDifferences, array.multiplySubtract(factor, addend));
+
+        Assertions.assertSame(array, array.multiplyAddInPlace(other, addend));
+        assertSameValues(sums, array);
+        array = ComplexArray.of(values);
+        array.multiplySubtractInPlace(factor, addend);
+        assertSameValues(scalarDifferences, array);
+    }
+
+    @Test
+    public void testScalarOperations() {
+        ComplexArray array = ComplexArray.of(values);
+        Complex scalar = ComplexNumbers.ofCartesianForm(0.5, -2.0);
+
+        Complex[] products = new Complex[values.length];
+        Complex[] quotients = new Complex[values.length];
+        Complex[] sums = new Complex[values.length];
+        for (int i = 0; i < values.length; i++) {
+            products[i] = values[i].multiplyBy(scalar);
+            quotients[i] = values[i].divideBy(scalar);
+            sums[i] = values[i].plus(scalar);
+        }
+
+        assertSameValues(products, array.multiplyBy(scalar));
+        assertSameValues(quotients, array.divideBy(scalar));
+        assertSameValues(sums, array.plus(scalar));
+    }
+
+    @Test
+    public void testConjugateReciprocalAndPow() {
+        ComplexArray array = ComplexArray.of(values);
+
+        Complex[] conjugates = new Complex[values.length];
+        Complex[] reciprocals = new Complex[values.length];
+        Complex[] powers = new Complex[values.length];
+        for (int i = 0; i < values.length; i++) {
+            conjugates[i] = values[i].conjugate();
+            reciprocals[i] = values[i].reciprocal();
+            powers[i] = values[i].pow(2.5);
+        }
+
+        assertSameValues(conjugates, array.conjugate());
+        assertSameValues(reciprocals, array.reciprocal());
+        assertSameValues(powers, array.pow(2.5));
+    }
+
+    @Test
+    public void testPowers() {
+        Complex z = ComplexNumbers.ofCartesianForm(1.0, 1.0);
+        ComplexArray powers = ComplexArray.powers(z, 200);
+        Assertions.assertEquals(201, powers.length());
+        Assertions.assertEquals(ComplexNumbers.ONE_COMPLEX_CARTESIAN, powers.get(0));
+        Assertions.assertEquals(z, powers.get(1));
+        // (1 + i)^k has integer parts: both the products and the anchors are exact
+        for (int k = 0; k <= 200; k++) {
+            Assertions.assertEquals(z.pow(k), powers.get(k));
+        }
+
+        // Powers of a unit root stay on the unit circle
+        double theta = 2 * Math.PI / 1000;
+        ComplexArray twiddles = ComplexArray.powers(ComplexNumbers.ofCartesianForm(Math.cos(theta), Math.sin(theta)), 5000);
+        for (int k = 0; k <= 5000; k++) {
+            Assertions.assertEquals(Math.cos(k * theta), twiddles.realValue(k), 1e-13);
+            Assertions.assertEquals(Math.sin(k * theta), twiddles.imaginaryValue(k), 1e-13);
+        }
+
+        Assertions.assertEquals(1, ComplexArray.powers(ComplexNumbers.ZERO_COMPLEX_POLAR, 0).length());
+        Assertions.assertTrue(ComplexArray.powers(ComplexNumbers.ZERO_COMPLEX_POLAR, 3).get(3).isZero());
+    }
+
+    @Test
+    public void testInPlaceOperations() {
+        ComplexArray array = ComplexArray.of(values);
+        ComplexArray other = ComplexArray.of(others);
+
+        Complex[] expected = new Complex[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expected[i] = values[i].multiplyBy(others[i]).plus(others[i]).conjugate();
+        }
+
+        ComplexArray result = array.multiplyByInPlace(other).plusInPlace(other).conjugateInPlace();
+        Assertions.assertSame(array, result);
+        assertSameValues(expected, array);
+    }
+
+
+    @Test
+    public void testBulkOperationsMatchScalarOperations() {
+        // Lengths not multiple of the vector size exercise the scalar tail loops
+        Random random = new Random(42);
+        for (int length = 0; length <= 37; length++) {
+            Complex[] a = new Complex[length];
+            Complex[] b = new Complex[length];
+            for (int i = 0; i < length; i++) {
+                a[i] = ComplexNumbers.ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+                b[i] = ComplexNumbers.ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            }
+            ComplexArray array = ComplexArray.of(a);
+            ComplexArray other = ComplexArray.of(b);
+
+            ComplexArray products = array.multiplyBy(other);
+            ComplexArray quotients = array.divideBy(other);
+            ComplexArray differences = array.minus(other);
+            double[] moduli = array.modulusValues();
+            for (int i = 0; i < length; i++) {
+                Complex product = a[i].multiplyBy(b[i]);
+                Complex quotient = a[i].divideBy(b[i]);
+                Assertions.assertEquals(product.realValue(), products.realValue(i));
+                Assertions.assertEquals(product.imaginaryValue(), products.imaginaryValue(i));
+                Assertions.assertEquals(quotient.realValue(), quotients.realValue(i));
+                Assertions.assertEquals(quotient.imaginaryValue(), quotients.imaginaryValue(i));
+                Assertions.assertEquals(a[i].minus(b[i]).realValue(), differences.realValue(i));
+                Assertions.assertEquals(a[i].modulusValue(), moduli[i]);
+            }
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Peculiar conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testBackingArrays() {
+        double[] real = {1.0, 2.0};
+        double[] imaginary = {3.0, 4.0};
+        ComplexArray array = new ComplexArray(real, imaginary);
+
+        array.set(0, ComplexNumbers.ofCartesianForm(5.0, 6.0));
+        Assertions.assertEquals(5.0, real[0]);
+        Assertions.assertEquals(6.0, imaginary[0]);
+
+        ComplexArray copy = array.copy();
+        copy.set(1, 0, 0);
+        Assertions.assertEquals(2.0, real[1]);
+        Assertions.assertEquals(array, new ComplexArray(real.clone(), imaginary.clone()));
+    }
+
+    @Test
+    public void testConjugateOfRealValue() {
+        ComplexArray array = ComplexArray.of(ComplexNumbers.of(3.0)).conjugate();
+        // Same as Complex#conjugate(): no negative zero
+        Assertions.assertEquals(0.0, array.imaginaryValue(0));
+    }
+
+    @Test
+    public void testSquareRootMatchesScalarSquareRoot() {
+        // pow(0.5) is the Cartesian square root of Complex.pow(0.5): exact on perfect squares,
+        // and on the cut of negative real values the root has a positive imaginary part, also with -0.0
+        Complex[] cartesian = {
+            ComplexNumbers.ofCartesianForm(3.0, 4.0), ComplexNumbers.ofCartesianForm(-3.0, -4.0),
+            ComplexNumbers.ofCartesianForm(-4.0, 0.0), ComplexNumbers.ofCartesianForm(-4.0, -0.0),
+            ComplexNumbers.ofCartesianForm(0.0, 2.0), ComplexNumbers.ofCartesianForm(0.0, 0.0)
+        };
+        ComplexArray array = ComplexArray.of(cartesian);
+        ComplexArray roots = array.pow(0.5);
+        for (int i = 0; i < cartesian.length; i++) {
+            Complex root = cartesian[i].pow(0.5);
+            Assertions.assertEquals(root.realValue(), roots.realValue(i), cartesian[i].toString());
+            Assertions.assertEquals(root.imaginaryValue(), roots.imaginaryValue(i), cartesian[i].toString());
+        }
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(2.0, 1.0), roots.get(0));
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(0.0, 2.0), roots.get(3));
+
+        Assertions.assertSame(array, array.powInPlace(0.5));
+        Assertions.assertEquals(roots, array);
+    }
+
+    @Test
+    public void testIntegerPowMatchesScalarIntegerPow() {
+        // Repeated squaring, like Complex.pow(int) of a Cartesian value: the same bits
+        Complex[] cartesian = {
+            ComplexNumbers.ofCartesianForm(1.0, 2.0), ComplexNumbers.ofCartesianForm(-3.5, 0.0),
+            ComplexNumbers.ofCartesianForm(0.0, -4.0), ComplexNumbers.ofCartesianForm(0.6, -0.8),
+            ComplexNumbers.ofCartesianForm(1.1, 0.3)
+        };
+        ComplexArray array = ComplexArray.of(cartesian);
+        for (int exponent = -5; exponent <= 70; exponent++) {
+            ComplexArray powers = array.pow(exponent);
+            for (int i = 0; i < cartesian.length; i++) {
+                Complex power = cartesian[i].pow(exponent);
+                Assertions.assertEquals(power.realValue(), powers.realValue(i), cartesian[i] + "^" + exponent);
+                Assertions.assertEquals(power.imaginaryValue(), powers.imaginaryValue(i), cartesian[i] + "^" + exponent);
+            }
+        }
+        Assertions.assertEquals(ComplexNumbers.ofCartesianForm(-3.0, 4.0), array.pow(2).get(0));
+        Assertions.assertEquals(1.12, array.pow(2).realValue(4));
+
+        ComplexArray copy = array.copy();
+        Assertions.assertSame(copy, copy.powInPlace(7));
+        Assertions.assertEquals(array.pow(7), copy);
+    }
+
+    @Test
+    public void testPowOnTheNegativeRealAxis() {
+        // The main argument of a negative real value is PI, also with an imaginary part of -0.0
+        Complex[] negatives = { ComplexNumbers.ofCartesianForm(-4.0, 0.0), ComplexNumbers.ofCartesianForm(-4.0, -0.0) };
+        ComplexArray powers = ComplexArray.of(negatives).pow(1.5);
+        for (int i = 0; i < negatives.length; i++) {
+            Complex power = negatives[i].pow(1.5);
+            Assertions.assertEquals(power.realValue(), powers.realValue(i), negatives[i].toString());
+            Assertions.assertEquals(power.imaginaryValue(), powers.imaginaryValue(i), negatives[i].toString());
+        }
+        Assertions.assertEquals(-8.0, powers.imaginaryValue(1), EPS);
+    }
+
+    @Test
+    public void testPowOfZero() {
+        ComplexArray array = new ComplexArray(2).pow(3);
+        Assertions.assertEquals(0.0, array.realValue(1));
+        Assertions.assertEquals(0.0, array.imaginaryValue(1));
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testDifferentLengths() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexArray(3).plus(new ComplexArray(4));
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexArray(3).multiplyAdd(new ComplexArray(3), new ComplexArray(4));
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexArray(new double[2], new double[3]);
+        });
+    }
+
+    @Test
+    public void testDivideByZero() {
+        ComplexArray array = ComplexArray.of(values);
+        ComplexArray divisors = ComplexArray.of(others);
+        divisors.set(2, ComplexNumbers.ZERO_COMPLEX_CARTESIAN);
+
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            array.divideByInPlace(divisors);
+        });
+        assertSameValues(values, array);    // left unchanged
+
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            array.divideBy(ComplexNumbers.ZERO_COMPLEX_POLAR);
+        });
+    }
+
+    @Test
+    public void testReciprocalOfZero() {
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            new ComplexArray(1).reciprocal();
+        });
+    }
+
+    @Test
+    public void testNegativeIntegerPowOfZero() {
+        ComplexArray array = ComplexArray.of(ComplexNumbers.of(2.0), ComplexNumbers.ZERO_COMPLEX_CARTESIAN);
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            array.pow(-2);
+        });
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            array.powInPlace(-1);
+        });
+        Assertions.assertEquals(2.0, array.realValue(0));    // left unchanged
+    }
+
+    @Test
+    public void testNegativeLength() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexArray(-1);
+        });
+    }
+
+    @Test
+    public void testPowersWithNegativeExponent() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexArray.powers(ComplexNumbers.ONE_COMPLEX_CARTESIAN, -1);
+        });
+    }
+
+    @Test
+    public void testOfNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            ComplexArray.of((Complex[]) null);
+        });
+    }
+}
@@ -0,0 +1,186 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import static com.nick.math.complex.ComplexNumbers.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class ComplexMatrixTest {
+
+    /**
+     * Asserts that every expected eigenvalue matches a different computed eigenvalue.
+     */
+    private static void assertEigenvalues(ComplexArray expected, ComplexArray actual, double tolerance) {
+        Assertions.assertEquals(expected.length(), actual.length());
+        boolean[] used = new boolean[actual.length()];
+        for (int i = 0; i < expected.length(); i++) {
+            int closest = -1;
+            double distance = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < actual.length(); j++) {
+                double d = expected.get(i).minus(actual.get(j)).modulusValue();
+                if (!used[j] && (d < distance)) {
+                    closest = j;
+                    distance = d;
+                }
+            }
+            Assertions.assertTrue(distance <= tolerance, expected.get(i) + " not found in " + actual);
+            used[closest] = true;
+        }
+    }
+
+    /**
+     * Returns {@code U * A * U}, with the unitary and Hermitian reflection {@code U = I - 2*v*v^H / |v|^2}:
+     * a matrix with the same eigenvalues of {@code A}.
+     */
+    private static ComplexMatrix reflect(ComplexMatrix a, Random random) {
+        int n = a.size();
+        Complex[] v = new Complex[n];
+        double norm2 = 0;
+        for (int i = 0; i < n; i++) {
+            v[i] = ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            norm2 += v[i].modulusValue() * v[i].modulusValue();
+        }
+        ComplexMatrix u = new ComplexMatrix(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                Complex element = v[i].multiplyBy(v[j].conjugate()).multiplyBy(ofCartesianForm(-2 / norm2, 0));
+                u.set(i, j, (i == j) ? element.plus(ONE_COMPLEX_CARTESIAN) : element);
+            }
+        }
+        return multiply(multiply(u, a), u);
+    }
+
+    private static ComplexMatrix multiply(ComplexMatrix a, ComplexMatrix b) {
+        int n = a.size();
+        ComplexMatrix product = new ComplexMatrix(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                Complex sum = ZERO_COMPLEX_CARTESIAN;
+                for (int k = 0; k < n; k++) {
+                    sum = sum.plus(a.get(i, k).multiplyBy(b.get(k, j)));
+                }
+                product.set(i, j, sum);
+            }
+        }
+        return product;
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testElements() {
+        ComplexMatrix matrix = ComplexMatrix.of(new Complex[][] {
+            {ONE_COMPLEX_CARTESIAN, IMAGINARY_UNIT},
+            {ofCartesianForm(2, -1), ZERO_COMPLEX_POLAR}
+        });
+        Assertions.assertEquals(2, matrix.size());
+        Assertions.assertEquals(ofCartesianForm(2, -1), matrix.get(1, 0));
+        Assertions.assertEquals(1, matrix.imaginaryValue(0, 1));
+        Assertions.assertArrayEquals(new double[] {1, 0, 2, 0}, matrix.realArray());
+        Assertions.assertEquals(matrix, new ComplexMatrix(2, new double[] {1, 0, 2, 0}, new double[] {0, 1, -1, 0}));
+
+        ComplexMatrix copy = matrix.copy();
+        copy.set(1, 1, 5, 5);
+        Assertions.assertNotEquals(matrix, copy);
+        Assertions.assertEquals(0, matrix.realValue(1, 1));
+    }
+
+    @Test
+    public void testKnownEigenvalues() {
+        // [[1, i], [i, 1]]: 1 + i, 1 - i
+        ComplexMatrix matrix = ComplexMatrix.of(new Complex[][] {
+            {ONE_COMPLEX_CARTESIAN, IMAGINARY_UNIT},
+            {IMAGINARY_UNIT, ONE_COMPLEX_CARTESIAN}
+        });
+        assertEigenvalues(ComplexArray.of(ofCartesianForm(1, 1), ofCartesianForm(1, -1)), matrix.eigenvalues(), 1e-15);
+
+        // Rotation by 90 degrees: i, -i
+        matrix = new ComplexMatrix(2, new double[] {0, -1, 1, 0}, new double[4]);
+        assertEigenvalues(ComplexArray.of(IMAGINARY_UNIT, IMAGINARY_UNIT_NEGATIVE), matrix.eigenvalues(), 1e-15);
+
+        // Triangular: the diagonal
+        matrix = new ComplexMatrix(3, new double[] {1, 2, 3, 0, 4, 5, 0, 0, 6}, new double[] {1, 0, 0, 0, -1, 0, 0, 0, 0});
+        assertEigenvalues(ComplexArray.of(ofCartesianForm(1, 1), ofCartesianForm(4, -1), ofCartesianForm(6, 0)),
+                matrix.eigenvalues(), 1e-14);
+
+        Assertions.assertEquals(0, new ComplexMatrix(0).eigenvalues().length());
+        Assertions.assertEquals(ComplexArray.of(ofCartesianForm(3, -2)),
+                new ComplexMatrix(1, new double[] {3}, new double[] {-2}).eigenvalues());
+    }
+
+    @Test
+    public void testEigenvaluesOfSimilarMatrices() {
+        Random random = new Random(149);
+        for (int n : new int[] {2, 5, 20, 60}) {
+            // Upper triangular with random eigenvalues, then a unitary similarity:
+            // small elements above the diagonal, so the eigenvalues are well conditioned
+            ComplexMatrix triangular = new ComplexMatrix(n);
+            ComplexArray expected = new ComplexArray(n);
+            for (int i = 0; i < n; i++) {
+                triangular.set(i, i, random.nextGaussian(), random.nextGaussian());
+                for (int j = i + 1; j < n; j++) {
+                    triangular.set(i, j, 0.1 * random.nextGaussian(), 0.1 * random.nextGaussian());
+                }
+                expected.set(i, triangular.get(i, i));
+            }
+            ComplexMatrix matrix = reflect(triangular, random);
+            ComplexArray eigenvalues = matrix.eigenvalues();
+            assertEigenvalues(expected, eigenvalues, 1e-10);
+
+            // The trace is the sum of the eigenvalues
+            Complex trace = ZERO_COMPLEX_CARTESIAN;
+            for (int i = 0; i < n; i++) {
+                trace = trace.plus(matrix.get(i, i));
+            }
+            Assertions.assertTrue(trace.equals(eigenvalues.sum(), 1e-10 * n));
+        }
+    }
+
+    @Test
+    public void testCompanionMatrix() {
+        // x^3 - 6x^2 + 11x - 6 = (x - 1)(x - 2)(x - 3)
+        ComplexMatrix companion = ComplexMatrix.companion(ComplexPolynomial.of(-6, 11, -6, 1));
+        Assertions.assertArrayEquals(new double[] {6, -11, 6, 1, 0, 0, 0, 1, 0}, companion.realArray(), 0);
+        Assertions.assertArrayEquals(new double[9], companion.imaginaryArray(), 0);
+        assertEigenvalues(ComplexArray.of(ofCartesianForm(1, 0), ofCartesianForm(2, 0), ofCartesianForm(3, 0)),
+                companion.eigenvalues(), 1e-12);
+
+        // 2x^2 + 2i: x^2 = -i, roots (1 - i)/sqrt(2) and (-1 + i)/sqrt(2)
+        companion = ComplexMatrix.companion(ComplexPolynomial.of(ofCartesianForm(0, 2), ZERO_COMPLEX_CARTESIAN, ofCartesianForm(2, 0)));
+        double r = Math.sqrt(0.5);
+        assertEigenvalues(ComplexArray.of(ofCartesianForm(r, -r), ofCartesianForm(-r, r)), companion.eigenvalues(), 1e-15);
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexMatrix(-1);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexMatrix(2, new double[4], new double[3]);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new ComplexMatrix(2, null, new double[4]);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexMatrix.of(new Complex[][] {{ONE_COMPLEX_CARTESIAN, ONE_COMPLEX_CARTESIAN}});
+        });
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            new ComplexMatrix(2).get(0, 2);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexMatrix(1, new double[] {Double.NaN}, new double[1]).eigenvalues();
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexMatrix.companion(ComplexPolynomial.of(0));
+        });
+    }
+}
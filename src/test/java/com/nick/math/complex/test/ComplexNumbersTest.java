@@ -2,6 +2,7 @@ package com.nick.math.complex.test;
 
 import com.nick.math.complex.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.*;
 
 
@@ -36,6 +37,54 @@ public class ComplexNumbersTest {
     }
 
 
+    @Test
+    public void testOfComplexCopiesEveryImplementation() {
+        Complex[] values = {
+            ComplexNumbers.ofCartesianForm(3.0, 4.0),
+            ComplexNumbers.ofPolarForm(2.0, 1.0),
+            ComplexNumbers.ofAdaptiveForm(ComplexNumbers.ofPolarForm(2.0, 1.0))
+        };
+        for (Complex value : values) {
+            Complex copy = ComplexNumbers.of(value);
+            Assertions.assertNotSame(value, copy);
+            Assertions.assertTrue(value.deepEquals(copy));
+        }
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            ComplexNumbers.of((Complex) null);
+        });
+    }
+
+    @Test
+    public void testSameImplementationProductsAndQuotients() {
+        // Cartesian * Cartesian and polar * polar take a path specialized for the same implementation:
+        // the special cases must give the same results of the general path
+        Complex[] cartesian = {
+            ComplexNumbers.ZERO_COMPLEX_CARTESIAN, ComplexNumbers.ONE_COMPLEX_CARTESIAN,
+            ComplexNumbers.ofCartesianForm(-2.5, 0), ComplexNumbers.ofCartesianForm(0, 3),
+            ComplexNumbers.ofCartesianForm(1.5, -2.25), ComplexNumbers.ofCartesianForm(1, 0.5)
+        };
+        for (Complex c1 : cartesian) {
+            for (Complex c2 : cartesian) {
+                Complex p2 = ComplexNumbers.ofPolarForm(c2.modulusValue(), c2.mainArgumentValue());
+                Assertions.assertTrue(c1.multiplyBy(p2).equals(c1.multiplyBy(c2), 1e-12));
+                Assertions.assertTrue(p2.multiplyBy(c1).equals(
+                        p2.multiplyBy(ComplexNumbers.ofPolarForm(c1.modulusValue(), c1.mainArgumentValue())), 1e-12));
+                if (!c2.isZero()) {
+                    Assertions.assertTrue(c1.divideBy(p2).equals(c1.divideBy(c2), 1e-12));
+                }
+            }
+        }
+        Complex c1 = ComplexNumbers.ofCartesianForm(1.5, -2.25);
+        Assertions.assertSame(c1, c1.multiplyBy(ComplexNumbers.ONE_COMPLEX_CARTESIAN));
+        Assertions.assertSame(ComplexNumbers.ZERO_COMPLEX_CARTESIAN, c1.multiplyBy(ComplexNumbers.ZERO_COMPLEX_CARTESIAN));
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            c1.divideBy(ComplexNumbers.ZERO_COMPLEX_CARTESIAN);
+        });
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            ComplexNumbers.ONE_COMPLEX_POLAR.divideBy(ComplexNumbers.ZERO_COMPLEX_POLAR);
+        });
+    }
+
     @Test
     public void testSumAllVarargs() {
         Complex c1 = ComplexNumbers.ofCartesianForm(1, 1);
@@ -171,6 +220,233 @@ public class ComplexNumbersTest {
         Assertions.assertEquals(-1, roots[1].imaginaryValue(), 1e-10);
     }
 
+    @Test
+    public void testBatchQuadraticEquationsReal() {
+        // Special cases first: b = 0, c = 0, b = c = 0, delta = 0, delta < 0, then random equations
+        double[] a = {2, 1, 3, 1, 1, 1e-3, 0, 0, 0, 0};
+        double[] b = {0, 0, -6, 0, 2, 1e3, 0, 0, 0, 0};
+        double[] c = {-8, 4, 0, 0, 1, 1e-3, 0, 0, 0, 0};
+        Random random = new Random(101);
+        for (int i = 6; i < a.length; i++) {
+            a[i] = random.nextGaussian();
+            b[i] = random.nextGaussian();
+            c[i] = random.nextGaussian();
+        }
+        ComplexArray x1 = new ComplexArray(a.length);
+        ComplexArray x2 = new ComplexArray(a.length);
+        ComplexNumbers.solveQuadraticEquations(a, b, c, x1, x2);
+
+        for (int i = 0; i < a.length; i++) {
+            Complex[] expected = ComplexNumbers.solveQuadraticEquation(a[i], b[i], c[i]);
+            Assertions.assertTrue(expected[0].equals(x1.get(i), 1e-9), i + ": " + expected[0] + " " + x1.get(i));
+            Assertions.assertTrue(expected[1].equals(x2.get(i), 1e-9), i + ": " + expected[1] + " " + x2.get(i));
+        }
+        // Alternative formula: the small root of 1e-3 x^2 + 1e3 x + 1e-3 is not cancelled
+        Assertions.assertEquals(-1.000000000001e-6, x2.realValue(5), 1e-20);
+    }
+
+    @Test
+    public void testBatchQuadraticEquationsComplex() {
+        int n = 1000;
+        ComplexArray a = new ComplexArray(n);
+        ComplexArray b = new ComplexArray(n);
+        ComplexArray c = new ComplexArray(n);
+        Random random = new Random(103);
+        for (int i = 0; i < n; i++) {
+            a.set(i, random.nextGaussian(), random.nextGaussian());
+            // Some equations with b = 0 or c = 0
+            b.set(i, (i % 7 == 0) ? 0 : random.nextGaussian(), (i % 7 == 0) ? 0 : random.nextGaussian());
+            c.set(i, (i % 11 == 0) ? 0 : random.nextGaussian(), (i % 11 == 0) ? 0 : random.nextGaussian());
+        }
+        ComplexArray x1 = new ComplexArray(n);
+        ComplexArray x2 = new ComplexArray(n);
+        ComplexNumbers.solveQuadraticEquations(a, b, c, x1, x2);
+
+        for (int i = 0; i < n; i++) {
+            Complex[] expected = ComplexNumbers.solveQuadraticEquation(a.get(i), b.get(i), c.get(i));
+            Assertions.assertTrue(expected[0].equals(x1.get(i), 1e-9), i + ": " + expected[0] + " " + x1.get(i));
+            Assertions.assertTrue(expected[1].equals(x2.get(i), 1e-9), i + ": " + expected[1] + " " + x2.get(i));
+        }
+
+        // The same roots with the threads of a pool
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ComplexArray y1 = new ComplexArray(n);
+            ComplexArray y2 = new ComplexArray(n);
+            ComplexNumbers.solveQuadraticEquations(a, b, c, y1, y2, pool);
+            Assertions.assertEquals(x1, y1);
+            Assertions.assertEquals(x2, y2);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the modulus of the polynomial with the given coefficients (from the highest degree) at {@code x}.
+     */
+    private static double residual(Complex x, Complex... coefficients) {
+        MutableComplex value = new MutableComplex(0, 0);
+        for (Complex coefficient : coefficients) {
+            value.mulInPlace(x).addInPlace(coefficient);
+        }
+        return Math.hypot(value.realValue(), value.imaginaryValue());
+    }
+
+    @Test
+    public void testCubicEquationRoots() {
+        // (x - 1)(x - 2)(x - 3) = x^3 - 6x^2 + 11x - 6
+        Complex[] roots = ComplexNumbers.solveCubicEquation(1, -6, 11, -6);
+        for (int k = 0; k < 3; k++) {
+            Assertions.assertEquals(k + 1, roots[k].realValue(), 1e-12);
+            Assertions.assertEquals(0, roots[k].imaginaryValue());
+        }
+
+        // x^3 - 1 = 0: 1, -1/2 +- i*sqrt(3)/2
+        roots = ComplexNumbers.solveCubicEquation(1, 0, 0, -1);
+        Assertions.assertTrue(roots[0].equals(ComplexNumbers.ONE_COMPLEX_CARTESIAN, 1e-12));
+        Assertions.assertTrue(roots[1].equals(ComplexNumbers.ofCartesianForm(-0.5, Math.sqrt(3) / 2), 1e-12));
+        Assertions.assertTrue(roots[2].equals(ComplexNumbers.ofCartesianForm(-0.5, - Math.sqrt(3) / 2), 1e-12));
+
+        // Triple root: (x + 2)^3
+        roots = ComplexNumbers.solveCubicEquation(2, 12, 24, 16, false);
+        for (Complex root : roots) {
+            Assertions.assertTrue(root.equals(ComplexNumbers.ofCartesianForm(-2, 0), 1e-12));
+        }
+
+        // (x - i)(x + 1)(x - 2 - i) = x^3 + (-1 - 2i)x^2 - 3x + (-1 + 2i)
+        Complex a = ComplexNumbers.ONE_COMPLEX_CARTESIAN;
+        Complex b = ComplexNumbers.ofCartesianForm(-1, -2);
+        Complex c = ComplexNumbers.ofCartesianForm(-3, 0);
+        Complex d = ComplexNumbers.ofCartesianForm(-1, 2);
+        for (Complex root : ComplexNumbers.solveCubicEquation(a, b, c, d)) {
+            Assertions.assertTrue(residual(root, a, b, c, d) < 1e-12, root.toString());
+        }
+        Complex[] expected = {ComplexNumbers.IMAGINARY_UNIT, ComplexNumbers.ofCartesianForm(-1, 0), ComplexNumbers.ofCartesianForm(2, 1)};
+        for (Complex x : expected) {
+            Assertions.assertTrue(Arrays.stream(ComplexNumbers.solveCubicEquation(a, b, c, d)).anyMatch(root -> root.equals(x, 1e-12)));
+        }
+    }
+
+    @Test
+    public void testCubicEquationRandomResiduals() {
+        Random random = new Random(107);
+        for (int i = 0; i < 1000; i++) {
+            double[] p = {random.nextGaussian(), random.nextGaussian(), random.nextGaussian(), random.nextGaussian()};
+            Complex[] coefficients = {ComplexNumbers.of(p[0]), ComplexNumbers.of(p[1]), ComplexNumbers.of(p[2]), ComplexNumbers.of(p[3])};
+            double scale = Math.abs(p[0]) + Math.abs(p[1]) + Math.abs(p[2]) + Math.abs(p[3]);
+            for (Complex root : ComplexNumbers.solveCubicEquation(p[0], p[1], p[2], p[3])) {
+                double size = Math.max(1, Math.pow(root.modulusValue(), 3));
+                Assertions.assertTrue(residual(root, coefficients) < 1e-12 * scale * size, i + ": " + root);
+            }
+
+            Complex[] complexCoefficients = new Complex[4];
+            for (int k = 0; k < 4; k++) {
+                complexCoefficients[k] = ComplexNumbers.ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            }
+            for (Complex root : ComplexNumbers.solveCubicEquation(complexCoefficients[0], complexCoefficients[1],
+                    complexCoefficients[2], complexCoefficients[3])) {
+                double size = Math.max(1, Math.pow(root.modulusValue(), 3));
+                Assertions.assertTrue(residual(root, complexCoefficients) < 1e-11 * size, i + ": " + root);
+            }
+        }
+    }
+
+    @Test
+    public void testQuarticEquationRoots() {
+        // (x - 1)(x - 2)(x - 3)(x - 4) = x^4 - 10x^3 + 35x^2 - 50x + 24
+        Complex[] roots = ComplexNumbers.solveQuarticEquation(1, -10, 35, -50, 24);
+        for (int k = 0; k < 4; k++) {
+            Assertions.assertEquals(k + 1, roots[k].realValue(), 1e-12);
+            Assertions.assertEquals(0, roots[k].imaginaryValue());
+        }
+
+        // (x^2 + 1)(x^2 - 2x + 5) = x^4 - 2x^3 + 6x^2 - 2x + 5: +-i, 1 +- 2i
+        roots = ComplexNumbers.solveQuarticEquation(1, -2, 6, -2, 5);
+        Assertions.assertTrue(roots[0].equals(ComplexNumbers.IMAGINARY_UNIT, 1e-12), roots[0].toString());
+        Assertions.assertTrue(roots[1].equals(ComplexNumbers.IMAGINARY_UNIT_NEGATIVE, 1e-12), roots[1].toString());
+        Assertions.assertTrue(roots[2].equals(ComplexNumbers.ofCartesianForm(1, 2), 1e-12), roots[2].toString());
+        Assertions.assertTrue(roots[3].equals(ComplexNumbers.ofCartesianForm(1, -2), 1e-12), roots[3].toString());
+
+        // Biquadratic: x^4 - 5x^2 + 4 = 0 -> -2, -1, 1, 2
+        roots = ComplexNumbers.solveQuarticEquation(1, 0, -5, 0, 4, false);
+        double[] expected = {-2, -1, 1, 2};
+        for (int k = 0; k < 4; k++) {
+            Assertions.assertEquals(expected[k], roots[k].realValue(), 1e-12);
+        }
+
+        Random random = new Random(109);
+        for (int i = 0; i < 1000; i++) {
+            double[] p = new double[5];
+            Complex[] coefficients = new Complex[5];
+            Complex[] complexCoefficients = new Complex[5];
+            for (int k = 0; k < 5; k++) {
+                p[k] = random.nextGaussian();
+                coefficients[k] = ComplexNumbers.of(p[k]);
+                complexCoefficients[k] = ComplexNumbers.ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            }
+            for (Complex root : ComplexNumbers.solveQuarticEquation(p[0], p[1], p[2], p[3], p[4])) {
+                double size = Math.max(1, Math.pow(root.modulusValue(), 4));
+                Assertions.assertTrue(residual(root, coefficients) < 1e-10 * size, i + ": " + root);
+            }
+            for (Complex root : ComplexNumbers.solveQuarticEquation(complexCoefficients[0], complexCoefficients[1],
+                    complexCoefficients[2], complexCoefficients[3], complexCoefficients[4])) {
+                double size = Math.max(1, Math.pow(root.modulusValue(), 4));
+                Assertions.assertTrue(residual(root, complexCoefficients) < 1e-10 * size, i + ": " + root);
+            }
+        }
+    }
+
+    @Test
+    public void testBatchCubicAndQuarticEquations() {
+        int n = 1000;
+        double[][] p = new double[5][n];
+        ComplexArray[] q = new ComplexArray[5];
+        Random random = new Random(113);
+        for (int k = 0; k < 5; k++) {
+            q[k] = new ComplexArray(n);
+            for (int i = 0; i < n; i++) {
+                p[k][i] = random.nextGaussian();
+                q[k].set(i, random.nextGaussian(), random.nextGaussian());
+            }
+        }
+
+        ComplexArray cubic = new ComplexArray(3 * n);
+        ComplexArray complexCubic = new ComplexArray(3 * n);
+        ComplexArray quartic = new ComplexArray(4 * n);
+        ComplexArray complexQuartic = new ComplexArray(4 * n);
+        ComplexNumbers.solveCubicEquations(p[0], p[1], p[2], p[3], cubic);
+        ComplexNumbers.solveCubicEquations(q[0], q[1], q[2], q[3], complexCubic);
+        ComplexNumbers.solveQuarticEquations(p[0], p[1], p[2], p[3], p[4], quartic);
+        ComplexNumbers.solveQuarticEquations(q[0], q[1], q[2], q[3], q[4], complexQuartic);
+        for (int i = 0; i < n; i++) {
+            Complex[] roots = ComplexNumbers.solveCubicEquation(p[0][i], p[1][i], p[2][i], p[3][i]);
+            Complex[] complexRoots = ComplexNumbers.solveCubicEquation(q[0].get(i), q[1].get(i), q[2].get(i), q[3].get(i));
+            for (int k = 0; k < 3; k++) {
+                Assertions.assertEquals(roots[k], cubic.get(3 * i + k));
+                Assertions.assertEquals(complexRoots[k], complexCubic.get(3 * i + k));
+            }
+            roots = ComplexNumbers.solveQuarticEquation(p[0][i], p[1][i], p[2][i], p[3][i], p[4][i]);
+            complexRoots = ComplexNumbers.solveQuarticEquation(q[0].get(i), q[1].get(i), q[2].get(i), q[3].get(i), q[4].get(i));
+            for (int k = 0; k < 4; k++) {
+                Assertions.assertEquals(roots[k], quartic.get(4 * i + k));
+                Assertions.assertEquals(complexRoots[k], complexQuartic.get(4 * i + k));
+            }
+        }
+
+        // The same roots with the threads of a pool
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ComplexArray parallel = new ComplexArray(3 * n);
+            ComplexNumbers.solveCubicEquations(q[0], q[1], q[2], q[3], parallel, pool);
+            Assertions.assertEquals(complexCubic, parallel);
+            parallel = new ComplexArray(4 * n);
+            ComplexNumbers.solveQuarticEquations(p[0], p[1], p[2], p[3], p[4], parallel, pool);
+            Assertions.assertEquals(quartic, parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 
     // ---------------------------------------------------------------------- //
     //  Peculiar conditions
@@ -287,7 +563,56 @@ public class ComplexNumbersTest {
         Assertions.assertEquals(0, roots[1].imaginaryValue(), 1e-10);
     }
 
-    
+    @Test
+    public void testCubicEquationWithExtremeCoefficients() {
+        // x^3 + 1e300 = 0: -1e100, 1e100 * (1/2 +- i*sqrt(3)/2)
+        for (boolean polish : new boolean[] {false, true}) {
+            Complex[] roots = ComplexNumbers.solveCubicEquation(1, 0, 0, 1e300, polish);
+            Assertions.assertEquals(-1e100, roots[0].realValue(), 1e85);
+            Assertions.assertEquals(0, roots[0].imaginaryValue());
+            Assertions.assertEquals(0.5e100, roots[1].realValue(), 1e85);
+            Assertions.assertEquals(Math.sqrt(3) / 2 * 1e100, roots[1].imaginaryValue(), 1e85);
+
+            Complex one = ComplexNumbers.ONE_COMPLEX_CARTESIAN;
+            Complex zero = ComplexNumbers.ZERO_COMPLEX_CARTESIAN;
+            roots = ComplexNumbers.solveCubicEquation(one, zero, zero, ComplexNumbers.of(1e300), polish);
+            Assertions.assertTrue(Arrays.stream(roots).anyMatch(root -> root.equals(ComplexNumbers.of(-1e100), 1e85)));
+
+            // 1e-200 x^3 + x - 1 = 0: a root close to 1, 2 roots close to +-1e100 i
+            roots = ComplexNumbers.solveCubicEquation(1e-200, 0, 1, -1, polish);
+            Assertions.assertEquals(1, roots[0].realValue(), 1e-15);
+            Assertions.assertEquals(0, roots[0].imaginaryValue());
+            Assertions.assertEquals(1e100, roots[1].imaginaryValue(), 1e85);
+            roots = ComplexNumbers.solveCubicEquation(ComplexNumbers.of(1e-200), zero, one, ComplexNumbers.of(-1), polish);
+            Assertions.assertTrue(Arrays.stream(roots).anyMatch(root -> root.equals(one, 1e-15)), Arrays.toString(roots));
+        }
+    }
+
+    @Test
+    public void testQuarticEquationWithExtremeCoefficients() {
+        // x^4 + 1e300 x + 1e300 = 0: a root close to -1, and the 3 cube roots of -1e300
+        for (boolean polish : new boolean[] {false, true}) {
+            Complex[] roots = ComplexNumbers.solveQuarticEquation(1, 0, 0, 1e300, 1e300, polish);
+            Assertions.assertEquals(-1e100, roots[0].realValue(), 1e85);
+            Assertions.assertEquals(-1, roots[1].realValue(), 1e-15);
+            Assertions.assertEquals(0.5e100, roots[2].realValue(), 1e85);
+            Assertions.assertEquals(Math.sqrt(3) / 2 * 1e100, roots[2].imaginaryValue(), 1e85);
+
+            Complex one = ComplexNumbers.ONE_COMPLEX_CARTESIAN;
+            Complex zero = ComplexNumbers.ZERO_COMPLEX_CARTESIAN;
+            Complex big = ComplexNumbers.of(1e300);
+            roots = ComplexNumbers.solveQuarticEquation(one, zero, zero, big, big, polish);
+            Assertions.assertTrue(Arrays.stream(roots).anyMatch(root -> root.equals(ComplexNumbers.of(-1), 1e-15)), Arrays.toString(roots));
+            Assertions.assertTrue(Arrays.stream(roots).anyMatch(root -> root.equals(ComplexNumbers.of(-1e100), 1e85)), Arrays.toString(roots));
+
+            // 1e-200 x^4 + x - 1 = 0: a root close to 1
+            roots = ComplexNumbers.solveQuarticEquation(1e-200, 0, 0, 1, -1, polish);
+            Assertions.assertEquals(1, roots[1].realValue(), 1e-15);
+            Assertions.assertEquals(-Math.cbrt(1e200), roots[0].realValue(), 1e51);
+        }
+    }
+
+
     // ---------------------------------------------------------------------- //
     //  Anomalous conditions
     // ---------------------------------------------------------------------- //
@@ -401,7 +726,56 @@ public class ComplexNumbersTest {
         });
     }
 
+    @Test
+    public void testBatchQuadraticEquationsInvalidArguments() {
+        double[] a = {1, 0, 1};
+        double[] b = {1, 1, 1};
+        double[] c = {1, 1, 1};
+        ComplexArray x1 = new ComplexArray(3);
+        ComplexArray x2 = new ComplexArray(3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexNumbers.solveQuadraticEquations(a, b, c, x1, x2);
+        });
+        // No root is written
+        Assertions.assertEquals(new ComplexArray(3), x1);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexNumbers.solveQuadraticEquations(a, b, new double[2], x1, x2);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            ComplexNumbers.solveQuadraticEquations(a, b, c, x1, null);
+        });
+    }
+
     // Test for solveQuadraticEquation(Complex a, Complex b, Complex c) with a == 0
+    @Test
+    public void testCubicAndQuarticEquationsInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexNumbers.solveCubicEquation(0, 1, 2, 3);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexNumbers.solveQuarticEquation(ComplexNumbers.ZERO_COMPLEX_POLAR, ComplexNumbers.ONE_COMPLEX_CARTESIAN, ComplexNumbers.ONE_COMPLEX_CARTESIAN,
+                    ComplexNumbers.ONE_COMPLEX_CARTESIAN, ComplexNumbers.ONE_COMPLEX_CARTESIAN);
+        });
+
+        double[] ones = {1, 1};
+        ComplexArray roots = new ComplexArray(6);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexNumbers.solveCubicEquations(ones, ones, ones, new double[] {1}, roots);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexNumbers.solveQuarticEquations(ones, ones, ones, ones, ones, roots);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexNumbers.solveCubicEquations(new double[] {1, 0}, ones, ones, ones, roots);
+        });
+        // No root is written
+        Assertions.assertEquals(new ComplexArray(6), roots);
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            ComplexNumbers.solveCubicEquations(ones, ones, null, ones, roots);
+        });
+    }
+
     @Test
     public void testQuadraticEquationRootsRealAZero() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> {
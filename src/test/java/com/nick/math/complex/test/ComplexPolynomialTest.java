@@ -0,0 +1,283 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import static com.nick.math.complex.ComplexNumbers.*;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class ComplexPolynomialTest {
+
+    private static final double EPS = 1e-12;
+
+
+    private static ComplexPolynomial random(Random random, int degree) {
+        double[] real = new double[degree + 1];
+        double[] imaginary = new double[degree + 1];
+        for (int k = 0; k <= degree; k++) {
+            real[k] = random.nextGaussian();
+            imaginary[k] = random.nextGaussian();
+        }
+        return new ComplexPolynomial(real, imaginary);
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testCoefficients() {
+        // 1 + (2 - i)*x + 0*x^2 + 0*x^3: the highest zero coefficients are removed
+        ComplexPolynomial p = ComplexPolynomial.of(ONE_COMPLEX_CARTESIAN, ofCartesianForm(2, -1),
+                ZERO_COMPLEX_CARTESIAN, ZERO_COMPLEX_POLAR);
+        Assertions.assertEquals(1, p.degree());
+        Assertions.assertEquals(ofCartesianForm(2, -1), p.coefficient(1));
+        Assertions.assertEquals(0, p.realCoefficient(5));
+        Assertions.assertEquals(ComplexArray.of(ONE_COMPLEX_CARTESIAN, ofCartesianForm(2, -1)), p.coefficients());
+        Assertions.assertEquals(p, new ComplexPolynomial(new double[] {1, 2, 0}, new double[] {0, -1, 0}));
+        Assertions.assertEquals(p.hashCode(), new ComplexPolynomial(new double[] {1, 2}, new double[] {0, -1}).hashCode());
+
+        Assertions.assertTrue(ComplexPolynomial.of(0, 0).isZero());
+        Assertions.assertEquals(0, ComplexPolynomial.of(0, 0).degree());
+    }
+
+    @Test
+    public void testEvaluateAndDerivative() {
+        // x^3 - 1 at i: -i - 1
+        ComplexPolynomial p = ComplexPolynomial.of(-1, 0, 0, 1);
+        Assertions.assertTrue(p.evaluate(IMAGINARY_UNIT).equals(ofCartesianForm(-1, -1), EPS));
+        Assertions.assertEquals(ComplexPolynomial.of(0, 0, 3), p.derivative());
+        Assertions.assertTrue(ComplexPolynomial.of(7).derivative().isZero());
+
+        Random random = new Random(127);
+        Complex[] coefficients = new Complex[8];
+        for (int k = 0; k < coefficients.length; k++) {
+            coefficients[k] = ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+        }
+        ComplexPolynomial q = ComplexPolynomial.of(coefficients);
+        Complex x = ofCartesianForm(0.3, -0.7);
+        Complex expected = ZERO_COMPLEX_CARTESIAN;
+        for (int k = 0; k < coefficients.length; k++) {
+            expected = expected.plus(coefficients[k].multiplyBy(x.pow(k)));
+        }
+        Assertions.assertTrue(q.evaluate(x).equals(expected, EPS));
+    }
+
+    @Test
+    public void testArithmetic() {
+        // (1 + x)(1 - x) = 1 - x^2
+        ComplexPolynomial p = ComplexPolynomial.of(1, 1);
+        ComplexPolynomial q = ComplexPolynomial.of(1, -1);
+        Assertions.assertEquals(ComplexPolynomial.of(1, 0, -1), p.multiplyBy(q));
+        Assertions.assertEquals(ComplexPolynomial.of(2), p.plus(q));
+        Assertions.assertEquals(ComplexPolynomial.of(0, 2), p.minus(q));
+        Assertions.assertTrue(p.minus(p).isZero());
+        Assertions.assertTrue(p.multiplyBy(ComplexPolynomial.of(0)).isZero());
+        // x^3 + 2 = (x^2 - x + 1)(x + 1) + 1
+        Assertions.assertEquals(ComplexPolynomial.of(1), ComplexPolynomial.of(2, 0, 0, 1).remainder(p));
+        Assertions.assertEquals(q, q.remainder(ComplexPolynomial.of(0, 0, 1)));
+
+        // Large polynomials: products with FFTs, remainders with power series inverses
+        Random random = new Random(151);
+        for (int degree : new int[] {10, 100, 1000}) {
+            ComplexPolynomial a = random(random, degree);
+            ComplexPolynomial b = random(random, degree / 2);
+            ComplexPolynomial product = a.multiplyBy(b);
+            Assertions.assertEquals(a.degree() + b.degree(), product.degree());
+            for (Complex x : new Complex[] {ofCartesianForm(0.3, -0.7), ofCartesianForm(-0.9, 0.1)}) {
+                Assertions.assertTrue(product.evaluate(x).equals(a.evaluate(x).multiplyBy(b.evaluate(x)), 1e-12 * degree));
+            }
+
+            // Divisor with roots inside the unit circle: a well conditioned division
+            double[] divisor = new double[degree / 2 + 1];
+            divisor[0] = 0.5;
+            divisor[1] = -0.25;
+            divisor[degree / 2] = 1;
+            ComplexPolynomial c = ComplexPolynomial.of(divisor);
+            ComplexPolynomial r = random(random, degree / 2 - 1);
+            ComplexPolynomial remainder = a.multiplyBy(c).plus(r).remainder(c);
+            Assertions.assertTrue(remainder.degree() < c.degree());
+            for (int k = 0; k < c.degree(); k++) {
+                Assertions.assertTrue(remainder.coefficient(k).equals(r.coefficient(k), 1e-12 * degree));
+            }
+        }
+    }
+
+    @Test
+    public void testEvaluateAtManyPoints() {
+        Random random = new Random(157);
+        for (int n : new int[] {20, 600}) {
+            // The n-th roots of a number, and the exact values at the same points
+            ComplexPolynomial p = random(random, n);
+            ComplexArray points = ComplexArray.of(ofCartesianForm(0.9, 0.4).allRoots(n));
+            ComplexArray values = p.evaluate(points);
+            Assertions.assertEquals(n, values.length());
+            double bound = 4 * n * Math.ulp(1.0) * absoluteSum(p, 1);
+            for (int i = 0; i < n; i++) {
+                assertCloseToExact(p, points.realValue(i), points.imaginaryValue(i), values, i, bound);
+            }
+        }
+
+        ComplexPolynomial p = ComplexPolynomial.of(-1, 0, 0, 1);
+        Assertions.assertEquals(0, p.evaluate(new ComplexArray(0)).length());
+        MutableComplex result = new MutableComplex();
+        Assertions.assertSame(result, p.evaluate(0, 1, result));
+        Assertions.assertEquals(-1, result.realValue());
+        Assertions.assertEquals(-1, result.imaginaryValue());
+    }
+
+    @Test
+    public void testEvaluateOnCircle() {
+        Random random = new Random(163);
+        // Fewer, as many, and more points than coefficients, inside, on and outside the unit circle
+        int[][] cases = {{20, 7}, {20, 21}, {20, 50}, {600, 600}, {600, 1000}};
+        for (int[] c : cases) {
+            ComplexPolynomial p = random(random, c[0]);
+            int count = c[1];
+            for (double radius : new double[] {0.5, 1, 2}) {
+                double angle = 0.3;
+                ComplexArray values = p.evaluateOnCircle(radius, angle, count);
+                Assertions.assertEquals(count, values.length());
+                double bound = 4 * c[0] * Math.ulp(1.0) * absoluteSum(p, radius);
+                for (int j = 0; j < count; j++) {
+                    double theta = angle + 2 * Math.PI * j / count;
+                    assertCloseToExact(p, radius * Math.cos(theta), radius * Math.sin(theta), values, j, bound);
+                }
+            }
+        }
+
+        // x^3 - 1 at the cube roots of unity
+        ComplexArray zeros = ComplexPolynomial.of(-1, 0, 0, 1).evaluateOnCircle(1, 0, 3);
+        for (int j = 0; j < 3; j++) {
+            Assertions.assertTrue(zeros.get(j).equals(ofCartesianForm(0, 0), EPS), zeros.get(j).toString());
+        }
+    }
+
+    /**
+     * Returns {@code sum(|c[k]| * radius^k)}, the scale of the rounding errors of the values at {@code |x| = radius}.
+     */
+    private static double absoluteSum(ComplexPolynomial p, double radius) {
+        double sum = 0;
+        for (int k = p.degree(); k >= 0; k--) {
+            sum = (sum * radius) + Math.hypot(p.realCoefficient(k), p.imaginaryCoefficient(k));
+        }
+        return sum;
+    }
+
+    private static void assertCloseToExact(ComplexPolynomial p, double xr, double xi, ComplexArray values, int index, double bound) {
+        BigDecimal[] exact = exactHorner(p, xr, xi);
+        double errorR = exact[0].subtract(new BigDecimal(values.realValue(index))).doubleValue();
+        double errorI = exact[1].subtract(new BigDecimal(values.imaginaryValue(index))).doubleValue();
+        Assertions.assertTrue(Math.hypot(errorR, errorI) <= bound, index + ": " + values.get(index) + ", bound " + bound);
+    }
+
+    @Test
+    public void testEvaluateCompensated() {
+        // (x - i)^12 , at x = i + d*(1 + i) with d = 1/64: (d*(1 + i))^12 = -64 * d^12, exactly
+        ComplexPolynomial p = ComplexPolynomial.of(1);
+        for (int k = 0; k < 12; k++) {
+            p = p.multiplyBy(ComplexPolynomial.of(ofCartesianForm(0, -1), ONE_COMPLEX_CARTESIAN));
+        }
+        double d = 1.0 / 64;
+        double expected = -64 * Math.pow(d, 12);
+        MutableComplex result = new MutableComplex();
+        double bound = p.evaluateCompensated(d, 1 + d, result);
+        Assertions.assertEquals(expected, result.realValue(), 1e-14 * Math.abs(expected));
+        Assertions.assertEquals(0, result.imaginaryValue(), 1e-14 * Math.abs(expected));
+        Assertions.assertTrue(bound >= Math.hypot(result.realValue() - expected, result.imaginaryValue()));
+        Assertions.assertTrue(bound <= 1e-6 * Math.abs(expected));
+        Assertions.assertTrue(p.evaluateCompensated(ofCartesianForm(d, 1 + d)).equals(ofCartesianForm(expected, 0), 1e-30));
+        // Horner's method loses all the digits
+        Assertions.assertFalse(p.evaluate(d, 1 + d).equals(ofCartesianForm(expected, 0), Math.abs(expected)));
+
+        // The bound holds against a value computed with 34 decimal digits
+        Random random = new Random(163);
+        for (int degree : new int[] {1, 10, 50}) {
+            ComplexPolynomial q = random(random, degree);
+            for (int i = 0; i < 20; i++) {
+                double xr = 2 * random.nextDouble() - 1;
+                double xi = 2 * random.nextDouble() - 1;
+                bound = q.evaluateCompensated(xr, xi, result);
+                BigDecimal[] exact = exactHorner(q, xr, xi);
+                double errorR = exact[0].subtract(new BigDecimal(result.realValue())).doubleValue();
+                double errorI = exact[1].subtract(new BigDecimal(result.imaginaryValue())).doubleValue();
+                Assertions.assertTrue(Math.hypot(errorR, errorI) <= bound, degree + ": " + bound);
+            }
+        }
+    }
+
+    private static BigDecimal[] exactHorner(ComplexPolynomial p, double xr, double xi) {
+        MathContext context = MathContext.DECIMAL128;
+        BigDecimal pr = BigDecimal.ZERO;
+        BigDecimal pi = BigDecimal.ZERO;
+        BigDecimal x = new BigDecimal(xr);
+        BigDecimal y = new BigDecimal(xi);
+        for (int k = p.degree(); k >= 0; k--) {
+            BigDecimal t = pr.multiply(x, context).subtract(pi.multiply(y, context), context)
+                .add(new BigDecimal(p.realCoefficient(k)), context);
+            pi = pr.multiply(y, context).add(pi.multiply(x, context), context)
+                .add(new BigDecimal(p.imaginaryCoefficient(k)), context);
+            pr = t;
+        }
+        return new BigDecimal[] {pr, pi};
+    }
+
+    @Test
+    public void testRoots() {
+        // (x - 1)(x - 2)(x - 3)(x - 4) = x^4 - 10x^3 + 35x^2 - 50x + 24
+        double[] roots = ComplexPolynomial.of(24, -50, 35, -10, 1).roots().realArray().clone();
+        Arrays.sort(roots);
+        Assertions.assertArrayEquals(new double[] {1, 2, 3, 4}, roots, 1e-10);
+
+        // x^2 * (x^2 + 1): 0, 0, i, -i
+        ComplexArray zeros = ComplexPolynomial.of(0, 0, 1, 0, 1).roots();
+        Assertions.assertEquals(4, zeros.length());
+        Assertions.assertTrue(zeros.get(2).isZero());
+        Assertions.assertTrue(zeros.get(3).isZero());
+        Assertions.assertEquals(0, zeros.get(0).realValue() + zeros.get(1).realValue(), EPS);
+        Assertions.assertEquals(1, Math.abs(zeros.get(0).imaginaryValue()), EPS);
+
+        Assertions.assertEquals(0, ComplexPolynomial.of(5).roots().length());
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexPolynomial(new double[0], new double[0]);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexPolynomial(new double[2], new double[3]);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexPolynomial.of(1, Double.NaN);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexPolynomial.of(0, 0).roots();
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexPolynomial.of(1, 2).coefficient(-1);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexPolynomial.of(1, 2).evaluateOnCircle(-1, 0, 4);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexPolynomial.of(1, 2).evaluateOnCircle(1, Double.NaN, 4);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            ComplexPolynomial.of(1, 2).evaluateOnCircle(1, 0, 0);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            ComplexPolynomial.of((double[]) null);
+        });
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            ComplexPolynomial.of(1, 2).remainder(ComplexPolynomial.of(0));
+        });
+    }
+}
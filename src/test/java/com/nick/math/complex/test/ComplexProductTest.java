@@ -0,0 +1,130 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import static com.nick.math.complex.ComplexNumbers.*;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.*;
+
+public class ComplexProductTest {
+
+    private static final double EPS = 1e-9;
+
+    private static final BigDecimal TWO_PI = new BigDecimal("6.28318530717958647692528676655900576839433879875021");
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testNoIntermediateOverflow() {
+        // 1000 factors 1e300 followed by 1000 factors 1e-300: the plain product is Infinity after 2 steps
+        List<Complex> cartesian = new ArrayList<>();
+        List<Complex> polar = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            double modulus = (i < 1000) ? 1e300 : 1e-300;
+            cartesian.add(ofCartesianForm(0, modulus));
+            polar.add(ofPolarForm(modulus, Math.PI / 2));
+        }
+        Assertions.assertTrue(Double.isInfinite(multiplyAll(cartesian).modulusValue()));
+
+        // i^2000 = 1
+        Assertions.assertTrue(multiplyAllScaled(cartesian).equals(ONE_COMPLEX_CARTESIAN, EPS));
+        Assertions.assertTrue(multiplyAllScaled(polar).equals(ONE_COMPLEX_CARTESIAN, EPS));
+        Assertions.assertTrue(multiplyAllScaled(polar.toArray(new Complex[0])).equals(ONE_COMPLEX_CARTESIAN, EPS));
+    }
+
+    @Test
+    public void testProductOutOfRange() {
+        ComplexProduct product = new ComplexProduct();
+        for (int i = 0; i < 400; i++) {
+            product.multiplyPolar(1e10, 0.25);
+            product.multiply(1e-10, 0);
+            product.multiply(0, 1e10);
+        }
+        // 10^4000 * e^(i*(100 + 200*PI))
+        Assertions.assertEquals(4000 * Math.log(10), product.logModulus(), 1e-9 * 4000);
+        Assertions.assertEquals(Math.IEEEremainder(100, 2 * Math.PI), product.mainArgumentValue(), EPS);
+        Assertions.assertTrue(Double.isInfinite(product.toComplex().modulusValue()));
+
+        ComplexProduct tiny = new ComplexProduct().multiplyPolar(1e-300, 0).multiplyPolar(1e-300, 0);
+        Assertions.assertEquals(-600 * Math.log(10), tiny.logModulus(), 1e-9 * 600);
+        Assertions.assertTrue(tiny.toComplex().isZero());
+    }
+
+    @Test
+    public void testCompensatedArguments() {
+        int n = 1_000_000;
+        double angle = 0.1;
+        ComplexProduct product = new ComplexProduct();
+        for (int i = 0; i < n; i++) {
+            product.multiplyPolar(1, angle);
+        }
+
+        BigDecimal total = new BigDecimal(angle).multiply(BigDecimal.valueOf(n));
+        BigDecimal turns = total.divide(TWO_PI, MathContext.DECIMAL128).setScale(0, java.math.RoundingMode.HALF_EVEN);
+        double expected = total.subtract(turns.multiply(TWO_PI)).doubleValue();
+        Assertions.assertEquals(expected, product.mainArgumentValue(), 1e-12);
+        Assertions.assertEquals(0, product.logModulus(), 1e-12);
+    }
+
+    @Test
+    public void testSameResultOfPlainProductInRange() {
+        Random random = new Random(97);
+        Complex[] values = new Complex[1000];
+        MutableComplex expected = new MutableComplex(1, 0);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            expected.mulInPlace(values[i]);
+        }
+        // Scaling by powers of 2 is exact
+        Assertions.assertEquals(expected.toComplex(), multiplyAllScaled(values));
+        Assertions.assertEquals(expected.toComplex(), multiplyAllScaled(Arrays.asList(values)));
+    }
+
+    @Test
+    public void testParallelProduct() {
+        Complex[] values = new Complex[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 2 == 0) ? ofCartesianForm(1e200, 0) : ofPolarForm(1e-200, Math.PI);
+        }
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (ReductionMode mode : ReductionMode.values()) {
+                Complex product = new ParallelReduction(pool, 1, mode).multiplyAll(values);
+                // (-1)^50000 = 1
+                Assertions.assertTrue(product.equals(ONE_COMPLEX_CARTESIAN, 1e-6), mode + ": " + product);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testZeroFactors() {
+        Assertions.assertTrue(multiplyAllScaled(ofCartesianForm(1e300, 1), ZERO_COMPLEX_CARTESIAN).isZero());
+        Assertions.assertTrue(multiplyAllScaled(ofPolarForm(1e300, 1), ZERO_COMPLEX_POLAR).isZero());
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, new ComplexProduct().multiply(0, 0).logModulus());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            multiplyAllScaled();
+        });
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            multiplyAllScaled(new ArrayList<Complex>());
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ComplexProduct().multiplyPolar(-1, 0);
+        });
+    }
+}
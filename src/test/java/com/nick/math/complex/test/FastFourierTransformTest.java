@@ -0,0 +1,264 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class FastFourierTransformTest {
+
+    private static final double EPS = 1e-9;
+
+    /** O(n^2) reference: X[k] = sum( x[j] * e^(sign*2*PI*i*j*k/n) ) */
+    private static double[][] naiveDft(double[] real, double[] imaginary, double sign) {
+        int n = real.length;
+        double[] outReal = new double[n];
+        double[] outImaginary = new double[n];
+        for (int k = 0; k < n; k++) {
+            for (int j = 0; j < n; j++) {
+                double angle = sign * 2 * Math.PI * (((long) j * k) % n) / n;
+                double c = Math.cos(angle);
+                double s = Math.sin(angle);
+                outReal[k] += real[j] * c - imaginary[j] * s;
+                outImaginary[k] += real[j] * s + imaginary[j] * c;
+            }
+        }
+        return new double[][] {outReal, outImaginary};
+    }
+
+    private static void assertSequenceEquals(double[] expected, double[] actual, double eps) {
+        Assertions.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], actual[i], eps * Math.max(1, Math.abs(expected[i])));
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testTransformMatchesNaiveDft() {
+        Random random = new Random(7);
+        for (int n = 1; n <= 512; n *= 2) {
+            double[] real = FftTestValues.randomValues(random, n);
+            double[] imaginary = FftTestValues.randomValues(random, n);
+            double[][] expected = naiveDft(real, imaginary, -1);
+
+            FastFourierTransform.transform(real, imaginary);
+            assertSequenceEquals(expected[0], real, EPS * n);
+            assertSequenceEquals(expected[1], imaginary, EPS * n);
+        }
+    }
+
+    @Test
+    public void testEveryLengthMatchesNaiveDft() {
+        // Powers of 2, mixed radices 2-3-4-5-7, and primes (Bluestein)
+        Random random = new Random(13);
+        for (int n = 1; n <= 70; n++) {
+            double[] real = FftTestValues.randomValues(random, n);
+            double[] imaginary = FftTestValues.randomValues(random, n);
+            double[][] expected = naiveDft(real, imaginary, -1);
+
+            FastFourierTransform.transform(real, imaginary);
+            assertSequenceEquals(expected[0], real, EPS * n);
+            assertSequenceEquals(expected[1], imaginary, EPS * n);
+        }
+    }
+
+    @Test
+    public void testFrameSizes() {
+        Random random = new Random(17);
+        for (int n : new int[] {1000, 1536, 4099}) {
+            double[] real = FftTestValues.randomValues(random, n);
+            double[] imaginary = FftTestValues.randomValues(random, n);
+            double[] originalReal = real.clone();
+            double[] originalImaginary = imaginary.clone();
+            double[][] expected = naiveDft(real, imaginary, -1);
+
+            FastFourierTransform.transform(real, imaginary);
+            assertSequenceEquals(expected[0], real, 1e-8 * n);
+            assertSequenceEquals(expected[1], imaginary, 1e-8 * n);
+
+            FastFourierTransform.inverseTransform(real, imaginary);
+            assertSequenceEquals(originalReal, real, EPS);
+            assertSequenceEquals(originalImaginary, imaginary, EPS);
+        }
+    }
+
+    @Test
+    public void testInverseTransformOfPrimeLength() {
+        Random random = new Random(19);
+        int n = 31;
+        double[] real = FftTestValues.randomValues(random, n);
+        double[] imaginary = FftTestValues.randomValues(random, n);
+        double[][] expected = naiveDft(real, imaginary, +1);
+
+        FastFourierTransform.inverseTransform(real, imaginary, FftNormalization.FORWARD);
+        assertSequenceEquals(expected[0], real, EPS);
+        assertSequenceEquals(expected[1], imaginary, EPS);
+    }
+
+    @Test
+    public void testInverseTransformMatchesNaiveDft() {
+        Random random = new Random(11);
+        int n = 64;
+        double[] real = FftTestValues.randomValues(random, n);
+        double[] imaginary = FftTestValues.randomValues(random, n);
+        double[][] expected = naiveDft(real, imaginary, +1);
+
+        FastFourierTransform.inverseTransform(real, imaginary, FftNormalization.FORWARD);
+        assertSequenceEquals(expected[0], real, EPS);
+        assertSequenceEquals(expected[1], imaginary, EPS);
+    }
+
+    @Test
+    public void testRoundTripWithEveryNormalization() {
+        Random random = new Random(3);
+        for (FftNormalization normalization : FftNormalization.values()) {
+            double[] real = FftTestValues.randomValues(random, 256);
+            double[] imaginary = FftTestValues.randomValues(random, 256);
+            double[] originalReal = real.clone();
+            double[] originalImaginary = imaginary.clone();
+
+            FastFourierTransform.transform(real, imaginary, normalization);
+            FastFourierTransform.inverseTransform(real, imaginary, normalization);
+            assertSequenceEquals(originalReal, real, EPS);
+            assertSequenceEquals(originalImaginary, imaginary, EPS);
+        }
+    }
+
+    @Test
+    public void testNormalizationConventions() {
+        // Transform of a constant sequence: X[0] = n (backward), sqrt(n) (ortho), 1 (forward)
+        int n = 16;
+        double[] expected = {n, Math.sqrt(n), 1};
+        FftNormalization[] normalizations = {
+            FftNormalization.BACKWARD, FftNormalization.ORTHO, FftNormalization.FORWARD
+        };
+        for (int i = 0; i < normalizations.length; i++) {
+            double[] real = new double[n];
+            double[] imaginary = new double[n];
+            Arrays.fill(real, 1.0);
+            FastFourierTransform.transform(real, imaginary, normalizations[i]);
+            Assertions.assertEquals(expected[i], real[0], EPS);
+            Assertions.assertEquals(0, real[1], EPS);
+        }
+    }
+
+    @Test
+    public void testInterleavedMatchesSplit() {
+        Random random = new Random(5);
+        int n = 128;
+        double[] real = FftTestValues.randomValues(random, n);
+        double[] imaginary = FftTestValues.randomValues(random, n);
+        double[] data = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            data[2 * i] = real[i];
+            data[2 * i + 1] = imaginary[i];
+        }
+
+        FastFourierTransform.transform(real, imaginary);
+        FastFourierTransform.transformInterleaved(data);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(real[i], data[2 * i]);
+            Assertions.assertEquals(imaginary[i], data[2 * i + 1]);
+        }
+
+        FastFourierTransform.inverseTransformInterleaved(data);
+        FastFourierTransform.inverseTransform(real, imaginary);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(real[i], data[2 * i]);
+            Assertions.assertEquals(imaginary[i], data[2 * i + 1]);
+        }
+    }
+
+    @Test
+    public void testTwoDimensionalMatchesNaiveDft() {
+        // 2D transform = transform of every row, then of every column
+        Random random = new Random(47);
+        int rows = 6;
+        int columns = 10;
+        double[] real = FftTestValues.randomValues(random, rows * columns);
+        double[] imaginary = FftTestValues.randomValues(random, rows * columns);
+        double[] originalReal = real.clone();
+        double[] originalImaginary = imaginary.clone();
+        double[] expectedReal = real.clone();
+        double[] expectedImaginary = imaginary.clone();
+        for (int r = 0; r < rows; r++) {
+            double[][] row = naiveDft(Arrays.copyOfRange(expectedReal, r * columns, (r + 1) * columns),
+                Arrays.copyOfRange(expectedImaginary, r * columns, (r + 1) * columns), -1);
+            System.arraycopy(row[0], 0, expectedReal, r * columns, columns);
+            System.arraycopy(row[1], 0, expectedImaginary, r * columns, columns);
+        }
+        for (int c = 0; c < columns; c++) {
+            double[] columnReal = new double[rows];
+            double[] columnImaginary = new double[rows];
+            for (int r = 0; r < rows; r++) {
+                columnReal[r] = expectedReal[r * columns + c];
+                columnImaginary[r] = expectedImaginary[r * columns + c];
+            }
+            double[][] column = naiveDft(columnReal, columnImaginary, -1);
+            for (int r = 0; r < rows; r++) {
+                expectedReal[r * columns + c] = column[0][r];
+                expectedImaginary[r * columns + c] = column[1][r];
+            }
+        }
+
+        FastFourierTransform.transformND(real, imaginary, new int[] {rows, columns});
+        assertSequenceEquals(expectedReal, real, EPS * rows * columns);
+        assertSequenceEquals(expectedImaginary, imaginary, EPS * rows * columns);
+
+        FastFourierTransform.inverseTransformND(real, imaginary, new int[] {rows, columns});
+        assertSequenceEquals(originalReal, real, EPS);
+        assertSequenceEquals(originalImaginary, imaginary, EPS);
+    }
+
+    @Test
+    public void testComplexArrayTransform() {
+        // Transform of a single frequency: a delta in the frequency domain
+        int n = 32;
+        int frequency = 5;
+        ComplexArray array = new ComplexArray(n);
+        for (int j = 0; j < n; j++) {
+            array.set(j, ComplexNumbers.ofPolarForm(1.0, 2 * Math.PI * frequency * j / n));
+        }
+
+        FastFourierTransform.transform(array);
+        for (int k = 0; k < n; k++) {
+            Assertions.assertEquals((k == frequency) ? n : 0, array.realValue(k), EPS);
+            Assertions.assertEquals(0, array.imaginaryValue(k), EPS);
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testInvalidLengths() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            FastFourierTransform.transform(new double[8], new double[4]);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            FastFourierTransform.transform(new double[0], new double[0]);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            FastFourierTransform.transformInterleaved(new double[7]);
+        });
+    }
+
+    @Test
+    public void testNullArguments() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            FastFourierTransform.transform(null, new double[4]);
+        });
+
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            FastFourierTransform.transform(new double[4], new double[4], null);
+        });
+    }
+}
@@ -0,0 +1,202 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class FftPlanTest {
+
+    private static final double EPS = 1e-9;
+
+    @AfterEach
+    public void clearWisdom() {
+        FftPlan.clearWisdom();
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testPlanMatchesFastFourierTransform() {
+        Random random = new Random(23);
+        for (int n : new int[] {16, 60, 97}) {
+            double[] real = FftTestValues.randomValues(random, n);
+            double[] imaginary = FftTestValues.randomValues(random, n);
+            double[] expectedReal = real.clone();
+            double[] expectedImaginary = imaginary.clone();
+
+            FastFourierTransform.inverseTransform(expectedReal, expectedImaginary);
+            FftPlan.of(n, true).execute(real, imaginary);
+            Assertions.assertArrayEquals(expectedReal, real);
+            Assertions.assertArrayEquals(expectedImaginary, imaginary);
+        }
+    }
+
+    @Test
+    public void testPlansAreCached() {
+        FftPlan plan = FftPlan.of(48, false);
+        Assertions.assertSame(plan, FftPlan.of(48, false));
+        Assertions.assertNotSame(plan, FftPlan.of(48, true));
+        Assertions.assertEquals(48, plan.size());
+        Assertions.assertFalse(plan.isInverse());
+
+        FftPlan.clearCache();
+        Assertions.assertNotSame(plan, FftPlan.of(48, false));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPlansAreEvicted() {
+        FftPlan.clearCache();
+        FftPlan used = FftPlan.of(48, false);
+        FftPlan unused = FftPlan.of(50, false);
+        for (int n = 100; n < 300; n++) {
+            FftPlan.of(n, false);
+            Assertions.assertSame(used, FftPlan.of(48, false));
+        }
+        Assertions.assertNotSame(unused, FftPlan.of(50, false));
+    }
+
+    @Test
+    public void testDefaultAlgorithms() {
+        Assertions.assertEquals("radix2", FftPlan.of(1024, false).algorithm());
+        Assertions.assertEquals("mixed:4,2,3", FftPlan.of(24, false).algorithm());
+        Assertions.assertEquals("bluestein", FftPlan.of(101, false).algorithm());
+    }
+
+    @Test
+    public void testTunedPlanTransformsCorrectly() {
+        Random random = new Random(29);
+        for (int n : new int[] {64, 360}) {
+            double[] real = FftTestValues.randomValues(random, n);
+            double[] imaginary = FftTestValues.randomValues(random, n);
+            double[] expectedReal = real.clone();
+            double[] expectedImaginary = imaginary.clone();
+            FastFourierTransform.transform(expectedReal, expectedImaginary);
+
+            FftPlan plan = FftPlan.tuned(n, false);
+            plan.execute(real, imaginary);
+            for (int k = 0; k < n; k++) {
+                Assertions.assertEquals(expectedReal[k], real[k], EPS * n);
+                Assertions.assertEquals(expectedImaginary[k], imaginary[k], EPS * n);
+            }
+            // The choice is reused by the default plans, without tuning again
+            Assertions.assertSame(plan, FftPlan.tuned(n, false));
+            Assertions.assertEquals(plan.algorithm(), FftPlan.of(n, false).algorithm());
+        }
+    }
+
+    @Test
+    public void testWisdomRoundTrip() throws IOException {
+        Path file = Files.createTempFile("fft-wisdom", ".properties");
+        try {
+            String algorithm = FftPlan.tuned(240, true).algorithm();
+            FftPlan.saveWisdom(file);
+
+            // A restarted JVM: no wisdom, no cached plans
+            FftPlan.clearWisdom();
+            FftPlan.loadWisdom(file);
+            Assertions.assertEquals(algorithm, FftPlan.of(240, true).algorithm());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testConcurrentAutosavedWisdom() throws Exception {
+        Path directory = Files.createTempDirectory("fft-wisdom");
+        Path file = directory.resolve("wisdom.properties");
+        System.setProperty(FftPlan.WISDOM_PROPERTY, file.toString());
+        try {
+            // 2 lengths tuned at the same time: every autosave replaces the whole file
+            int[] lengths = {360, 378};
+            String[] algorithms = new String[lengths.length];
+            Thread[] threads = new Thread[lengths.length];
+            for (int i = 0; i < lengths.length; i++) {
+                int index = i;
+                threads[i] = new Thread(() -> algorithms[index] = FftPlan.tuned(lengths[index], false).algorithm());
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            // A restarted JVM: both choices are in the file, and no temporary file is left
+            FftPlan.clearWisdom();
+            FftPlan.loadWisdom(file);
+            for (int i = 0; i < lengths.length; i++) {
+                Assertions.assertEquals(algorithms[i], FftPlan.of(lengths[i], false).algorithm());
+            }
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path other : files) {
+                    Assertions.assertEquals(file, other);
+                }
+            }
+        } finally {
+            System.clearProperty(FftPlan.WISDOM_PROPERTY);
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testInterleavedAndComplexArray() {
+        Random random = new Random(31);
+        int n = 45;
+        double[] real = FftTestValues.randomValues(random, n);
+        double[] imaginary = FftTestValues.randomValues(random, n);
+        double[] data = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            data[2 * i] = real[i];
+            data[2 * i + 1] = imaginary[i];
+        }
+        ComplexArray array = new ComplexArray(real.clone(), imaginary.clone());
+
+        FftPlan plan = FftPlan.of(n, false);
+        plan.execute(real, imaginary, FftNormalization.ORTHO);
+        plan.executeInterleaved(data, FftNormalization.ORTHO);
+        plan.execute(array);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(real[i], data[2 * i]);
+            Assertions.assertEquals(imaginary[i], data[2 * i + 1]);
+            Assertions.assertEquals(real[i] * Math.sqrt(n), array.realValue(i), EPS);
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testInvalidLengths() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            FftPlan.of(0, false);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            FftPlan.of(16, false).execute(new double[8], new double[8]);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            FftPlan.of(16, false).executeInterleaved(new double[16], FftNormalization.BACKWARD);
+        });
+    }
+
+    @Test
+    public void testInvalidWisdom() throws IOException {
+        Path file = Files.createTempFile("fft-wisdom", ".properties");
+        try {
+            Files.write(file, Arrays.asList("12.forward=mixed:4,2"));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> {
+                FftPlan.loadWisdom(file);
+            });
+            Assertions.assertEquals("mixed:4,3", FftPlan.of(12, false).algorithm());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.nick.math.complex.test;
+
+import java.util.Random;
+
+/**
+ * Random inputs shared by the FFT tests.
+ */
+final class FftTestValues {
+
+    private FftTestValues() {
+    }
+
+    static double[] randomValues(Random random, int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextGaussian();
+        }
+        return values;
+    }
+
+}
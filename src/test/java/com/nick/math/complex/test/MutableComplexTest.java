@@ -0,0 +1,94 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import static com.nick.math.complex.ComplexNumbers.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class MutableComplexTest {
+
+    private static final double EPS = 1e-12;
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testSameResultsOfImmutableOperations() {
+        Random random = new Random(67);
+        for (int i = 0; i < 100; i++) {
+            Complex c1 = ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            Complex c2 = ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+
+            Assertions.assertEquals(c1.plus(c2), new MutableComplex(c1).addInPlace(c2).toComplex());
+            Assertions.assertEquals(c1.minus(c2), new MutableComplex(c1).subtractInPlace(c2).toComplex());
+            Assertions.assertEquals(c1.multiplyBy(c2), new MutableComplex(c1).mulInPlace(c2).toComplex());
+            Assertions.assertEquals(c1.divideBy(c2), new MutableComplex(c1).divInPlace(c2).toComplex());
+            Assertions.assertEquals(c1.multiplyByReal(3.5), new MutableComplex(c1).mulByRealInPlace(3.5).toComplex());
+        }
+    }
+
+    @Test
+    public void testFusedMultiplyAdd() {
+        // (1 + 2i) + (3 + 4i)*(5 - 6i) = (1 + 39) + (2 + 2)i
+        MutableComplex z = new MutableComplex(1, 2);
+        z.fmaInPlace(ofCartesianForm(3, 4), ofCartesianForm(5, -6));
+        Assertions.assertEquals(40, z.realValue(), EPS);
+        Assertions.assertEquals(4, z.imaginaryValue(), EPS);
+
+        // Dot product of conjugate values: sum of |c|^2
+        Random random = new Random(71);
+        MutableComplex sum = new MutableComplex();
+        double expected = 0;
+        for (int i = 0; i < 1000; i++) {
+            Complex c = ofCartesianForm(random.nextGaussian(), random.nextGaussian());
+            sum.fmaInPlace(c, c.conjugate());
+            expected += c.modulusValue() * c.modulusValue();
+        }
+        Assertions.assertEquals(expected, sum.realValue(), 1e-9);
+        Assertions.assertEquals(0, sum.imaginaryValue(), 1e-9);
+    }
+
+    @Test
+    public void testChainingAndSet() {
+        MutableComplex z = new MutableComplex();
+        Assertions.assertSame(z, z.set(IMAGINARY_UNIT).mulInPlace(IMAGINARY_UNIT).addInPlace(1, 0));
+        Assertions.assertEquals(0, z.realValue());
+        Assertions.assertEquals(0, z.imaginaryValue());
+
+        z.set(ofPolarForm(2, Math.PI / 2)).subtractInPlace(0, 2);
+        Assertions.assertTrue(z.toComplex().isZero(EPS));
+        Assertions.assertTrue(z.toString().contains("i"));
+    }
+
+    @Test
+    public void testSumAllUnchanged() {
+        // Kahan sum: 1 + 1e-16 * 10 does not lose the small terms
+        Complex[] values = new Complex[11];
+        values[0] = ONE_COMPLEX_CARTESIAN;
+        for (int i = 1; i < values.length; i++) {
+            values[i] = ofCartesianForm(1e-16, -1e-16);
+        }
+        Complex sum = sumAll(values);
+        Assertions.assertEquals(1 + 1e-15, sum.realValue(), 1e-17);
+        Assertions.assertEquals(-1e-15, sum.imaginaryValue(), 1e-17);
+        Assertions.assertEquals(sum, sumAll(Arrays.asList(values)));
+        Assertions.assertSame(IMAGINARY_UNIT, sumAll(IMAGINARY_UNIT));
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testDivideByZero() {
+        MutableComplex z = new MutableComplex(1, 2);
+        Assertions.assertThrows(ArithmeticException.class, () -> {
+            z.divInPlace(ZERO_COMPLEX_CARTESIAN);
+        });
+        Assertions.assertEquals(1, z.realValue());
+        Assertions.assertEquals(2, z.imaginaryValue());
+    }
+}
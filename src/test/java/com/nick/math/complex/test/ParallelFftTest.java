@@ -0,0 +1,122 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.*;
+
+public class ParallelFftTest {
+
+    private static final double EPS = 1e-9;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void createPool() {
+        this.pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void shutdownPool() {
+        this.pool.shutdown();
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testSameResultsOfSingleThreadedTransform() {
+        // Threshold 1: every transform is split between the threads
+        ParallelFft parallel = new ParallelFft(this.pool, 1);
+        Random random = new Random(37);
+        for (int n : new int[] {1, 2, 8, 1 << 13, 1 << 14, 3 << 12, 5000, 4099}) {
+            double[] real = FftTestValues.randomValues(random, n);
+            double[] imaginary = FftTestValues.randomValues(random, n);
+            double[] expectedReal = real.clone();
+            double[] expectedImaginary = imaginary.clone();
+
+            FastFourierTransform.transform(expectedReal, expectedImaginary, FftNormalization.ORTHO);
+            parallel.transform(real, imaginary, FftNormalization.ORTHO);
+            Assertions.assertArrayEquals(expectedReal, real);
+            Assertions.assertArrayEquals(expectedImaginary, imaginary);
+
+            FastFourierTransform.inverseTransform(expectedReal, expectedImaginary);
+            parallel.inverseTransform(real, imaginary);
+            Assertions.assertArrayEquals(expectedReal, real);
+            Assertions.assertArrayEquals(expectedImaginary, imaginary);
+        }
+    }
+
+    @Test
+    public void testMultidimensionalSameResultsOfSingleThreadedTransform() {
+        ParallelFft parallel = new ParallelFft(this.pool, 1);
+        Random random = new Random(41);
+        for (int[] shape : new int[][] {{64, 48}, {12, 10, 14}, {1, 4096}, {4096, 1}}) {
+            int n = Arrays.stream(shape).reduce(1, (a, b) -> a * b);
+            double[] real = FftTestValues.randomValues(random, n);
+            double[] imaginary = FftTestValues.randomValues(random, n);
+            double[] expectedReal = real.clone();
+            double[] expectedImaginary = imaginary.clone();
+
+            FastFourierTransform.transformND(expectedReal, expectedImaginary, shape);
+            parallel.transformND(real, imaginary, shape);
+            Assertions.assertArrayEquals(expectedReal, real);
+            Assertions.assertArrayEquals(expectedImaginary, imaginary);
+        }
+    }
+
+    @Test
+    public void testMultidimensionalRoundTrip() {
+        ParallelFft parallel = new ParallelFft(this.pool, 1);
+        Random random = new Random(43);
+        int[] shape = {6, 7, 8};
+        double[] real = FftTestValues.randomValues(random, 6 * 7 * 8);
+        double[] imaginary = FftTestValues.randomValues(random, 6 * 7 * 8);
+        double[] originalReal = real.clone();
+        double[] originalImaginary = imaginary.clone();
+
+        parallel.transformND(real, imaginary, shape, FftNormalization.FORWARD);
+        parallel.inverseTransformND(real, imaginary, shape, FftNormalization.FORWARD);
+        for (int i = 0; i < real.length; i++) {
+            Assertions.assertEquals(originalReal[i], real[i], EPS);
+            Assertions.assertEquals(originalImaginary[i], imaginary[i], EPS);
+        }
+    }
+
+    @Test
+    public void testComplexArrayAndDefaultInstance() {
+        ComplexArray array = new ComplexArray(new double[] {1, 2, 3, 4}, new double[4]);
+        new ParallelFft().transform(array);
+        Assertions.assertEquals(10, array.realValue(0), EPS);
+        Assertions.assertEquals(-2, array.realValue(2), EPS);
+
+        new ParallelFft().inverseTransform(array);
+        Assertions.assertEquals(3, array.realValue(2), EPS);
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new ParallelFft(null, 1);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ParallelFft(this.pool, 0);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ParallelFft(this.pool, 1).transformND(new double[12], new double[12], new int[] {3, 5});
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ParallelFft(this.pool, 1).transformND(new double[12], new double[12], new int[] {3, 0, 4});
+        });
+    }
+}
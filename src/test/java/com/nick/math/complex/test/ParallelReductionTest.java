@@ -0,0 +1,133 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import static com.nick.math.complex.ComplexNumbers.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.*;
+
+public class ParallelReductionTest {
+
+    private static final double EPS = 1e-9;
+
+    private static Complex[] randomValues(Random random, int n) {
+        Complex[] values = new Complex[n];
+        for (int i = 0; i < n; i++) {
+            // Modulus close to 1: long products neither overflow nor underflow
+            double angle = 2 * Math.PI * random.nextDouble();
+            double modulus = 1 + 1e-4 * random.nextGaussian();
+            values[i] = (i % 3 == 0)
+                ? ofPolarForm(modulus, angle)
+                : ofCartesianForm(modulus * Math.cos(angle), modulus * Math.sin(angle));
+        }
+        return values;
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testSameResultsOfSequentialReductions() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(83);
+            for (ReductionMode mode : ReductionMode.values()) {
+                ParallelReduction parallel = new ParallelReduction(pool, 1, mode);
+                for (int n : new int[] {1, 2, 100, 5000, 100_003}) {
+                    Complex[] values = randomValues(random, n);
+                    Complex sum = parallel.sumAll(values);
+                    Assertions.assertTrue(sum.equals(sumAll(SummationAlgorithm.NEUMAIER, values), EPS), mode + " " + n);
+                    Assertions.assertEquals(sum, parallel.sumAll(Arrays.asList(values)));
+                    Assertions.assertEquals(sum, parallel.sum(ComplexArray.of(values)));
+
+                    Complex product = parallel.multiplyAll(values);
+                    Assertions.assertTrue(product.equals(multiplyAll(values), EPS), mode + " " + n);
+                    Assertions.assertEquals(product, parallel.multiplyAll(Arrays.asList(values)));
+                    Assertions.assertTrue(product.equals(parallel.product(ComplexArray.of(values)), EPS));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testReproducibleWithAnyPoolAndThreshold() {
+        Complex[] values = randomValues(new Random(89), 300_001);
+        ComplexArray array = ComplexArray.of(values);
+
+        ParallelReduction sequential = new ParallelReduction(new ForkJoinPool(1), Integer.MAX_VALUE, ReductionMode.REPRODUCIBLE);
+        Complex expectedSum = sequential.sum(array);
+        Complex expectedProduct = sequential.product(array);
+        Complex expectedProductOfValues = sequential.multiplyAll(values);
+        sequential.pool().shutdown();
+
+        for (int threads : new int[] {1, 2, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                for (int threshold : new int[] {1, 1000, 1 << 20}) {
+                    ParallelReduction parallel = new ParallelReduction(pool, threshold, ReductionMode.REPRODUCIBLE);
+                    Assertions.assertEquals(expectedSum, parallel.sum(array), threads + " threads");
+                    Assertions.assertEquals(expectedSum, parallel.sumAll(values), threads + " threads");
+                    Assertions.assertEquals(expectedProduct, parallel.product(array), threads + " threads");
+                    Assertions.assertEquals(expectedProductOfValues, parallel.multiplyAll(values), threads + " threads");
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testCompensatedSum() {
+        // 1 + 1e-16 * 10^6, the small values are lost by a naive sum
+        Complex[] values = new Complex[1_000_001];
+        values[0] = ONE_COMPLEX_CARTESIAN;
+        Arrays.fill(values, 1, values.length, ofCartesianForm(1e-16, -1e-16));
+        for (ReductionMode mode : ReductionMode.values()) {
+            Complex sum = new ParallelReduction(mode).sumAll(values);
+            Assertions.assertEquals(1 + 1e-10, sum.realValue(), 1e-15);
+            Assertions.assertEquals(-1e-10, sum.imaginaryValue(), 1e-15);
+        }
+    }
+
+    @Test
+    public void testEmptyValues() {
+        ParallelReduction parallel = new ParallelReduction();
+        Assertions.assertTrue(parallel.sumAll().isZero());
+        Assertions.assertTrue(parallel.sumAll(new ArrayList<>()).isZero());
+        Assertions.assertTrue(parallel.sum(new ComplexArray(0)).isZero());
+        Assertions.assertEquals(ReductionMode.FAST, parallel.mode());
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testEmptyProduct() {
+        ParallelReduction parallel = new ParallelReduction(ReductionMode.REPRODUCIBLE);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            parallel.multiplyAll();
+        });
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            parallel.product(new ComplexArray(0));
+        });
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new ParallelReduction(null);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ParallelReduction(ForkJoinPool.commonPool(), 0, ReductionMode.FAST);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new ParallelReduction().sumAll((Complex[]) null);
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.nick.math.complex.test;
 
 import com.nick.math.complex.*;
+import java.io.*;
 import org.junit.jupiter.api.*;
 
 public class PolarComplexDoubleTest {
@@ -83,6 +84,55 @@ public class PolarComplexDoubleTest {
         Assertions.assertEquals(Math.PI / 4 + Math.PI / 2, result.mainArgumentValue(), 1e-9);
     }
 
+    @Test
+    public void testMultiplyAdd() {
+        Complex c1 = ComplexNumbers.ofPolarForm(1.0, Math.PI / 4);
+        Complex c2 = ComplexNumbers.ofPolarForm(2.0, Math.PI / 3);
+        Complex c3 = ComplexNumbers.ofPolarForm(1.0, Math.PI);
+        Complex result = c1.multiplyAdd(c2, c3);
+        Assertions.assertTrue(c1.multiplyBy(c2).plus(c3).equals(result, 1e-12));
+        result = c1.multiplySubtract(c2, c3);
+        Assertions.assertTrue(c1.multiplyBy(c2).minus(c3).equals(result, 1e-12));
+    }
+
+    @Test
+    public void testUncheckedArithmetic() {
+        Complex c1 = ComplexNumbers.ofPolarForm(1.0, Math.PI / 4);
+        Complex c2 = ComplexNumbers.ofPolarForm(2.0, 3 * Math.PI / 4);
+        Assertions.assertTrue(c1.multiplyBy(c2).equals(c1.multiplyByUnchecked(c2), 1e-12));
+        Assertions.assertTrue(c1.divideBy(c2).equals(c1.divideByUnchecked(c2), 1e-12));
+        Assertions.assertEquals(-Math.PI / 2, c1.divideByUnchecked(c2).mainArgumentValue(), 1e-12);
+
+        Complex quotient = c1.divideByUnchecked(ComplexNumbers.ZERO_COMPLEX_POLAR);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, quotient.modulusValue());
+
+        // No test for 0: the product keeps the sum of the arguments
+        Complex product = c1.multiplyByUnchecked(ComplexNumbers.ZERO_COMPLEX_POLAR);
+        Assertions.assertEquals(0, product.modulusValue());
+        Assertions.assertEquals(Math.PI / 4, product.mainArgumentValue());
+    }
+
+    @Test
+    public void testCartesianPartsAreMemoized() {
+        Complex complex = ComplexNumbers.ofPolarForm(2.0, 1.0);
+        Complex copy = ComplexNumbers.ofPolarForm(2.0, 1.0);
+        Assertions.assertEquals(2.0 * Math.cos(1.0), complex.realValue());
+        Assertions.assertEquals(2.0 * Math.sin(1.0), complex.imaginaryValue());
+        Assertions.assertEquals(complex.realValue(), complex.realValue());
+        Assertions.assertEquals(complex.hashCode(), copy.hashCode());
+        Assertions.assertEquals(copy, complex);
+    }
+
+    @Test
+    public void testSerializationAfterCartesianParts() throws Exception {
+        Complex complex = ComplexNumbers.ofPolarForm(2.0, 1.0);
+        Assertions.assertEquals(2.0 * Math.cos(1.0), complex.realValue());
+        Complex copy = serializeAndDeserialize(complex);
+        Assertions.assertTrue(complex.deepEquals(copy));
+        Assertions.assertEquals(2.0 * Math.cos(1.0), copy.realValue());
+        Assertions.assertEquals(2.0 * Math.sin(1.0), copy.imaginaryValue());
+    }
+
     @Test
     public void testDivideByReal() {
         Complex complex = ComplexNumbers.ofPolarForm(5.0, Math.PI / 4);
@@ -148,6 +198,83 @@ public class PolarComplexDoubleTest {
         Assertions.assertEquals(0, complex.imaginaryValue(), 1e-9);
     }
 
+    @Test
+    public void testArgumentOfAnglesOfSomeTurns() {
+        Assertions.assertEquals(2.5, ComplexNumbers.ofPolarForm(1.0, 2.5 + 4 * Math.PI).mainArgumentValue(), 1e-14);
+        Assertions.assertEquals(-2.5, ComplexNumbers.ofPolarForm(1.0, -2.5 - 40 * Math.PI).mainArgumentValue(), 1e-13);
+        Assertions.assertEquals(0.5 - Math.PI, ComplexNumbers.ofPolarForm(1.0, 0.5 + Math.PI).mainArgumentValue(), 1e-15);
+
+        // Below 2^20 the period is 2*PI, exactly as with the floating remainder
+        double[] angles = {3 * Math.PI, -3 * Math.PI, 2 * Math.PI, -2 * Math.PI, 7.5, 1e6 + 0.25, -123456.789};
+        for (double angle : angles) {
+            Complex complex = ComplexNumbers.ofPolarForm(1.0, angle);
+            double remainder = Math.IEEEremainder(angle, 2 * Math.PI);
+            Assertions.assertEquals((remainder == -Math.PI) ? Math.PI : remainder, complex.mainArgumentValue(), 0.0);
+        }
+    }
+
+    @Test
+    public void testMultiplesOfPiStayExact() {
+        // Powers of real and imaginary values: the library treats Math.PI as pi
+        Complex minusOne = ComplexNumbers.ofPolarForm(1.0, Math.PI);
+        Complex i = ComplexNumbers.ofPolarForm(1.0, Math.PI / 2);
+        Complex[] realPowers = {
+            minusOne.pow(4.0), minusOne.pow(6.0), minusOne.pow(6), i.pow(8.0), i.pow(8),
+            ComplexNumbers.ofPolarForm(2.0, Math.PI).pow(10.0), ComplexNumbers.ofPolarForm(1.0, 5 * Math.PI),
+            ComplexNumbers.ofPolarForm(1.0, 1024 * Math.PI), ComplexNumbers.ofPolarForm(1.0, -7 * 512 * Math.PI)
+        };
+        for (Complex power : realPowers) {
+            Assertions.assertTrue(power.hasRealOnly(), power.toString());
+            Assertions.assertTrue(power.mainArgumentValue() == 0 || power.mainArgumentValue() == Math.PI, power.toString());
+        }
+        Assertions.assertEquals(ComplexNumbers.of(1.0), minusOne.pow(4.0));
+        Assertions.assertEquals(ComplexNumbers.of(1024.0), ComplexNumbers.ofPolarForm(2.0, Math.PI).pow(10.0));
+        Assertions.assertEquals(Math.PI, ComplexNumbers.ofPolarForm(1.0, 5 * Math.PI).mainArgumentValue());
+        Assertions.assertEquals(Math.PI, minusOne.pow(7.0).mainArgumentValue());
+
+        Assertions.assertEquals(Math.PI / 2, i.pow(9.0).mainArgumentValue());
+        Assertions.assertEquals(-Math.PI / 2, i.pow(7.0).mainArgumentValue());
+        Assertions.assertEquals(0.0, ComplexNumbers.ofPolarForm(1.0, 5 * 1024 * Math.PI / 2).mainArgumentValue());
+    }
+
+    @Test
+    public void testRealValuedArithmeticStaysExact() {
+        Complex minusOne = ComplexNumbers.ofPolarForm(1.0, Math.PI);
+        Complex product = minusOne.multiplyBy(minusOne);
+        Assertions.assertEquals(0.0, product.mainArgumentValue());
+        Assertions.assertTrue(product.hasRealOnly());
+        Assertions.assertTrue(product.hasNullArgument());
+        Assertions.assertTrue(product.equals(ComplexNumbers.of(1)));
+
+        Complex negated = ComplexNumbers.ofPolarForm(2.0, Math.PI).negative();
+        Assertions.assertEquals(0.0, negated.mainArgumentValue());
+        Assertions.assertTrue(negated.hasNullArgument());
+
+        Complex i = ComplexNumbers.ofPolarForm(1.0, Math.PI / 2);
+        Complex fourth = i.multiplyBy(i).multiplyBy(i).multiplyBy(i);
+        Assertions.assertEquals(0.0, fourth.mainArgumentValue());
+        Assertions.assertTrue(fourth.hasNullArgument());
+        Assertions.assertEquals(-Math.PI / 2, i.multiplyBy(i).multiplyBy(i).mainArgumentValue());
+
+        Assertions.assertEquals(Math.PI, ComplexNumbers.ofPolarForm(2.0, 3 * Math.PI).mainArgumentValue());
+    }
+
+    @Test
+    public void testArgumentOfHugeAngles() {
+        // angle % (2 * PI) loses every bit of these: the exact 2*pi is not a double
+        Complex complex = ComplexNumbers.ofPolarForm(2.0, 1e22);
+        Assertions.assertEquals(2 * 0.5232147853951389, complex.realValue(), 1e-15);
+        Assertions.assertEquals(2 * -0.8522008497671888, complex.imaginaryValue(), 1e-15);
+
+        double[] angles = {0x1p20, -5e7, 1e15 + 0.5, 1e22, -1e100, 0x1.921fb54442d18p1023, Double.MAX_VALUE};
+        for (double angle : angles) {
+            complex = ComplexNumbers.ofPolarForm(1.0, angle);
+            Assertions.assertTrue(complex.mainArgumentValue() > -Math.PI && complex.mainArgumentValue() <= Math.PI);
+            Assertions.assertEquals(Math.cos(angle), complex.realValue(), 1e-15, "cos(" + angle + ")");
+            Assertions.assertEquals(Math.sin(angle), complex.imaginaryValue(), 1e-15, "sin(" + angle + ")");
+        }
+    }
+
 
     // ---------------------------------------------------------------------- //
     //  Anomalous conditions
@@ -223,4 +350,15 @@ public class PolarComplexDoubleTest {
             complex.root(0, 2);
         });
     }
-}
\ No newline at end of file
+
+    private static Complex serializeAndDeserialize(Complex complex) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(complex);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Complex) in.readObject();
+        }
+    }
+
+}
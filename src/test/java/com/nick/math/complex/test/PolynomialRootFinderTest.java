@@ -0,0 +1,240 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.*;
+
+public class PolynomialRootFinderTest {
+
+    /**
+     * Asserts that every root has a residual within a small multiple of the rounding error of Horner's method:
+     * {@code |p(z)| <= tolerance * sum(|c[k]|*|z|^k)}.
+     */
+    private static void assertResiduals(ComplexPolynomial p, ComplexArray roots, double tolerance) {
+        Assertions.assertEquals(p.degree(), roots.length());
+        for (int i = 0; i < roots.length(); i++) {
+            Complex z = roots.get(i);
+            double bound = 0;
+            for (int k = p.degree(); k >= 0; k--) {
+                bound = bound * z.modulusValue() + p.coefficient(k).modulusValue();
+            }
+            double residual = p.evaluate(z).modulusValue();
+            Assertions.assertTrue(residual <= tolerance * bound, i + ": " + z + " residual " + residual);
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testRandomPolynomials() {
+        Random random = new Random(131);
+        PolynomialRootFinder finder = new PolynomialRootFinder();
+        for (int degree : new int[] {1, 2, 5, 20, 100}) {
+            double[] real = new double[degree + 1];
+            double[] imaginary = new double[degree + 1];
+            for (int k = 0; k <= degree; k++) {
+                real[k] = random.nextGaussian();
+                imaginary[k] = random.nextGaussian();
+            }
+            ComplexPolynomial p = new ComplexPolynomial(real, imaginary);
+            PolynomialRoots result = finder.solve(real, imaginary);
+            Assertions.assertTrue(result.converged(), result.toString());
+            Assertions.assertEquals(RootFinderAlgorithm.ABERTH_EHRLICH, result.algorithm());
+            assertResiduals(p, result.roots(), 1e-12 * Math.max(1, degree));
+
+            // Real coefficients, with Durand-Kerner
+            ComplexPolynomial q = ComplexPolynomial.of(real);
+            result = finder.solve(q, RootFinderAlgorithm.DURAND_KERNER);
+            Assertions.assertTrue(result.converged(), result.toString());
+            Assertions.assertEquals(RootFinderAlgorithm.DURAND_KERNER, result.algorithm());
+            assertResiduals(q, result.roots(), 1e-12 * Math.max(1, degree));
+        }
+    }
+
+    @Test
+    public void testKnownRoots() {
+        // (x - 1)(x + 2)(x - i)(x + 3i)^2
+        Complex[] expected = {
+            ComplexNumbers.of(1), ComplexNumbers.of(-2), ComplexNumbers.IMAGINARY_UNIT,
+            ComplexNumbers.ofCartesianForm(0, -3), ComplexNumbers.ofCartesianForm(0, -3)
+        };
+        ComplexPolynomial p = ComplexPolynomial.of(1);
+        for (Complex root : expected) {
+            // p = p * (x - root)
+            ComplexArray c = p.coefficients();
+            ComplexArray next = new ComplexArray(c.length() + 1);
+            for (int k = 0; k < c.length(); k++) {
+                next.set(k + 1, next.get(k + 1).plus(c.get(k)));
+                next.set(k, next.get(k).minus(c.get(k).multiplyBy(root)));
+            }
+            p = ComplexPolynomial.of(next);
+        }
+
+        ComplexArray roots = new PolynomialRootFinder().solve(p).roots();
+        for (Complex root : expected) {
+            // The double root converges linearly: lower accuracy
+            boolean found = false;
+            for (int i = 0; i < roots.length(); i++) {
+                found |= roots.get(i).equals(root, 1e-6);
+            }
+            Assertions.assertTrue(found, root + " in " + roots);
+        }
+    }
+
+    @Test
+    public void testHighDegreeInParallel() {
+        // x^n - 1: the n-th roots of unity
+        int n = 1500;
+        double[] coefficients = new double[n + 1];
+        coefficients[0] = -1;
+        coefficients[n] = 1;
+        ComplexPolynomial p = ComplexPolynomial.of(coefficients);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PolynomialRoots parallel = new PolynomialRootFinder(pool, 1000, 100).solve(p);
+            PolynomialRoots sequential = new PolynomialRootFinder(pool, Integer.MAX_VALUE, 100).solve(p);
+            Assertions.assertTrue(parallel.converged());
+            // Every iteration uses only the approximations of the previous one: same roots
+            Assertions.assertEquals(sequential.roots(), parallel.roots());
+            Assertions.assertArrayEquals(sequential.corrections(), parallel.corrections());
+
+            for (int i = 0; i < n; i++) {
+                Assertions.assertEquals(1, parallel.roots().get(i).modulusValue(), 1e-12);
+            }
+            assertResiduals(p, parallel.roots(), 1e-12);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCompanionMatrix() {
+        Random random = new Random(139);
+        PolynomialRootFinder finder = new PolynomialRootFinder();
+        for (int degree : new int[] {1, 2, 5, 20, 100}) {
+            double[] real = new double[degree + 1];
+            double[] imaginary = new double[degree + 1];
+            for (int k = 0; k <= degree; k++) {
+                real[k] = random.nextGaussian();
+                imaginary[k] = random.nextGaussian();
+            }
+            ComplexPolynomial p = new ComplexPolynomial(real, imaginary);
+            PolynomialRoots result = finder.solve(p, RootFinderAlgorithm.COMPANION_MATRIX);
+            Assertions.assertTrue(result.converged(), result.toString());
+            Assertions.assertEquals(RootFinderAlgorithm.COMPANION_MATRIX, result.algorithm());
+            assertResiduals(p, result.roots(), 1e-12 * Math.max(1, degree));
+        }
+
+        // x^2 * (x^3 - 8): the zero roots are the last ones
+        PolynomialRoots result = finder.solve(ComplexPolynomial.of(0, 0, -8, 0, 0, 1), RootFinderAlgorithm.COMPANION_MATRIX);
+        Assertions.assertTrue(result.converged());
+        ComplexArray roots = result.roots();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(2, roots.get(i).modulusValue(), 1e-14);
+        }
+        Assertions.assertEquals(ComplexNumbers.ZERO_COMPLEX_CARTESIAN, roots.get(3));
+        Assertions.assertEquals(ComplexNumbers.ZERO_COMPLEX_CARTESIAN, roots.get(4));
+    }
+
+    @Test
+    public void testWilkinsonPolynomial() {
+        // (x - 1)(x - 2)...(x - 20), with exact integer coefficients rounded to double: its roots are real,
+        // within 1e-3 of the integers, but Horner's method in double precision is noise within 0.1 of them
+        BigInteger[] exact = {BigInteger.ONE};
+        for (int root = 1; root <= 20; root++) {
+            BigInteger[] next = new BigInteger[exact.length + 1];
+            Arrays.fill(next, BigInteger.ZERO);
+            for (int k = 0; k < exact.length; k++) {
+                next[k + 1] = next[k + 1].add(exact[k]);
+                next[k] = next[k].subtract(exact[k].multiply(BigInteger.valueOf(root)));
+            }
+            exact = next;
+        }
+        double[] coefficients = new double[exact.length];
+        for (int k = 0; k < exact.length; k++) {
+            coefficients[k] = exact[k].doubleValue();
+        }
+        ComplexPolynomial p = ComplexPolynomial.of(coefficients);
+
+        PolynomialRootFinder finder = new PolynomialRootFinder();
+        ComplexArray companion = finder.solve(p, RootFinderAlgorithm.COMPANION_MATRIX).roots();
+        for (RootFinderAlgorithm algorithm : new RootFinderAlgorithm[] {
+                RootFinderAlgorithm.ABERTH_EHRLICH, RootFinderAlgorithm.DURAND_KERNER}) {
+            PolynomialRoots result = finder.solve(p, algorithm);
+            Assertions.assertTrue(result.converged(), result.toString());
+            Assertions.assertEquals(algorithm, result.algorithm());
+
+            double[] real = result.roots().realArray().clone();
+            Arrays.sort(real);
+            for (int i = 0; i < 20; i++) {
+                Assertions.assertEquals(i + 1, real[i], 1e-3, algorithm + ": " + result.roots());
+                Assertions.assertEquals(0, result.roots().imaginaryArray()[i], 1e-10, algorithm + ": " + result.roots());
+
+                // As accurate as the eigenvalues of the companion matrix, at least
+                double nearest = Double.POSITIVE_INFINITY;
+                for (int j = 0; j < 20; j++) {
+                    nearest = Math.min(nearest, result.roots().get(i).minus(companion.get(j)).modulusValue());
+                }
+                Assertions.assertTrue(nearest < 0.05, algorithm + ": " + result.roots().get(i) + " in " + companion);
+            }
+        }
+    }
+
+    @Test
+    public void testConvergenceHistory() {
+        PolynomialRoots result = new PolynomialRootFinder().solve(ComplexPolynomial.of(-6, 11, -6, 1));
+        int iterations = result.iterations();
+        Assertions.assertTrue(iterations > 0);
+        Assertions.assertEquals(iterations, result.corrections().length);
+        Assertions.assertEquals(iterations, result.convergedRoots().length);
+        Assertions.assertEquals(3, result.convergedRoots()[iterations - 1]);
+        // Cubic convergence: the last corrections are tiny
+        Assertions.assertTrue(result.corrections()[iterations - 1] < 1e-10);
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testNotConverged() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            // A random polynomial of degree 50 does not converge in 2 iterations
+            Random random = new Random(137);
+            double[] coefficients = new double[51];
+            for (int k = 0; k < coefficients.length; k++) {
+                coefficients[k] = random.nextGaussian();
+            }
+            PolynomialRoots result = new PolynomialRootFinder(pool, 1000, 2).solve(ComplexPolynomial.of(coefficients));
+            Assertions.assertFalse(result.converged());
+            Assertions.assertEquals(2, result.iterations());
+            Assertions.assertEquals(50, result.roots().length());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new PolynomialRootFinder(null, 1000, 100);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new PolynomialRootFinder(ForkJoinPool.commonPool(), 1000, 0);
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new PolynomialRootFinder().solve(new double[3], new double[3]);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new PolynomialRootFinder().solve(ComplexPolynomial.of(1, 1), null);
+        });
+    }
+}
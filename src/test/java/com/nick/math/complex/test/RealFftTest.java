@@ -0,0 +1,117 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class RealFftTest {
+
+    private static final double EPS = 1e-9;
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testMatchesComplexTransform() {
+        Random random = new Random(53);
+        List<Integer> lengths = new ArrayList<>();
+        for (int n = 1; n <= 40; n++) {
+            lengths.add(n);
+        }
+        lengths.addAll(Arrays.asList(1000, 1024, 4099, 4100));
+
+        for (int n : lengths) {
+            double[] signal = FftTestValues.randomValues(random, n);
+            double[] expectedReal = signal.clone();
+            double[] expectedImaginary = new double[n];
+            FastFourierTransform.transform(expectedReal, expectedImaginary);
+
+            double[] real = new double[n / 2 + 1];
+            double[] imaginary = new double[n / 2 + 1];
+            RealFft.transform(signal, real, imaginary);
+            for (int k = 0; k <= n / 2; k++) {
+                Assertions.assertEquals(expectedReal[k], real[k], EPS * n);
+                Assertions.assertEquals(expectedImaginary[k], imaginary[k], EPS * n);
+            }
+        }
+    }
+
+    @Test
+    public void testPackedRoundTrip() {
+        Random random = new Random(59);
+        for (int n : new int[] {1, 2, 3, 4, 15, 16, 30, 360, 2048, 4099}) {
+            for (FftNormalization normalization : FftNormalization.values()) {
+                double[] signal = FftTestValues.randomValues(random, n);
+                double[] data = signal.clone();
+
+                RealFft.transformPacked(data, normalization);
+                RealFft.inverseTransformPacked(data, normalization);
+                for (int i = 0; i < n; i++) {
+                    Assertions.assertEquals(signal[i], data[i], EPS);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPackedLayout() {
+        // x = [1, 2, 3, 4]: X = [10, -2+2i, -2, -2-2i]
+        double[] data = {1, 2, 3, 4};
+        RealFft.transformPacked(data);
+        Assertions.assertArrayEquals(new double[] {10, -2, -2, 2}, data, EPS);
+
+        // x = [1, 2, 3]: X = [6, -1.5+0.866i, -1.5-0.866i]
+        data = new double[] {1, 2, 3};
+        RealFft.transformPacked(data);
+        Assertions.assertArrayEquals(new double[] {6, -1.5, Math.sqrt(3) / 2}, data, EPS);
+    }
+
+    @Test
+    public void testSplitRoundTripAndComplexArray() {
+        Random random = new Random(61);
+        for (int n : new int[] {7, 64, 100}) {
+            double[] signal = FftTestValues.randomValues(random, n);
+            double[] original = signal.clone();
+
+            ComplexArray spectrum = RealFft.transform(signal);
+            Assertions.assertEquals(n / 2 + 1, spectrum.length());
+            Assertions.assertArrayEquals(original, signal);
+
+            double[] restored = RealFft.inverseTransform(spectrum, n);
+            Assertions.assertArrayEquals(original, restored, EPS);
+
+            double[] orthoReal = new double[n / 2 + 1];
+            double[] orthoImaginary = new double[n / 2 + 1];
+            RealFft.transform(signal, orthoReal, orthoImaginary, FftNormalization.ORTHO);
+            Assertions.assertEquals(spectrum.realValue(1) / Math.sqrt(n), orthoReal[1], EPS);
+            RealFft.inverseTransform(orthoReal, orthoImaginary, restored, FftNormalization.ORTHO);
+            Assertions.assertArrayEquals(original, restored, EPS);
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            RealFft.transformPacked(new double[0]);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            RealFft.transform(new double[8], new double[4], new double[5]);
+        });
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            RealFft.inverseTransform(new ComplexArray(5), 0);
+        });
+
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            RealFft.transformPacked(new double[8], null);
+        });
+    }
+}
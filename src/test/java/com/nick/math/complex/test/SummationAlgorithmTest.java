@@ -0,0 +1,116 @@
+package com.nick.math.complex.test;
+
+import com.nick.math.complex.*;
+import static com.nick.math.complex.ComplexNumbers.*;
+import java.math.BigDecimal;
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+public class SummationAlgorithmTest {
+
+
+    // ---------------------------------------------------------------------- //
+    //  Normal conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testExactSums() {
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i - 400;
+        }
+        for (SummationAlgorithm algorithm : SummationAlgorithm.values()) {
+            Assertions.assertEquals(99500, algorithm.sum(values), algorithm.name());
+            Assertions.assertEquals(0, algorithm.sum(new double[0]), algorithm.name());
+        }
+    }
+
+    @Test
+    public void testAccuracy() {
+        Random random = new Random(73);
+        double[] values = new double[100_000];
+        BigDecimal exact = BigDecimal.ZERO;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * Math.pow(10, random.nextInt(10));
+            exact = exact.add(new BigDecimal(values[i]));
+        }
+        double expected = exact.doubleValue();
+        double ulp = Math.ulp(expected);
+
+        double naiveError = Math.abs(SummationAlgorithm.NAIVE.sum(values) - expected);
+        double pairwiseError = Math.abs(SummationAlgorithm.PAIRWISE.sum(values) - expected);
+        Assertions.assertTrue(naiveError > 4 * ulp, "naive: " + naiveError);
+        Assertions.assertTrue(pairwiseError < naiveError, "pairwise: " + pairwiseError);
+        Assertions.assertEquals(expected, SummationAlgorithm.KAHAN.sum(values), ulp);
+        Assertions.assertEquals(expected, SummationAlgorithm.NEUMAIER.sum(values), ulp);
+    }
+
+    @Test
+    public void testNeumaierWithLargeAddend() {
+        double[] values = {1, 1e100, 1, -1e100};
+        Assertions.assertEquals(2, SummationAlgorithm.NEUMAIER.sum(values));
+        Assertions.assertEquals(0, SummationAlgorithm.KAHAN.sum(values));
+
+        Complex sum = sumAll(SummationAlgorithm.NEUMAIER,
+                ofCartesianForm(1, -1), ofCartesianForm(1e100, -1e100),
+                ofCartesianForm(1, -1), ofCartesianForm(-1e100, 1e100));
+        Assertions.assertEquals(2, sum.realValue());
+        Assertions.assertEquals(-2, sum.imaginaryValue());
+    }
+
+    @Test
+    public void testSameResultOnEveryContainer() {
+        Random random = new Random(79);
+        Complex[] values = new Complex[1000];
+        for (int i = 0; i < values.length; i++) {
+            Complex c = ofCartesianForm(random.nextGaussian() * 1e6, random.nextGaussian());
+            values[i] = (i % 2 == 0) ? c : ofPolarForm(c.modulusValue(), c.mainArgumentValue());
+        }
+        ComplexArray array = ComplexArray.of(values);
+        List<Complex> list = Arrays.asList(values);
+
+        for (SummationAlgorithm algorithm : SummationAlgorithm.values()) {
+            Complex sum = sumAll(algorithm, values);
+            Assertions.assertEquals(sum, sumAll(algorithm, list), algorithm.name());
+            Assertions.assertEquals(sum, array.sum(algorithm), algorithm.name());
+        }
+        Assertions.assertEquals(sumAll(values), sumAll(SummationAlgorithm.KAHAN, values));
+        Assertions.assertEquals(sumAll(values), array.sum());
+    }
+
+    @Test
+    public void testEmptyAndSingleValue() {
+        for (SummationAlgorithm algorithm : SummationAlgorithm.values()) {
+            Assertions.assertTrue(sumAll(algorithm).isZero());
+            Assertions.assertTrue(sumAll(algorithm, new ArrayList<>()).isZero());
+            Assertions.assertSame(ONE_COMPLEX_POLAR, sumAll(algorithm, ONE_COMPLEX_POLAR));
+            Assertions.assertTrue(new ComplexArray(0).sum(algorithm).isZero());
+        }
+    }
+
+
+    // ---------------------------------------------------------------------- //
+    //  Anomalous conditions
+    // ---------------------------------------------------------------------- //
+
+    @Test
+    public void testOverflow() {
+        double[] values = {Double.MAX_VALUE, Double.MAX_VALUE, 1};
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, SummationAlgorithm.NAIVE.sum(values));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, SummationAlgorithm.PAIRWISE.sum(values));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, SummationAlgorithm.NEUMAIER.sum(values));
+    }
+
+    @Test
+    public void testNullArguments() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            sumAll((SummationAlgorithm) null, ONE_COMPLEX_CARTESIAN);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            SummationAlgorithm.PAIRWISE.sum(null);
+        });
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new ComplexArray(1).sum(null);
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package com.nick.math.complex;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vectorized implementation of {@link ComplexKernels}, based on the
+ * {@code DoubleVector} lanes of the {@code jdk.incubator.vector} module.
+ * <p>
+ * The main loop processes {@code SPECIES.length()} values per iteration
+ * (4 with AVX2, 8 with AVX-512), the remaining values are processed by
+ * {@link ScalarComplexKernels}.
+ * Lane operations are the same of the scalar loops, in the same order
+ * (no fused multiply-add), so the results are identical.
+ * <p>
+ * @apiNote
+ * This class is compiled apart from the rest of the library (source set
+ * {@code src/vector/java}), and must only be loaded through
+ * {@link ComplexKernels#selected()}: linking it requires the JVM option
+ * {@code --add-modules jdk.incubator.vector}.
+ *
+ * @see ComplexKernels
+ * @author Nicolas Scalese
+ */
+final class VectorComplexKernels implements ComplexKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final ScalarComplexKernels TAIL = ScalarComplexKernels.INSTANCE;
+
+
+    /**
+     * @throws UnsupportedOperationException if the hardware has vector
+     *         registers of less than 2 lanes
+     */
+    VectorComplexKernels() {
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("No vector lanes for doubles.");
+        }
+    }
+
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void add(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector a1 = DoubleVector.fromArray(SPECIES, ar, i);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, ai, i);
+            DoubleVector a2 = DoubleVector.fromArray(SPECIES, br, i);
+            DoubleVector b2 = DoubleVector.fromArray(SPECIES, bi, i);
+            a1.add(a2).intoArray(cr, i);
+            b1.add(b2).intoArray(ci, i);
+        }
+        TAIL.add(ar, ai, br, bi, cr, ci, i, to);
+    }
+
+    @Override
+    public void subtract(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector a1 = DoubleVector.fromArray(SPECIES, ar, i);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, ai, i);
+            DoubleVector a2 = DoubleVector.fromArray(SPECIES, br, i);
+            DoubleVector b2 = DoubleVector.fromArray(SPECIES, bi, i);
+            a1.sub(a2).intoArray(cr, i);
+            b1.sub(b2).intoArray(ci, i);
+        }
+        TAIL.subtract(ar, ai, br, bi, cr, ci, i, to);
+    }
+
+    @Override
+    public void multiply(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector a1 = DoubleVector.fromArray(SPECIES, ar, i);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, ai, i);
+            DoubleVector a2 = DoubleVector.fromArray(SPECIES, br, i);
+            DoubleVector b2 = DoubleVector.fromArray(SPECIES, bi, i);
+            // (a1*a2 - b1*b2) + (a1*b2 + a2*b1)i
+            a1.mul(a2).sub(b1.mul(b2)).intoArray(cr, i);
+            a1.mul(b2).add(a2.mul(b1)).intoArray(ci, i);
+        }
+        TAIL.multiply(ar, ai, br, bi, cr, ci, i, to);
+    }
+
+    @Override
+    public void divide(double[] ar, double[] ai, double[] br, double[] bi,
+            double[] cr, double[] ci, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector a1 = DoubleVector.fromArray(SPECIES, ar, i);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, ai, i);
+            DoubleVector a2 = DoubleVector.fromArray(SPECIES, br, i);
+            DoubleVector b2 = DoubleVector.fromArray(SPECIES, bi, i);
+            DoubleVector real2plusImg2 = a2.mul(a2).add(b2.mul(b2));
+            // ((a1*a2 + b1*b2) + (b1*a2 - a1*b2)i) / (a2^2 + b2^2)
+            a1.mul(a2).add(b1.mul(b2)).div(real2plusImg2).intoArray(cr, i);
+            b1.mul(a2).sub(a1.mul(b2)).div(real2plusImg2).intoArray(ci, i);
+        }
+        TAIL.divide(ar, ai, br, bi, cr, ci, i, to);
+    }
+
+    @Override
+    public void modulus(double[] ar, double[] ai, double[] result, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector a = DoubleVector.fromArray(SPECIES, ar, i);
+            DoubleVector b = DoubleVector.fromArray(SPECIES, ai, i);
+            a.mul(a).add(b.mul(b)).sqrt().intoArray(result, i);
+        }
+        TAIL.modulus(ar, ai, result, i, to);
+    }
+
+    @Override
+    public String name() {
+        return "vector(" + SPECIES.vectorBitSize() + " bit)";
+    }
+
+}